@@ -0,0 +1,96 @@
+package io.hhplus.ECommerce.ECommerce_project.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snowflake ID 생성 처리량 벤치마크 (IDs/s)
+ * - lock-free(CAS) 생성기와 기존 synchronized 방식을 1 / 8 / 32 스레드에서 비교
+ * - 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SnowflakeIdGeneratorBenchmark {
+
+    private final SnowflakeIdGenerator lockFree = new SnowflakeIdGenerator(1);
+    private final SynchronizedSnowflake synchronizedGenerator = new SynchronizedSnowflake(1);
+
+    @Benchmark
+    @Threads(1)
+    public long lockFree_1thread() {
+        return lockFree.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long lockFree_8threads() {
+        return lockFree.nextId();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public long lockFree_32threads() {
+        return lockFree.nextId();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long synchronized_1thread() {
+        return synchronizedGenerator.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long synchronized_8threads() {
+        return synchronizedGenerator.nextId();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public long synchronized_32threads() {
+        return synchronizedGenerator.nextId();
+    }
+
+    /**
+     * 비교용: 기존 synchronized 방식 생성기 (시계 역행 검사 제외)
+     */
+    static final class SynchronizedSnowflake {
+
+        private static final long EPOCH = 1735689600000L;
+        private static final long MAX_SEQUENCE = 4095L;
+
+        private final long workerId;
+        private long lastTimestamp = -1L;
+        private long sequence = 0L;
+
+        SynchronizedSnowflake(long workerId) {
+            this.workerId = workerId;
+        }
+
+        synchronized long nextId() {
+            long timestamp = System.currentTimeMillis();
+
+            if (timestamp == lastTimestamp) {
+                sequence = (sequence + 1) & MAX_SEQUENCE;
+                if (sequence == 0) {
+                    while (timestamp <= lastTimestamp) {
+                        timestamp = System.currentTimeMillis();
+                    }
+                }
+            } else {
+                sequence = 0L;
+            }
+
+            lastTimestamp = timestamp;
+            return ((timestamp - EPOCH) << 22) | (workerId << 12) | sequence;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon;
+
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.Coupon;
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.enums.DiscountType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿠폰 할인 금액 계산 벤치마크 (ns/op)
+ * - 정액 / 정률(최대 할인 금액 제한) 쿠폰의 calculateDiscountAmount, validateAvailability
+ * - 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CouponDiscountBenchmark {
+
+    private Coupon fixedCoupon;
+    private Coupon percentageCoupon;
+    private BigDecimal orderAmount;
+
+    @Setup
+    public void setUp() {
+        fixedCoupon = Coupon.createCoupon(
+                "정액 쿠폰", "BENCH_FIXED", DiscountType.FIXED, BigDecimal.valueOf(5000), null,
+                BigDecimal.valueOf(30000), 1000, 1,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(30)
+        );
+        percentageCoupon = Coupon.createCoupon(
+                "정률 쿠폰", "BENCH_PERCENT", DiscountType.PERCENTAGE, BigDecimal.valueOf(15), BigDecimal.valueOf(10000),
+                BigDecimal.valueOf(30000), 1000, 1,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(30)
+        );
+        orderAmount = new BigDecimal("87500");
+    }
+
+    @Benchmark
+    public BigDecimal fixedDiscount() {
+        return fixedCoupon.calculateDiscountAmount(orderAmount);
+    }
+
+    @Benchmark
+    public BigDecimal percentageDiscount() {
+        return percentageCoupon.calculateDiscountAmount(orderAmount);
+    }
+
+    @Benchmark
+    public Coupon validateAvailability() {
+        percentageCoupon.validateAvailability();
+        return percentageCoupon;
+    }
+}
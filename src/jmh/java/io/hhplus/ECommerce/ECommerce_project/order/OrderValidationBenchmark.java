@@ -0,0 +1,128 @@
+package io.hhplus.ECommerce.ECommerce_project.order;
+
+import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
+import io.hhplus.ECommerce.ECommerce_project.common.SnowflakeIdGenerator;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.CouponException;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.PointException;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.UserException;
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.Coupon;
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.UserCoupon;
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.enums.DiscountType;
+import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.CouponMemoryRepositoryImpl;
+import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.UserCouponMemoryRepositoryImpl;
+import io.hhplus.ECommerce.ECommerce_project.order.domain.constants.ShippingPolicy;
+import io.hhplus.ECommerce.ECommerce_project.point.domain.entity.Point;
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointMemoryRepositoryImpl;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductMemoryRepositoryImpl;
+import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
+import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserMemoryRepositoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 직접 주문의 사전 검증/계산 단계 벤치마크 (ns/op)
+ * - CreateOrderFromProductUseCase.validateAndCalculate와 같은 순서(사용자 → 상품 → 금액/배송비 → 쿠폰 → 포인트 잔액)를
+ *   인메모리 저장소로 수행해 DB 왕복을 제외한 CPU 비용만 측정
+ * - 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderValidationBenchmark {
+
+    private static final int QUANTITY = 3;
+    private static final BigDecimal POINT_AMOUNT = BigDecimal.valueOf(2500);
+
+    private UserMemoryRepositoryImpl userRepository;
+    private ProductMemoryRepositoryImpl productRepository;
+    private CouponMemoryRepositoryImpl couponRepository;
+    private UserCouponMemoryRepositoryImpl userCouponRepository;
+    private PointMemoryRepositoryImpl pointRepository;
+
+    private Long userId;
+    private Long productId;
+    private Long couponId;
+
+    @Setup
+    public void setUp() {
+        SnowflakeIdGenerator idGenerator = new SnowflakeIdGenerator(1);
+        userRepository = new UserMemoryRepositoryImpl(idGenerator);
+        productRepository = new ProductMemoryRepositoryImpl(idGenerator);
+        couponRepository = new CouponMemoryRepositoryImpl(idGenerator);
+        userCouponRepository = new UserCouponMemoryRepositoryImpl(idGenerator);
+        pointRepository = new PointMemoryRepositoryImpl(idGenerator);
+
+        User user = userRepository.save(new User("bench_user", "password", BigDecimal.ZERO, null, null));
+        userId = user.getId();
+
+        Product product = productRepository.save(Product.createProduct(
+                Category.createCategory("벤치마크", 1), "벤치마크 상품", "검증 벤치마크용",
+                BigDecimal.valueOf(12000), 1_000_000, 1, 10
+        ));
+        productId = product.getId();
+
+        Coupon coupon = couponRepository.save(Coupon.createCoupon(
+                "벤치마크 쿠폰", "BENCH_ORDER", DiscountType.PERCENTAGE, BigDecimal.valueOf(10), BigDecimal.valueOf(5000),
+                BigDecimal.valueOf(30000), 1000, 1,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(30)
+        ));
+        couponId = coupon.getId();
+        userCouponRepository.save(UserCoupon.issueCoupon(user, coupon));
+
+        // 포인트 1,000원 x 3 (인메모리 저장소는 생성일 순으로 정렬하므로 생성일을 직접 지정)
+        for (int i = 0; i < 3; i++) {
+            Point point = Point.charge(user, BigDecimal.valueOf(1000), "벤치마크 충전");
+            point.setCreatedAt(LocalDateTime.now().minusMinutes(3 - i));
+            pointRepository.save(point);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal validateAndCalculate() {
+        // 1. 사용자 확인
+        userRepository.findById(userId)
+                .orElseThrow(() -> new UserException(ErrorCode.USER_NOT_FOUND));
+
+        // 2. 상품 조회 및 주문 가능 여부 검증
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new ProductException(ErrorCode.PRODUCT_NOT_FOUND));
+        product.validateOrder(QUANTITY);
+
+        // 3. 주문 금액 / 배송비 계산
+        BigDecimal totalAmount = product.getPrice().multiply(BigDecimal.valueOf(QUANTITY));
+        BigDecimal shippingFee = ShippingPolicy.calculateShippingFee(totalAmount);
+
+        // 4. 쿠폰 검증 및 할인 금액 계산
+        UserCoupon userCoupon = userCouponRepository.findByUserIdAndCouponId(userId, couponId)
+                .orElseThrow(() -> new CouponException(ErrorCode.USER_COUPON_NOT_FOUND));
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new CouponException(ErrorCode.COUPON_NOT_FOUND));
+        coupon.validateAvailability();
+        userCoupon.validateCanUse(coupon.getPerUserLimit());
+        BigDecimal discountAmount = coupon.calculateDiscountAmount(totalAmount);
+
+        // 5. 포인트 잔액 검증
+        List<Point> availablePoints = pointRepository.findAvailablePointsByUserId(userId);
+        BigDecimal totalAvailablePoint = availablePoints.stream()
+                .map(Point::getRemainingAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        if (totalAvailablePoint.compareTo(POINT_AMOUNT) < 0) {
+            throw new PointException(ErrorCode.POINT_INSUFFICIENT_POINT);
+        }
+
+        return totalAmount.add(shippingFee).subtract(discountAmount);
+    }
+}
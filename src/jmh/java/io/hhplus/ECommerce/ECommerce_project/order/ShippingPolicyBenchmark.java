@@ -0,0 +1,40 @@
+package io.hhplus.ECommerce.ECommerce_project.order;
+
+import io.hhplus.ECommerce.ECommerce_project.order.domain.constants.ShippingPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배송비 계산 벤치마크 (ns/op)
+ * - 무료 배송 기준 금액 미만 / 이상
+ * - 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ShippingPolicyBenchmark {
+
+    @Param({"15000", "30000", "120000"})
+    private String totalAmount;
+
+    private BigDecimal amount;
+
+    @Setup
+    public void setUp() {
+        amount = new BigDecimal(totalAmount);
+    }
+
+    @Benchmark
+    public BigDecimal calculateShippingFee() {
+        return ShippingPolicy.calculateShippingFee(amount);
+    }
+}
@@ -0,0 +1,76 @@
+package io.hhplus.ECommerce.ECommerce_project.point;
+
+import io.hhplus.ECommerce.ECommerce_project.point.domain.entity.Point;
+import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 선입선출(FIFO) 사용 벤치마크 (ns/op)
+ * - 주문 시 포인트 사용 루프와 같은 방식으로 오래된 포인트부터 차감
+ * - 상태를 유지하기 위해 같은 호출 안에서 사용한 금액을 다시 복구하므로, 측정값은 차감 + 복구 비용
+ * - 실행: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PointFifoAllocationBenchmark {
+
+    // 보유 포인트 건수 (1건당 1,000원)
+    @Param({"3", "30", "300"})
+    private int pointCount;
+
+    private List<Point> points;
+    private BigDecimal amountToUse;
+    private BigDecimal[] usedAmounts;
+
+    @Setup
+    public void setUp() {
+        User user = new User("bench_user", "password", BigDecimal.ZERO, null, null);
+
+        points = new ArrayList<>(pointCount);
+        for (int i = 0; i < pointCount; i++) {
+            points.add(Point.charge(user, BigDecimal.valueOf(1000), "벤치마크 충전"));
+        }
+
+        // 전체 포인트의 2/3 사용 (마지막 포인트는 부분 사용)
+        amountToUse = BigDecimal.valueOf(1000L * pointCount * 2 / 3 + 500);
+        usedAmounts = new BigDecimal[pointCount];
+    }
+
+    @Benchmark
+    public BigDecimal useFifoAndRestore() {
+        // 1. 선입선출 차감
+        BigDecimal remainingPointToUse = amountToUse;
+        int usedCount = 0;
+
+        for (Point point : points) {
+            if (remainingPointToUse.compareTo(BigDecimal.ZERO) <= 0) {
+                break;
+            }
+
+            BigDecimal pointToUse = point.getRemainingAmount().min(remainingPointToUse);
+            point.usePartially(pointToUse);
+            usedAmounts[usedCount++] = pointToUse;
+            remainingPointToUse = remainingPointToUse.subtract(pointToUse);
+        }
+
+        // 2. 다음 호출을 위해 복구
+        for (int i = 0; i < usedCount; i++) {
+            points.get(i).restoreUsedAmount(usedAmounts[i]);
+        }
+
+        return remainingPointToUse;
+    }
+}
@@ -0,0 +1,72 @@
+package io.hhplus.ECommerce.ECommerce_project.product;
+
+import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
+import io.hhplus.ECommerce.ECommerce_project.common.SnowflakeIdGenerator;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductMemoryRepositoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인메모리 상품 저장소의 상품별 락(lockMap) 처리량 벤치마크 (ops/s)
+ * - 한 상품에 주문이 몰리는 경우(hot)와 여러 상품에 분산되는 경우(spread)를 1 / 8 스레드에서 비교
+ * - 재고가 바닥나지 않도록 한 번의 호출에서 차감 후 바로 복구 (락 획득 2회)
+ * - 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ProductMemoryRepositoryLockBenchmark {
+
+    private static final int PRODUCT_COUNT = 1024;
+
+    private ProductMemoryRepositoryImpl productRepository;
+    private Long[] productIds;
+
+    @Setup
+    public void setUp() {
+        productRepository = new ProductMemoryRepositoryImpl(new SnowflakeIdGenerator(1));
+        Category category = Category.createCategory("벤치마크", 1);
+
+        productIds = new Long[PRODUCT_COUNT];
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            Product product = productRepository.save(Product.createProduct(
+                    category, "벤치마크 상품 " + i, "락 벤치마크용", BigDecimal.valueOf(1000), 1_000_000, 1, 100
+            ));
+            productIds[i] = product.getId();
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Product hotProduct_1thread() {
+        return decreaseAndRestore(productIds[0]);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Product hotProduct_8threads() {
+        return decreaseAndRestore(productIds[0]);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Product spreadProducts_8threads() {
+        return decreaseAndRestore(productIds[ThreadLocalRandom.current().nextInt(PRODUCT_COUNT)]);
+    }
+
+    private Product decreaseAndRestore(Long productId) {
+        productRepository.decreaseStockWithLock(productId, 1);
+        return productRepository.restoreStockWithLock(productId, 1);
+    }
+}
@@ -3,9 +3,11 @@ package io.hhplus.ECommerce.ECommerce_project.category.application;
 import io.hhplus.ECommerce.ECommerce_project.category.application.command.CreateCategoryCommand;
 import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
 import io.hhplus.ECommerce.ECommerce_project.category.infrastructure.CategoryRepository;
+import io.hhplus.ECommerce.ECommerce_project.common.config.CacheConfig;
 import io.hhplus.ECommerce.ECommerce_project.common.exception.CategoryException;
 import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +17,7 @@ public class CreateCategoryUseCase {
 
     private final CategoryRepository categoryRepository;
 
+    @CacheEvict(cacheNames = CacheConfig.CATEGORY_LIST, allEntries = true)
     @Transactional
     public Category execute(CreateCategoryCommand command) {
 
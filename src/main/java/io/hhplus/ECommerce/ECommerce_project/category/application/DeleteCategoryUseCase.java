@@ -2,9 +2,12 @@ package io.hhplus.ECommerce.ECommerce_project.category.application;
 
 import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
 import io.hhplus.ECommerce.ECommerce_project.category.infrastructure.CategoryRepository;
+import io.hhplus.ECommerce.ECommerce_project.common.config.CacheConfig;
 import io.hhplus.ECommerce.ECommerce_project.common.exception.CategoryException;
 import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,6 +17,10 @@ public class DeleteCategoryUseCase {
 
     private final CategoryRepository categoryRepository;
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CATEGORY, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.CATEGORY_LIST, allEntries = true)
+    })
     @Transactional
     public void execute(Long id) {
         Category category = categoryRepository.findByIdAndDeletedAtIsNull(id)
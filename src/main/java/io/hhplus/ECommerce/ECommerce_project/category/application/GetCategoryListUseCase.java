@@ -2,7 +2,9 @@ package io.hhplus.ECommerce.ECommerce_project.category.application;
 
 import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
 import io.hhplus.ECommerce.ECommerce_project.category.infrastructure.CategoryRepository;
+import io.hhplus.ECommerce.ECommerce_project.common.config.CacheConfig;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,8 +16,13 @@ public class GetCategoryListUseCase {
 
     private final CategoryRepository categoryRepository;
 
+    /**
+     * 카테고리 목록 조회 (캐시)
+     * - 등록/수정/삭제 시 무효화
+     */
+    @Cacheable(cacheNames = CacheConfig.CATEGORY_LIST)
     @Transactional(readOnly = true)
     public List<Category> execute() {
-        return categoryRepository.findAllByDeletedAtIsNull();
+        return List.copyOf(categoryRepository.findAllByDeletedAtIsNull());
     }
 }
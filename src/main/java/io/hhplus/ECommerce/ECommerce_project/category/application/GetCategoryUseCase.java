@@ -2,9 +2,11 @@ package io.hhplus.ECommerce.ECommerce_project.category.application;
 
 import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
 import io.hhplus.ECommerce.ECommerce_project.category.infrastructure.CategoryRepository;
+import io.hhplus.ECommerce.ECommerce_project.common.config.CacheConfig;
 import io.hhplus.ECommerce.ECommerce_project.common.exception.CategoryException;
 import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,6 +16,11 @@ public class GetCategoryUseCase {
 
     private final CategoryRepository categoryRepository;
 
+    /**
+     * 카테고리 단건 조회 (캐시)
+     * - 수정/삭제 시 무효화
+     */
+    @Cacheable(cacheNames = CacheConfig.CATEGORY, key = "#id")
     @Transactional(readOnly = true)
     public Category execute(Long id) {
         return categoryRepository.findByIdAndDeletedAtIsNull(id)
@@ -3,9 +3,12 @@ package io.hhplus.ECommerce.ECommerce_project.category.application;
 import io.hhplus.ECommerce.ECommerce_project.category.application.command.UpdateCategoryCommand;
 import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
 import io.hhplus.ECommerce.ECommerce_project.category.infrastructure.CategoryRepository;
+import io.hhplus.ECommerce.ECommerce_project.common.config.CacheConfig;
 import io.hhplus.ECommerce.ECommerce_project.common.exception.CategoryException;
 import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +18,10 @@ public class UpdateCategoryUseCase {
 
     private final CategoryRepository categoryRepository;
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CATEGORY, key = "#command.id()"),
+            @CacheEvict(cacheNames = CacheConfig.CATEGORY_LIST, allEntries = true)
+    })
     @Transactional
     public Category execute(UpdateCategoryCommand command) {
         // 1. 카테고리 존재 유무
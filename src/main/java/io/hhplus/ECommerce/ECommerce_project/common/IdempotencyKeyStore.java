@@ -0,0 +1,232 @@
+package io.hhplus.ECommerce.ECommerce_project.common;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.hhplus.ECommerce.ECommerce_project.common.infrastructure.IdempotencyKeyJdbcRepository;
+import io.hhplus.ECommerce.ECommerce_project.common.infrastructure.IdempotencyKeyJdbcRepository.IdempotencyRecord;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 멱등성 키 저장소
+ *
+ * - 같은 Idempotency-Key로 다시 들어온 요청에 처음 요청의 응답을 그대로 돌려주기 위해 요청 지문과 응답을 idempotency_keys에 저장한다.
+ * - 처리 시작 시 키 행을 먼저 INSERT(선점)하므로 동시에 들어온 중복 요청 중 하나만 실제로 처리된다.
+ * - 완료된 응답은 메모리 캐시(hot cache)에도 올려 재시도가 몰릴 때 DB 조회 없이 돌려준다.
+ * - 처리 중인 채로 in-progress-timeout-ms가 지난 행(처리 도중 인스턴스가 죽은 경우)은 다음 요청이 인수한다.
+ * - 요청은 처리됐는데 응답 저장에 실패하면 UNRECORDED로 표시해 다시 처리하지 않는다. (재시도에는 409 대신 422로 응답)
+ *   표시마저 실패하면 처리 중 행으로 남아 in-progress-timeout-ms 이후 인수될 수 있으므로 오류 로그로 남긴다.
+ * - 보관 기간(ttl-ms)이 지난 행은 cleanup-interval-ms 주기로 삭제한다.
+ */
+@Slf4j
+@Component
+public class IdempotencyKeyStore {
+
+    public static final String COUNTER_NAME = "idempotency.requests";
+
+    private static final int CLEANUP_BATCH_SIZE = 1000;
+
+    private final IdempotencyKeyJdbcRepository idempotencyKeyRepository;
+    private final MeterRegistry meterRegistry;
+    private final Duration ttl;
+    private final Duration inProgressTimeout;
+
+    // 완료된 응답만 캐시 (키 -> 요청 지문 + 응답)
+    private final Cache<String, CompletedResponse> hotCache;
+
+    public IdempotencyKeyStore(
+            IdempotencyKeyJdbcRepository idempotencyKeyRepository,
+            MeterRegistry meterRegistry,
+            @Value("${ecommerce.idempotency.ttl-ms:86400000}") long ttlMs,
+            @Value("${ecommerce.idempotency.in-progress-timeout-ms:30000}") long inProgressTimeoutMs,
+            @Value("${ecommerce.idempotency.cache-max-size:10000}") long cacheMaxSize,
+            @Value("${ecommerce.idempotency.cache-ttl-ms:600000}") long cacheTtlMs
+    ) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.meterRegistry = meterRegistry;
+        this.ttl = Duration.ofMillis(ttlMs);
+        this.inProgressTimeout = Duration.ofMillis(inProgressTimeoutMs);
+        this.hotCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(Math.min(cacheTtlMs, ttlMs)))
+                .maximumSize(cacheMaxSize)
+                .build();
+    }
+
+    /**
+     * 요청 처리 시작
+     * 1. 메모리 캐시에 완료된 응답이 있으면 바로 재생
+     * 2. 키 행 INSERT로 선점 (성공하면 처리 진행)
+     * 3. 이미 있으면 저장된 행으로 판정 (완료 -> 재생, 다른 요청 -> 거부, 응답 저장 실패 -> 거부, 처리 중 -> 대기 요청)
+     * 4. 버려진 행(오래된 처리 중 / 보관 기간 경과)은 인수해서 처리 진행
+     */
+    public BeginResult begin(String idempotencyKey, String fingerprint) {
+        // 1. 메모리 캐시
+        CompletedResponse cached = hotCache.getIfPresent(idempotencyKey);
+        if (cached != null) {
+            return record(judgeCompleted(cached, fingerprint));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(ttl);
+
+        // 2. 선점
+        if (idempotencyKeyRepository.insertInProgress(idempotencyKey, fingerprint, now, expiresAt)) {
+            return record(BeginResult.acquired());
+        }
+
+        // 3. 저장된 행으로 판정 (조회 직전에 정리되어 사라졌으면 다시 선점)
+        Optional<IdempotencyRecord> found = idempotencyKeyRepository.findByKey(idempotencyKey);
+        if (found.isEmpty()) {
+            return record(idempotencyKeyRepository.insertInProgress(idempotencyKey, fingerprint, now, expiresAt)
+                    ? BeginResult.acquired()
+                    : BeginResult.inProgress());
+        }
+
+        IdempotencyRecord existing = found.get();
+        boolean expired = !existing.expiresAt().isAfter(now);
+        if (!expired && !existing.requestFingerprint().equals(fingerprint)) {
+            return record(BeginResult.keyReused());
+        }
+        if (!expired && existing.isCompleted()) {
+            CompletedResponse completed = new CompletedResponse(existing.requestFingerprint(), new StoredResponse(
+                    existing.responseStatus(), existing.responseContentType(), existing.responseBody()));
+            hotCache.put(idempotencyKey, completed);
+            return record(BeginResult.replay(completed.response()));
+        }
+        if (!expired && existing.isUnrecorded()) {
+            return record(BeginResult.unrecorded());
+        }
+
+        // 4. 인수
+        if (idempotencyKeyRepository.takeOver(idempotencyKey, fingerprint, now, now.minus(inProgressTimeout), expiresAt)) {
+            return record(BeginResult.acquired());
+        }
+        return record(BeginResult.inProgress());
+    }
+
+    /**
+     * 응답 저장 (같은 키의 다음 요청부터 재생)
+     */
+    public void complete(String idempotencyKey, String fingerprint, StoredResponse response) {
+        idempotencyKeyRepository.complete(idempotencyKey, response.status(), response.contentType(), response.body());
+        hotCache.put(idempotencyKey, new CompletedResponse(fingerprint, response));
+    }
+
+    /**
+     * 응답 저장 실패 처리 (요청은 이미 처리됨)
+     * 1. 같은 인스턴스로 온 재시도는 메모리 캐시에서 응답을 재생
+     * 2. 키 행은 UNRECORDED로 표시해 다른 인스턴스의 재시도도 요청을 다시 처리하지 않게 함
+     */
+    public void markUnrecorded(String idempotencyKey, String fingerprint, StoredResponse response) {
+        // 1. 메모리 캐시
+        hotCache.put(idempotencyKey, new CompletedResponse(fingerprint, response));
+
+        // 2. 응답 없음 표시
+        try {
+            idempotencyKeyRepository.markUnrecorded(idempotencyKey, response.status());
+        } catch (DataAccessException e) {
+            log.error("멱등성 키 응답 저장 실패 표시도 실패 - 처리 중으로 남음 (key: {})", idempotencyKey, e);
+        }
+    }
+
+    /**
+     * 선점 해제 (처리 실패 시 같은 키로 다시 시도할 수 있게 함)
+     */
+    public void release(String idempotencyKey) {
+        idempotencyKeyRepository.deleteInProgress(idempotencyKey);
+    }
+
+    /**
+     * 보관 기간이 지난 키 삭제
+     */
+    @Scheduled(
+            initialDelayString = "${ecommerce.idempotency.cleanup-interval-ms:600000}",
+            fixedDelayString = "${ecommerce.idempotency.cleanup-interval-ms:600000}"
+    )
+    public int cleanupExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+
+        try {
+            int deleted;
+            do {
+                deleted = idempotencyKeyRepository.deleteExpired(now, CLEANUP_BATCH_SIZE);
+                total += deleted;
+            } while (deleted == CLEANUP_BATCH_SIZE);
+        } catch (DataAccessException e) {
+            log.warn("만료된 멱등성 키 삭제 실패 - 다음 주기에 재시도", e);
+        }
+
+        if (total > 0) {
+            log.info("만료된 멱등성 키 {}건 삭제", total);
+        }
+        return total;
+    }
+
+    private BeginResult judgeCompleted(CompletedResponse completed, String fingerprint) {
+        return completed.fingerprint().equals(fingerprint)
+                ? BeginResult.replay(completed.response())
+                : BeginResult.keyReused();
+    }
+
+    private BeginResult record(BeginResult result) {
+        Counter.builder(COUNTER_NAME)
+                .description("Idempotency-Key 요청 처리 결과")
+                .tag("outcome", result.outcome().name().toLowerCase())
+                .register(meterRegistry)
+                .increment();
+        return result;
+    }
+
+    /**
+     * 처리 시작 판정
+     */
+    public enum Outcome {
+        ACQUIRED,       // 선점 성공, 요청 처리 진행
+        REPLAY,         // 완료된 같은 요청, 저장된 응답 재생
+        IN_PROGRESS,    // 같은 요청이 아직 처리 중
+        KEY_REUSED,     // 같은 키로 다른 요청
+        UNRECORDED      // 처리된 요청이지만 응답 저장에 실패해 재생할 수 없음
+    }
+
+    public record BeginResult(Outcome outcome, StoredResponse response) {
+
+        static BeginResult acquired() {
+            return new BeginResult(Outcome.ACQUIRED, null);
+        }
+
+        static BeginResult replay(StoredResponse response) {
+            return new BeginResult(Outcome.REPLAY, response);
+        }
+
+        static BeginResult inProgress() {
+            return new BeginResult(Outcome.IN_PROGRESS, null);
+        }
+
+        static BeginResult keyReused() {
+            return new BeginResult(Outcome.KEY_REUSED, null);
+        }
+
+        static BeginResult unrecorded() {
+            return new BeginResult(Outcome.UNRECORDED, null);
+        }
+    }
+
+    /**
+     * 저장된 응답
+     */
+    public record StoredResponse(int status, String contentType, String body) {
+    }
+
+    private record CompletedResponse(String fingerprint, StoredResponse response) {
+    }
+}
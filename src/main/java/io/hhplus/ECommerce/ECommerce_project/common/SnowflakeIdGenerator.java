@@ -1,6 +1,7 @@
 package io.hhplus.ECommerce.ECommerce_project.common;
 
-import org.springframework.stereotype.Component;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
 /**
  * Twitter Snowflake 알고리즘 기반 ID 생성기
@@ -9,8 +10,20 @@ import org.springframework.stereotype.Component;
  * - 41비트: 타임스탬프 (밀리초)
  * - 10비트: 워커 ID (데이터센터 5비트 + 머신 5비트)
  * - 12비트: 시퀀스 번호
+ *
+ * 동시성:
+ * - (타임스탬프, 시퀀스)를 하나의 AtomicLong에 묶어 CAS로 갱신하므로 락 없이 여러 스레드에서 호출 가능
+ *
+ * 시계 역행/드리프트 허용:
+ * - 시계가 뒤로 가면 예외를 던지지 않고 마지막 타임스탬프를 계속 사용 (시퀀스만 증가)
+ * - 한 밀리초의 시퀀스를 모두 쓰면 최대 maxClockDriftMillis 만큼 다음 밀리초를 미리 당겨 씀
+ * - 그 이상 앞서가게 되면 실제 시계가 따라올 때까지 대기
+ *
+ * 워커 ID는 IdGeneratorConfig에서 설정값 또는 워커 ID 임대(lease) 테이블로 결정한다.
+ * - 임대 방식이면 WorkerIdLeaseManager가 임대를 확인할 때마다 renewLease로 발급 기한을 연장하고,
+ *   기한(System.nanoTime 기준)이 지나면 다른 인스턴스가 같은 워커 ID를 가져갔을 수 있으므로 ID를 발급하지 않는다.
+ * - 임대를 잃어 새 워커 ID를 임대하면 renewLease로 워커 ID를 바꾼다.
  */
-@Component
 public class SnowflakeIdGenerator {
 
     // 시작 시간 (2024-01-01 00:00:00 UTC)
@@ -28,9 +41,24 @@ public class SnowflakeIdGenerator {
     private static final long WORKER_ID_SHIFT = SEQUENCE_BITS;
     private static final long TIMESTAMP_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS;
 
-    private final long workerId;
-    private long sequence = 0L;
-    private long lastTimestamp = -1L;
+    // nextIds로 한 번에 예약할 수 있는 최대 ID 수 (한 밀리초의 시퀀스 수)
+    public static final int MAX_BLOCK_SIZE = (int) MAX_SEQUENCE + 1;
+
+    // 시계보다 앞서 사용할 수 있는 최대 밀리초 (기본값)
+    private static final long DEFAULT_MAX_CLOCK_DRIFT_MILLIS = 1000L;
+
+    // 발급 기한 없음 (설정값 방식)
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private final long maxClockDriftMillis;
+    private final LongSupplier clock;
+    private final LongSupplier nanoClock;
+
+    // 워커 ID + 발급 기한 (임대를 연장할 때마다 통째로 교체)
+    private volatile WorkerLease lease;
+
+    // 상위 비트: 마지막 타임스탬프(EPOCH 기준), 하위 12비트: 시퀀스
+    private final AtomicLong state = new AtomicLong(-1L << SEQUENCE_BITS);
 
     /**
      * 기본 워커 ID = 1로 생성
@@ -43,65 +71,158 @@ public class SnowflakeIdGenerator {
      * @param workerId 워커 ID (0 ~ 1023)
      */
     public SnowflakeIdGenerator(long workerId) {
-        if (workerId < 0 || workerId > MAX_WORKER_ID) {
-            throw new IllegalArgumentException(
-                String.format("워커 ID는 0부터 %d 사이여야 합니다.", MAX_WORKER_ID)
-            );
+        this(workerId, DEFAULT_MAX_CLOCK_DRIFT_MILLIS);
+    }
+
+    /**
+     * @param workerId 워커 ID (0 ~ 1023)
+     * @param maxClockDriftMillis 시계보다 앞서 사용할 수 있는 최대 밀리초
+     */
+    public SnowflakeIdGenerator(long workerId, long maxClockDriftMillis) {
+        this(workerId, maxClockDriftMillis, System::currentTimeMillis);
+    }
+
+    // 테스트에서 시계를 주입하기 위한 생성자
+    SnowflakeIdGenerator(long workerId, long maxClockDriftMillis, LongSupplier clock) {
+        this(workerId, maxClockDriftMillis, clock, System::nanoTime);
+    }
+
+    // 테스트에서 시계와 발급 기한 시계를 주입하기 위한 생성자
+    SnowflakeIdGenerator(long workerId, long maxClockDriftMillis, LongSupplier clock, LongSupplier nanoClock) {
+        validateWorkerId(workerId);
+        if (maxClockDriftMillis < 0) {
+            throw new IllegalArgumentException("허용 드리프트는 0 이상이어야 합니다.");
         }
-        this.workerId = workerId;
+        this.maxClockDriftMillis = maxClockDriftMillis;
+        this.clock = clock;
+        this.nanoClock = nanoClock;
+        this.lease = new WorkerLease(workerId, NO_DEADLINE);
+    }
+
+    /**
+     * 워커 ID 임대 연장/교체 (임대 방식)
+     * @param workerId 임대 중인 워커 ID
+     * @param validUntilNanos 임대가 보장되는 마지막 시각 (System.nanoTime 기준), 지나면 발급 거부
+     */
+    public void renewLease(long workerId, long validUntilNanos) {
+        validateWorkerId(workerId);
+        this.lease = new WorkerLease(workerId, validUntilNanos);
+    }
+
+    /**
+     * 임대를 잃었거나 반납함 -> 즉시 발급 중단 (새 임대로 renewLease할 때까지)
+     */
+    public void revokeLease() {
+        this.lease = new WorkerLease(lease.workerId(), nanoClock.getAsLong());
     }
 
     /**
-     * 새로운 Snowflake ID 생성
+     * 새로운 Snowflake ID 생성 (lock-free)
      * @return 64비트 Long ID
      */
-    public synchronized long nextId() {
-        long timestamp = currentTimeMillis();
+    public long nextId() {
+        WorkerLease current = validLease();
+        return toId(reserve(1), current.workerId());
+    }
 
-        // 시간이 역행한 경우 예외 처리
-        if (timestamp < lastTimestamp) {
-            throw new RuntimeException(
-                String.format("시계가 역행했습니다. %d 밀리초 전으로 되돌아갔습니다.",
-                    lastTimestamp - timestamp)
+    /**
+     * 연속된 ID 블록을 한 번의 CAS로 예약 (배치 저장용)
+     * - 같은 밀리초 안의 연속된 시퀀스를 사용하므로 반환되는 ID는 오름차순
+     * @param count 예약할 ID 수 (1 ~ 4096)
+     */
+    public long[] nextIds(int count) {
+        if (count < 1 || count > MAX_BLOCK_SIZE) {
+            throw new IllegalArgumentException(
+                String.format("한 번에 예약할 수 있는 ID 수는 1부터 %d 사이여야 합니다.", MAX_BLOCK_SIZE)
             );
         }
 
-        // 같은 밀리초 내에서 생성된 경우
-        if (timestamp == lastTimestamp) {
-            sequence = (sequence + 1) & MAX_SEQUENCE;
-            // 시퀀스 오버플로우 - 다음 밀리초까지 대기
-            if (sequence == 0) {
-                timestamp = waitNextMillis(lastTimestamp);
-            }
-        } else {
-            // 새로운 밀리초
-            sequence = 0L;
+        WorkerLease current = validLease();
+        long last = reserve(count);
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = toId(last - (count - 1 - i), current.workerId());
         }
+        return ids;
+    }
 
-        lastTimestamp = timestamp;
+    /**
+     * 발급 기한 확인
+     */
+    private WorkerLease validLease() {
+        WorkerLease current = lease;
+        if (current.validUntilNanos() != NO_DEADLINE && nanoClock.getAsLong() - current.validUntilNanos() >= 0) {
+            throw new IllegalStateException(
+                String.format("워커 ID 임대를 확인할 수 없어 ID를 발급할 수 없습니다. (workerId: %d)", current.workerId())
+            );
+        }
+        return current;
+    }
 
-        // ID 조합: timestamp | workerId | sequence
-        return ((timestamp - EPOCH) << TIMESTAMP_SHIFT)
-            | (workerId << WORKER_ID_SHIFT)
-            | sequence;
+    /**
+     * (타임스탬프, 시퀀스) 상태에서 count개의 시퀀스를 예약하고, 마지막으로 예약된 상태를 반환
+     */
+    private long reserve(int count) {
+        while (true) {
+            long current = state.get();
+            long lastTimestamp = current >> SEQUENCE_BITS;
+            long timestamp = currentTimeMillis() - EPOCH;
+            long next;
+
+            if (timestamp > lastTimestamp) {
+                // 새로운 밀리초: 시퀀스 0부터 시작
+                next = (timestamp << SEQUENCE_BITS) | (count - 1);
+            } else {
+                // 같은 밀리초이거나 시계가 역행한 경우: 마지막 타임스탬프를 유지하고 시퀀스 증가
+                long lastSequence = (current & MAX_SEQUENCE) + count;
+
+                if (lastSequence <= MAX_SEQUENCE) {
+                    next = (lastTimestamp << SEQUENCE_BITS) | lastSequence;
+                } else if (lastTimestamp + 1 - timestamp <= maxClockDriftMillis) {
+                    // 시퀀스 소진: 허용 범위 안에서 다음 밀리초를 미리 사용
+                    next = ((lastTimestamp + 1) << SEQUENCE_BITS) | (count - 1);
+                } else {
+                    // 허용 범위를 넘으면 실제 시계가 따라올 때까지 대기
+                    Thread.onSpinWait();
+                    continue;
+                }
+            }
+
+            if (state.compareAndSet(current, next)) {
+                return next;
+            }
+        }
     }
 
     /**
-     * 현재 시간(밀리초)
+     * ID 조합: timestamp | workerId | sequence
      */
-    private long currentTimeMillis() {
-        return System.currentTimeMillis();
+    private long toId(long reservedState, long workerId) {
+        return ((reservedState >> SEQUENCE_BITS) << TIMESTAMP_SHIFT)
+            | (workerId << WORKER_ID_SHIFT)
+            | (reservedState & MAX_SEQUENCE);
     }
 
     /**
-     * 다음 밀리초까지 대기
+     * 워커 ID
      */
-    private long waitNextMillis(long lastTimestamp) {
-        long timestamp = currentTimeMillis();
-        while (timestamp <= lastTimestamp) {
-            timestamp = currentTimeMillis();
+    public long getWorkerId() {
+        return lease.workerId();
+    }
+
+    private static void validateWorkerId(long workerId) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException(
+                String.format("워커 ID는 0부터 %d 사이여야 합니다.", MAX_WORKER_ID)
+            );
         }
-        return timestamp;
+    }
+
+    /**
+     * 현재 시간(밀리초)
+     */
+    private long currentTimeMillis() {
+        return clock.getAsLong();
     }
 
     /**
@@ -124,4 +245,10 @@ public class SnowflakeIdGenerator {
     public long extractSequence(long id) {
         return id & MAX_SEQUENCE;
     }
-}
\ No newline at end of file
+
+    /**
+     * 워커 ID와 발급 기한
+     */
+    private record WorkerLease(long workerId, long validUntilNanos) {
+    }
+}
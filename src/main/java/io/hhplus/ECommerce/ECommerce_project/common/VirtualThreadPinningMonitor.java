@@ -0,0 +1,95 @@
+package io.hhplus.ECommerce.ECommerce_project.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 고정(pinning) 진단 (spring.threads.virtual.enabled=true 일 때만 사용)
+ *
+ * - synchronized 블록이나 네이티브 호출 안에서 블로킹되면 가상 스레드가 캐리어 스레드에서 내려오지 못하고 캐리어를 붙잡는다.
+ *   캐리어 수(CPU 코어 수)만큼 고정되면 다른 가상 스레드가 모두 멈추므로, JFR jdk.VirtualThreadPinned 이벤트를 구독해 기록한다.
+ * - threshold-ms 이상 고정된 경우만 jvm.threads.virtual.pinned 타이머에 기록하고,
+ *   고정을 일으킨 호출 위치(스택 상위 프레임)는 위치마다 처음 한 번만 경고 로그로 남긴다.
+ * - 더 자세한 스택이 필요하면 JVM 옵션 -Djdk.tracePinnedThreads=short|full 을 함께 사용한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    public static final String TIMER_NAME = "jvm.threads.virtual.pinned";
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAME_COUNT = 8;
+
+    private final Timer pinnedTimer;
+    private final Duration threshold;
+    private final Set<String> loggedLocations = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${ecommerce.virtual-threads.pinning.threshold-ms:20}") long thresholdMs
+    ) {
+        this.threshold = Duration.ofMillis(thresholdMs);
+        this.pinnedTimer = Timer.builder(TIMER_NAME)
+                .description("가상 스레드가 캐리어 스레드에 고정된 채 블로킹된 시간")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("가상 스레드 고정 진단 시작 (threshold: {}ms)", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedTimer.record(event.getDuration());
+
+        String location = describe(event.getStackTrace());
+        if (loggedLocations.add(location)) {
+            log.warn("가상 스레드 고정 감지 ({}ms) - 호출 위치:{}", event.getDuration().toMillis(), location);
+        }
+    }
+
+    private String describe(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return " (스택 없음)";
+        }
+
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        return frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .limit(LOGGED_FRAME_COUNT)
+                .map(frame -> "\n\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + "(line " + frame.getLineNumber() + ")")
+                .collect(Collectors.joining());
+    }
+}
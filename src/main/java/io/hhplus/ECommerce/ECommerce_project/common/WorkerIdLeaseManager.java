@@ -0,0 +1,203 @@
+package io.hhplus.ECommerce.ECommerce_project.common;
+
+import io.hhplus.ECommerce.ECommerce_project.common.infrastructure.WorkerIdLeaseJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snowflake 워커 ID 임대 관리 (ecommerce.id.worker-id-source=LEASE 일 때만 사용)
+ *
+ * - 시작 시 id_worker_leases 테이블에서 만료된 워커 ID를 인수하거나, 아직 쓰이지 않은 워커 ID를 새로 등록한다.
+ * - 임대 기간(lease-ttl-ms)보다 짧은 주기(heartbeat-interval-ms)로 leased_until을 연장한다.
+ *   만료 판단과 leased_until 계산은 DB 시계 기준 (WorkerIdLeaseJdbcRepository)
+ * - 임대/연장이 확인될 때마다 ID 생성기의 발급 기한을 연장한다. (attach)
+ *   발급 기한 = 임대/연장 요청 직전 시각(System.nanoTime) + lease-ttl-ms - max-clock-drift-ms
+ *   -> DB가 임대를 만료시키기 전에, 그리고 시계보다 앞서 발급한 ID의 시각이 임대 기간을 넘기 전에 발급을 멈춘다.
+ * - 연장이 계속 실패하면(DB 장애) 발급 기한이 지나 ID 생성기가 발급을 거부한다.
+ * - 다른 인스턴스가 워커 ID를 가져갔으면 즉시 발급을 멈추고 새 워커 ID를 임대해 ID 생성기에 반영한다.
+ * - 종료 시 발급을 멈춘 뒤, 다른 인스턴스가 max-clock-drift-ms 이후부터 재사용할 수 있게 임대를 반납한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ecommerce.id.worker-id-source", havingValue = "LEASE")
+public class WorkerIdLeaseManager {
+
+    private static final int MAX_WORKER_ID = 1023;
+
+    private final WorkerIdLeaseJdbcRepository leaseRepository;
+    private final long leaseTtlMs;
+    private final long maxClockDriftMs;
+    private final String instanceId;
+
+    // 임대 전(또는 임대를 잃은 뒤)에는 -1
+    private volatile int workerId = -1;
+
+    // 임대가 보장되는 마지막 시각 (System.nanoTime 기준)
+    private long validUntilNanos;
+
+    // 발급 기한을 전달할 ID 생성기 (attach 전에는 null)
+    private SnowflakeIdGenerator idGenerator;
+
+    public WorkerIdLeaseManager(
+            WorkerIdLeaseJdbcRepository leaseRepository,
+            @Value("${ecommerce.id.lease-ttl-ms:60000}") long leaseTtlMs,
+            @Value("${ecommerce.id.max-clock-drift-ms:1000}") long maxClockDriftMs
+    ) {
+        if (leaseTtlMs <= maxClockDriftMs) {
+            throw new IllegalArgumentException("임대 기간은 허용 드리프트보다 길어야 합니다.");
+        }
+        this.leaseRepository = leaseRepository;
+        this.leaseTtlMs = leaseTtlMs;
+        this.maxClockDriftMs = maxClockDriftMs;
+        this.instanceId = resolveInstanceId();
+    }
+
+    /**
+     * 워커 ID 임대
+     * 1. 만료된 임대를 작은 ID부터 인수 시도
+     * 2. 없으면 아직 등록되지 않은 워커 ID를 새로 등록 (경합으로 중복되면 다음 ID)
+     */
+    public synchronized int acquire() {
+        if (workerId >= 0) {
+            return workerId;
+        }
+
+        // 요청 전에 시각을 기록해야 DB의 leased_until보다 발급 기한이 먼저 끝남
+        long requestedAt = System.nanoTime();
+
+        // 1. 만료된 임대 인수
+        for (Integer expiredWorkerId : leaseRepository.findExpiredWorkerIds()) {
+            if (leaseRepository.takeOverExpired(expiredWorkerId, instanceId, leaseTtlMs)) {
+                return acquired(expiredWorkerId, requestedAt);
+            }
+        }
+
+        // 2. 새 워커 ID 등록
+        for (int candidate = leaseRepository.findNextUnusedWorkerId(); candidate <= MAX_WORKER_ID; candidate++) {
+            if (leaseRepository.insert(candidate, instanceId, leaseTtlMs)) {
+                return acquired(candidate, requestedAt);
+            }
+        }
+
+        throw new IllegalStateException("임대 가능한 워커 ID가 없습니다.");
+    }
+
+    /**
+     * ID 생성기 연결 (임대 후 호출, 이후 임대 연장/교체/반납을 ID 생성기에 반영)
+     */
+    public synchronized void attach(SnowflakeIdGenerator idGenerator) {
+        if (workerId < 0) {
+            throw new IllegalStateException("워커 ID를 임대한 뒤 연결해야 합니다.");
+        }
+        this.idGenerator = idGenerator;
+        idGenerator.renewLease(workerId, validUntilNanos);
+    }
+
+    /**
+     * 임대 연장 (heartbeat)
+     * 1. 연장 성공: 발급 기한 연장
+     * 2. 다른 인스턴스가 가져감: 즉시 발급 중단 후 새 워커 ID 임대
+     * 3. DB 오류: 다음 주기에 재시도 (그 사이 발급 기한이 지나면 ID 생성기가 발급 거부)
+     */
+    @Scheduled(
+            initialDelayString = "${ecommerce.id.heartbeat-interval-ms:10000}",
+            fixedDelayString = "${ecommerce.id.heartbeat-interval-ms:10000}"
+    )
+    public synchronized void heartbeat() {
+        if (idGenerator == null) {
+            return;
+        }
+
+        try {
+            // 이전 주기에 임대를 잃고 새 임대도 실패했으면 다시 임대
+            if (workerId < 0) {
+                acquire();
+                return;
+            }
+
+            long requestedAt = System.nanoTime();
+
+            // 1. 연장 성공
+            if (leaseRepository.renew(workerId, instanceId, leaseTtlMs)) {
+                validUntilNanos = leaseDeadline(requestedAt);
+                idGenerator.renewLease(workerId, validUntilNanos);
+                return;
+            }
+
+            // 2. 다른 인스턴스가 같은 워커 ID를 가져감 -> 같은 워커 ID로 더 발급하면 ID가 중복될 수 있음
+            log.error("워커 ID 임대를 잃어 새 워커 ID를 임대합니다. (workerId: {}, instanceId: {})", workerId, instanceId);
+            idGenerator.revokeLease();
+            workerId = -1;
+            acquire();
+        } catch (DataAccessException e) {
+            // 3. DB 오류
+            log.warn("워커 ID 임대 연장 실패, 다음 주기에 재시도 (workerId: {})", workerId, e);
+        }
+    }
+
+    /**
+     * 종료 시 임대 반납
+     * 1. ID 생성기 발급 중단
+     * 2. DB 현재 시각 + max-clock-drift-ms 이후 만료되도록 반납 (시계보다 앞서 발급한 ID와 겹치지 않도록)
+     */
+    @PreDestroy
+    public synchronized void release() {
+        if (workerId < 0) {
+            return;
+        }
+
+        // 1. 발급 중단
+        if (idGenerator != null) {
+            idGenerator.revokeLease();
+        }
+
+        // 2. 반납
+        try {
+            leaseRepository.release(workerId, instanceId, maxClockDriftMs);
+        } catch (DataAccessException e) {
+            log.warn("워커 ID 임대 반납 실패, 만료 후 재사용됨 (workerId: {})", workerId, e);
+        }
+    }
+
+    public int getWorkerId() {
+        return workerId;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    private int acquired(int leasedWorkerId, long requestedAt) {
+        this.workerId = leasedWorkerId;
+        this.validUntilNanos = leaseDeadline(requestedAt);
+        if (idGenerator != null) {
+            idGenerator.renewLease(leasedWorkerId, validUntilNanos);
+        }
+        log.info("워커 ID 임대 완료 (workerId: {}, instanceId: {})", leasedWorkerId, instanceId);
+        return leasedWorkerId;
+    }
+
+    private long leaseDeadline(long requestedAt) {
+        return requestedAt + TimeUnit.MILLISECONDS.toNanos(leaseTtlMs - maxClockDriftMs);
+    }
+
+    private static String resolveInstanceId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,55 @@
+package io.hhplus.ECommerce.ECommerce_project.common.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 마스터 데이터 캐시 설정 (Caffeine)
+ * - 캐시별로 최대 크기(초과 시 LRU에 가깝게 제거)와 TTL을 따로 둔다.
+ * - 트랜잭션 안에서의 캐시 저장/무효화는 커밋 후에 반영된다. (롤백된 변경으로 캐시가 무효화되거나 오염되지 않음)
+ * - recordStats()로 적중/미스 통계를 기록하고, actuator의 cache.gets 메트릭으로 노출된다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String CATEGORY = "category";
+    public static final String CATEGORY_LIST = "categoryList";
+    public static final String COUPON = "coupon";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${ecommerce.cache.category.ttl-ms:600000}") long categoryTtlMs,
+            @Value("${ecommerce.cache.category.max-size:1000}") long categoryMaxSize,
+            @Value("${ecommerce.cache.coupon.ttl-ms:60000}") long couponTtlMs,
+            @Value("${ecommerce.cache.coupon.max-size:10000}") long couponMaxSize
+    ) {
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(
+                caffeineCache(CATEGORY, categoryTtlMs, categoryMaxSize),
+                caffeineCache(CATEGORY_LIST, categoryTtlMs, 1),
+                caffeineCache(COUPON, couponTtlMs, couponMaxSize)
+        ));
+        cacheManager.initializeCaches();
+
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    private CaffeineCache caffeineCache(String name, long ttlMs, long maxSize) {
+        return new CaffeineCache(name, Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build(), false);
+    }
+}
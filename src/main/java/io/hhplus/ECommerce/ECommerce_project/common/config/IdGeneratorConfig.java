@@ -0,0 +1,36 @@
+package io.hhplus.ECommerce.ECommerce_project.common.config;
+
+import io.hhplus.ECommerce.ECommerce_project.common.SnowflakeIdGenerator;
+import io.hhplus.ECommerce.ECommerce_project.common.WorkerIdLeaseManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.Nullable;
+
+/**
+ * Snowflake ID 생성기 설정
+ * - ecommerce.id.worker-id-source=CONFIG (기본값): ecommerce.id.worker-id 사용
+ * - ecommerce.id.worker-id-source=LEASE: id_worker_leases 테이블에서 워커 ID 임대
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+    /**
+     * - 임대 방식이면 임대 관리자를 생성기에 연결해 임대를 확인한 기한까지만 발급한다.
+     * - 임대 관리자를 파라미터로 받아 의존 관계로 등록 -> 종료 시 생성기를 쓰는 빈이 먼저 종료된 뒤 임대를 반납
+     */
+    @Bean
+    public SnowflakeIdGenerator snowflakeIdGenerator(
+            @Nullable WorkerIdLeaseManager leaseManager,
+            @Value("${ecommerce.id.worker-id:1}") long configuredWorkerId,
+            @Value("${ecommerce.id.max-clock-drift-ms:1000}") long maxClockDriftMs
+    ) {
+        if (leaseManager == null) {
+            return new SnowflakeIdGenerator(configuredWorkerId, maxClockDriftMs);
+        }
+
+        SnowflakeIdGenerator idGenerator = new SnowflakeIdGenerator(leaseManager.acquire(), maxClockDriftMs);
+        leaseManager.attach(idGenerator);
+        return idGenerator;
+    }
+}
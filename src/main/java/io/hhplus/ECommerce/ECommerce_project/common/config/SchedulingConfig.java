@@ -0,0 +1,13 @@
+package io.hhplus.ECommerce.ECommerce_project.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * - 메모리에 누적한 변화량을 주기적으로 DB에 반영하는 작업 등에서 사용
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
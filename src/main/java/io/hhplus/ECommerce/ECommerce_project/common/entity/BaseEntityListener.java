@@ -10,6 +10,9 @@ public class BaseEntityListener {
 
     private static SnowflakeIdGenerator snowflakeIdGenerator;
 
+    // prefetch 구간에서 사용할 미리 예약된 ID 블록 (스레드별)
+    private static final ThreadLocal<IdBlock> PREFETCHED_IDS = new ThreadLocal<>();
+
     @Autowired
     public void setSnowflakeIdGenerator(SnowflakeIdGenerator snowflakeIdGenerator) {
         BaseEntityListener.snowflakeIdGenerator = snowflakeIdGenerator;
@@ -18,7 +21,67 @@ public class BaseEntityListener {
     @PrePersist
     public void prePersist(BaseEntity entity) {
         if (entity.getId() == null) {
-            entity.setId(snowflakeIdGenerator.nextId());
+            entity.setId(nextId());
+        }
+    }
+
+    /**
+     * 여러 엔티티를 저장하기 전에 ID 블록을 한 번에 예약
+     * - 블록이 닫히기 전까지 현재 스레드의 @PrePersist는 예약된 ID를 순서대로 사용하고, 모자라면 생성기에서 발급
+     * - 한 블록은 최대 SnowflakeIdGenerator.MAX_BLOCK_SIZE개
+     * - 사용하지 않은 ID는 닫을 때 버려짐 (중복되지 않으므로 안전)
+     *
+     * 사용 예:
+     * try (BaseEntityListener.IdBlock ignored = BaseEntityListener.prefetch(items.size())) {
+     *     repository.saveAll(items);
+     * }
+     */
+    public static IdBlock prefetch(int count) {
+        long[] ids = count > 0
+                ? snowflakeIdGenerator.nextIds(Math.min(count, SnowflakeIdGenerator.MAX_BLOCK_SIZE))
+                : new long[0];
+        IdBlock block = new IdBlock(ids, PREFETCHED_IDS.get());
+        PREFETCHED_IDS.set(block);
+        return block;
+    }
+
+    private static long nextId() {
+        IdBlock block = PREFETCHED_IDS.get();
+        if (block != null && block.hasNext()) {
+            return block.next();
+        }
+        return snowflakeIdGenerator.nextId();
+    }
+
+    /**
+     * 예약된 ID 블록
+     */
+    public static final class IdBlock implements AutoCloseable {
+
+        private final long[] ids;
+        private final IdBlock previous;
+        private int index = 0;
+
+        private IdBlock(long[] ids, IdBlock previous) {
+            this.ids = ids;
+            this.previous = previous;
+        }
+
+        private boolean hasNext() {
+            return index < ids.length;
+        }
+
+        private long next() {
+            return ids[index++];
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                PREFETCHED_IDS.remove();
+            } else {
+                PREFETCHED_IDS.set(previous);
+            }
         }
     }
-}
\ No newline at end of file
+}
@@ -14,6 +14,10 @@ public enum ErrorCode {
     // ===== Common =====
     INVALID_INPUT_VALUE("입력값이 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
     INTERNAL_SERVER_ERROR("서버 내부 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+    IDEMPOTENCY_KEY_INVALID("Idempotency-Key는 1자 이상 100자 이하여야 합니다.", HttpStatus.BAD_REQUEST),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS("같은 Idempotency-Key의 요청이 아직 처리 중입니다.", HttpStatus.CONFLICT),
+    IDEMPOTENCY_KEY_REUSED("이미 다른 요청에 사용된 Idempotency-Key입니다.", HttpStatus.UNPROCESSABLE_ENTITY),
+    IDEMPOTENCY_RESPONSE_UNRECORDED("이미 처리된 요청이지만 응답을 재생할 수 없습니다. 주문/결제 내역을 조회해 주세요.", HttpStatus.UNPROCESSABLE_ENTITY),
 
     // ===== User =====
     USER_NOT_FOUND("사용자를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
@@ -47,6 +51,7 @@ public enum ErrorCode {
     PRODUCT_MIN_ORDER_QUANTITY_NOT_MET("최소 주문 수량을 만족하지 않습니다.", HttpStatus.CONFLICT),
     PRODUCT_MAX_ORDER_QUANTITY_EXCEEDED("최대 주문 수량을 초과했습니다.", HttpStatus.CONFLICT),
     PRODUCT_RESTORE_FAILED("상품 재고 복구에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+    PRODUCT_CURSOR_INVALID("유효하지 않은 커서입니다.", HttpStatus.BAD_REQUEST),
 
     // ===== Point =====
     POINT_NOT_FOUND("포인트를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
@@ -87,8 +92,10 @@ public enum ErrorCode {
     ORDER_ACCESS_DENIED("주문 접근이 거부되었습니다.", HttpStatus.BAD_REQUEST),
     ORDER_PRODUCT_CANNOT_BE_ORDERED("주문 불가능한 상품입니다", HttpStatus.CONFLICT),
     ORDER_INVALID_STATUS_FOR_PAYMENT("결제 가능한 상태가 아닙니다.", HttpStatus.CONFLICT),
+    ORDER_PAYMENT_IN_PROGRESS("결제가 진행 중인 주문입니다.", HttpStatus.CONFLICT),
     ORDER_INVALID_STATUS_FOR_CANCEL("취소 가능한 상태가 아닙니다.", HttpStatus.CONFLICT),
     ORDER_INVALID_STATUS_FOR_COMPLETE("완료 가능한 상태가 아닙니다.", HttpStatus.CONFLICT),
+    ORDER_BULK_CANCEL_LIMIT_EXCEEDED("한 번에 취소할 수 있는 주문 수를 초과했습니다.", HttpStatus.BAD_REQUEST),
     ORDER_ITEM_NOT_FOUND("주문 아이템을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     ORDER_ITEM_ORDER_ID_REQUIRED("주문 ID는 필수입니다.", HttpStatus.BAD_REQUEST),
     ORDER_ITEM_PRODUCT_ID_REQUIRED("상품 ID는 필수입니다.", HttpStatus.BAD_REQUEST),
@@ -116,6 +123,9 @@ public enum ErrorCode {
     PAYMENT_FAILURE_REASON_REQUIRED("실패 사유는 필수입니다.", HttpStatus.BAD_REQUEST),
     PAYMENT_ONLY_PAYMENT_TYPE_CAN_REFUND("일반 결제만 환불 가능합니다.", HttpStatus.CONFLICT),
     PAYMENT_ONLY_COMPLETED_CAN_REFUND("완료된 결제만 환불 가능합니다.", HttpStatus.CONFLICT),
+    PAYMENT_GATEWAY_DECLINED("결제 대행사에서 결제를 거절했습니다.", HttpStatus.PAYMENT_REQUIRED),
+    PAYMENT_GATEWAY_UNAVAILABLE("결제 대행사를 호출할 수 없어 결제에 실패했습니다.", HttpStatus.SERVICE_UNAVAILABLE),
+    PAYMENT_RESULT_UNKNOWN("결제 결과를 확인하고 있습니다. 잠시 후 주문 상태를 조회해 주세요.", HttpStatus.GATEWAY_TIMEOUT),
     PAYMENT_COMPENSATION_TRANSACTION_FAILED("결제 실패에 대한 보상 트랜잭션이 실패하였습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
 
     // ===== Coupon =====
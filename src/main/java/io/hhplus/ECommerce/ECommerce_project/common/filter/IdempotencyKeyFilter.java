@@ -0,0 +1,249 @@
+package io.hhplus.ECommerce.ECommerce_project.common.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.ECommerce.ECommerce_project.common.IdempotencyKeyStore;
+import io.hhplus.ECommerce.ECommerce_project.common.IdempotencyKeyStore.BeginResult;
+import io.hhplus.ECommerce.ECommerce_project.common.IdempotencyKeyStore.StoredResponse;
+import io.hhplus.ECommerce.ECommerce_project.common.dto.ErrorResponse;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+
+/**
+ * 주문/결제 POST 멱등성 필터
+ *
+ * - Idempotency-Key 헤더가 있는 주문 생성/결제 요청만 처리하고, 헤더가 없으면 그대로 통과시킨다.
+ * - 같은 키 + 같은 요청(메서드, URI, 본문의 SHA-256 지문)이 다시 들어오면 저장된 응답을 재생하고
+ *   컨트롤러를 호출하지 않는다. (상품/포인트/쿠폰 행을 다시 잠그거나 차감하지 않음)
+ * - 같은 키로 다른 요청 -> 422, 같은 요청이 처리 중 -> 409
+ * - 2xx와 재시도해도 결과가 같은 4xx 응답만 저장한다.
+ *   5xx, 409(재고 부족 등 경합), 429 응답이나 예외는 선점을 해제해 같은 키로 다시 시도할 수 있게 한다.
+ * - 저장 대상 응답은 요청이 이미 커밋된 뒤이므로, 응답 저장에 실패해도 선점을 해제하지 않고(재처리 방지)
+ *   클라이언트에게는 응답을 그대로 보낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyKeyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private static final Set<String> IDEMPOTENT_PATHS = Set.of(
+            "/api/orders/from-product",
+            "/api/orders/from-cart",
+            "/api/payments"
+    );
+
+    private final IdempotencyKeyStore idempotencyKeyStore;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || !IDEMPOTENT_PATHS.contains(request.getRequestURI())
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+    }
+
+    /**
+     * 1. 키 검증 + 요청 지문 계산
+     * 2. 선점 시도 (재생 / 거부 / 처리 중이면 여기서 응답)
+     * 3. 요청 처리 후 응답 저장 또는 선점 해제
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // 1. 키 검증 + 요청 지문
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, ErrorCode.IDEMPOTENCY_KEY_INVALID);
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String fingerprint = fingerprint(cachedRequest);
+
+        // 2. 선점
+        BeginResult begin = idempotencyKeyStore.begin(idempotencyKey, fingerprint);
+        switch (begin.outcome()) {
+            case REPLAY -> {
+                writeStored(response, begin.response());
+                return;
+            }
+            case IN_PROGRESS -> {
+                writeError(response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+                return;
+            }
+            case KEY_REUSED -> {
+                writeError(response, ErrorCode.IDEMPOTENCY_KEY_REUSED);
+                return;
+            }
+            case UNRECORDED -> {
+                writeError(response, ErrorCode.IDEMPOTENCY_RESPONSE_UNRECORDED);
+                return;
+            }
+            case ACQUIRED -> {
+                // 아래에서 처리
+            }
+        }
+
+        // 3. 요청 처리 (저장 대상 응답이면 선점을 유지, 어떤 경우든 응답 본문은 클라이언트에게 전달)
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        boolean handled = false;
+        try {
+            filterChain.doFilter(cachedRequest, cachingResponse);
+
+            int status = cachingResponse.getStatus();
+            if (isReplayable(status)) {
+                handled = true;
+                store(idempotencyKey, fingerprint, new StoredResponse(
+                        status,
+                        cachingResponse.getContentType(),
+                        new String(cachingResponse.getContentAsByteArray(), StandardCharsets.UTF_8)
+                ));
+            }
+        } finally {
+            try {
+                if (!handled) {
+                    idempotencyKeyStore.release(idempotencyKey);
+                }
+            } finally {
+                cachingResponse.copyBodyToResponse();
+            }
+        }
+    }
+
+    /**
+     * 응답 저장 (실패하면 응답 없음으로 표시하고, 요청 결과는 그대로 응답)
+     */
+    private void store(String idempotencyKey, String fingerprint, StoredResponse storedResponse) {
+        try {
+            idempotencyKeyStore.complete(idempotencyKey, fingerprint, storedResponse);
+        } catch (RuntimeException e) {
+            log.error("멱등성 키 응답 저장 실패 - 처리된 요청이므로 선점을 유지 (key: {}, status: {})",
+                    idempotencyKey, storedResponse.status(), e);
+            idempotencyKeyStore.markUnrecorded(idempotencyKey, fingerprint, storedResponse);
+        }
+    }
+
+    private boolean isReplayable(int status) {
+        return status < HttpStatus.INTERNAL_SERVER_ERROR.value()
+                && status != HttpStatus.CONFLICT.value()
+                && status != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private String fingerprint(CachedBodyRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + request.getRequestURI() + "\n").getBytes(StandardCharsets.UTF_8));
+            digest.update(request.body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private void writeStored(HttpServletResponse response, StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.body() != null) {
+            response.getOutputStream().write(stored.body().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void writeError(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        response.setStatus(errorCode.getStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.of(errorCode.name(), errorCode.getMessage()));
+    }
+
+    /**
+     * 본문을 미리 읽어 두는 요청 래퍼 (지문 계산 후 컨트롤러가 다시 읽을 수 있게 함)
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = StreamUtils.copyToByteArray(request.getInputStream());
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * 본문이 이미 메모리에 있으므로 바로 읽기 가능 + 읽기 완료를 알림
+                 */
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding)));
+        }
+    }
+}
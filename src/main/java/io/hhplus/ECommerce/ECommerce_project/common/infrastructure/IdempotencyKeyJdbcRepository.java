@@ -0,0 +1,179 @@
+package io.hhplus.ECommerce.ECommerce_project.common.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 멱등성 키 JDBC 리포지토리 (idempotency_keys)
+ * - 요청 처리 트랜잭션과 무관하게 바로 커밋되어야 하므로 JdbcTemplate으로 단건 실행한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyKeyJdbcRepository {
+
+    public static final String STATUS_IN_PROGRESS = "IN_PROGRESS";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    // 요청은 처리됐지만 응답 저장에 실패함 (재처리도 재생도 하지 않음)
+    public static final String STATUS_UNRECORDED = "UNRECORDED";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 멱등성 키 조회
+     */
+    public Optional<IdempotencyRecord> findByKey(String idempotencyKey) {
+        List<IdempotencyRecord> records = jdbcTemplate.query(
+                "SELECT idempotency_key, request_fingerprint, status, response_status, response_content_type, response_body, expires_at " +
+                        "FROM idempotency_keys WHERE idempotency_key = ?",
+                (rs, rowNum) -> new IdempotencyRecord(
+                        rs.getString("idempotency_key"),
+                        rs.getString("request_fingerprint"),
+                        rs.getString("status"),
+                        rs.getInt("response_status"),
+                        rs.getString("response_content_type"),
+                        rs.getString("response_body"),
+                        rs.getTimestamp("expires_at").toLocalDateTime()
+                ),
+                idempotencyKey
+        );
+        return records.stream().findFirst();
+    }
+
+    /**
+     * 처리 중 행 선점 (이미 같은 키가 있으면 false)
+     */
+    public boolean insertInProgress(String idempotencyKey, String fingerprint, LocalDateTime now, LocalDateTime expiresAt) {
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO idempotency_keys (idempotency_key, request_fingerprint, status, created_at, expires_at) VALUES (?, ?, ?, ?, ?)",
+                    idempotencyKey,
+                    fingerprint,
+                    STATUS_IN_PROGRESS,
+                    Timestamp.valueOf(now),
+                    Timestamp.valueOf(expiresAt)
+            );
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 버려진 행 인수
+     * - 처리 중인 채로 staleBefore 이전에 시작된 행(처리 도중 인스턴스가 죽은 경우)이나 보관 기간이 지난 행을 다시 선점
+     * - 조회 이후 다른 요청이 먼저 가져갔으면 false
+     */
+    public boolean takeOver(String idempotencyKey, String fingerprint, LocalDateTime now, LocalDateTime staleBefore, LocalDateTime expiresAt) {
+        int updated = jdbcTemplate.update(
+                "UPDATE idempotency_keys SET request_fingerprint = ?, status = ?, response_status = NULL, response_content_type = NULL, " +
+                        "response_body = NULL, created_at = ?, expires_at = ? " +
+                        "WHERE idempotency_key = ? AND ((status = ? AND created_at <= ?) OR expires_at <= ?)",
+                fingerprint,
+                STATUS_IN_PROGRESS,
+                Timestamp.valueOf(now),
+                Timestamp.valueOf(expiresAt),
+                idempotencyKey,
+                STATUS_IN_PROGRESS,
+                Timestamp.valueOf(staleBefore),
+                Timestamp.valueOf(now)
+        );
+        return updated == 1;
+    }
+
+    /**
+     * 응답 저장 (처리 중 -> 완료)
+     */
+    public void complete(String idempotencyKey, int responseStatus, String contentType, String responseBody) {
+        jdbcTemplate.update(
+                "UPDATE idempotency_keys SET status = ?, response_status = ?, response_content_type = ?, response_body = ? " +
+                        "WHERE idempotency_key = ? AND status = ?",
+                STATUS_COMPLETED,
+                responseStatus,
+                contentType,
+                responseBody,
+                idempotencyKey,
+                STATUS_IN_PROGRESS
+        );
+    }
+
+    /**
+     * 응답 저장 실패 표시 (처리 중 -> 응답 없음)
+     * - 본문 없이 상태 코드만 남겨 같은 키의 재시도가 요청을 다시 처리하지 않게 함
+     */
+    public void markUnrecorded(String idempotencyKey, int responseStatus) {
+        jdbcTemplate.update(
+                "UPDATE idempotency_keys SET status = ?, response_status = ? WHERE idempotency_key = ? AND status = ?",
+                STATUS_UNRECORDED,
+                responseStatus,
+                idempotencyKey,
+                STATUS_IN_PROGRESS
+        );
+    }
+
+    /**
+     * 처리 중 행 삭제 (처리 실패 시 같은 키로 다시 시도할 수 있게 함)
+     */
+    public void deleteInProgress(String idempotencyKey) {
+        jdbcTemplate.update(
+                "DELETE FROM idempotency_keys WHERE idempotency_key = ? AND status = ?",
+                idempotencyKey,
+                STATUS_IN_PROGRESS
+        );
+    }
+
+    /**
+     * 보관 기간이 지난 행 삭제 (최대 limit건)
+     * @return 삭제한 행 수
+     */
+    public int deleteExpired(LocalDateTime now, int limit) {
+        List<String> expiredKeys = jdbcTemplate.queryForList(
+                "SELECT idempotency_key FROM idempotency_keys WHERE expires_at <= ? ORDER BY expires_at LIMIT ?",
+                String.class,
+                Timestamp.valueOf(now),
+                limit
+        );
+        if (expiredKeys.isEmpty()) {
+            return 0;
+        }
+
+        int[] deleted = jdbcTemplate.batchUpdate(
+                "DELETE FROM idempotency_keys WHERE idempotency_key = ? AND expires_at <= ?",
+                expiredKeys.stream()
+                        .map(key -> new Object[]{key, Timestamp.valueOf(now)})
+                        .toList()
+        );
+        int count = 0;
+        for (int rows : deleted) {
+            count += Math.max(rows, 0);
+        }
+        return count;
+    }
+
+    /**
+     * 멱등성 키 행
+     */
+    public record IdempotencyRecord(
+            String idempotencyKey,
+            String requestFingerprint,
+            String status,
+            int responseStatus,
+            String responseContentType,
+            String responseBody,
+            LocalDateTime expiresAt
+    ) {
+        public boolean isCompleted() {
+            return STATUS_COMPLETED.equals(status);
+        }
+
+        public boolean isUnrecorded() {
+            return STATUS_UNRECORDED.equals(status);
+        }
+    }
+}
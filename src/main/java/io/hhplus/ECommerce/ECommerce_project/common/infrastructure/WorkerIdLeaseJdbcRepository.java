@@ -0,0 +1,104 @@
+package io.hhplus.ECommerce.ECommerce_project.common.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Snowflake 워커 ID 임대 JDBC 리포지토리 (id_worker_leases)
+ * - 임대 시각은 모두 DB 시계(LOCALTIMESTAMP(3)) 기준으로 계산한다.
+ *   인스턴스마다 시계가 달라도 만료 판단이 같은 시계로 이뤄지도록 애플리케이션 시각을 넘기지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WorkerIdLeaseJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 만료된 임대 워커 ID 목록 (작은 ID부터, 반납된 임대 포함)
+     */
+    public List<Integer> findExpiredWorkerIds() {
+        return jdbcTemplate.queryForList(
+                "SELECT worker_id FROM id_worker_leases WHERE leased_until <= LOCALTIMESTAMP(3) ORDER BY worker_id",
+                Integer.class
+        );
+    }
+
+    /**
+     * 임대 중인 행이 한 번도 없었던 가장 작은 워커 ID 후보 (없으면 0)
+     */
+    public int findNextUnusedWorkerId() {
+        Integer max = jdbcTemplate.queryForObject("SELECT MAX(worker_id) FROM id_worker_leases", Integer.class);
+        return max == null ? 0 : max + 1;
+    }
+
+    /**
+     * 만료된 임대 인수 (조회 이후 다른 인스턴스가 먼저 가져갔으면 false)
+     * @param leaseTtlMs DB 현재 시각부터 임대할 기간
+     */
+    public boolean takeOverExpired(int workerId, String instanceId, long leaseTtlMs) {
+        int updated = jdbcTemplate.update(
+                "UPDATE id_worker_leases SET instance_id = ?, leased_until = TIMESTAMPADD(MICROSECOND, ?, LOCALTIMESTAMP(3)), updated_at = LOCALTIMESTAMP(3) "
+                        + "WHERE worker_id = ? AND leased_until <= LOCALTIMESTAMP(3)",
+                instanceId,
+                leaseTtlMs * 1000,
+                workerId
+        );
+        return updated == 1;
+    }
+
+    /**
+     * 새 워커 ID 임대 (이미 다른 인스턴스가 등록했으면 false)
+     * @param leaseTtlMs DB 현재 시각부터 임대할 기간
+     */
+    public boolean insert(int workerId, String instanceId, long leaseTtlMs) {
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO id_worker_leases (worker_id, instance_id, leased_until, updated_at) "
+                            + "VALUES (?, ?, TIMESTAMPADD(MICROSECOND, ?, LOCALTIMESTAMP(3)), LOCALTIMESTAMP(3))",
+                    workerId,
+                    instanceId,
+                    leaseTtlMs * 1000
+            );
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 임대 연장
+     * - 아직 자신의 임대일 때만 연장 (만료됐더라도 다른 인스턴스가 인수하지 않았으면 연장)
+     * - 다른 인스턴스가 인수했으면 false (새 워커 ID를 임대해야 함)
+     * @param leaseTtlMs DB 현재 시각부터 임대할 기간
+     */
+    public boolean renew(int workerId, String instanceId, long leaseTtlMs) {
+        int updated = jdbcTemplate.update(
+                "UPDATE id_worker_leases SET leased_until = TIMESTAMPADD(MICROSECOND, ?, LOCALTIMESTAMP(3)), updated_at = LOCALTIMESTAMP(3) "
+                        + "WHERE worker_id = ? AND instance_id = ?",
+                leaseTtlMs * 1000,
+                workerId,
+                instanceId
+        );
+        return updated == 1;
+    }
+
+    /**
+     * 임대 반납
+     * - 마지막으로 발급한 ID가 시계보다 최대 maxClockDriftMs 앞설 수 있으므로,
+     *   DB 현재 시각 + maxClockDriftMs 이후에 만료되게 해 그 전에는 다른 인스턴스가 인수하지 못하게 한다.
+     */
+    public void release(int workerId, String instanceId, long maxClockDriftMs) {
+        jdbcTemplate.update(
+                "UPDATE id_worker_leases SET leased_until = TIMESTAMPADD(MICROSECOND, ?, LOCALTIMESTAMP(3)), updated_at = LOCALTIMESTAMP(3) "
+                        + "WHERE worker_id = ? AND instance_id = ?",
+                maxClockDriftMs * 1000,
+                workerId,
+                instanceId
+        );
+    }
+}
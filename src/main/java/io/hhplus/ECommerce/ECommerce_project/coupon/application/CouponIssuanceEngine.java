@@ -0,0 +1,330 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.application;
+
+import io.hhplus.ECommerce.ECommerce_project.common.SnowflakeIdGenerator;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.CouponException;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.enums.CouponIssuanceMode;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.event.CouponChangedEvent;
+import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.CouponIssueJdbcRepository;
+import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.CouponIssueJdbcRepository.CouponIssueCondition;
+import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.CouponIssueJdbcRepository.IssuedCouponRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 선착순 쿠폰 발급 엔진 (ENGINE 모드)
+ *
+ * - 쿠폰별 발급 수량과 발급받은 사용자 집합을 메모리에 두고, 품절/중복 요청은 DB에 접근하지 않고 바로 거절한다.
+ * - 상태는 쿠폰을 처음 발급할 때 coupons / user_coupons 테이블에서 한 번 적재한다.
+ * - 발급이 확정된 요청은 대기열에 쌓고, 스케줄러가 주기적으로 모아 user_coupons 배치 INSERT와
+ *   coupons.issued_quantity 증가를 하나의 트랜잭션으로 저장한다.
+ * - 저장 전까지는 사용자 쿠폰 조회/사용에 반영되지 않는다. (최대 flush 주기만큼 지연)
+ * - 발급 성공 응답은 "발급 판정 + 저장 대기열 등록"까지만 의미하고 저장을 보장하지 않는다.
+ *   - 저장 중 제약 위반(탈퇴한 사용자 등)이 나면 발급을 취소하고 수량을 되돌린다. (outcome: revoked)
+ *   - 종료 시 마지막 저장까지 실패하면 남은 발급은 유실된다. (outcome: lost_on_shutdown, 프로세스가 비정상 종료되면 기록도 남지 않음)
+ *   - 처리 결과는 coupon.issuance.engine 카운터(outcome: persisted / revoked / lost_on_shutdown),
+ *     대기 건수는 coupon.issuance.engine.pending 게이지로 기록
+ * - 인스턴스마다 엔진을 따로 가지므로 단일 인스턴스 운영을 전제로 한다. 다중 인스턴스에서는 DATABASE 모드를 사용한다.
+ */
+@Slf4j
+@Component
+public class CouponIssuanceEngine {
+
+    public static final String COUNTER_NAME = "coupon.issuance.engine";
+    public static final String PENDING_GAUGE_NAME = "coupon.issuance.engine.pending";
+
+    private final CouponIssueJdbcRepository couponIssueJdbcRepository;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+    private final CouponIssuanceMode mode;
+    private final int batchSize;
+
+    // 쿠폰 ID -> 발급 상태
+    private final ConcurrentHashMap<Long, CouponIssueState> states = new ConcurrentHashMap<>();
+
+    // 저장 대기 중인 발급 (실패 시 앞쪽에 다시 넣어 재시도)
+    private final ConcurrentLinkedDeque<IssuedCouponRow> pending = new ConcurrentLinkedDeque<>();
+
+    private final Counter persistedCounter;
+    private final Counter revokedCounter;
+    private final Counter lostOnShutdownCounter;
+
+    public CouponIssuanceEngine(
+            CouponIssueJdbcRepository couponIssueJdbcRepository,
+            SnowflakeIdGenerator snowflakeIdGenerator,
+            MeterRegistry meterRegistry,
+            @Value("${ecommerce.coupon.issuance-mode:DATABASE}") CouponIssuanceMode mode,
+            @Value("${ecommerce.coupon.issue-batch-size:500}") int batchSize
+    ) {
+        this.couponIssueJdbcRepository = couponIssueJdbcRepository;
+        this.snowflakeIdGenerator = snowflakeIdGenerator;
+        this.mode = mode;
+        this.batchSize = batchSize;
+
+        this.persistedCounter = counter(meterRegistry, "persisted");
+        this.revokedCounter = counter(meterRegistry, "revoked");
+        this.lostOnShutdownCounter = counter(meterRegistry, "lost_on_shutdown");
+        Gauge.builder(PENDING_GAUGE_NAME, pending, ConcurrentLinkedDeque::size)
+                .description("저장 대기 중인 쿠폰 발급 건수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * ENGINE 모드 사용 여부
+     */
+    public boolean isEnabled() {
+        return mode == CouponIssuanceMode.ENGINE;
+    }
+
+    /**
+     * 메모리 상태만으로 거절할 수 있는 요청인지 확인 (품절, 중복 발급)
+     * - 이미 적재된 쿠폰만 확인하고, 처음 보는 쿠폰은 통과시킴 (issue에서 적재 후 판정)
+     */
+    public void precheck(Long couponId, Long userId) {
+        CouponIssueState state = states.get(couponId);
+        if (state == null) {
+            return;
+        }
+
+        if (state.issuedUserIds.contains(userId)) {
+            throw new CouponException(ErrorCode.COUPON_ALREADY_ISSUED);
+        }
+        if (state.issuedCount.get() >= state.totalQuantity) {
+            throw new CouponException(ErrorCode.COUPON_ALL_ISSUED);
+        }
+    }
+
+    /**
+     * 선착순 발급 판정 및 저장 대기열 등록
+     * 1. 발급 조건 검증 (활성 상태, 발급 기간)
+     * 2. 사용자 중복 발급 확인 (집합에 원자적으로 추가)
+     * 3. 발급 수량 CAS 증가 (품절이면 사용자 집합에서 다시 제거)
+     */
+    public IssuedCouponRow issue(Long couponId, Long userId) {
+        CouponIssueState state = getOrLoad(couponId);
+
+        // 1. 발급 조건 검증
+        state.validateAvailability(LocalDateTime.now());
+
+        // 2. 중복 발급 확인
+        if (!state.issuedUserIds.add(userId)) {
+            throw new CouponException(ErrorCode.COUPON_ALREADY_ISSUED);
+        }
+
+        // 3. 발급 수량 확보
+        if (!state.tryAcquire()) {
+            state.issuedUserIds.remove(userId);
+            throw new CouponException(ErrorCode.COUPON_ALL_ISSUED);
+        }
+
+        IssuedCouponRow row = new IssuedCouponRow(snowflakeIdGenerator.nextId(), couponId, userId, LocalDateTime.now());
+        pending.addLast(row);
+        return row;
+    }
+
+    /**
+     * 저장 대기 중인 발급 건수
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 쿠폰 마스터 변경 반영 (수량, 기간, 활성 상태만 다시 읽고 발급 수와 사용자 집합은 유지)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCouponChanged(CouponChangedEvent event) {
+        CouponIssueState state = states.get(event.couponId());
+        if (state == null) {
+            return;
+        }
+
+        couponIssueJdbcRepository.findIssueCondition(event.couponId())
+                .ifPresentOrElse(state::updateCondition, () -> states.remove(event.couponId()));
+    }
+
+    /**
+     * 대기열의 발급 건을 배치로 저장
+     */
+    @Scheduled(fixedDelayString = "${ecommerce.coupon.issue-flush-interval-ms:100}")
+    public void flush() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        while (!pending.isEmpty()) {
+            // 1. 배치 크기만큼 꺼내기
+            List<IssuedCouponRow> batch = new ArrayList<>(batchSize);
+            IssuedCouponRow row;
+            while (batch.size() < batchSize && (row = pending.pollFirst()) != null) {
+                batch.add(row);
+            }
+
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            // 2. 배치 저장
+            try {
+                couponIssueJdbcRepository.saveIssuedCoupons(batch);
+                persistedCounter.increment(batch.size());
+            } catch (DataIntegrityViolationException e) {
+                // 제약 위반(중복 발급, 존재하지 않는 사용자 등)이 섞인 경우 한 건씩 저장
+                saveOneByOne(batch);
+            } catch (DataAccessException e) {
+                // 일시적 장애: 순서를 유지한 채 대기열 앞에 되돌리고 다음 주기에 재시도
+                log.error("쿠폰 발급 저장 실패, 다음 주기에 재시도합니다. (건수: {})", batch.size(), e);
+                for (int i = batch.size() - 1; i >= 0; i--) {
+                    pending.addFirst(batch.get(i));
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 발급 건 저장
+     * - 저장에 실패해 남은 발급은 유실되므로 건수를 기록하고 사용자 ID를 로그로 남김 (수동 복구용)
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+
+        List<IssuedCouponRow> lost = new ArrayList<>();
+        IssuedCouponRow row;
+        while ((row = pending.pollFirst()) != null) {
+            lost.add(row);
+        }
+        if (lost.isEmpty()) {
+            return;
+        }
+
+        lostOnShutdownCounter.increment(lost.size());
+        log.error("종료 전에 저장하지 못한 쿠폰 발급이 유실됩니다. (건수: {})", lost.size());
+        for (IssuedCouponRow lostRow : lost) {
+            log.error("유실된 쿠폰 발급 (id: {}, couponId: {}, userId: {}, issuedAt: {})",
+                    lostRow.id(), lostRow.couponId(), lostRow.userId(), lostRow.issuedAt());
+        }
+    }
+
+    private void saveOneByOne(List<IssuedCouponRow> batch) {
+        for (IssuedCouponRow row : batch) {
+            try {
+                couponIssueJdbcRepository.saveIssuedCoupons(List.of(row));
+                persistedCounter.increment();
+            } catch (DataIntegrityViolationException e) {
+                // 저장할 수 없는 발급은 취소하고 수량을 되돌림
+                log.error("쿠폰 발급 저장 불가, 발급을 취소합니다. (couponId: {}, userId: {})", row.couponId(), row.userId(), e);
+                revoke(row);
+            } catch (DataAccessException e) {
+                log.error("쿠폰 발급 저장 실패, 다음 주기에 재시도합니다. (couponId: {}, userId: {})", row.couponId(), row.userId(), e);
+                pending.addLast(row);
+            }
+        }
+    }
+
+    private void revoke(IssuedCouponRow row) {
+        revokedCounter.increment();
+
+        CouponIssueState state = states.get(row.couponId());
+        if (state != null) {
+            state.issuedUserIds.remove(row.userId());
+            state.issuedCount.decrementAndGet();
+        }
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(COUNTER_NAME)
+                .description("ENGINE 모드 쿠폰 발급 저장 처리 건수")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private CouponIssueState getOrLoad(Long couponId) {
+        return states.computeIfAbsent(couponId, id -> {
+            CouponIssueCondition condition = couponIssueJdbcRepository.findIssueCondition(id)
+                    .orElseThrow(() -> new CouponException(ErrorCode.COUPON_NOT_FOUND));
+
+            CouponIssueState state = new CouponIssueState(condition);
+            state.issuedUserIds.addAll(couponIssueJdbcRepository.findIssuedUserIds(id));
+            return state;
+        });
+    }
+
+    /**
+     * 쿠폰별 발급 상태
+     * - issuedCount: 발급 확정 수 (저장 대기 중인 발급 포함)
+     * - issuedUserIds: 발급받은 사용자 ID 집합 (저장 대기 중인 사용자 포함)
+     */
+    private static final class CouponIssueState {
+
+        private final AtomicInteger issuedCount;
+        private final Set<Long> issuedUserIds = ConcurrentHashMap.newKeySet();
+
+        private volatile int totalQuantity;
+        private volatile boolean active;
+        private volatile LocalDateTime startDate;
+        private volatile LocalDateTime endDate;
+
+        private CouponIssueState(CouponIssueCondition condition) {
+            this.issuedCount = new AtomicInteger(condition.issuedQuantity());
+            updateCondition(condition);
+        }
+
+        private void updateCondition(CouponIssueCondition condition) {
+            this.totalQuantity = condition.totalQuantity();
+            this.active = condition.active();
+            this.startDate = condition.startDate();
+            this.endDate = condition.endDate();
+        }
+
+        /**
+         * Coupon.validateAvailability와 같은 기준으로 검증
+         */
+        private void validateAvailability(LocalDateTime now) {
+            if (!active) {
+                throw new CouponException(ErrorCode.COUPON_NOT_AVAILABLE);
+            }
+            if (startDate != null && startDate.isAfter(now)) {
+                throw new CouponException(ErrorCode.COUPON_NOT_STARTED);
+            }
+            if (endDate != null && endDate.isBefore(now)) {
+                throw new CouponException(ErrorCode.COUPON_EXPIRED);
+            }
+        }
+
+        /**
+         * CAS로 발급 수 증가 (품절이면 false)
+         */
+        private boolean tryAcquire() {
+            while (true) {
+                int current = issuedCount.get();
+
+                if (current >= totalQuantity) {
+                    return false;
+                }
+
+                if (issuedCount.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.application;
+
+import io.hhplus.ECommerce.ECommerce_project.common.config.CacheConfig;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.CouponException;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.Coupon;
+import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.CouponRepository;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰 마스터 조회 (캐시)
+ * - 주문 시 쿠폰 검증/할인 계산에 필요한 쿠폰 정보를 캐시에서 읽는다.
+ * - 캐시된 Coupon은 준영속 상태이므로 읽기 전용으로만 사용하고, 연관관계에는 couponRepository.getReferenceById를 사용한다.
+ * - 발급 수량(issuedQuantity)은 캐시 시점 값이므로 사용하지 않는다.
+ * - 쿠폰 수정/활성화/비활성화 시 무효화
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponMasterReader {
+
+    private final CouponRepository couponRepository;
+
+    @Cacheable(cacheNames = CacheConfig.COUPON, key = "#couponId")
+    public Coupon getCoupon(Long couponId) {
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new CouponException(ErrorCode.COUPON_NOT_FOUND));
+
+        // 지연 로딩 프록시가 반환된 경우 실제 엔티티를 캐시
+        return Hibernate.unproxy(coupon, Coupon.class);
+    }
+}
@@ -1,10 +1,14 @@
 package io.hhplus.ECommerce.ECommerce_project.coupon.application;
 
+import io.hhplus.ECommerce.ECommerce_project.common.config.CacheConfig;
 import io.hhplus.ECommerce.ECommerce_project.common.exception.CouponException;
 import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.event.CouponChangedEvent;
 import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.Coupon;
 import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.CouponRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,7 +17,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeactivateCouponUseCase {
 
     private final CouponRepository couponRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @CacheEvict(cacheNames = CacheConfig.COUPON, key = "#id")
     @Transactional
     public Coupon execute(Long id) {
         // 1. 마스터 쿠폰 조회
@@ -23,7 +29,10 @@ public class DeactivateCouponUseCase {
         // 2. 쿠폰 비활성화
         coupon.deactivate();
 
-        // 3.저장 후 반환
+        // 3. 발급 엔진에 변경 알림 (커밋 후 반영)
+        eventPublisher.publishEvent(new CouponChangedEvent(coupon.getId()));
+
+        // 4. 저장 후 반환
         return coupon;
     }
 }
@@ -6,22 +6,38 @@ import io.hhplus.ECommerce.ECommerce_project.common.exception.UserException;
 import io.hhplus.ECommerce.ECommerce_project.coupon.application.command.IssueCouponCommand;
 import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.Coupon;
 import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.UserCoupon;
+import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.CouponIssueJdbcRepository.IssuedCouponRow;
 import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.CouponRepository;
 import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.UserCouponRepository;
 import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
 import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserRepository;
-import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
-@RequiredArgsConstructor
 public class IssueCouponUseCase {
 
     private final CouponRepository couponRepository;
     private final UserCouponRepository userCouponRepository;
     private final UserRepository userRepository;
+    private final CouponIssuanceEngine couponIssuanceEngine;
+    private final TransactionTemplate transactionTemplate;
+
+    public IssueCouponUseCase(
+            CouponRepository couponRepository,
+            UserCouponRepository userCouponRepository,
+            UserRepository userRepository,
+            CouponIssuanceEngine couponIssuanceEngine,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.couponRepository = couponRepository;
+        this.userCouponRepository = userCouponRepository;
+        this.userRepository = userRepository;
+        this.couponIssuanceEngine = couponIssuanceEngine;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     /**
      * 선착순 쿠폰 발급 (동시성 제어 + 성능 최적화)
@@ -29,9 +45,22 @@ public class IssueCouponUseCase {
      * - Double-Check Locking 패턴으로 중복 발급 방지
      * - 쿠폰 ID별 비관적 락을 통한 선착순 수량 제어
      * - DB 유니크 제약으로 최종 안전장치
+     * - ENGINE 모드에서는 메모리 발급 엔진에서 선착순을 판정하고 저장은 배치로 처리
+     *   (반환 시점에는 발급이 접수만 된 상태이며, 저장이 끝났다는 의미가 아님 - CouponIssuanceEngine 참고)
+     * - 트랜잭션은 DATABASE 모드에서만 연다. ENGINE 모드는 메모리에서 거절되는 요청이 커넥션을 잡지 않도록 트랜잭션 없이 처리
      */
-    @Transactional
     public UserCoupon execute(IssueCouponCommand command) {
+        if (couponIssuanceEngine.isEnabled()) {
+            return issueWithEngine(command);
+        }
+
+        return transactionTemplate.execute(status -> issueWithDatabase(command));
+    }
+
+    /**
+     * 쿠폰 행 비관적 락으로 발급 (DATABASE 모드, 트랜잭션 안)
+     */
+    private UserCoupon issueWithDatabase(IssueCouponCommand command) {
         // 1. 유저 존재 유무 확인 및 조회
         User user = userRepository.findById(command.userId())
                 .orElseThrow(() -> new UserException(ErrorCode.USER_NOT_FOUND));
@@ -68,4 +97,36 @@ public class IssueCouponUseCase {
             throw new CouponException(ErrorCode.COUPON_ALREADY_ISSUED);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 메모리 발급 엔진으로 발급 (ENGINE 모드)
+     * 1. 품절/중복 요청은 메모리 상태만으로 거절 (DB 접근 없음)
+     * 2. 유저 존재 유무 확인
+     * 3. 엔진에서 선착순 판정 (저장은 엔진이 배치로 처리)
+     * 4. 응답용 UserCoupon 구성 (영속화하지 않음)
+     * - 트랜잭션 없이 실행 (1은 DB 접근 없음, 2는 단건 조회 한 번)
+     * - 반환한 UserCoupon은 아직 user_coupons에 없을 수 있고, 저장 중 제약 위반이나 종료 시 저장 실패로
+     *   발급이 취소/유실될 수 있다. (coupon.issuance.engine 카운터의 revoked / lost_on_shutdown)
+     */
+    private UserCoupon issueWithEngine(IssueCouponCommand command) {
+        // 1. 빠른 거절
+        couponIssuanceEngine.precheck(command.couponId(), command.userId());
+
+        // 2. 유저 존재 유무 확인
+        if (!userRepository.existsById(command.userId())) {
+            throw new UserException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        // 3. 선착순 판정
+        IssuedCouponRow row = couponIssuanceEngine.issue(command.couponId(), command.userId());
+
+        // 4. 응답용 UserCoupon (엔진이 예약한 ID와 발급 시각 사용)
+        UserCoupon userCoupon = UserCoupon.issueCoupon(
+                userRepository.getReferenceById(command.userId()),
+                couponRepository.getReferenceById(command.couponId())
+        );
+        userCoupon.setId(row.id());
+        userCoupon.setIssuedAt(row.issuedAt());
+        return userCoupon;
+    }
+}
@@ -1,11 +1,15 @@
 package io.hhplus.ECommerce.ECommerce_project.coupon.application;
 
+import io.hhplus.ECommerce.ECommerce_project.common.config.CacheConfig;
 import io.hhplus.ECommerce.ECommerce_project.common.exception.CouponException;
 import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
 import io.hhplus.ECommerce.ECommerce_project.coupon.application.command.UpdateCouponCommand;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.event.CouponChangedEvent;
 import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.Coupon;
 import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.CouponRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,7 +18,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdateCouponUseCase {
 
     private final CouponRepository couponRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @CacheEvict(cacheNames = CacheConfig.COUPON, key = "#command.id()")
     @Transactional
     public Coupon execute(UpdateCouponCommand command) {
         // 1. 쿠폰 조회
@@ -34,7 +40,10 @@ public class UpdateCouponUseCase {
         coupon.updatePerUserLimit(command.perUserLimit());
         coupon.updateDateRange(command.startDate(), command.endDate());
 
-        // 3. 저장 후 반환
+        // 3. 발급 엔진에 변경 알림 (커밋 후 반영)
+        eventPublisher.publishEvent(new CouponChangedEvent(coupon.getId()));
+
+        // 4. 저장 후 반환
         return coupon;
     }
 }
\ No newline at end of file
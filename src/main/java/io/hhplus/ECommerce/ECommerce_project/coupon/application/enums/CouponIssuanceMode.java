@@ -0,0 +1,17 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.application.enums;
+
+public enum CouponIssuanceMode {
+
+    DATABASE("쿠폰 행 비관적 락으로 발급"),
+    ENGINE("메모리 발급 엔진에서 선착순 판정 후 DB에 일괄 저장");
+
+    private final String description;
+
+    CouponIssuanceMode(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,10 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.application.event;
+
+/**
+ * 쿠폰 마스터 변경 이벤트
+ * - 수정, 활성화/비활성화 등 발급 조건(수량, 기간, 활성 상태)이 바뀔 수 있을 때 발행
+ */
+public record CouponChangedEvent(
+        Long couponId
+) {
+}
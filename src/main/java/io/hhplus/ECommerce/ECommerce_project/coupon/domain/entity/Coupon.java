@@ -7,13 +7,19 @@ import io.hhplus.ECommerce.ECommerce_project.coupon.domain.enums.DiscountType;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+/**
+ * 쿠폰 마스터
+ * - 발급 엔진(ENGINE 모드)이 issued_quantity를 JDBC로 직접 증가시키므로, 변경된 컬럼만 UPDATE 하여 덮어쓰지 않도록 함
+ */
 @Entity
 @Table(name = "coupons")
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
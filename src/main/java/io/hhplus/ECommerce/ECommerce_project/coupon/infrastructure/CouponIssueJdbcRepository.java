@@ -0,0 +1,102 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 선착순 쿠폰 발급 엔진용 JDBC 리포지토리
+ */
+@Repository
+@RequiredArgsConstructor
+public class CouponIssueJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 발급 조건 조회 (수량, 기간, 활성 상태)
+     */
+    public Optional<CouponIssueCondition> findIssueCondition(Long couponId) {
+        return jdbcTemplate.query(
+                "SELECT total_quantity, issued_quantity, is_active, start_date, end_date FROM coupons WHERE id = ?",
+                (rs, rowNum) -> new CouponIssueCondition(
+                        rs.getInt("total_quantity"),
+                        rs.getInt("issued_quantity"),
+                        rs.getBoolean("is_active"),
+                        toLocalDateTime(rs.getTimestamp("start_date")),
+                        toLocalDateTime(rs.getTimestamp("end_date"))
+                ),
+                couponId
+        ).stream().findFirst();
+    }
+
+    /**
+     * 이미 발급받은 사용자 ID 목록
+     */
+    public List<Long> findIssuedUserIds(Long couponId) {
+        return jdbcTemplate.queryForList("SELECT user_id FROM user_coupons WHERE coupon_id = ?", Long.class, couponId);
+    }
+
+    /**
+     * 발급 확정된 쿠폰 일괄 저장 (하나의 트랜잭션)
+     * 1. user_coupons 배치 INSERT
+     * 2. 쿠폰별 발급 수만큼 coupons.issued_quantity 증가
+     */
+    @Transactional
+    public void saveIssuedCoupons(List<IssuedCouponRow> rows) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO user_coupons (id, coupon_id, user_id, status, used_count, issued_at) VALUES (?, ?, ?, 'AVAILABLE', 0, ?)",
+                rows,
+                rows.size(),
+                (ps, row) -> {
+                    ps.setLong(1, row.id());
+                    ps.setLong(2, row.couponId());
+                    ps.setLong(3, row.userId());
+                    ps.setTimestamp(4, Timestamp.valueOf(row.issuedAt()));
+                }
+        );
+
+        Map<Long, Long> issuedCounts = rows.stream()
+                .collect(Collectors.groupingBy(IssuedCouponRow::couponId, Collectors.counting()));
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE coupons SET issued_quantity = issued_quantity + ?, updated_at = CURRENT_TIMESTAMP WHERE id = ?",
+                List.copyOf(issuedCounts.entrySet()),
+                issuedCounts.size(),
+                (ps, entry) -> {
+                    ps.setLong(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                }
+        );
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    /**
+     * 발급 조건
+     */
+    public record CouponIssueCondition(
+            int totalQuantity,
+            int issuedQuantity,
+            boolean active,
+            LocalDateTime startDate,
+            LocalDateTime endDate
+    ) {
+    }
+
+    /**
+     * 저장할 발급 쿠폰 행
+     */
+    public record IssuedCouponRow(Long id, Long couponId, Long userId, LocalDateTime issuedAt) {
+    }
+}
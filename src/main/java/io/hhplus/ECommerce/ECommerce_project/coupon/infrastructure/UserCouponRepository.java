@@ -11,7 +11,7 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
 
-public interface UserCouponRepository extends JpaRepository<UserCoupon, Long> {
+public interface UserCouponRepository extends JpaRepository<UserCoupon, Long>, UserCouponRepositoryCustom {
 
     // 유저 Id와 CouponId로 쿠폰 조회
     Optional<UserCoupon> findByUser_IdAndCoupon_Id(Long userId, Long couponId);
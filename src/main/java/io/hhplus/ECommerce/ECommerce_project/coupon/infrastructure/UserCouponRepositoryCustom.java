@@ -0,0 +1,18 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure;
+
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.UserCoupon;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface UserCouponRepositoryCustom {
+
+    // (유저 Id, CouponId) 목록으로 조회 + PESSIMISTIC LOCK (id 오름차순으로 한 번에 잠금)
+    List<UserCoupon> findAllByKeysWithLock(Collection<UserCouponKey> keys);
+
+    /**
+     * 사용자 쿠폰 식별 키 (uk_user_coupon)
+     */
+    record UserCouponKey(Long userId, Long couponId) {
+    }
+}
@@ -0,0 +1,52 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure;
+
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.UserCoupon;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * UserCouponRepository 커스텀 구현
+ */
+@RequiredArgsConstructor
+public class UserCouponRepositoryCustomImpl implements UserCouponRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    /**
+     * (user_id, coupon_id) 쌍마다 조건을 OR로 묶어 SELECT ... ORDER BY id FOR UPDATE 한 번으로 잠금
+     * - (user_id, coupon_id) IN ((?, ?), ...)와 같은 조건이며, 쌍마다 uk_user_coupon 인덱스 범위 하나로 읽음
+     * - user_id IN 조건은 결과를 바꾸지 않지만, OR로 묶인 쌍 조건을 인덱스 조건으로 바꾸지 못하는 DB(H2)도
+     *   uk_user_coupon의 선두 컬럼으로 읽도록 함께 건다.
+     */
+    @Override
+    public List<UserCoupon> findAllByKeysWithLock(Collection<UserCouponKey> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        List<UserCouponKey> distinctKeys = List.copyOf(new LinkedHashSet<>(keys));
+        StringBuilder jpql = new StringBuilder("SELECT uc FROM UserCoupon uc WHERE uc.user.id IN :userIds AND (");
+        for (int i = 0; i < distinctKeys.size(); i++) {
+            if (i > 0) {
+                jpql.append(" OR ");
+            }
+            jpql.append("(uc.user.id = :userId").append(i).append(" AND uc.coupon.id = :couponId").append(i).append(")");
+        }
+        jpql.append(") ORDER BY uc.id");
+
+        TypedQuery<UserCoupon> query = entityManager.createQuery(jpql.toString(), UserCoupon.class);
+        query.setParameter("userIds", distinctKeys.stream().map(UserCouponKey::userId).distinct().toList());
+        for (int i = 0; i < distinctKeys.size(); i++) {
+            query.setParameter("userId" + i, distinctKeys.get(i).userId());
+            query.setParameter("couponId" + i, distinctKeys.get(i).couponId());
+        }
+
+        return query.setLockMode(LockModeType.PESSIMISTIC_WRITE).getResultList();
+    }
+}
@@ -68,6 +68,7 @@ public class CouponController {
 
     /**
      * 선착순 쿠폰 발급 (사용자당 1개)
+     * - ENGINE 모드의 성공 응답은 발급 접수(선착순 판정 완료)를 뜻하며, user_coupons 저장은 배치로 뒤따른다.
      */
     @PostMapping("/issue")
     public ResponseEntity<UserCouponResponse> issueCoupon(@Valid @RequestBody IssueCouponRequest request) {
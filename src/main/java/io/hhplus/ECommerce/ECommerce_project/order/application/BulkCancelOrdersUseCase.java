@@ -0,0 +1,264 @@
+package io.hhplus.ECommerce.ECommerce_project.order.application;
+
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.OrderException;
+import io.hhplus.ECommerce.ECommerce_project.order.application.command.BulkCancelOrdersCommand;
+import io.hhplus.ECommerce.ECommerce_project.order.domain.entity.OrderItem;
+import io.hhplus.ECommerce.ECommerce_project.order.domain.entity.Orders;
+import io.hhplus.ECommerce.ECommerce_project.order.domain.enums.OrderItemStatus;
+import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.OrderItemRepository;
+import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.OrderRepository;
+import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.OrderRepository.OrderOwner;
+import io.hhplus.ECommerce.ECommerce_project.order.presentation.response.BulkCancelOrdersResponse;
+import io.hhplus.ECommerce.ECommerce_project.order.presentation.response.BulkCancelOrdersResponse.OrderCancelResult;
+import io.hhplus.ECommerce.ECommerce_project.order.presentation.response.BulkCancelOrdersResponse.Outcome;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 일괄 취소 (운영자용)
+ *
+ * - 주문을 주문자별로 묶어 chunk-size건씩 쓰기 트랜잭션 하나로 취소한다. (한 사용자의 주문은 가능한 한 같은 트랜잭션에)
+ *   트랜잭션마다 사용자/주문/사용자 쿠폰/포인트 행은 테이블별로 한 번에 잠그고,
+ *   같은 상품/사용자의 재고·포인트 복구량은 합산해 상품/사용자 행마다 한 번만 갱신한다. (OrderResourceRestorer)
+ * - 취소 조건은 주문 취소(CancelOrderUseCase)와 같다. 잠근 뒤에 주문별로 다시 확인하고, 조건이 맞지 않는 주문은 건너뛰고 이유를 남긴다.
+ *   - PAYMENT_FAILED: 리소스는 결제 실패 보상(아웃박스)으로 복구되므로 상태만 변경
+ *   - 결제 진행 중인 PENDING 주문, 이미 취소된 주문 등: 취소하지 않음
+ * - 청크 트랜잭션이 실패하면(재고 복구 실패 등) 그 청크만 한 건씩 다시 처리해 실패한 주문을 가려낸다.
+ */
+@Slf4j
+@Service
+public class BulkCancelOrdersUseCase {
+
+    // 쓰기 트랜잭션 타이머 태그 (order.write.transaction)
+    static final String BULK_CANCEL_TYPE = "bulk-cancel";
+
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final OrderResourceRestorer orderResourceRestorer;
+    private final OrderWriteTransaction orderWriteTransaction;
+    private final int maxOrders;
+    private final int chunkSize;
+
+    public BulkCancelOrdersUseCase(
+            OrderRepository orderRepository,
+            OrderItemRepository orderItemRepository,
+            OrderResourceRestorer orderResourceRestorer,
+            OrderWriteTransaction orderWriteTransaction,
+            @Value("${ecommerce.order.bulk-cancel.max-orders:5000}") int maxOrders,
+            @Value("${ecommerce.order.bulk-cancel.chunk-size:200}") int chunkSize
+    ) {
+        this.orderRepository = orderRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.orderResourceRestorer = orderResourceRestorer;
+        this.orderWriteTransaction = orderWriteTransaction;
+        this.maxOrders = maxOrders;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 주문 일괄 취소
+     * 1. 요청 검증 (중복 제거, 최대 주문 수)
+     * 2. 주문자 조회 (락 없이), 없는 주문은 NOT_FOUND
+     * 3. 주문자별로 묶어 청크 구성
+     * 4. 청크마다 쓰기 트랜잭션 1개로 취소 (실패하면 그 청크만 한 건씩)
+     * 5. 주문별 결과 + 복구량 합계
+     */
+    public BulkCancelOrdersResponse execute(BulkCancelOrdersCommand command) {
+        // 1. 요청 검증
+        List<Long> orderIds = List.copyOf(new LinkedHashSet<>(command.orderIds()));
+        if (orderIds.size() > maxOrders) {
+            throw new OrderException(ErrorCode.ORDER_BULK_CANCEL_LIMIT_EXCEEDED,
+                    "한 번에 최대 " + maxOrders + "건까지 취소할 수 있습니다. 요청: " + orderIds.size() + "건");
+        }
+
+        // 2. 주문자 조회
+        List<OrderOwner> owners = new ArrayList<>();
+        for (int from = 0; from < orderIds.size(); from += chunkSize) {
+            owners.addAll(orderRepository.findOwnersByIdIn(orderIds.subList(from, Math.min(from + chunkSize, orderIds.size()))));
+        }
+
+        Map<Long, OrderCancelResult> results = new HashMap<>();
+        Map<Long, Long> ownerByOrderId = owners.stream()
+                .collect(Collectors.toMap(OrderOwner::getOrderId, OrderOwner::getUserId));
+        for (Long orderId : orderIds) {
+            if (!ownerByOrderId.containsKey(orderId)) {
+                results.put(orderId, OrderCancelResult.rejected(orderId, Outcome.NOT_FOUND, ErrorCode.ORDER_NOT_FOUND.getMessage()));
+            }
+        }
+
+        // 3 ~ 4. 주문자별 청크 취소
+        Map<Long, Integer> restockedQuantities = new TreeMap<>();
+        BigDecimal refundedPoint = BigDecimal.ZERO;
+        for (List<Long> chunk : chunkByOwner(ownerByOrderId)) {
+            ChunkResult chunkResult = cancelChunk(chunk);
+            results.putAll(chunkResult.results());
+            chunkResult.restockedQuantities().forEach((productId, quantity) ->
+                    restockedQuantities.merge(productId, quantity, Integer::sum));
+            refundedPoint = refundedPoint.add(chunkResult.refundedPoint());
+        }
+
+        // 5. 결과 (요청 순서)
+        List<OrderCancelResult> orderedResults = orderIds.stream().map(results::get).toList();
+        int canceledCount = (int) orderedResults.stream().filter(result -> result.outcome() == Outcome.CANCELED).count();
+        int restockedQuantity = restockedQuantities.values().stream().mapToInt(Integer::intValue).sum();
+
+        log.info("주문 일괄 취소 완료 - 요청: {}건, 취소: {}건, 실패: {}건, 복구 재고: {}개, 환불 포인트: {}",
+                orderIds.size(), canceledCount, orderIds.size() - canceledCount, restockedQuantity, refundedPoint);
+
+        return new BulkCancelOrdersResponse(
+                orderIds.size(),
+                canceledCount,
+                orderIds.size() - canceledCount,
+                restockedQuantity,
+                restockedQuantities,
+                refundedPoint,
+                orderedResults
+        );
+    }
+
+    /**
+     * 주문자 id 오름차순으로 주문자별 주문을 모아 chunkSize건씩 자름
+     * - 한 주문자의 주문이 청크 사이에 나뉘지 않도록 남은 자리가 부족하면 새 청크를 시작 (주문자 한 명의 주문이 chunkSize보다 많을 때만 나뉨)
+     */
+    private List<List<Long>> chunkByOwner(Map<Long, Long> ownerByOrderId) {
+        Map<Long, List<Long>> orderIdsByOwner = ownerByOrderId.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+                .collect(Collectors.groupingBy(Map.Entry::getValue, TreeMap::new,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+
+        List<List<Long>> chunks = new ArrayList<>();
+        List<Long> current = new ArrayList<>();
+        for (List<Long> ownerOrderIds : orderIdsByOwner.values()) {
+            if (!current.isEmpty() && current.size() + ownerOrderIds.size() > chunkSize) {
+                chunks.add(current);
+                current = new ArrayList<>();
+            }
+            for (Long orderId : ownerOrderIds) {
+                if (current.size() == chunkSize) {
+                    chunks.add(current);
+                    current = new ArrayList<>();
+                }
+                current.add(orderId);
+            }
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    /**
+     * 청크 1개 취소 (트랜잭션 1개, 실패하면 한 건씩 다시)
+     */
+    private ChunkResult cancelChunk(List<Long> orderIds) {
+        try {
+            return orderWriteTransaction.execute(BULK_CANCEL_TYPE, () -> cancelInTransaction(orderIds));
+        } catch (RuntimeException e) {
+            if (orderIds.size() == 1) {
+                return ChunkResult.failed(orderIds.get(0), e);
+            }
+            log.warn("주문 일괄 취소 청크 실패, 한 건씩 다시 처리합니다. - 주문 수: {}, 원인: {}", orderIds.size(), e.getMessage());
+        }
+
+        Map<Long, OrderCancelResult> results = new HashMap<>();
+        Map<Long, Integer> restockedQuantities = new HashMap<>();
+        BigDecimal refundedPoint = BigDecimal.ZERO;
+        for (Long orderId : orderIds) {
+            ChunkResult single = cancelChunk(List.of(orderId));
+            results.putAll(single.results());
+            single.restockedQuantities().forEach((productId, quantity) ->
+                    restockedQuantities.merge(productId, quantity, Integer::sum));
+            refundedPoint = refundedPoint.add(single.refundedPoint());
+        }
+        return new ChunkResult(results, restockedQuantities, refundedPoint);
+    }
+
+    /**
+     * 취소 트랜잭션
+     * 1. 잠금 + 주문별 취소 조건 확인 + 리소스 복구 (OrderResourceRestorer)
+     * 2. 결제 실패 주문은 상태만 변경 대상으로 분류
+     * 3. 주문 항목 / 주문 상태 변경
+     */
+    private ChunkResult cancelInTransaction(List<Long> orderIds) {
+        Map<Long, OrderCancelResult> results = new HashMap<>();
+        List<Orders> statusOnlyOrders = new ArrayList<>();
+
+        // 1 ~ 2. 잠금 + 조건 확인 + 복구
+        OrderResourceRestorer.Restored restored = orderResourceRestorer.restore(orderIds, (order, paymentInProgress) -> {
+            if (order.isPaymentFailed()) {
+                statusOnlyOrders.add(order);
+                return false;
+            }
+            if (!order.canCancel() && !order.canCancelAfterPaid()) {
+                results.put(order.getId(), OrderCancelResult.rejected(order.getId(), Outcome.INVALID_STATUS,
+                        "취소할 수 없는 주문 상태입니다. 현재 상태: " + order.getStatus()));
+                return false;
+            }
+            if (paymentInProgress) {
+                results.put(order.getId(), OrderCancelResult.rejected(order.getId(), Outcome.PAYMENT_IN_PROGRESS,
+                        ErrorCode.ORDER_PAYMENT_IN_PROGRESS.getMessage()));
+                return false;
+            }
+            return true;
+        });
+
+        // 3. 주문 항목 / 주문 상태 변경
+        cancelOrderItems(restored.orderItems());
+        for (Orders order : restored.orders()) {
+            if (order.isPending()) {
+                order.cancel();  // PENDING -> CANCELED (결제 전 주문 취소)
+            } else {
+                order.cancelAfterPaid();  // PAID -> CANCELED (결제 후 환불)
+            }
+            results.put(order.getId(), OrderCancelResult.canceled(order.getId()));
+        }
+
+        if (!statusOnlyOrders.isEmpty()) {
+            cancelOrderItems(orderItemRepository.findByOrderIds(statusOnlyOrders.stream().map(Orders::getId).toList()));
+            for (Orders order : statusOnlyOrders) {
+                order.cancel();  // PAYMENT_FAILED -> CANCELED
+                results.put(order.getId(), OrderCancelResult.canceled(order.getId()));
+            }
+        }
+
+        return new ChunkResult(results, restored.restockedQuantities(), restored.refundedPoint());
+    }
+
+    private void cancelOrderItems(List<OrderItem> orderItems) {
+        for (OrderItem orderItem : orderItems) {
+            if (orderItem.getStatus() == OrderItemStatus.ORDER_PENDING) {
+                orderItem.cancel();
+            } else if (orderItem.getStatus() == OrderItemStatus.ORDER_COMPLETED) {
+                orderItem.cancelAfterComplete();
+            }
+        }
+    }
+
+    /**
+     * 청크 취소 결과
+     */
+    private record ChunkResult(
+            Map<Long, OrderCancelResult> results,
+            Map<Long, Integer> restockedQuantities,
+            BigDecimal refundedPoint
+    ) {
+        static ChunkResult failed(Long orderId, RuntimeException e) {
+            return new ChunkResult(
+                    Map.of(orderId, OrderCancelResult.rejected(orderId, Outcome.FAILED, e.getMessage())),
+                    Map.of(),
+                    BigDecimal.ZERO
+            );
+        }
+    }
+}
@@ -4,27 +4,33 @@ import io.hhplus.ECommerce.ECommerce_project.common.exception.*;
 import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.Coupon;
 import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.UserCoupon;
 import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.CouponRepository;
-import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.UserCouponRepository;
 import io.hhplus.ECommerce.ECommerce_project.order.application.command.CancelOrderCommand;
 import io.hhplus.ECommerce.ECommerce_project.order.domain.entity.OrderItem;
 import io.hhplus.ECommerce.ECommerce_project.order.domain.entity.Orders;
 import io.hhplus.ECommerce.ECommerce_project.order.domain.enums.OrderItemStatus;
 import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.OrderItemRepository;
 import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.OrderRepository;
+import io.hhplus.ECommerce.ECommerce_project.payment.domain.enums.PaymentStatus;
+import io.hhplus.ECommerce.ECommerce_project.payment.infrastructure.PaymentRepository;
 import io.hhplus.ECommerce.ECommerce_project.point.domain.entity.Point;
 import io.hhplus.ECommerce.ECommerce_project.point.domain.entity.PointUsageHistory;
-import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointRepository;
 import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointUsageHistoryRepository;
+import io.hhplus.ECommerce.ECommerce_project.product.application.StockReservationLedger;
+import io.hhplus.ECommerce.ECommerce_project.product.application.event.ProductSoldCountChangedEvent;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
 import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
 import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
-import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -34,103 +40,151 @@ public class CancelOrderUseCase {
     private final OrderItemRepository orderItemRepository;
     private final ProductRepository productRepository;
     private final CouponRepository couponRepository;
-    private final UserCouponRepository userCouponRepository;
-    private final PointRepository pointRepository;
     private final PointUsageHistoryRepository pointUsageHistoryRepository;
-    private final UserRepository userRepository;
+    private final StockReservationLedger stockReservationLedger;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OrderResourceLocker orderResourceLocker;
+    private final PaymentRepository paymentRepository;
 
     @Transactional
     public void execute(CancelOrderCommand command) {
-        // 1. 주문 조회
-        Orders order = orderRepository.findByIdWithLock(command.orderId())
+        // 락은 OrderResourceLocker의 순서(사용자 -> 주문 -> 사용자 쿠폰 -> 포인트 -> 상품)로만 획득 (데드락 방지)
+        OrderResourceLocker.Session locks = orderResourceLocker.begin();
+
+        // 1. 주문자 확인 (주문 엔티티는 아직 읽지 않음 - 주문 행보다 사용자 행을 먼저 잠가야 함)
+        Long ownerId = orderRepository.findUserIdById(command.orderId())
                 .orElseThrow(() -> new OrderException(ErrorCode.ORDER_NOT_FOUND));
 
         // 2. 주문 소유자 확인
-        if (!order.getUser().getId().equals(command.userId())) {
+        if (!ownerId.equals(command.userId())) {
             throw new OrderException(ErrorCode.ORDER_NOT_FOUND,
                     "해당 주문에 대한 권한이 없습니다.");
         }
 
-        // 3. 주문 취소 가능 여부 확인 (PENDING, PAID, PAYMENT_FAILED 상태만 취소 가능)
+        // 3. 사용자 -> 주문 순서로 잠금
+        User user = locks.lockUser(ownerId);
+        Orders order = locks.lockOrder(command.orderId());
+
+        // 4. 주문 취소 가능 여부 확인 (PENDING, PAID, PAYMENT_FAILED 상태만 취소 가능)
         if (!order.canCancel() && !order.canCancelAfterPaid()) {
             throw new OrderException(ErrorCode.ORDER_INVALID_STATUS_FOR_CANCEL,
                     "취소할 수 없는 주문 상태입니다. 현재 상태: " + order.getStatus());
         }
 
-        // 4. 주문 아이템 조회
-        List<OrderItem> orderItems = orderItemRepository.findByOrders_Id(command.orderId());
-
-        // 5. 상품 재고 복구 (동시성 제어 적용, 여러 사람이 동시에 주문 취소시 재고 복구에 동시성 이슈 발생 가능)
-        for (OrderItem orderItem : orderItems) {
-            // 5-1. 주문 아이템의 상품 조회(비관적 락)
-            Product product = productRepository.findByIdWithLock(orderItem.getProduct().getId())
-                    .orElseThrow(() -> new ProductException(ErrorCode.PRODUCT_NOT_FOUND));
+        // 4-1. 결제가 진행 중(결제 대행사 호출 중 또는 결과 확인 중)인 주문은 결제가 확정될 때까지 취소 불가 (PaymentReconciler가 확정)
+        if (order.isPending() && paymentRepository.existsByOrder_IdAndPaymentStatus(order.getId(), PaymentStatus.PENDING)) {
+            throw new OrderException(ErrorCode.ORDER_PAYMENT_IN_PROGRESS,
+                    "결제가 진행 중인 주문은 취소할 수 없습니다.");
+        }
 
-            // 5-2. 해당 상품 재고 증가(복구)
-            product.increaseStock(orderItem.getQuantity());
+        // 4-2. 결제 실패 주문의 쿠폰/포인트/재고는 결제 확정 시 기록한 보상 아웃박스로 복구됨 (PaymentCompensationDispatcher) -> 상태만 변경
+        if (order.isPaymentFailed()) {
+            cancelOrderItems(orderItemRepository.findByOrders_Id(command.orderId()));
+            order.cancel();  // PAYMENT_FAILED -> CANCELED
+            return;
         }
 
-        // 6. 쿠폰 복구
+        // 5. 쿠폰 복구
         if (order.getCoupon() != null) {
-            // 6-1. 사용자 쿠폰 조회(비관적락)
-            UserCoupon userCoupon = userCouponRepository
-                    .findByUser_IdAndCoupon_IdWithLock(order.getUser().getId(), order.getCoupon().getId())
-                    .orElseThrow(() -> new CouponException(ErrorCode.USER_COUPON_NOT_FOUND));
+            // 5-1. 사용자 쿠폰 조회(비관적락)
+            UserCoupon userCoupon = locks.lockUserCoupon(ownerId, order.getCoupon().getId());
 
-            // 6-2. 쿠폰 정보 조회
+            // 5-2. 쿠폰 정보 조회
             Coupon coupon = couponRepository.findById(order.getCoupon().getId())
                     .orElseThrow(() -> new CouponException(ErrorCode.COUPON_NOT_FOUND));
 
-            // 6-3. 쿠폰 사용 취소 처리 (usedCount 감소)
+            // 5-3. 쿠폰 사용 취소 처리 (usedCount 감소)
             // issuedQuantity는 복구하지 않음 (한번 발급되면 영구적)
             userCoupon.cancelUse(coupon.getPerUserLimit());
         }
 
-        // 7. 포인트 복구 (PointUsageHistory 활용)
+        // 6. 포인트 복구 (PointUsageHistory 활용)
         List<PointUsageHistory> pointUsageHistories =
                 pointUsageHistoryRepository.findByOrders_IdAndCanceledAtIsNull(command.orderId());
 
+        // 6-1. 원본 포인트를 한 번에 잠금 (id 오름차순)
+        Map<Long, Point> lockedPoints = locks.lockPoints(pointUsageHistories.stream()
+                        .map(history -> history.getPoint().getId())
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Point::getId, Function.identity()));
+
         BigDecimal totalRestoredPoint = BigDecimal.ZERO;
 
         for (PointUsageHistory history : pointUsageHistories) {
-            // 7-1. 원본 포인트 조회
-            Point originalPoint = pointRepository.findByIdWithLock(history.getPoint().getId())
-                    .orElseThrow(() -> new PointException(ErrorCode.POINT_NOT_FOUND));
-
-            // 7-2. 사용한 포인트 금액만큼 복구
+            // 6-2. 사용한 포인트 금액만큼 복구
+            Point originalPoint = lockedPoints.get(history.getPoint().getId());
             originalPoint.restoreUsedAmount(history.getUsedAmount());
 
-            // 7-3. PointUsageHistory 취소 처리
+            // 6-3. PointUsageHistory 취소 처리
             history.cancel();
 
-            // 7-4. 복구할 총 포인트 금액 누적
+            // 6-4. 복구할 총 포인트 금액 누적
             totalRestoredPoint = totalRestoredPoint.add(history.getUsedAmount());
         }
 
-        // 7-5. User의 포인트 잔액 복구
+        // 6-5. User의 포인트 잔액 복구 (사용자 행은 3번에서 잠금)
         if (totalRestoredPoint.compareTo(BigDecimal.ZERO) > 0) {
-            User user = userRepository.findByIdWithLock(command.userId())
-                    .orElseThrow(() -> new UserException(ErrorCode.USER_NOT_FOUND));
-
             user.refundPoint(totalRestoredPoint);
         }
 
-        // 8-1. 주문 아이템 상태 변경
+        // 7. 주문 아이템 조회
+        List<OrderItem> orderItems = orderItemRepository.findByOrders_Id(command.orderId());
+
+        // 8. 상품 재고 및 판매량 복구 (가장 경합이 심한 상품 행은 마지막에 productId 오름차순으로 잠금)
+        // 같은 상품이 여러 주문 항목에 있으면 합산하여 한 번에 복구
+        Map<Long, Integer> restoreQuantityMap = new HashMap<>();
         for (OrderItem orderItem : orderItems) {
-            if (orderItem.getStatus() == OrderItemStatus.ORDER_PENDING) {
-                orderItem.cancel();
-            } else if (orderItem.getStatus() == OrderItemStatus.ORDER_COMPLETED) {
-                orderItem.cancelAfterComplete();
+            restoreQuantityMap.merge(orderItem.getProduct().getId(), orderItem.getQuantity(), Integer::sum);
+        }
+
+        for (Long productId : locks.productIdsInLockOrder(restoreQuantityMap.keySet())) {
+            int quantity = restoreQuantityMap.get(productId);
+
+            if (stockReservationLedger.isEnabled()) {
+                // LEDGER 모드: 재고 예약 원장에서 예약 취소 (커밋 후 가용 재고/판매량에 반영)
+                stockReservationLedger.release(productId, quantity);
+            } else {
+                // 8-1. 해당 상품 재고 증가(복구) 및 판매량 감소 (조건부 UPDATE 한 문장, 결제 실패 보상과 동일하게 처리)
+                // 8-2. 갱신된 행이 없으면 상품이 없거나 판매량이 취소량보다 작은 경우
+                if (productRepository.restoreStockForCancel(productId, quantity) == 0) {
+                    throw stockRestoreFailure(productId, quantity);
+                }
             }
+
+            // 8-3. 판매량 변화 이벤트 발행 (커밋 후 인기 상품 랭킹에 반영)
+            eventPublisher.publishEvent(new ProductSoldCountChangedEvent(productId, -quantity));
         }
 
-        // 8-2. 주문 상태 변경
+        // 9-1. 주문 아이템 상태 변경
+        cancelOrderItems(orderItems);
+
+        // 9-2. 주문 상태 변경
         if (order.isPending()) {
             order.cancel();  // PENDING -> CANCELED (결제 전 주문 취소)
         } else if (order.isPaid()) {
             order.cancelAfterPaid();  // PAID -> CANCELED (결제 후 환불)
-        } else if (order.isPaymentFailed()) {
-            order.cancel();  // PAYMENT_FAILED -> CANCELED (결제 실패 후 취소)
         }
     }
+
+    private void cancelOrderItems(List<OrderItem> orderItems) {
+        for (OrderItem orderItem : orderItems) {
+            if (orderItem.getStatus() == OrderItemStatus.ORDER_PENDING) {
+                orderItem.cancel();
+            } else if (orderItem.getStatus() == OrderItemStatus.ORDER_COMPLETED) {
+                orderItem.cancelAfterComplete();
+            }
+        }
+    }
+
+    /**
+     * 재고 복구 실패 원인 확인 (상품 없음 / 판매량 부족)
+     */
+    private ProductException stockRestoreFailure(Long productId, int quantity) {
+        Product product = productRepository.findByIdRefreshed(productId)
+                .orElseThrow(() -> new ProductException(ErrorCode.PRODUCT_NOT_FOUND));
+
+        return new ProductException(ErrorCode.PRODUCT_SOLD_COUNT_LESS_THAN_CANCEL,
+                "판매량이 취소량보다 작습니다. 현재 판매량: " + product.getSoldCount() + ", 취소량: " + quantity);
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package io.hhplus.ECommerce.ECommerce_project.order.application;
 
 import io.hhplus.ECommerce.ECommerce_project.common.exception.*;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.CouponMasterReader;
 import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.Coupon;
 import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.UserCoupon;
 import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.CouponRepository;
@@ -13,20 +14,19 @@ import io.hhplus.ECommerce.ECommerce_project.order.domain.entity.Orders;
 import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.OrderItemRepository;
 import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.OrderRepository;
 import io.hhplus.ECommerce.ECommerce_project.order.presentation.response.CreateOrderResponse;
+import io.hhplus.ECommerce.ECommerce_project.point.application.PointAllocationEngine;
 import io.hhplus.ECommerce.ECommerce_project.point.domain.entity.Point;
-import io.hhplus.ECommerce.ECommerce_project.point.domain.entity.PointUsageHistory;
-import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointRepository;
-import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointUsageHistoryRepository;
+import io.hhplus.ECommerce.ECommerce_project.product.application.StockReservationLedger;
+import io.hhplus.ECommerce.ECommerce_project.product.application.event.ProductSoldCountChangedEvent;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
 import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
 import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
 import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -38,17 +38,22 @@ public class CreateOrderFromProductUseCase {
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
     private final CouponRepository couponRepository;
+    private final CouponMasterReader couponMasterReader;
     private final UserCouponRepository userCouponRepository;
-    private final PointRepository pointRepository;
-    private final PointUsageHistoryRepository pointUsageHistoryRepository;
+    private final PointAllocationEngine pointAllocationEngine;
+    private final StockReservationLedger stockReservationLedger;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OrderWriteTransaction orderWriteTransaction;
+    private final OrderResourceLocker orderResourceLocker;
 
     public CreateOrderResponse execute(CreateOrderFromProductCommand command) {
 
         // 1. 검증 및 사전 계산 (트랜잭션 밖)
         ValidatedOrderFromProductData validatedOrderFromProductData = validateAndCalculate((command));
 
-        // 2. 핵심 쓰기 작업만 트랜잭션 처리 (트랜잭션 안)
-        return executeCore(command, validatedOrderFromProductData);
+        // 2. 락 획득 + 핵심 쓰기 작업만 짧은 트랜잭션으로 처리 (트랜잭션 안)
+        return orderWriteTransaction.execute("product",
+                () -> executeCore(command, validatedOrderFromProductData));
     }
 
     private ValidatedOrderFromProductData validateAndCalculate(CreateOrderFromProductCommand command) {
@@ -67,7 +72,12 @@ public class CreateOrderFromProductUseCase {
                 .orElseThrow(() -> new ProductException(ErrorCode.PRODUCT_NOT_FOUND));
 
         // 주문 가능 여부 검증 (비활성/재고/최소/최대 주문량 체크)
-        product.validateOrder(command.quantity());
+        // LEDGER 모드에서는 DB 재고가 원장보다 늦게 반영되므로 재고는 예약 시점에 원장에서 검증
+        if (stockReservationLedger.isEnabled()) {
+            product.validateOrderCondition(command.quantity());
+        } else {
+            product.validateOrder(command.quantity());
+        }
 
         // 5. 주문 금액 계산
         BigDecimal totalAmount = product.getPrice()
@@ -87,9 +97,8 @@ public class CreateOrderFromProductUseCase {
                     .findByUser_IdAndCoupon_Id(command.userId(), command.couponId())
                     .orElseThrow(() -> new CouponException(ErrorCode.USER_COUPON_NOT_FOUND));
 
-            // 7-2. 쿠폰 조회 및 검증
-            coupon = couponRepository.findById(command.couponId())
-                    .orElseThrow(() -> new CouponException(ErrorCode.COUPON_NOT_FOUND));
+            // 7-2. 쿠폰 조회 및 검증 (캐시)
+            coupon = couponMasterReader.getCoupon(command.couponId());
 
             // 7-3. 쿠폰 유효성 검증 (활성화, 기간 등)
             coupon.validateAvailability();
@@ -101,113 +110,73 @@ public class CreateOrderFromProductUseCase {
             discountAmount = coupon.calculateDiscountAmount(totalAmount);
         }
 
-        // 8. 포인트 사전 검증
+        // 8. 포인트 사전 검증 (users.point_balance 기준, 1단계에서 조회한 사용자 행으로 판단)
         if (command.pointAmount() != null
-                && command.pointAmount().compareTo(BigDecimal.ZERO) > 0) {
-
-            // 사용 가능한 포인트 조회
-            List<Point> availablePoints = pointRepository.findAvailablePointsByUserId(command.userId());
-
-            // 사용 가능한 포인트 합계 계산 (남은 금액 기준)
-            BigDecimal totalAvailablePoint = availablePoints.stream()
-                    .map(Point::getRemainingAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-            // 포인트 잔액 검증
-            if (totalAvailablePoint.compareTo(command.pointAmount()) < 0) {
-                throw new PointException(ErrorCode.POINT_INSUFFICIENT_POINT);
-            }
+                && command.pointAmount().compareTo(BigDecimal.ZERO) > 0
+                && !user.hasEnoughPoint(command.pointAmount())) {
+            throw new PointException(ErrorCode.POINT_INSUFFICIENT_POINT);
         }
 
         // 검증된 데이터 반환
         return new ValidatedOrderFromProductData(totalAmount, shippingFee, discountAmount);
     }
 
-    @Transactional
     private CreateOrderResponse executeCore(
             CreateOrderFromProductCommand command,
             ValidatedOrderFromProductData validatedOrderFromProductData
     ) {
 
-        // 1. 사용자 확인 (락 걸기)
-        User user = userRepository.findByIdWithLock(command.userId())
-                .orElseThrow(() -> new UserException(ErrorCode.USER_NOT_FOUND));
-
-        // 2. 상품 조회 및 검증 (비관적 락 적용 - 원자적 처리)
-        // 상품 행에 비관적 락을 걸어 다른 사용자의 접근을 제한함
-        Product product = productRepository.findByIdWithLock(command.productId())
-                .orElseThrow(() -> new ProductException(ErrorCode.PRODUCT_NOT_FOUND));
-
-        // 3. 주문 가능 여부 재검증
-        product.validateOrder(command.quantity());
+        // 락은 OrderResourceLocker의 순서(사용자 -> 사용자 쿠폰 -> 포인트 -> 상품)로만 획득 (데드락 방지)
+        OrderResourceLocker.Session locks = orderResourceLocker.begin();
 
-        // 4. 재고 차감 및 판매량 증가
-        product.decreaseStock(command.quantity());
-        product.increaseSoldCount(command.quantity());
+        // 1. 사용자 확인 (락 걸기)
+        User user = locks.lockUser(command.userId());
 
-        // 5. 쿠폰 사용 처리
+        // 2. 쿠폰 사용 처리
         BigDecimal discountAmount = BigDecimal.ZERO;
         // 핵심, 검증
         Coupon coupon = null;
 
         if (command.couponId() != null) {
-            // 5-1. 사용자 쿠폰 조회 (락 걸기)
-            UserCoupon userCoupon = userCouponRepository
-                    .findByUser_IdAndCoupon_IdWithLock(command.userId(), command.couponId())
-                    .orElseThrow(() -> new CouponException(ErrorCode.USER_COUPON_NOT_FOUND));
+            // 2-1. 사용자 쿠폰 조회 (락 걸기)
+            UserCoupon userCoupon = locks.lockUserCoupon(command.userId(), command.couponId());
 
-            // 5-2. 쿠폰 조회 및 검증
-            coupon = couponRepository.findById(command.couponId())
-                    .orElseThrow(() -> new CouponException(ErrorCode.COUPON_NOT_FOUND));
+            // 2-2. 쿠폰 조회 및 검증 (캐시)
+            Coupon couponMaster = couponMasterReader.getCoupon(command.couponId());
 
-            // 5-3. 쿠폰 유효성 검증 (활성화, 기간 등) (재검증)
-            coupon.validateAvailability();
+            // 2-3. 쿠폰 유효성 검증 (활성화, 기간 등) (재검증)
+            couponMaster.validateAvailability();
 
-            // 5-4. 사용자 쿠폰 사용 가능 여부 확인 (재검증)
-            userCoupon.validateCanUse(coupon.getPerUserLimit());
+            // 2-4. 사용자 쿠폰 사용 가능 여부 확인 (재검증)
+            userCoupon.validateCanUse(couponMaster.getPerUserLimit());
 
-            // 5-5. 할인 금액 계산 (최소 주문 금액 검증 포함) - 핵심, 검증
+            // 2-5. 할인 금액 계산 (최소 주문 금액 검증 포함) - 핵심, 검증
             discountAmount = validatedOrderFromProductData.discountAmount();
 
-            // 5-6. 쿠폰 사용 처리 (usedCount 증가) 핵심
-            userCoupon.use(coupon.getPerUserLimit());
+            // 2-6. 쿠폰 사용 처리 (usedCount 증가) 핵심
+            userCoupon.use(couponMaster.getPerUserLimit());
+
+            // 2-7. 주문 연관관계용 쿠폰 참조 (조회 쿼리 없음)
+            coupon = couponRepository.getReferenceById(command.couponId());
         }
 
-        // 6. 포인트 사용 (포인트 사용시에만)
-        BigDecimal pointAmount = BigDecimal.ZERO;
-        List<Point> pointsToUpdate = new ArrayList<>(); // 사용될 포인트들
-        List<BigDecimal> pointUsageAmounts = new ArrayList<>(); // 각 포인트에서 사용할 금액
+        // 3. 포인트 사용 배분 (포인트 사용시에만)
+        PointAllocationEngine.Allocation pointAllocation = PointAllocationEngine.Allocation.none();
 
         if (command.pointAmount() != null
                 && command.pointAmount().compareTo(BigDecimal.ZERO) > 0) {
 
-            // 사용 가능한 포인트 조회
-            List<Point> availablePoints = pointRepository.findAvailablePointsByUserId(command.userId());
-
-            // 포인트 사용 처리 (선입선출)
-            BigDecimal remainingPointToUse = command.pointAmount();
-            for (Point point : availablePoints) {
-                if (remainingPointToUse.compareTo(BigDecimal.ZERO) <= 0) {
-                    break;
-                }
-
-                // 락을 걸어서 다시 조회
-                Point lockedPoint = pointRepository.findByIdWithLock(point.getId())
-                        .orElseThrow(() -> new PointException(ErrorCode.POINT_NOT_FOUND));
-
-                // 해당 포인트에서 사용할 수 있는 금액 계산
-                BigDecimal availableAmount = lockedPoint.getRemainingAmount();
-                BigDecimal pointToUse = availableAmount.min(remainingPointToUse);
+            // 3-1. 사용 가능한 포인트 전체를 한 번에 잠금 (쿼리 1번, 선입선출 순서로 반환)
+            List<Point> availablePoints = locks.lockAvailablePoints(command.userId());
 
-                // 나중에 사용 이력 생성을 위해 임시 저장
-                pointUsageAmounts.add(pointToUse);
-                pointsToUpdate.add(lockedPoint);
-
-                remainingPointToUse = remainingPointToUse.subtract(pointToUse);
-            }
-
-            pointAmount = command.pointAmount();
+            // 3-2. 포인트별 사용 금액 계산 (선입선출, 메모리)
+            pointAllocation = pointAllocationEngine.allocate(availablePoints, command.pointAmount());
         }
+        BigDecimal pointAmount = pointAllocation.totalAmount();
+
+        // 4~6. 상품 조회, 주문 가능 여부 재검증, 재고 차감 및 판매량 증가 (가장 경합이 심한 상품 행은 마지막에 잠금)
+        List<Long> productIds = locks.productIdsInLockOrder(List.of(command.productId()));
+        Product product = reserveStock(productIds.get(0), command.quantity());
 
         // 7. Order 생성 (최종 금액은 Order에서 create할때 계산)
         Orders order = Orders.createOrder(
@@ -222,29 +191,13 @@ public class CreateOrderFromProductUseCase {
         // 8. 저장
         Orders savedOrder = orderRepository.save(order);
 
-        // 9. 포인트 사용 이력 저장 (Order ID가 필요하므로 주문 생성 후 처리)
-        if (!pointUsageAmounts.isEmpty()) {
-            for (int i = 0; i < pointUsageAmounts.size(); i++) {
-                BigDecimal usageAmount = pointUsageAmounts.get(i);
-
-                // 9-1. 기존 CHARGE/REFUND 포인트는 부분 사용 처리
-                Point originalPoint = pointsToUpdate.get(i);
-                originalPoint.usePartially(usageAmount);
-
-                // 9-2. PointUsageHistory 생성 (주문과 포인트 연결 추적용)
-                PointUsageHistory history = PointUsageHistory.create(
-                        originalPoint,
-                        savedOrder,
-                        usageAmount
-                );
-                // 9-3. 포인트 사용 내역 저장
-                pointUsageHistoryRepository.save(history);
-            }
+        // 9. 포인트 사용 반영 (Order ID가 필요하므로 주문 생성 후 처리)
+        if (pointAmount.compareTo(BigDecimal.ZERO) > 0) {
+            // 9-1. 포인트 부분 사용 처리 + 사용 이력 일괄 저장
+            pointAllocationEngine.apply(pointAllocation, savedOrder);
 
-            if (pointAmount.compareTo(BigDecimal.ZERO) > 0) {
-                // 9-4. User의 포인트 잔액 차감
-                user.usePoint(pointAmount);
-            }
+            // 9-2. User의 포인트 잔액 차감
+            user.usePoint(pointAmount);
         }
 
         // 10. OrderItem 생성
@@ -260,4 +213,42 @@ public class CreateOrderFromProductUseCase {
 
         return CreateOrderResponse.from(savedOrder, orderItems);
     }
-}
\ No newline at end of file
+
+    /**
+     * 상품 재고 차감 및 판매량 증가
+     * - DATABASE 모드: 조건부 UPDATE(stock >= 수량) 한 문장으로 차감하고 영향받은 행 수로 성공 여부 판단
+     * - LEDGER 모드: 상품 행 락 없이 재고 예약 원장에서 CAS로 예약 (DB 반영은 커밋 후 일괄 처리)
+     * - 판매량 변화는 이벤트로 발행하여 커밋 후 인기 상품 랭킹에 반영
+     */
+    private Product reserveStock(Long productId, int quantity) {
+        Product product;
+
+        if (stockReservationLedger.isEnabled()) {
+            product = productRepository.findById(productId)
+                    .orElseThrow(() -> new ProductException(ErrorCode.PRODUCT_NOT_FOUND));
+
+            product.validateOrderCondition(quantity);
+            stockReservationLedger.reserve(productId, quantity);
+        } else {
+            // 조건부 UPDATE 한 문장으로 재고 검증 + 차감 + 판매량 증가 (상품 행을 미리 읽어 잠그지 않음)
+            int updated = productRepository.decreaseStockForOrder(productId, quantity);
+
+            // 최신 상품 정보 조회 (주문 금액/상품명 계산 및 실패 원인 확인용)
+            product = productRepository.findByIdRefreshed(productId)
+                    .orElseThrow(() -> new ProductException(ErrorCode.PRODUCT_NOT_FOUND));
+
+            if (updated == 0) {
+                // 비활성/재고 부족/최소·최대 주문량 중 구체적인 원인으로 예외 발생
+                product.validateOrder(quantity);
+                throw new ProductException(ErrorCode.PRODUCT_OUT_OF_STOCK,
+                        " 현재 재고: " + product.getStock() + ", 요청 수량: " + quantity);
+            }
+
+            // 최소/최대 주문량 검증 (실패하면 트랜잭션 롤백으로 차감도 취소됨)
+            product.validateOrderCondition(quantity);
+        }
+
+        eventPublisher.publishEvent(new ProductSoldCountChangedEvent(productId, quantity));
+        return product;
+    }
+}
@@ -12,6 +12,7 @@ import io.hhplus.ECommerce.ECommerce_project.order.presentation.response.GetOrde
 import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -23,6 +24,12 @@ public class GetOrderDetailUseCase {
     private final OrderItemRepository orderItemRepository;
     private final UserRepository userRepository;
 
+    /**
+     * 주문 상세 조회
+     * - 주문 1번 + 주문 항목 1번 조회 (항목 수와 무관)
+     * - 응답에는 연관 엔티티의 ID만 사용하므로 user/coupon/product 프록시는 초기화되지 않음
+     */
+    @Transactional(readOnly = true)
     public GetOrderDetailResponse execute(GetOrderDetailCommand command) {
         // 1. 사용자 존재 확인
         userRepository.findById(command.userId())
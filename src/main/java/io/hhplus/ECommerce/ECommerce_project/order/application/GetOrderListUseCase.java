@@ -4,7 +4,9 @@ import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
 import io.hhplus.ECommerce.ECommerce_project.common.exception.UserException;
 import io.hhplus.ECommerce.ECommerce_project.order.application.command.GetOrderListCommand;
 import io.hhplus.ECommerce.ECommerce_project.order.application.dto.OrdersPageResult;
+import io.hhplus.ECommerce.ECommerce_project.order.domain.entity.OrderItem;
 import io.hhplus.ECommerce.ECommerce_project.order.domain.entity.Orders;
+import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.OrderItemRepository;
 import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.OrderRepository;
 import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -12,14 +14,26 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class GetOrderListUseCase {
 
     private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
     private final UserRepository userRepository;
 
+    /**
+     * 주문 목록 조회 (주문 항목 포함)
+     * - 주문 페이지 조회 후, 페이지에 포함된 주문들의 항목을 IN 쿼리 한 번으로 조회 (페이지 크기와 무관하게 쿼리 수 고정)
+     * - 응답에는 연관 엔티티의 ID만 사용하므로 user/coupon/product 프록시는 초기화되지 않음
+     */
+    @Transactional(readOnly = true)
     public OrdersPageResult execute(GetOrderListCommand command) {
         // 1. 사용자 존재 확인
         userRepository.findById(command.userId())
@@ -43,9 +57,20 @@ public class GetOrderListUseCase {
         );
          */
 
-        // 4. Response 생성
+        // 4. 페이지에 포함된 주문들의 항목 일괄 조회
+        List<Long> orderIds = ordersPage.getContent().stream()
+                .map(Orders::getId)
+                .toList();
+
+        Map<Long, List<OrderItem>> orderItemsByOrderId = orderIds.isEmpty()
+                ? Map.of()
+                : orderItemRepository.findByOrderIds(orderIds).stream()
+                        .collect(Collectors.groupingBy(orderItem -> orderItem.getOrders().getId()));
+
+        // 5. Response 생성
         return new OrdersPageResult(
                 ordersPage.getContent(),
+                orderItemsByOrderId,
                 ordersPage.getNumber(),
                 ordersPage.getSize(),
                 ordersPage.getTotalElements(),
@@ -0,0 +1,211 @@
+package io.hhplus.ECommerce.ECommerce_project.order.application;
+
+import io.hhplus.ECommerce.ECommerce_project.common.exception.CouponException;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.OrderException;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.PointException;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.UserException;
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.UserCoupon;
+import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.UserCouponRepository;
+import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.UserCouponRepositoryCustom.UserCouponKey;
+import io.hhplus.ECommerce.ECommerce_project.order.domain.entity.Orders;
+import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.OrderRepository;
+import io.hhplus.ECommerce.ECommerce_project.point.domain.entity.Point;
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointRepository;
+import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
+import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 관련 행 락 획득기
+ * - 주문 생성/취소/결제 보상이 여러 테이블의 행을 잠글 때 모두 같은 순서로 잠가 교착 상태(데드락)를 막는다.
+ * - 락 순서: 사용자 -> 주문 -> 사용자 쿠폰 -> 포인트 -> 상품
+ *   - 같은 테이블의 여러 행은 id 오름차순으로 한 번에 잠근다. (SELECT ... WHERE id IN (...) ORDER BY id FOR UPDATE)
+ *   - 사용자 쿠폰은 id가 아니라 (user_id, coupon_id) 유니크 키로 잠근다. 주문 생성은 쿠폰 1장이라 행 하나만 잠그고(lockUserCoupon),
+ *     여러 주문을 복구할 때만 (user_id, coupon_id) 쌍 전체를 한 번에 잠근다(lockUserCoupons).
+ *   - 상품은 가장 경합이 심한 행이므로 마지막에 잠가 락 보유 시간을 줄인다.
+ *     상품 행은 조건부 UPDATE가 직접 잠그므로 productIdsInLockOrder()가 돌려준 순서대로 UPDATE 한다.
+ * - 순서를 거꾸로 요청하면 IllegalStateException (개발 중 순서 위반을 바로 드러내기 위함)
+ * - 트랜잭션 안에서만 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderResourceLocker {
+
+    private final UserRepository userRepository;
+    private final OrderRepository orderRepository;
+    private final UserCouponRepository userCouponRepository;
+    private final PointRepository pointRepository;
+
+    /**
+     * 락 획득 순서 (ordinal 순서대로만 획득 가능)
+     */
+    enum LockStage {
+        USER,
+        ORDER,
+        USER_COUPON,
+        POINT,
+        PRODUCT
+    }
+
+    /**
+     * 트랜잭션 하나의 락 획득 세션 시작
+     */
+    public Session begin() {
+        return new Session();
+    }
+
+    public class Session {
+
+        private LockStage currentStage;
+
+        private Session() {
+        }
+
+        /**
+         * 사용자 행 잠금
+         */
+        public User lockUser(Long userId) {
+            advance(LockStage.USER);
+
+            return userRepository.findByIdWithLock(userId)
+                    .orElseThrow(() -> new UserException(ErrorCode.USER_NOT_FOUND));
+        }
+
+        /**
+         * 사용자 여러 명 잠금 (id 오름차순, 쿼리 1번)
+         */
+        public Map<Long, User> lockUsers(Collection<Long> userIds) {
+            advance(LockStage.USER);
+
+            if (userIds.isEmpty()) {
+                return Map.of();
+            }
+
+            TreeSet<Long> sortedUserIds = new TreeSet<>(userIds);
+            List<User> users = userRepository.findAllByIdInWithLock(sortedUserIds);
+            if (users.size() != sortedUserIds.size()) {
+                throw new UserException(ErrorCode.USER_NOT_FOUND);
+            }
+            return users.stream().collect(Collectors.toMap(User::getId, Function.identity()));
+        }
+
+        /**
+         * 주문 행 잠금 (주문자 사용자 행을 먼저 잠가야 함)
+         */
+        public Orders lockOrder(Long orderId) {
+            advance(LockStage.ORDER);
+
+            return orderRepository.findByIdWithLock(orderId)
+                    .orElseThrow(() -> new OrderException(ErrorCode.ORDER_NOT_FOUND));
+        }
+
+        /**
+         * 주문 여러 건 잠금 (id 오름차순, 쿼리 1번, 주문자 사용자 행을 먼저 잠가야 함)
+         */
+        public List<Orders> lockOrders(Collection<Long> orderIds) {
+            advance(LockStage.ORDER);
+
+            if (orderIds.isEmpty()) {
+                return List.of();
+            }
+
+            TreeSet<Long> sortedOrderIds = new TreeSet<>(orderIds);
+            List<Orders> orders = orderRepository.findAllByIdInWithLock(sortedOrderIds);
+            if (orders.size() != sortedOrderIds.size()) {
+                throw new OrderException(ErrorCode.ORDER_NOT_FOUND);
+            }
+            return orders;
+        }
+
+        /**
+         * 사용자 쿠폰 행 잠금
+         */
+        public UserCoupon lockUserCoupon(Long userId, Long couponId) {
+            advance(LockStage.USER_COUPON);
+
+            return userCouponRepository.findByUser_IdAndCoupon_IdWithLock(userId, couponId)
+                    .orElseThrow(() -> new CouponException(ErrorCode.USER_COUPON_NOT_FOUND));
+        }
+
+        /**
+         * 사용자 쿠폰 여러 건 잠금 (id 오름차순, 쿼리 1번)
+         * @return (유저 Id, CouponId) -> 사용자 쿠폰
+         */
+        public Map<UserCouponKey, UserCoupon> lockUserCoupons(Collection<UserCouponKey> keys) {
+            advance(LockStage.USER_COUPON);
+
+            if (keys.isEmpty()) {
+                return Map.of();
+            }
+
+            Set<UserCouponKey> distinctKeys = new HashSet<>(keys);
+            List<UserCoupon> userCoupons = userCouponRepository.findAllByKeysWithLock(distinctKeys);
+            if (userCoupons.size() != distinctKeys.size()) {
+                throw new CouponException(ErrorCode.USER_COUPON_NOT_FOUND);
+            }
+            return userCoupons.stream().collect(Collectors.toMap(
+                    userCoupon -> new UserCouponKey(userCoupon.getUser().getId(), userCoupon.getCoupon().getId()),
+                    Function.identity()));
+        }
+
+        /**
+         * 사용자의 사용 가능한 포인트 전체 잠금
+         * @return 선입선출(생성 시각 오름차순) 순서의 포인트 목록
+         */
+        public List<Point> lockAvailablePoints(Long userId) {
+            advance(LockStage.POINT);
+
+            return pointRepository.findAvailablePointsByUserIdWithLock(userId).stream()
+                    .sorted(Comparator.comparing(Point::getCreatedAt).thenComparing(Point::getId))
+                    .toList();
+        }
+
+        /**
+         * 포인트 여러 건 잠금 (id 오름차순, 쿼리 1번)
+         */
+        public List<Point> lockPoints(Collection<Long> pointIds) {
+            advance(LockStage.POINT);
+
+            if (pointIds.isEmpty()) {
+                return List.of();
+            }
+
+            TreeSet<Long> sortedPointIds = new TreeSet<>(pointIds);
+            List<Point> points = pointRepository.findAllByIdInWithLock(sortedPointIds);
+            if (points.size() != sortedPointIds.size()) {
+                throw new PointException(ErrorCode.POINT_NOT_FOUND);
+            }
+            return points;
+        }
+
+        /**
+         * 상품 락 순서 (id 오름차순, 중복 제거)
+         * - 반환된 순서대로 조건부 UPDATE를 실행해야 한다.
+         */
+        public List<Long> productIdsInLockOrder(Collection<Long> productIds) {
+            advance(LockStage.PRODUCT);
+
+            return List.copyOf(new TreeSet<>(productIds));
+        }
+
+        private void advance(LockStage stage) {
+            if (currentStage != null && stage.ordinal() < currentStage.ordinal()) {
+                throw new IllegalStateException(
+                        "락 획득 순서 위반: " + currentStage + " 이후에 " + stage + " 락을 요청했습니다.");
+            }
+            currentStage = stage;
+        }
+    }
+}
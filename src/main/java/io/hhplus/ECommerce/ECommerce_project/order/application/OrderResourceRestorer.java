@@ -0,0 +1,201 @@
+package io.hhplus.ECommerce.ECommerce_project.order.application;
+
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.UserCoupon;
+import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.UserCouponRepositoryCustom.UserCouponKey;
+import io.hhplus.ECommerce.ECommerce_project.order.domain.entity.OrderItem;
+import io.hhplus.ECommerce.ECommerce_project.order.domain.entity.Orders;
+import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.OrderItemRepository;
+import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.OrderRepository;
+import io.hhplus.ECommerce.ECommerce_project.payment.domain.enums.PaymentStatus;
+import io.hhplus.ECommerce.ECommerce_project.payment.infrastructure.PaymentRepository;
+import io.hhplus.ECommerce.ECommerce_project.point.domain.entity.Point;
+import io.hhplus.ECommerce.ECommerce_project.point.domain.entity.PointUsageHistory;
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointUsageHistoryRepository;
+import io.hhplus.ECommerce.ECommerce_project.product.application.StockReservationLedger;
+import io.hhplus.ECommerce.ECommerce_project.product.application.event.ProductSoldCountChangedEvent;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductJdbcRepository;
+import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 리소스 일괄 복구 (쿠폰 사용 취소, 포인트 복구 + 사용자 잔액 환불, 재고/판매량 복구)
+ *
+ * - 여러 주문을 한 트랜잭션에서 복구할 때 같은 상품/사용자의 복구량을 합산해 상품/사용자 행마다 한 번만 갱신한다.
+ * - 조회는 테이블마다 IN 쿼리 한 번으로 하고, 락은 OrderResourceLocker 순서(사용자 -> 주문 -> 사용자 쿠폰 -> 포인트 -> 상품)로
+ *   같은 테이블의 여러 행을 id 오름차순으로 잠근다.
+ * - 주문/주문 항목 상태는 바꾸지 않는다. (호출하는 쪽에서 반환된 잠긴 주문/주문 항목으로 처리)
+ * - 복구 대상 판정(Eligibility)에는 "결제가 진행 중인 PENDING 주문" 여부를 함께 넘긴다.
+ *   주문을 잠근 직후 청크 전체를 결제 IN 쿼리 한 번으로 확인한다. (주문 만료 / 일괄 취소가 같은 기준을 사용)
+ * - 트랜잭션 안에서만 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderResourceRestorer {
+
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final PaymentRepository paymentRepository;
+    private final ProductJdbcRepository productJdbcRepository;
+    private final PointUsageHistoryRepository pointUsageHistoryRepository;
+    private final StockReservationLedger stockReservationLedger;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OrderResourceLocker orderResourceLocker;
+
+    /**
+     * 주문 리소스 복구 (주어진 주문 전체)
+     */
+    public Restored restore(Collection<Long> orderIds) {
+        return restore(orderIds, (order, paymentInProgress) -> true);
+    }
+
+    /**
+     * 주문 리소스 복구
+     * 1. 주문자 -> 주문 잠금 후 eligible을 만족하는 주문만 남김 (잠근 뒤에 확인해야 상태가 바뀌지 않음)
+     *    1-1. PENDING 주문 중 진행 중인 결제가 있는 주문 조회 (쿼리 1번)
+     * 2. 쿠폰 사용 취소 (사용자 쿠폰을 한 번에 잠금)
+     * 3. 포인트 복구 + 사용자별 잔액 환불 합산 (포인트 잠금)
+     * 4. 상품별 재고/판매량 복구 합산 (상품 id 오름차순, 배치 UPDATE 한 번)
+     */
+    public Restored restore(Collection<Long> orderIds, Eligibility eligible) {
+        OrderResourceLocker.Session locks = orderResourceLocker.begin();
+
+        // 1. 주문자 -> 주문 잠금
+        Map<Long, User> users = locks.lockUsers(orderRepository.findUserIdsByIdIn(orderIds));
+        List<Orders> lockedOrders = locks.lockOrders(orderIds);
+
+        // 1-1. 진행 중인 결제 확인 (청크 전체를 한 번에)
+        Set<Long> paymentInProgressOrderIds = findPaymentInProgressOrderIds(lockedOrders);
+        List<Orders> orders = lockedOrders.stream()
+                .filter(order -> eligible.test(order, paymentInProgressOrderIds.contains(order.getId())))
+                .toList();
+        if (orders.isEmpty()) {
+            return new Restored(orders, List.of(), Map.of(), BigDecimal.ZERO);
+        }
+        List<Long> restoringOrderIds = orders.stream().map(Orders::getId).toList();
+
+        // 2. 쿠폰 사용 취소 (issuedQuantity는 복구하지 않음 - 한번 발급되면 영구적)
+        // 같은 사용자 쿠폰을 쓴 주문이 여러 건이면 잠근 행 하나에 주문마다 사용 취소
+        List<Orders> couponOrders = orders.stream()
+                .filter(order -> order.getCoupon() != null)
+                .toList();
+        Map<UserCouponKey, UserCoupon> userCoupons = locks.lockUserCoupons(couponOrders.stream()
+                .map(order -> new UserCouponKey(order.getUser().getId(), order.getCoupon().getId()))
+                .toList());
+        for (Orders order : couponOrders) {
+            userCoupons.get(new UserCouponKey(order.getUser().getId(), order.getCoupon().getId()))
+                    .cancelUse(order.getCoupon().getPerUserLimit());
+        }
+
+        // 3. 포인트 복구 (원본 포인트를 한 번에 잠금)
+        List<PointUsageHistory> histories = pointUsageHistoryRepository.findByOrders_IdInAndCanceledAtIsNull(restoringOrderIds);
+        Map<Long, Point> lockedPoints = locks.lockPoints(histories.stream()
+                        .map(history -> history.getPoint().getId())
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Point::getId, Function.identity()));
+
+        Map<Long, BigDecimal> refundByUser = new TreeMap<>();
+        for (PointUsageHistory history : histories) {
+            Point point = lockedPoints.get(history.getPoint().getId());
+            point.restoreUsedAmount(history.getUsedAmount());
+            history.cancel();
+            refundByUser.merge(history.getOrders().getUser().getId(), history.getUsedAmount(), BigDecimal::add);
+        }
+
+        // 3-1. 사용자 잔액 환불 (사용자당 한 번)
+        BigDecimal refundedPoint = BigDecimal.ZERO;
+        for (Map.Entry<Long, BigDecimal> refund : refundByUser.entrySet()) {
+            users.get(refund.getKey()).refundPoint(refund.getValue());
+            refundedPoint = refundedPoint.add(refund.getValue());
+        }
+
+        // 4. 재고/판매량 복구 (같은 상품은 합산해 한 번에, 가장 경합이 심한 상품 행은 마지막에)
+        List<OrderItem> orderItems = orderItemRepository.findByOrderIds(restoringOrderIds);
+        Map<Long, Integer> restockByProduct = new HashMap<>();
+        for (OrderItem orderItem : orderItems) {
+            restockByProduct.merge(orderItem.getProduct().getId(), orderItem.getQuantity(), Integer::sum);
+        }
+
+        List<Long> productIds = locks.productIdsInLockOrder(restockByProduct.keySet());
+        if (stockReservationLedger.isEnabled()) {
+            // LEDGER 모드: 재고 예약 원장에서 예약 취소 (커밋 후 가용 재고/판매량에 반영)
+            for (Long productId : productIds) {
+                stockReservationLedger.release(productId, restockByProduct.get(productId));
+            }
+        } else {
+            // 상품별 조건부 UPDATE를 배치 한 번으로 실행 (상품 id 오름차순으로 잠금)
+            List<Long> notRestored = productJdbcRepository.restoreStocksForCancel(productIds, restockByProduct);
+            if (!notRestored.isEmpty()) {
+                Long productId = notRestored.get(0);
+                throw new ProductException(ErrorCode.PRODUCT_SOLD_COUNT_LESS_THAN_CANCEL,
+                        "상품 재고 복구 실패 (Product ID: " + productId + ", 복구 수량: " + restockByProduct.get(productId) + ")");
+            }
+        }
+
+        // 판매량 변화 이벤트 발행 (커밋 후 인기 상품 랭킹에 반영)
+        for (Long productId : productIds) {
+            eventPublisher.publishEvent(new ProductSoldCountChangedEvent(productId, -restockByProduct.get(productId)));
+        }
+
+        return new Restored(orders, orderItems, restockByProduct, refundedPoint);
+    }
+
+    /**
+     * 복구 결과
+     * @param orders 복구한 주문 (잠금, id 오름차순)
+     * @param orderItems 복구한 주문의 주문 항목
+     * @param restockedQuantities 상품 id -> 복구한 재고 수량
+     * @param refundedPoint 환불한 포인트 합계
+     */
+    /**
+     * 결제가 진행 중인 PENDING 주문 ID (PENDING 주문이 없으면 조회하지 않음)
+     */
+    private Set<Long> findPaymentInProgressOrderIds(List<Orders> lockedOrders) {
+        List<Long> pendingOrderIds = lockedOrders.stream()
+                .filter(Orders::isPending)
+                .map(Orders::getId)
+                .toList();
+        if (pendingOrderIds.isEmpty()) {
+            return Set.of();
+        }
+        return Set.copyOf(paymentRepository.findOrderIdsWithPaymentStatus(pendingOrderIds, PaymentStatus.PENDING));
+    }
+
+    /**
+     * 잠근 주문의 복구 대상 여부
+     */
+    @FunctionalInterface
+    public interface Eligibility {
+
+        /**
+         * @param order 잠근 주문
+         * @param paymentInProgress PENDING 주문에 진행 중(PENDING)인 결제가 있으면 true
+         */
+        boolean test(Orders order, boolean paymentInProgress);
+    }
+
+    public record Restored(
+            List<Orders> orders,
+            List<OrderItem> orderItems,
+            Map<Long, Integer> restockedQuantities,
+            BigDecimal refundedPoint
+    ) {
+        public int restockedTotal() {
+            return restockedQuantities.values().stream().mapToInt(Integer::intValue).sum();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package io.hhplus.ECommerce.ECommerce_project.order.application;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * 주문 쓰기 트랜잭션
+ * - 주문 생성은 검증/사전 계산을 트랜잭션 밖에서 끝내고, 락 획득 + 쓰기 구간만 이 트랜잭션 안에서 실행한다.
+ * - 같은 클래스의 private @Transactional 메서드는 프록시를 거치지 않아 적용되지 않으므로 TransactionTemplate으로 경계를 직접 지정
+ * - timeout 설정 시 남은 시간이 각 쿼리의 타임아웃으로 전달되어 락 대기도 그 안에서 끝난다.
+ * - 트랜잭션 시작부터 커밋/롤백 완료까지의 시간(행 락 보유 시간)을 order.write.transaction 타이머로 기록
+ * - 결제의 준비/확정 트랜잭션(결제 대행사 호출 전후)도 같은 경계와 타이머를 사용한다.
+ */
+@Component
+public class OrderWriteTransaction {
+
+    public static final String TIMER_NAME = "order.write.transaction";
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public OrderWriteTransaction(
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${ecommerce.order.write-timeout-seconds:3}") int timeoutSeconds
+    ) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setTimeout(timeoutSeconds);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 쓰기 구간 실행 (RuntimeException 발생 시 롤백)
+     * @param orderType 타이머 태그 (product / cart / payment-prepare / payment-finalize)
+     */
+    public <T> T execute(String orderType, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "commit";
+
+        try {
+            return transactionTemplate.execute(status -> action.get());
+        } catch (RuntimeException e) {
+            outcome = "rollback";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(TIMER_NAME)
+                    .description("주문 쓰기 트랜잭션 시간 (행 락 보유 시간)")
+                    .tag("type", orderType)
+                    .tag("outcome", outcome)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry));
+        }
+    }
+}
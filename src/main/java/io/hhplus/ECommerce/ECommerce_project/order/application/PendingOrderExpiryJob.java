@@ -0,0 +1,222 @@
+package io.hhplus.ECommerce.ECommerce_project.order.application;
+
+import io.hhplus.ECommerce.ECommerce_project.order.domain.entity.OrderItem;
+import io.hhplus.ECommerce.ECommerce_project.order.domain.entity.Orders;
+import io.hhplus.ECommerce.ECommerce_project.order.domain.enums.OrderItemStatus;
+import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.PendingOrderExpiryJdbcRepository;
+import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.PendingOrderExpiryJdbcRepository.ExpiryCandidate;
+import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.PendingOrderExpiryJdbcRepository.ExpiryCursor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 미결제 주문 만료 배치
+ *
+ * - 생성 후 ttl-ms가 지나도록 결제되지 않은 PENDING 주문을 취소하고 주문 생성 시 차감한 쿠폰/포인트/재고를 되돌린다.
+ *   (주문 생성 시 재고를 바로 차감하므로, 결제하지 않은 주문이 남아 있으면 그만큼 판매할 수 없는 재고가 묶임)
+ * - idx_orders_status_created (status, created_at) 인덱스를 (created_at, id) 키셋으로 chunk-size건씩 읽고,
+ *   청크마다 짧은 쓰기 트랜잭션 하나로 취소한다. (OrderResourceRestorer가 같은 상품/사용자의 복구량을 합산해 행마다 한 번만 갱신)
+ * - 취소 조건은 주문 취소(CancelOrderUseCase)와 같다. 잠근 뒤에 다시 확인해 그 사이 결제된 주문과
+ *   결제가 진행 중(결제 대행사 호출 중)인 주문은 건너뛴다. (결과를 알 수 없어 PENDING으로 남은 결제는 PaymentReconciler가 확정한 뒤
+ *   승인이면 PAID, 실패면 보상 디스패처가 리소스를 복구하므로 다시 만료 대상이 되지 않는다)
+ * - 청크 하나가 실패해도 다음 청크부터 계속 진행하고, 남은 주문은 다음 실행에서 다시 처리된다.
+ * - 실행마다 만료한 주문 수와 되찾은 재고 수량을 로그와 결과로 남기고,
+ *   order.expiry.orders / order.expiry.reclaimed.stock 카운터와 order.expiry.run.reclaimed.stock 분포로 기록
+ */
+@Slf4j
+@Component
+public class PendingOrderExpiryJob {
+
+    public static final String EXPIRED_ORDERS_COUNTER_NAME = "order.expiry.orders";
+    public static final String RECLAIMED_STOCK_COUNTER_NAME = "order.expiry.reclaimed.stock";
+    public static final String RUN_RECLAIMED_STOCK_SUMMARY_NAME = "order.expiry.run.reclaimed.stock";
+
+    // 쓰기 트랜잭션 타이머 태그 (order.write.transaction)
+    static final String EXPIRY_TYPE = "pending-expiry";
+
+    private final PendingOrderExpiryJdbcRepository pendingOrderExpiryJdbcRepository;
+    private final OrderResourceRestorer orderResourceRestorer;
+    private final OrderWriteTransaction orderWriteTransaction;
+    private final Duration ttl;
+    private final int chunkSize;
+
+    private final Counter expiredOrdersCounter;
+    private final Counter reclaimedStockCounter;
+    private final DistributionSummary runReclaimedStockSummary;
+
+    // 이전 실행이 끝나기 전에 다음 실행이 겹치지 않도록 막음
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public PendingOrderExpiryJob(
+            PendingOrderExpiryJdbcRepository pendingOrderExpiryJdbcRepository,
+            OrderResourceRestorer orderResourceRestorer,
+            OrderWriteTransaction orderWriteTransaction,
+            MeterRegistry meterRegistry,
+            @Value("${ecommerce.order.pending-expiry.ttl-ms:1800000}") long ttlMs,
+            @Value("${ecommerce.order.pending-expiry.chunk-size:100}") int chunkSize
+    ) {
+        this.pendingOrderExpiryJdbcRepository = pendingOrderExpiryJdbcRepository;
+        this.orderResourceRestorer = orderResourceRestorer;
+        this.orderWriteTransaction = orderWriteTransaction;
+        this.ttl = Duration.ofMillis(ttlMs);
+        this.chunkSize = chunkSize;
+
+        this.expiredOrdersCounter = Counter.builder(EXPIRED_ORDERS_COUNTER_NAME)
+                .description("만료로 취소한 미결제 주문 수")
+                .register(meterRegistry);
+        this.reclaimedStockCounter = Counter.builder(RECLAIMED_STOCK_COUNTER_NAME)
+                .description("미결제 주문 만료로 되찾은 재고 수량")
+                .register(meterRegistry);
+        this.runReclaimedStockSummary = DistributionSummary.builder(RUN_RECLAIMED_STOCK_SUMMARY_NAME)
+                .description("미결제 주문 만료 배치 1회 실행에서 되찾은 재고 수량")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 주기 실행
+     */
+    @Scheduled(fixedDelayString = "${ecommerce.order.pending-expiry.interval-ms:60000}")
+    public void scheduledExpire() {
+        try {
+            expire();
+        } catch (RuntimeException e) {
+            log.error("미결제 주문 만료 배치 실패, 다음 실행에서 남은 주문부터 다시 처리합니다.", e);
+        }
+    }
+
+    /**
+     * 만료 기준 시각(현재 - ttl) 이전에 생성된 PENDING 주문 전체 만료 처리
+     * - 이미 실행 중이면 아무것도 하지 않고 빈 결과 반환
+     */
+    public ExpiryResult expire() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("미결제 주문 만료 배치가 이미 실행 중입니다.");
+            return ExpiryResult.empty();
+        }
+
+        try {
+            LocalDateTime createdBefore = LocalDateTime.now().minus(ttl);
+            long startedAt = System.nanoTime();
+
+            ExpiryCursor cursor = ExpiryCursor.first();
+            int expiredOrders = 0;
+            int skippedOrders = 0;
+            int failedChunks = 0;
+            BigDecimal refundedPoint = BigDecimal.ZERO;
+            Map<Long, Integer> reclaimedStockByProduct = new HashMap<>();
+
+            while (true) {
+                // 1. 만료 대상 조회 (락 없이)
+                List<ExpiryCandidate> candidates = pendingOrderExpiryJdbcRepository.findExpiryCandidates(
+                        createdBefore, cursor, chunkSize);
+                if (candidates.isEmpty()) {
+                    break;
+                }
+
+                // 2. 청크 취소 (쓰기 트랜잭션 1개)
+                List<Long> orderIds = candidates.stream().map(ExpiryCandidate::orderId).toList();
+                try {
+                    OrderResourceRestorer.Restored restored = orderWriteTransaction.execute(EXPIRY_TYPE,
+                            () -> expireChunk(orderIds, createdBefore));
+
+                    expiredOrders += restored.orders().size();
+                    skippedOrders += orderIds.size() - restored.orders().size();
+                    refundedPoint = refundedPoint.add(restored.refundedPoint());
+                    restored.restockedQuantities().forEach((productId, quantity) ->
+                            reclaimedStockByProduct.merge(productId, quantity, Integer::sum));
+
+                    expiredOrdersCounter.increment(restored.orders().size());
+                    reclaimedStockCounter.increment(restored.restockedTotal());
+                } catch (RuntimeException e) {
+                    failedChunks++;
+                    log.warn("미결제 주문 만료 청크 실패, 다음 청크부터 계속합니다. - 주문 수: {}, 원인: {}",
+                            orderIds.size(), e.getMessage());
+                }
+
+                // 3. 다음 청크 커서 (건너뛴/실패한 주문도 커서는 지나감)
+                ExpiryCandidate last = candidates.get(candidates.size() - 1);
+                cursor = new ExpiryCursor(last.createdAt(), last.orderId());
+
+                if (candidates.size() < chunkSize) {
+                    break;
+                }
+            }
+
+            // 4. 결과 보고
+            int reclaimedStock = reclaimedStockByProduct.values().stream().mapToInt(Integer::intValue).sum();
+            runReclaimedStockSummary.record(reclaimedStock);
+            long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            if (expiredOrders > 0 || failedChunks > 0) {
+                log.info("미결제 주문 만료 배치 완료 - 만료 주문: {}건, 건너뛴 주문: {}건, 실패 청크: {}개, 되찾은 재고: {}개 (상품 {}종), 환불 포인트: {}, 소요 시간: {}ms",
+                        expiredOrders, skippedOrders, failedChunks, reclaimedStock, reclaimedStockByProduct.size(),
+                        refundedPoint, elapsedMillis);
+            }
+
+            return new ExpiryResult(expiredOrders, skippedOrders, failedChunks, reclaimedStock,
+                    Map.copyOf(reclaimedStockByProduct), refundedPoint, elapsedMillis);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 청크 1개 만료 처리
+     * 1. 주문자 -> 주문 잠금 후 조건 재확인 (아직 PENDING, 만료 기준 시각 이전 생성, 진행 중인 결제 없음)
+     * 2. 쿠폰/포인트/재고 복구 (OrderResourceRestorer)
+     * 3. 주문 항목 / 주문 상태 변경 (PENDING -> CANCELED)
+     */
+    private OrderResourceRestorer.Restored expireChunk(List<Long> orderIds, LocalDateTime createdBefore) {
+        // 1 ~ 2. 잠금 + 조건 재확인 + 복구
+        OrderResourceRestorer.Restored restored = orderResourceRestorer.restore(orderIds, (order, paymentInProgress) ->
+                order.isPending()
+                        && order.getCreatedAt().isBefore(createdBefore)
+                        && !paymentInProgress);
+
+        // 3. 주문 항목 / 주문 상태 변경
+        for (OrderItem orderItem : restored.orderItems()) {
+            if (orderItem.getStatus() == OrderItemStatus.ORDER_PENDING) {
+                orderItem.cancel();
+            }
+        }
+        for (Orders order : restored.orders()) {
+            order.cancel();
+        }
+        return restored;
+    }
+
+    /**
+     * 만료 배치 결과
+     * @param expiredOrders 취소한 주문 수
+     * @param skippedOrders 잠근 뒤 조건이 맞지 않아 건너뛴 주문 수 (그 사이 결제됨 / 결제 진행 중)
+     * @param failedChunks 실패한 청크 수 (다음 실행에서 다시 처리)
+     * @param reclaimedStock 되찾은 재고 수량 합계
+     * @param reclaimedStockByProduct 상품 id -> 되찾은 재고 수량
+     * @param refundedPoint 환불한 포인트 합계
+     */
+    public record ExpiryResult(
+            int expiredOrders,
+            int skippedOrders,
+            int failedChunks,
+            int reclaimedStock,
+            Map<Long, Integer> reclaimedStockByProduct,
+            BigDecimal refundedPoint,
+            long elapsedMillis
+    ) {
+        static ExpiryResult empty() {
+            return new ExpiryResult(0, 0, 0, 0, Map.of(), BigDecimal.ZERO, 0L);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package io.hhplus.ECommerce.ECommerce_project.order.application.command;
+
+import java.util.List;
+
+public record BulkCancelOrdersCommand(
+        List<Long> orderIds
+) {
+}
@@ -1,13 +1,16 @@
 package io.hhplus.ECommerce.ECommerce_project.order.application.dto;
 
+import io.hhplus.ECommerce.ECommerce_project.order.domain.entity.OrderItem;
 import io.hhplus.ECommerce.ECommerce_project.order.domain.entity.Orders;
 import lombok.Getter;
 
 import java.util.List;
+import java.util.Map;
 
 @Getter
 public class OrdersPageResult {
     private final List<Orders> orders;
+    private final Map<Long, List<OrderItem>> orderItemsByOrderId;  // 주문 ID -> 주문 항목
     private final int page;
     private final int size;
     private final long totalElements;
@@ -15,8 +18,9 @@ public class OrdersPageResult {
     private final boolean isFirst;
     private final boolean isLast;
 
-    public OrdersPageResult(List<Orders> orders, int page, int size, long totalElements, int totalPages, boolean isFirst, boolean isLast) {
+    public OrdersPageResult(List<Orders> orders, Map<Long, List<OrderItem>> orderItemsByOrderId, int page, int size, long totalElements, int totalPages, boolean isFirst, boolean isLast) {
         this.orders = orders;
+        this.orderItemsByOrderId = orderItemsByOrderId;
         this.page = page;
         this.size = size;
         this.totalElements = totalElements;
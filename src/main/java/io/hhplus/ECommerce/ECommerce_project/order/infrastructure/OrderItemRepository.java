@@ -2,11 +2,23 @@ package io.hhplus.ECommerce.ECommerce_project.order.infrastructure;
 
 import io.hhplus.ECommerce.ECommerce_project.order.domain.entity.OrderItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
 
     // 주문 Id 로 주문항목 가져옴
     List<OrderItem> findByOrders_Id(Long orderId);
+
+    // 여러 주문의 주문항목을 한 번에 조회 (주문 목록 페이지의 항목을 IN 쿼리 1번으로 조회)
+    @Query("""
+            SELECT oi
+            FROM OrderItem oi
+            WHERE oi.orders.id IN :orderIds
+            ORDER BY oi.orders.id, oi.id
+            """)
+    List<OrderItem> findByOrderIds(@Param("orderIds") Collection<Long> orderIds);
 }
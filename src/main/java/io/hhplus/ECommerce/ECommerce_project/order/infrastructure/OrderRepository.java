@@ -10,6 +10,8 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Orders, Long> {
@@ -44,4 +46,30 @@ public interface OrderRepository extends JpaRepository<Orders, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT o FROM Orders o WHERE o.id = :orderId")
     Optional<Orders> findByIdWithLock(@Param("orderId") Long orderId);
+
+    // 주문자 ID 조회 (엔티티를 영속성 컨텍스트에 올리지 않음 - 락 순서상 사용자 락보다 먼저 주문을 읽을 때 사용)
+    @Query("SELECT o.user.id FROM Orders o WHERE o.id = :orderId")
+    Optional<Long> findUserIdById(@Param("orderId") Long orderId);
+
+    // 여러 주문 조회 (비관적 락, id 오름차순으로 한 번에 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Orders o WHERE o.id IN :orderIds ORDER BY o.id ASC")
+    List<Orders> findAllByIdInWithLock(@Param("orderIds") Collection<Long> orderIds);
+
+    // 여러 주문의 주문자 ID 조회 (중복 제거, 사용자 락을 주문 락보다 먼저 잡기 위해 사용)
+    @Query("SELECT DISTINCT o.user.id FROM Orders o WHERE o.id IN :orderIds")
+    List<Long> findUserIdsByIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    // 여러 주문의 주문 ID + 주문자 ID 조회 (락 없이, 일괄 취소에서 사용자별로 묶기 위해 사용)
+    @Query("SELECT o.id AS orderId, o.user.id AS userId FROM Orders o WHERE o.id IN :orderIds")
+    List<OrderOwner> findOwnersByIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * 주문 ID + 주문자 ID
+     */
+    interface OrderOwner {
+        Long getOrderId();
+
+        Long getUserId();
+    }
 }
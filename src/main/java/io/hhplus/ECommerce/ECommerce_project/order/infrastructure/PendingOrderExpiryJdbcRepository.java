@@ -0,0 +1,68 @@
+package io.hhplus.ECommerce.ECommerce_project.order.infrastructure;
+
+import io.hhplus.ECommerce.ECommerce_project.order.domain.enums.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 미결제 주문 만료 배치 JDBC 리포지토리
+ * - 만료 기준 시각 이전에 생성된 PENDING 주문을 (created_at, id) 키셋으로 청크 단위 조회
+ * - 인덱스: idx_orders_status_created (status, created_at) (V10)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PendingOrderExpiryJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 만료 대상 주문 조회 (락 없이)
+     * - after 커서보다 뒤의 (created_at, id)부터 chunkSize건
+     */
+    public List<ExpiryCandidate> findExpiryCandidates(LocalDateTime createdBefore, ExpiryCursor after, int chunkSize) {
+        Timestamp afterCreatedAt = Timestamp.valueOf(after.createdAt());
+
+        return jdbcTemplate.query(
+                """
+                SELECT id, created_at
+                FROM orders
+                WHERE status = ?
+                AND created_at < ?
+                AND (created_at > ? OR (created_at = ? AND id > ?))
+                ORDER BY created_at, id
+                LIMIT ?
+                """,
+                (rs, rowNum) -> new ExpiryCandidate(
+                        rs.getLong("id"),
+                        rs.getTimestamp("created_at").toLocalDateTime()
+                ),
+                OrderStatus.PENDING.name(),
+                Timestamp.valueOf(createdBefore),
+                afterCreatedAt,
+                afterCreatedAt,
+                after.orderId(),
+                chunkSize
+        );
+    }
+
+    /**
+     * 만료 대상 주문
+     */
+    public record ExpiryCandidate(Long orderId, LocalDateTime createdAt) {
+    }
+
+    /**
+     * 키셋 커서 (마지막으로 읽은 주문의 created_at, id)
+     */
+    public record ExpiryCursor(LocalDateTime createdAt, Long orderId) {
+
+        public static ExpiryCursor first() {
+            return new ExpiryCursor(LocalDateTime.of(1970, 1, 1, 0, 0, 1), 0L);
+        }
+    }
+}
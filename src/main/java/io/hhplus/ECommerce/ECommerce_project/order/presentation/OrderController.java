@@ -2,10 +2,12 @@ package io.hhplus.ECommerce.ECommerce_project.order.presentation;
 
 import io.hhplus.ECommerce.ECommerce_project.order.application.*;
 import io.hhplus.ECommerce.ECommerce_project.order.application.command.CancelOrderCommand;
+import io.hhplus.ECommerce.ECommerce_project.order.presentation.request.BulkCancelOrdersRequest;
 import io.hhplus.ECommerce.ECommerce_project.order.presentation.request.CreateOrderFromCartRequest;
 import io.hhplus.ECommerce.ECommerce_project.order.presentation.request.CreateOrderFromProductRequest;
 import io.hhplus.ECommerce.ECommerce_project.order.presentation.request.GetOrderDetailRequest;
 import io.hhplus.ECommerce.ECommerce_project.order.presentation.request.GetOrderListRequest;
+import io.hhplus.ECommerce.ECommerce_project.order.presentation.response.BulkCancelOrdersResponse;
 import io.hhplus.ECommerce.ECommerce_project.order.presentation.response.CreateOrderResponse;
 import io.hhplus.ECommerce.ECommerce_project.order.presentation.response.GetOrderDetailResponse;
 import io.hhplus.ECommerce.ECommerce_project.order.presentation.response.GetOrderListResponse;
@@ -25,6 +27,7 @@ public class OrderController {
     private final GetOrderListUseCase getOrderListUseCase;
     private final GetOrderDetailUseCase getOrderDetailUseCase;
     private final CancelOrderUseCase cancelOrderUseCase;
+    private final BulkCancelOrdersUseCase bulkCancelOrdersUseCase;
 
     /**
      * 장바구니에서 주문 생성
@@ -68,6 +71,7 @@ public class OrderController {
 
         GetOrderListResponse response = GetOrderListResponse.of(
                 result.getOrders(),
+                result.getOrderItemsByOrderId(),
                 result.getPage(),
                 result.getSize(),
                 result.getTotalElements()
@@ -100,4 +104,15 @@ public class OrderController {
         cancelOrderUseCase.execute(command);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * 주문 일괄 취소 (운영자용, 주문별 결과 반환)
+     */
+    @PostMapping("/bulk-cancel")
+    public ResponseEntity<BulkCancelOrdersResponse> bulkCancelOrders(
+            @Valid @RequestBody BulkCancelOrdersRequest request
+    ) {
+        BulkCancelOrdersResponse response = bulkCancelOrdersUseCase.execute(request.toCommand());
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,16 @@
+package io.hhplus.ECommerce.ECommerce_project.order.presentation.request;
+
+import io.hhplus.ECommerce.ECommerce_project.order.application.command.BulkCancelOrdersCommand;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record BulkCancelOrdersRequest(
+        @NotEmpty(message = "취소할 주문 ID 목록은 필수입니다")
+        List<@NotNull(message = "주문 ID는 필수입니다") Long> orderIds
+) {
+    public BulkCancelOrdersCommand toCommand() {
+        return new BulkCancelOrdersCommand(orderIds);
+    }
+}
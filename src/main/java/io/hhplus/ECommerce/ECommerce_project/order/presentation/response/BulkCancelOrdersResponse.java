@@ -0,0 +1,51 @@
+package io.hhplus.ECommerce.ECommerce_project.order.presentation.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 일괄 취소 결과
+ * @param requestedCount 요청한 주문 수 (중복 제외)
+ * @param canceledCount 취소한 주문 수
+ * @param failedCount 취소하지 못한 주문 수
+ * @param restockedQuantity 복구한 재고 수량 합계
+ * @param restockedQuantities 상품 id -> 복구한 재고 수량
+ * @param refundedPoint 환불한 포인트 합계
+ * @param results 주문별 결과 (요청 순서)
+ */
+public record BulkCancelOrdersResponse(
+        int requestedCount,
+        int canceledCount,
+        int failedCount,
+        int restockedQuantity,
+        Map<Long, Integer> restockedQuantities,
+        BigDecimal refundedPoint,
+        List<OrderCancelResult> results
+) {
+
+    /**
+     * 주문별 취소 결과
+     */
+    public record OrderCancelResult(
+            Long orderId,
+            Outcome outcome,
+            String message
+    ) {
+        public static OrderCancelResult canceled(Long orderId) {
+            return new OrderCancelResult(orderId, Outcome.CANCELED, null);
+        }
+
+        public static OrderCancelResult rejected(Long orderId, Outcome outcome, String message) {
+            return new OrderCancelResult(orderId, outcome, message);
+        }
+    }
+
+    public enum Outcome {
+        CANCELED,               // 취소 완료
+        NOT_FOUND,              // 주문 없음
+        INVALID_STATUS,         // 취소할 수 없는 상태 (이미 취소됨 등)
+        PAYMENT_IN_PROGRESS,    // 결제 진행 중 (결제 대행사 호출 중 또는 결과 확인 중)
+        FAILED                  // 복구 실패 (재고 복구 실패 등)
+    }
+}
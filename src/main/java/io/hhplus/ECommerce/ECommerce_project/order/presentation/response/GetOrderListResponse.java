@@ -1,11 +1,14 @@
 package io.hhplus.ECommerce.ECommerce_project.order.presentation.response;
 
+import io.hhplus.ECommerce.ECommerce_project.order.domain.entity.OrderItem;
 import io.hhplus.ECommerce.ECommerce_project.order.domain.entity.Orders;
+import io.hhplus.ECommerce.ECommerce_project.order.domain.enums.OrderItemStatus;
 import io.hhplus.ECommerce.ECommerce_project.order.domain.enums.OrderStatus;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public record GetOrderListResponse(
         List<OrderSummary> orders,
@@ -14,9 +17,9 @@ public record GetOrderListResponse(
         long totalElements,
         int totalPages
 ) {
-    public static GetOrderListResponse of(List<Orders> orders, int page, int size, long totalElements) {
+    public static GetOrderListResponse of(List<Orders> orders, Map<Long, List<OrderItem>> orderItemsByOrderId, int page, int size, long totalElements) {
         List<OrderSummary> orderSummaries = orders.stream()
-                .map(OrderSummary::from)
+                .map(order -> OrderSummary.from(order, orderItemsByOrderId.getOrDefault(order.getId(), List.of())))
                 .toList();
 
         int totalPages = (int) Math.ceil((double) totalElements / size);
@@ -40,9 +43,10 @@ public record GetOrderListResponse(
             BigDecimal finalAmount,
             OrderStatus orderStatus,
             LocalDateTime createdAt,
-            LocalDateTime updatedAt
+            LocalDateTime updatedAt,
+            List<OrderItemSummary> orderItems
     ) {
-        public static OrderSummary from(Orders order) {
+        public static OrderSummary from(Orders order, List<OrderItem> orderItems) {
             return new OrderSummary(
                     order.getId(),
                     order.getUser().getId(),
@@ -53,7 +57,32 @@ public record GetOrderListResponse(
                     order.getFinalAmount(),
                     order.getStatus(),
                     order.getCreatedAt(),
-                    order.getUpdatedAt()
+                    order.getUpdatedAt(),
+                    orderItems.stream()
+                            .map(OrderItemSummary::from)
+                            .toList()
+            );
+        }
+    }
+
+    public record OrderItemSummary(
+            Long orderItemId,
+            Long productId,
+            String productName,
+            Integer quantity,
+            BigDecimal unitPrice,
+            BigDecimal subTotal,
+            OrderItemStatus status
+    ) {
+        public static OrderItemSummary from(OrderItem orderItem) {
+            return new OrderItemSummary(
+                    orderItem.getId(),
+                    orderItem.getProduct().getId(),
+                    orderItem.getProductName(),
+                    orderItem.getQuantity(),
+                    orderItem.getUnitPrice(),
+                    orderItem.getSubTotal(),
+                    orderItem.getStatus()
             );
         }
     }
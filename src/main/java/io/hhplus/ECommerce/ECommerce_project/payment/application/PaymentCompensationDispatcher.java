@@ -0,0 +1,207 @@
+package io.hhplus.ECommerce.ECommerce_project.payment.application;
+
+import io.hhplus.ECommerce.ECommerce_project.order.application.OrderResourceRestorer;
+import io.hhplus.ECommerce.ECommerce_project.order.application.OrderWriteTransaction;
+import io.hhplus.ECommerce.ECommerce_project.payment.infrastructure.PaymentCompensationOutboxJdbcRepository;
+import io.hhplus.ECommerce.ECommerce_project.payment.infrastructure.PaymentCompensationOutboxJdbcRepository.CompensationRecord;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 결제 실패 보상 디스패처
+ *
+ * - 결제 확정 트랜잭션은 결제 실패 + 주문 PAYMENT_FAILED와 함께 아웃박스 행만 기록하고 바로 커밋한다.
+ *   쿠폰/포인트/재고 복구는 이 디스패처가 interval-ms마다 batch-size건씩 묶어서 처리한다.
+ * - 묶음 전체를 트랜잭션 하나로 복구한다. (OrderResourceRestorer가 같은 상품/사용자의 복구량을 합산해 행마다 한 번만 갱신)
+ *   묶음 트랜잭션이 실패하면 원인이 된 주문을 가려내기 위해 한 건씩 다시 처리한다.
+ * - 최소 한 번 처리: 아웃박스 행은 복구와 같은 트랜잭션에서 DONE이 되므로, 복구가 커밋되지 않았으면 행이 남아 다음 실행에서 다시 처리된다.
+ *   복구 트랜잭션 안에서 아웃박스 행을 잠그고 PENDING인 행만 복구하므로 여러 인스턴스가 동시에 실행해도 두 번 복구되지 않는다.
+ * - 실패한 행은 retry-backoff-ms * 2^(시도 횟수 - 1) 뒤에 다시 처리하고, max-attempts를 넘기면 FAILED로 두고 에러 로그를 남긴다.
+ * - 처리 결과는 payment.compensation 카운터(outcome: applied / retry / failed)로 기록
+ */
+@Slf4j
+@Component
+public class PaymentCompensationDispatcher {
+
+    public static final String COUNTER_NAME = "payment.compensation";
+
+    // 쓰기 트랜잭션 타이머 태그 (order.write.transaction)
+    static final String COMPENSATION_TYPE = "payment-compensation";
+
+    private final PaymentCompensationOutboxJdbcRepository outboxRepository;
+    private final OrderResourceRestorer orderResourceRestorer;
+    private final OrderWriteTransaction orderWriteTransaction;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final long leaseMs;
+
+    private final Counter appliedCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+
+    // 이전 실행이 끝나기 전에 다음 실행이 겹치지 않도록 막음
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public PaymentCompensationDispatcher(
+            PaymentCompensationOutboxJdbcRepository outboxRepository,
+            OrderResourceRestorer orderResourceRestorer,
+            OrderWriteTransaction orderWriteTransaction,
+            MeterRegistry meterRegistry,
+            @Value("${ecommerce.payment.compensation.batch-size:50}") int batchSize,
+            @Value("${ecommerce.payment.compensation.max-attempts:5}") int maxAttempts,
+            @Value("${ecommerce.payment.compensation.retry-backoff-ms:1000}") long retryBackoffMs,
+            @Value("${ecommerce.payment.compensation.lease-ms:30000}") long leaseMs
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.orderResourceRestorer = orderResourceRestorer;
+        this.orderWriteTransaction = orderWriteTransaction;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+        this.leaseMs = leaseMs;
+
+        this.appliedCounter = counter(meterRegistry, "applied");
+        this.retryCounter = counter(meterRegistry, "retry");
+        this.failedCounter = counter(meterRegistry, "failed");
+    }
+
+    /**
+     * 주기 실행
+     */
+    @Scheduled(fixedDelayString = "${ecommerce.payment.compensation.interval-ms:1000}")
+    public void scheduledDispatch() {
+        try {
+            dispatch();
+        } catch (RuntimeException e) {
+            log.error("결제 실패 보상 처리 실패, 다음 실행에서 남은 보상부터 다시 처리합니다.", e);
+        }
+    }
+
+    /**
+     * 처리할 차례가 된 보상 한 묶음 처리
+     * 1. 처리할 차례가 된 행 조회 후 선점 (lease-ms 동안 다른 디스패처가 가져가지 않음)
+     * 2. 묶음 전체를 트랜잭션 하나로 복구
+     * 3. 묶음이 실패하면 한 건씩 복구, 실패한 건은 재시도 예약 또는 FAILED
+     * - 이미 실행 중이면 아무것도 하지 않고 빈 결과 반환
+     */
+    public DispatchResult dispatch() {
+        if (!running.compareAndSet(false, true)) {
+            return new DispatchResult(0, 0, 0);
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+
+            // 1. 조회 + 선점
+            List<CompensationRecord> due = outboxRepository.findDue(now, batchSize);
+            List<Long> claimedOrderIds = outboxRepository.claim(due, now, now.plus(Duration.ofMillis(leaseMs)));
+            if (claimedOrderIds.isEmpty()) {
+                return new DispatchResult(0, 0, 0);
+            }
+
+            // 2. 묶음 복구
+            try {
+                int applied = applyInTransaction(claimedOrderIds);
+                appliedCounter.increment(applied);
+                return new DispatchResult(applied, 0, 0);
+            } catch (RuntimeException e) {
+                log.warn("결제 실패 보상 묶음 처리 실패, 한 건씩 다시 처리합니다. - 주문 수: {}, 원인: {}",
+                        claimedOrderIds.size(), e.getMessage());
+            }
+
+            // 3. 한 건씩 복구
+            Map<Long, CompensationRecord> recordsByOrderId = due.stream()
+                    .collect(Collectors.toMap(CompensationRecord::orderId, Function.identity()));
+            int applied = 0;
+            int retried = 0;
+            int failed = 0;
+            for (Long orderId : claimedOrderIds) {
+                try {
+                    applied += applyInTransaction(List.of(orderId));
+                } catch (RuntimeException e) {
+                    if (recordFailure(recordsByOrderId.get(orderId), e, now)) {
+                        failed++;
+                    } else {
+                        retried++;
+                    }
+                }
+            }
+
+            appliedCounter.increment(applied);
+            retryCounter.increment(retried);
+            failedCounter.increment(failed);
+            return new DispatchResult(applied, retried, failed);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 복구 트랜잭션 (아직 PENDING인 행만 복구하고 같은 트랜잭션에서 DONE 처리)
+     * @return 복구한 주문 수
+     */
+    private int applyInTransaction(Collection<Long> orderIds) {
+        return orderWriteTransaction.execute(COMPENSATION_TYPE, () -> {
+            List<Long> pendingOrderIds = outboxRepository.lockPending(orderIds);
+            if (pendingOrderIds.isEmpty()) {
+                return 0;
+            }
+
+            orderResourceRestorer.restore(pendingOrderIds);
+            outboxRepository.markDone(pendingOrderIds, LocalDateTime.now());
+            return pendingOrderIds.size();
+        });
+    }
+
+    /**
+     * 실패 기록 (재시도 대기 시간은 시도 횟수마다 두 배)
+     * @return 재시도 횟수를 모두 써서 FAILED로 처리했으면 true
+     */
+    private boolean recordFailure(CompensationRecord record, RuntimeException e, LocalDateTime now) {
+        int attempts = record.attempts() + 1;
+        boolean giveUp = attempts >= maxAttempts;
+        long backoffMs = retryBackoffMs << Math.min(attempts - 1, 20);
+
+        outboxRepository.recordFailure(record.orderId(), attempts, now.plus(Duration.ofMillis(backoffMs)),
+                e.getMessage(), giveUp, now);
+
+        if (giveUp) {
+            log.error("결제 실패 보상 재시도 횟수 초과, 수동 처리가 필요합니다. - 주문 ID: {}, 결제 ID: {}, 시도: {}",
+                    record.orderId(), record.paymentId(), attempts, e);
+        } else {
+            log.warn("결제 실패 보상 실패, 재시도 예정 - 주문 ID: {}, 시도: {}/{}, 원인: {}",
+                    record.orderId(), attempts, maxAttempts, e.getMessage());
+        }
+        return giveUp;
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(COUNTER_NAME)
+                .description("결제 실패 보상 처리 건수")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 보상 처리 결과
+     * @param applied 복구한 주문 수
+     * @param retried 실패해 재시도를 예약한 주문 수
+     * @param failed 재시도 횟수를 넘겨 FAILED로 둔 주문 수
+     */
+    public record DispatchResult(int applied, int retried, int failed) {
+    }
+}
@@ -0,0 +1,72 @@
+package io.hhplus.ECommerce.ECommerce_project.payment.application;
+
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.PaymentException;
+import io.hhplus.ECommerce.ECommerce_project.order.application.OrderResourceLocker;
+import io.hhplus.ECommerce.ECommerce_project.order.domain.entity.Orders;
+import io.hhplus.ECommerce.ECommerce_project.payment.application.PaymentGateway.PaymentGatewayResult;
+import io.hhplus.ECommerce.ECommerce_project.payment.domain.entity.Payment;
+import io.hhplus.ECommerce.ECommerce_project.payment.domain.enums.PaymentStatus;
+import io.hhplus.ECommerce.ECommerce_project.payment.infrastructure.PaymentCompensationOutboxJdbcRepository;
+import io.hhplus.ECommerce.ECommerce_project.payment.infrastructure.PaymentRepository;
+import io.hhplus.ECommerce.ECommerce_project.payment.presentation.response.CreatePaymentResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 확정 (결제 대행사의 확정된 결과를 결제/주문에 반영)
+ *
+ * - 승인이면 결제 완료 + 주문 PAID, 거절이면 결제 실패 + 주문 PAYMENT_FAILED + 보상 아웃박스 기록
+ * - 결과를 알 수 없는(UNKNOWN) 결과는 반영하지 않는다. (PaymentReconciler가 승인 여부를 조회해 확정한 뒤 호출)
+ * - 요청 스레드(CreatePaymentUseCase)와 PaymentReconciler가 같은 결제를 확정할 수 있으므로,
+ *   주문 행을 먼저 잠근 뒤 결제를 읽어 아직 PENDING인 경우만 반영한다. (이미 확정됐으면 그대로 반환)
+ * - 호출하는 쪽의 쓰기 트랜잭션 안에서만 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentFinalizer {
+
+    private final PaymentRepository paymentRepository;
+    private final OrderResourceLocker orderResourceLocker;
+    private final PaymentCompensationOutboxJdbcRepository paymentCompensationOutboxRepository;
+
+    /**
+     * 결제 확정
+     * 1. 주문 행 잠금 후 결제 조회 (리소스 복구는 보상 디스패처가 하므로 사용자 행은 잠그지 않음)
+     * 2. 승인: 결제 완료 + 주문 PAID
+     * 3. 거절: 결제 실패 + 주문 PAYMENT_FAILED + 보상 아웃박스 기록
+     */
+    public CreatePaymentResponse finalizePayment(Long orderId, Long paymentId, PaymentGatewayResult result) {
+        if (result.status() == PaymentGateway.Status.UNKNOWN) {
+            throw new IllegalArgumentException("결과를 알 수 없는 결제는 확정할 수 없습니다. (paymentId: " + paymentId + ")");
+        }
+
+        // 1. 주문 행 잠금 -> 결제 조회 (잠근 뒤에 읽어야 다른 쪽이 확정한 결과를 봄)
+        OrderResourceLocker.Session locks = orderResourceLocker.begin();
+        Orders order = locks.lockOrder(orderId);
+        Payment payment = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new PaymentException(ErrorCode.PAYMENT_NOT_FOUND));
+        if (payment.getPaymentStatus() != PaymentStatus.PENDING) {
+            return CreatePaymentResponse.from(payment, order);
+        }
+
+        // 2. 승인
+        if (result.isApproved()) {
+            payment.complete(result.transactionId());
+            order.paid();
+            return CreatePaymentResponse.from(payment, order);
+        }
+
+        // 3. 거절 / 호출 불가
+        payment.fail(result.failureReason());
+        order.paymentFailed();
+
+        // Saga 패턴: 주문 생성 시 차감한 리소스 복구(보상)는 아웃박스에 기록만 하고 같은 트랜잭션으로 커밋
+        // (PaymentCompensationDispatcher가 커밋된 기록을 묶어서 복구)
+        paymentCompensationOutboxRepository.insert(order.getId(), payment.getId(), LocalDateTime.now());
+
+        return CreatePaymentResponse.from(payment, order);
+    }
+}
@@ -0,0 +1,71 @@
+package io.hhplus.ECommerce.ECommerce_project.payment.application;
+
+import io.hhplus.ECommerce.ECommerce_project.payment.domain.enums.PaymentMethod;
+
+import java.math.BigDecimal;
+
+/**
+ * 결제 대행사(PG) 연동
+ * - 구현체는 네트워크 호출을 하므로 트랜잭션/행 락을 잡은 채로 호출하지 않는다. (PaymentGatewayClient를 통해서만 호출)
+ * - 같은 paymentId로 다시 요청하면 같은 결과를 돌려줘야 한다. (오류 후 재시도해도 이중 승인되지 않음)
+ * - 거절은 결과로 돌려주고, 네트워크 오류 등 일시적인 실패는 예외로 던진다. (예외만 재시도 대상)
+ * - 응답을 받지 못한 승인 요청(타임아웃)은 결과를 알 수 없으므로 inquire로 승인 여부를 조회해 확정한다.
+ */
+public interface PaymentGateway {
+
+    PaymentGatewayResult approve(PaymentGatewayRequest request);
+
+    /**
+     * 승인 여부 조회 (결과를 알 수 없는 결제 확정용)
+     * - 승인된 결제면 APPROVED(승인 번호), 거절됐거나 승인 기록이 없으면 DECLINED
+     * - 승인 기록이 없다고 응답한 결제 ID는 이후 승인 요청이 도착해도 승인하지 않아야 한다. (조회 결과가 뒤집히지 않음)
+     */
+    PaymentGatewayResult inquire(PaymentGatewayRequest request);
+
+    /**
+     * 승인 요청
+     */
+    record PaymentGatewayRequest(
+            Long paymentId,
+            Long orderId,
+            BigDecimal amount,
+            PaymentMethod paymentMethod
+    ) {
+    }
+
+    /**
+     * 승인 결과
+     */
+    record PaymentGatewayResult(
+            Status status,
+            String transactionId,
+            String failureReason
+    ) {
+        public static PaymentGatewayResult approved(String transactionId) {
+            return new PaymentGatewayResult(Status.APPROVED, transactionId, null);
+        }
+
+        public static PaymentGatewayResult declined(String reason) {
+            return new PaymentGatewayResult(Status.DECLINED, null, reason);
+        }
+
+        public static PaymentGatewayResult unavailable(String reason) {
+            return new PaymentGatewayResult(Status.UNAVAILABLE, null, reason);
+        }
+
+        public static PaymentGatewayResult unknown(String reason) {
+            return new PaymentGatewayResult(Status.UNKNOWN, null, reason);
+        }
+
+        public boolean isApproved() {
+            return status == Status.APPROVED;
+        }
+    }
+
+    enum Status {
+        APPROVED,       // 승인
+        DECLINED,       // 결제 대행사가 거절 (재시도하지 않음)
+        UNAVAILABLE,    // 대행사에 요청을 보내지 못함 (서킷 열림, 대기열 가득 참) - 승인되지 않았음이 확실
+        UNKNOWN         // 요청을 보냈지만 결과를 알 수 없음 (타임아웃, 오류, 중단) - 조회로 확정할 때까지 결제 PENDING 유지
+    }
+}
@@ -0,0 +1,281 @@
+package io.hhplus.ECommerce.ECommerce_project.payment.application;
+
+import io.hhplus.ECommerce.ECommerce_project.payment.application.PaymentGateway.PaymentGatewayRequest;
+import io.hhplus.ECommerce.ECommerce_project.payment.application.PaymentGateway.PaymentGatewayResult;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 결제 대행사 호출기
+ *
+ * - 결제 대행사 호출은 크기가 제한된 전용 스레드 풀(pool-size, queue-capacity)에서 실행한다.
+ *   대행사가 느려져도 요청 스레드 전체가 묶이지 않고, 풀/큐가 가득 차면 바로 UNAVAILABLE로 돌려준다.
+ * - 대행사가 오류(예외)로 응답하면 retry-backoff-ms * 시도 횟수만큼 쉰 뒤 max-attempts까지 재시도한다.
+ *   (이전 호출이 끝난 뒤 같은 결제 ID로 재요청하므로 대행사 쪽에서 이중 승인되지 않음)
+ * - call-timeout-ms 안에 응답이 없으면 대행사가 아직 처리 중일 수 있으므로 재시도하지 않고 UNKNOWN으로 돌려준다.
+ *   (취소한 요청과 재요청이 동시에 처리되지 않도록, 확정은 PaymentReconciler가 승인 여부 조회로 한다)
+ * - 요청을 한 번이라도 보낸 뒤의 실패는 UNKNOWN, 한 번도 보내지 못한 실패(서킷 열림, 대기열 가득 참)만 UNAVAILABLE이다.
+ * - 서킷 브레이커: 연속 failure-threshold번 실패하면 open-duration-ms 동안 대행사를 호출하지 않고 바로 UNAVAILABLE,
+ *   이후 한 건만 시험 호출해 성공하면 닫고 실패하면 다시 연다.
+ * - 거절(DECLINED)은 대행사가 정상 응답한 것이므로 재시도하지 않고 서킷에는 성공으로 센다.
+ */
+@Slf4j
+@Component
+public class PaymentGatewayClient {
+
+    public static final String TIMER_NAME = "payment.gateway.call";
+    public static final String CIRCUIT_GAUGE_NAME = "payment.gateway.circuit.open";
+
+    private final PaymentGateway paymentGateway;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+    private final long callTimeoutMs;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final CircuitBreaker circuitBreaker;
+
+    public PaymentGatewayClient(
+            PaymentGateway paymentGateway,
+            MeterRegistry meterRegistry,
+            @Value("${ecommerce.payment.gateway.pool-size:32}") int poolSize,
+            @Value("${ecommerce.payment.gateway.queue-capacity:256}") int queueCapacity,
+            @Value("${ecommerce.payment.gateway.call-timeout-ms:2000}") long callTimeoutMs,
+            @Value("${ecommerce.payment.gateway.max-attempts:3}") int maxAttempts,
+            @Value("${ecommerce.payment.gateway.retry-backoff-ms:100}") long retryBackoffMs,
+            @Value("${ecommerce.payment.gateway.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${ecommerce.payment.gateway.circuit.open-duration-ms:10000}") long openDurationMs
+    ) {
+        this.paymentGateway = paymentGateway;
+        this.meterRegistry = meterRegistry;
+        this.callTimeoutMs = callTimeoutMs;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openDurationMs);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "payment-gateway-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        Gauge.builder(CIRCUIT_GAUGE_NAME, circuitBreaker, breaker -> breaker.isOpen() ? 1 : 0)
+                .description("결제 대행사 서킷 브레이커 열림 여부 (1: 열림)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 승인 요청 (트랜잭션 밖에서 호출)
+     */
+    public PaymentGatewayResult approve(PaymentGatewayRequest request) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        PaymentGatewayResult result = callWithRetry(request);
+
+        sample.stop(Timer.builder(TIMER_NAME)
+                .description("결제 대행사 호출 시간 (재시도 포함)")
+                .tag("outcome", result.status().name().toLowerCase())
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry));
+        return result;
+    }
+
+    /**
+     * 승인 여부 조회 (트랜잭션 밖에서 호출)
+     * - 결과를 확정하려는 조회이므로 서킷과 관계없이 한 번 호출하고, 타임아웃/오류면 UNKNOWN (다음 대사 주기에 다시 조회)
+     */
+    public PaymentGatewayResult inquire(PaymentGatewayRequest request) {
+        Future<PaymentGatewayResult> future;
+        try {
+            future = executor.submit(() -> paymentGateway.inquire(request));
+        } catch (RejectedExecutionException e) {
+            return PaymentGatewayResult.unknown("결제 대행사 호출 대기열이 가득 찼습니다.");
+        }
+
+        try {
+            return future.get(callTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            return PaymentGatewayResult.unknown("결제 대행사 조회 응답 시간 초과 (" + callTimeoutMs + "ms)");
+        } catch (ExecutionException e) {
+            return PaymentGatewayResult.unknown("결제 대행사 조회 오류: " + e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return PaymentGatewayResult.unknown("결제 대행사 조회 대기 중 중단되었습니다.");
+        }
+    }
+
+    /**
+     * 서킷 브레이커 열림 여부
+     */
+    public boolean isCircuitOpen() {
+        return circuitBreaker.isOpen();
+    }
+
+    /**
+     * 1. 서킷이 열려 있으면 호출하지 않음
+     * 2. 전용 스레드 풀에서 호출, call-timeout-ms 초과 시 취소하고 재시도 없이 UNKNOWN
+     * 3. 오류면 서킷에 실패를 기록하고 재시도 (서킷이 열리면 중단)
+     */
+    private PaymentGatewayResult callWithRetry(PaymentGatewayRequest request) {
+        String lastFailure = null;
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            // 1. 서킷 확인
+            if (!circuitBreaker.tryAcquire()) {
+                return lastFailure == null
+                        ? PaymentGatewayResult.unavailable("결제 대행사 서킷이 열려 있습니다.")
+                        : PaymentGatewayResult.unknown(lastFailure + " (서킷 열림으로 재시도 중단)");
+            }
+
+            // 2. 호출
+            Future<PaymentGatewayResult> future;
+            try {
+                future = executor.submit(() -> paymentGateway.approve(request));
+            } catch (RejectedExecutionException e) {
+                circuitBreaker.release();
+                return lastFailure == null
+                        ? PaymentGatewayResult.unavailable("결제 대행사 호출 대기열이 가득 찼습니다.")
+                        : PaymentGatewayResult.unknown(lastFailure + " (대기열 가득 참으로 재시도 중단)");
+            }
+
+            try {
+                PaymentGatewayResult result = future.get(callTimeoutMs, TimeUnit.MILLISECONDS);
+                circuitBreaker.onSuccess();
+                return result;
+            } catch (TimeoutException e) {
+                // 대행사가 아직 처리 중일 수 있으므로 재시도하지 않음
+                future.cancel(true);
+                circuitBreaker.onFailure();
+                log.warn("결제 대행사 응답 시간 초과, 결과 조회로 확정 - paymentId: {}, 시도: {}/{}",
+                        request.paymentId(), attempt, maxAttempts);
+                return PaymentGatewayResult.unknown("결제 대행사 응답 시간 초과 (" + callTimeoutMs + "ms)");
+            } catch (ExecutionException e) {
+                lastFailure = "결제 대행사 호출 오류: " + e.getCause().getMessage();
+            } catch (InterruptedException e) {
+                future.cancel(true);
+                circuitBreaker.release();
+                Thread.currentThread().interrupt();
+                return PaymentGatewayResult.unknown("결제 대행사 호출 대기 중 중단되었습니다.");
+            }
+
+            // 3. 실패 기록 후 재시도
+            circuitBreaker.onFailure();
+            log.warn("결제 대행사 호출 실패 - paymentId: {}, 시도: {}/{}, 원인: {}",
+                    request.paymentId(), attempt, maxAttempts, lastFailure);
+
+            if (attempt < maxAttempts && !sleepBeforeRetry(attempt)) {
+                break;
+            }
+        }
+
+        return PaymentGatewayResult.unknown(lastFailure);
+    }
+
+    private boolean sleepBeforeRetry(int attempt) {
+        try {
+            Thread.sleep(retryBackoffMs * attempt);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 연속 실패 횟수 기반 서킷 브레이커
+     * - CLOSED: 모두 통과, 연속 실패가 임계치에 닿으면 OPEN
+     * - OPEN: open-duration-ms 동안 모두 거부, 이후 HALF_OPEN
+     * - HALF_OPEN: 시험 호출 한 건만 통과 (성공 -> CLOSED, 실패 -> OPEN)
+     */
+    static class CircuitBreaker {
+
+        private enum State {
+            CLOSED,
+            OPEN,
+            HALF_OPEN
+        }
+
+        private final int failureThreshold;
+        private final long openDurationNanos;
+
+        private State state = State.CLOSED;
+        private int consecutiveFailures;
+        private long openedAt;
+        private boolean trialInFlight;
+
+        CircuitBreaker(int failureThreshold, long openDurationMs) {
+            this.failureThreshold = failureThreshold;
+            this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMs);
+        }
+
+        synchronized boolean tryAcquire() {
+            if (state == State.OPEN && System.nanoTime() - openedAt >= openDurationNanos) {
+                state = State.HALF_OPEN;
+                trialInFlight = false;
+            }
+
+            return switch (state) {
+                case CLOSED -> true;
+                case OPEN -> false;
+                case HALF_OPEN -> {
+                    if (trialInFlight) {
+                        yield false;
+                    }
+                    trialInFlight = true;
+                    yield true;
+                }
+            };
+        }
+
+        synchronized void onSuccess() {
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+            trialInFlight = false;
+        }
+
+        synchronized void onFailure() {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                state = State.OPEN;
+                openedAt = System.nanoTime();
+                trialInFlight = false;
+            }
+        }
+
+        /**
+         * 호출하지 못하고 끝난 경우 시험 호출 자리 반납
+         */
+        synchronized void release() {
+            trialInFlight = false;
+        }
+
+        synchronized boolean isOpen() {
+            return state == State.OPEN;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package io.hhplus.ECommerce.ECommerce_project.payment.application;
+
+import io.hhplus.ECommerce.ECommerce_project.order.application.OrderWriteTransaction;
+import io.hhplus.ECommerce.ECommerce_project.payment.application.PaymentGateway.PaymentGatewayRequest;
+import io.hhplus.ECommerce.ECommerce_project.payment.application.PaymentGateway.PaymentGatewayResult;
+import io.hhplus.ECommerce.ECommerce_project.payment.domain.entity.Payment;
+import io.hhplus.ECommerce.ECommerce_project.payment.domain.enums.PaymentStatus;
+import io.hhplus.ECommerce.ECommerce_project.payment.infrastructure.PaymentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 결제 대사 (오래된 PENDING 결제 확정)
+ *
+ * - 결제가 PENDING으로 남는 경우: 결제 대행사 타임아웃 등으로 결과를 알 수 없음(UNKNOWN),
+ *   준비 트랜잭션과 확정 트랜잭션 사이에 프로세스가 종료됨, 확정 트랜잭션이 실패함
+ * - PENDING인 동안 주문은 결제/취소/만료가 모두 막히므로, 생성된 지 stale-after-ms가 지난 PENDING 결제를
+ *   interval-ms마다 batch-size건씩 결제 대행사에 승인 여부를 조회해 확정한다.
+ *   (stale-after-ms는 요청 스레드의 대행사 호출 + 확정이 끝날 수 있는 시간보다 길게 설정)
+ * - 승인이면 결제 완료 + 주문 PAID, 승인 기록이 없거나 거절이면 결제 실패 + 보상 아웃박스 기록 (PaymentFinalizer)
+ *   조회도 실패하면(UNKNOWN) 그대로 두고 다음 실행에서 다시 조회한다.
+ * - 처리 결과는 payment.reconciliation 카운터(outcome: approved / failed / unknown)로 기록
+ */
+@Slf4j
+@Component
+public class PaymentReconciler {
+
+    public static final String COUNTER_NAME = "payment.reconciliation";
+
+    // 쓰기 트랜잭션 타이머 태그 (order.write.transaction)
+    static final String RECONCILE_TYPE = "payment-reconcile";
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentGatewayClient paymentGatewayClient;
+    private final PaymentFinalizer paymentFinalizer;
+    private final OrderWriteTransaction orderWriteTransaction;
+    private final Duration staleAfter;
+    private final int batchSize;
+
+    private final Counter approvedCounter;
+    private final Counter failedCounter;
+    private final Counter unknownCounter;
+
+    // 이전 실행이 끝나기 전에 다음 실행이 겹치지 않도록 막음
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public PaymentReconciler(
+            PaymentRepository paymentRepository,
+            PaymentGatewayClient paymentGatewayClient,
+            PaymentFinalizer paymentFinalizer,
+            OrderWriteTransaction orderWriteTransaction,
+            MeterRegistry meterRegistry,
+            @Value("${ecommerce.payment.reconciliation.stale-after-ms:60000}") long staleAfterMs,
+            @Value("${ecommerce.payment.reconciliation.batch-size:100}") int batchSize
+    ) {
+        this.paymentRepository = paymentRepository;
+        this.paymentGatewayClient = paymentGatewayClient;
+        this.paymentFinalizer = paymentFinalizer;
+        this.orderWriteTransaction = orderWriteTransaction;
+        this.staleAfter = Duration.ofMillis(staleAfterMs);
+        this.batchSize = batchSize;
+
+        this.approvedCounter = counter(meterRegistry, "approved");
+        this.failedCounter = counter(meterRegistry, "failed");
+        this.unknownCounter = counter(meterRegistry, "unknown");
+    }
+
+    /**
+     * 주기 실행
+     */
+    @Scheduled(fixedDelayString = "${ecommerce.payment.reconciliation.interval-ms:10000}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.error("결제 대사 실패, 다음 실행에서 다시 처리합니다.", e);
+        }
+    }
+
+    /**
+     * 오래된 PENDING 결제 한 묶음 확정
+     * 1. 생성된 지 stale-after-ms가 지난 PENDING 결제 조회 (오래된 순)
+     * 2. 결제마다 결제 대행사에 승인 여부 조회 (트랜잭션 밖)
+     * 3. 확정된 결과만 쓰기 트랜잭션에서 반영 (주문 행 잠금 후 아직 PENDING인 경우만)
+     * - 이미 실행 중이면 아무것도 하지 않고 빈 결과 반환
+     */
+    public ReconcileResult reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            return new ReconcileResult(0, 0, 0);
+        }
+
+        try {
+            // 1. 조회
+            List<Payment> stalePayments = paymentRepository.findByPaymentStatusAndCreatedAtBeforeOrderByCreatedAtAsc(
+                    PaymentStatus.PENDING, LocalDateTime.now().minus(staleAfter), Limit.of(batchSize));
+
+            int approved = 0;
+            int failed = 0;
+            int unknown = 0;
+            for (Payment payment : stalePayments) {
+                PaymentGatewayRequest request = new PaymentGatewayRequest(
+                        payment.getId(), payment.getOrder().getId(), payment.getAmount(), payment.getPaymentMethod());
+
+                // 2. 승인 여부 조회
+                PaymentGatewayResult result = paymentGatewayClient.inquire(request);
+                if (result.status() == PaymentGateway.Status.UNKNOWN) {
+                    log.warn("결제 대사 조회 실패, 다음 실행에서 다시 조회 - 결제 ID: {}, 원인: {}",
+                            payment.getId(), result.failureReason());
+                    unknown++;
+                    continue;
+                }
+
+                // 3. 반영
+                try {
+                    orderWriteTransaction.execute(RECONCILE_TYPE,
+                            () -> paymentFinalizer.finalizePayment(request.orderId(), request.paymentId(), result));
+                } catch (RuntimeException e) {
+                    log.warn("결제 대사 반영 실패, 다음 실행에서 다시 처리 - 결제 ID: {}, 원인: {}",
+                            payment.getId(), e.getMessage());
+                    unknown++;
+                    continue;
+                }
+
+                if (result.isApproved()) {
+                    approved++;
+                } else {
+                    failed++;
+                }
+                log.info("결제 대사 확정 - 결제 ID: {}, 결과: {}", payment.getId(), result.status());
+            }
+
+            approvedCounter.increment(approved);
+            failedCounter.increment(failed);
+            unknownCounter.increment(unknown);
+            return new ReconcileResult(approved, failed, unknown);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(COUNTER_NAME)
+                .description("PENDING 결제 대사 처리 건수")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대사 결과
+     * @param approved 승인으로 확정한 결제 수
+     * @param failed 실패로 확정한 결제 수 (보상 아웃박스 기록)
+     * @param unknown 조회/반영에 실패해 PENDING으로 남긴 결제 수
+     */
+    public record ReconcileResult(int approved, int failed, int unknown) {
+    }
+}
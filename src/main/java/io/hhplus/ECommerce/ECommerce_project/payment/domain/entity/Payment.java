@@ -42,7 +42,9 @@ public class Payment extends BaseEntity {
     @Column(name = "payment_status", nullable = false)
     private PaymentStatus paymentStatus;    // PENDING, COMPLETED, FAILED, REFUNDED
 
-    //private String transactionId;
+    @Column(name = "transaction_id", length = 100)
+    private String transactionId;           // 결제 대행사 승인 번호
+
     //private String pgProvider;
 
     @Column(name = "failure_reason", columnDefinition = "TEXT")
@@ -77,6 +79,7 @@ public class Payment extends BaseEntity {
             PaymentType.PAYMENT,
             paymentMethod,
             PaymentStatus.PENDING,
+            null,  // transactionId
             null,  // failureReason
             null,   // createdAt
             null,   // updatedAt
@@ -102,6 +105,7 @@ public class Payment extends BaseEntity {
             null,
             null,
             null,
+            null,
             null
         );
     }
@@ -129,6 +133,14 @@ public class Payment extends BaseEntity {
         this.completedAt = now;
     }
 
+    /**
+     * 결제 대행사 승인 결과로 결제 완료 처리
+     */
+    public void complete(String transactionId) {
+        complete();
+        this.transactionId = transactionId;
+    }
+
     /**
      * 결제 실패 처리
      */
@@ -0,0 +1,57 @@
+package io.hhplus.ECommerce.ECommerce_project.payment.infrastructure;
+
+import io.hhplus.ECommerce.ECommerce_project.payment.application.PaymentGateway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로컬 결제 대행사 스텁 (ecommerce.payment.gateway.type=LOCAL, 기본값)
+ * - 실제 외부 호출 대신 latency-ms만큼 대기한 뒤 항상 승인한다. (결제 대행사 지연이 락 보유 시간에 미치는 영향 확인용)
+ * - 같은 결제 ID로 다시 요청하면 처음 발급한 승인 번호를 돌려준다.
+ * - 승인 기록이 없는 결제 ID를 조회하면 무효 처리해 이후 승인 요청을 거절한다.
+ */
+@Component
+@ConditionalOnProperty(name = "ecommerce.payment.gateway.type", havingValue = "LOCAL", matchIfMissing = true)
+public class LocalPaymentGateway implements PaymentGateway {
+
+    private static final String VOIDED = "VOIDED";
+
+    private final long latencyMs;
+    private final Map<Long, String> transactionIds = new ConcurrentHashMap<>();
+
+    public LocalPaymentGateway(@Value("${ecommerce.payment.gateway.local.latency-ms:0}") long latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+
+    @Override
+    public PaymentGatewayResult approve(PaymentGatewayRequest request) {
+        if (latencyMs > 0) {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("결제 대행사 호출이 중단되었습니다.", e);
+            }
+        }
+
+        String transactionId = transactionIds.computeIfAbsent(request.paymentId(), paymentId -> "LOCAL-" + UUID.randomUUID());
+        if (VOIDED.equals(transactionId)) {
+            return PaymentGatewayResult.declined("조회 후 무효 처리된 결제입니다.");
+        }
+        return PaymentGatewayResult.approved(transactionId);
+    }
+
+    @Override
+    public PaymentGatewayResult inquire(PaymentGatewayRequest request) {
+        String transactionId = transactionIds.computeIfAbsent(request.paymentId(), paymentId -> VOIDED);
+        if (VOIDED.equals(transactionId)) {
+            return PaymentGatewayResult.declined("결제 대행사에 승인 기록이 없습니다.");
+        }
+        return PaymentGatewayResult.approved(transactionId);
+    }
+}
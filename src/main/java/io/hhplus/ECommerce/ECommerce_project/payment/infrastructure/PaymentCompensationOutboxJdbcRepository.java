@@ -0,0 +1,188 @@
+package io.hhplus.ECommerce.ECommerce_project.payment.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 결제 실패 보상 아웃박스 JDBC 리포지토리 (payment_compensation_outbox)
+ * - insert는 결제 확정 트랜잭션 안에서, lockPending/markDone은 보상 트랜잭션 안에서 호출해 각 트랜잭션과 함께 커밋된다.
+ * - findDue/claim/recordFailure는 트랜잭션 밖에서 단건으로 바로 커밋된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaymentCompensationOutboxJdbcRepository {
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_DONE = "DONE";
+    public static final String STATUS_FAILED = "FAILED";
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 보상 기록 (결제 확정 트랜잭션 안에서 호출)
+     */
+    public void insert(Long orderId, Long paymentId, LocalDateTime now) {
+        jdbcTemplate.update(
+                "INSERT INTO payment_compensation_outbox (order_id, payment_id, status, attempts, next_attempt_at, created_at) " +
+                        "VALUES (?, ?, ?, 0, ?, ?)",
+                orderId,
+                paymentId,
+                STATUS_PENDING,
+                Timestamp.valueOf(now),
+                Timestamp.valueOf(now)
+        );
+    }
+
+    /**
+     * 처리할 차례가 된 보상 조회 (락 없이, 최대 limit건)
+     */
+    public List<CompensationRecord> findDue(LocalDateTime now, int limit) {
+        return jdbcTemplate.query(
+                "SELECT order_id, payment_id, status, attempts, next_attempt_at FROM payment_compensation_outbox " +
+                        "WHERE status = ? AND next_attempt_at <= ? ORDER BY next_attempt_at, order_id LIMIT ?",
+                (rs, rowNum) -> new CompensationRecord(
+                        rs.getLong("order_id"),
+                        rs.getLong("payment_id"),
+                        rs.getString("status"),
+                        rs.getInt("attempts"),
+                        rs.getTimestamp("next_attempt_at").toLocalDateTime()
+                ),
+                STATUS_PENDING,
+                Timestamp.valueOf(now),
+                limit
+        );
+    }
+
+    /**
+     * 보상 선점 (next_attempt_at을 leaseUntil로 미뤄 다른 디스패처가 같은 행을 가져가지 않게 함)
+     * - 조회 이후 다른 디스패처가 먼저 가져간 행은 제외
+     * @return 선점한 주문 ID
+     */
+    public List<Long> claim(List<CompensationRecord> records, LocalDateTime now, LocalDateTime leaseUntil) {
+        if (records.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        int[] updated = jdbcTemplate.batchUpdate(
+                "UPDATE payment_compensation_outbox SET next_attempt_at = ? " +
+                        "WHERE order_id = ? AND status = ? AND next_attempt_at <= ?",
+                records.stream()
+                        .map(record -> new Object[]{
+                                Timestamp.valueOf(leaseUntil),
+                                record.orderId(),
+                                STATUS_PENDING,
+                                Timestamp.valueOf(now)
+                        })
+                        .toList()
+        );
+
+        List<Long> claimed = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] != 0) {
+                claimed.add(records.get(i).orderId());
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * 아직 처리되지 않은 보상 잠금 (보상 트랜잭션 안에서 호출, order_id 오름차순)
+     * - 선점 기한이 지나 다른 디스패처가 같은 행을 처리 중이면 그 트랜잭션이 끝날 때까지 대기하고,
+     *   이미 DONE이 된 행은 제외되므로 같은 주문이 두 번 복구되지 않는다.
+     */
+    public List<Long> lockPending(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(orderIds.size(), "?"));
+        List<Object> params = new ArrayList<>(orderIds);
+        params.add(STATUS_PENDING);
+
+        return jdbcTemplate.queryForList(
+                "SELECT order_id FROM payment_compensation_outbox WHERE order_id IN (" + placeholders + ") AND status = ? " +
+                        "ORDER BY order_id FOR UPDATE",
+                Long.class,
+                params.toArray()
+        );
+    }
+
+    /**
+     * 보상 완료 처리 (보상 트랜잭션 안에서 호출)
+     */
+    public void markDone(Collection<Long> orderIds, LocalDateTime now) {
+        jdbcTemplate.batchUpdate(
+                "UPDATE payment_compensation_outbox SET status = ?, attempts = attempts + 1, last_error = NULL, processed_at = ? " +
+                        "WHERE order_id = ? AND status = ?",
+                orderIds.stream()
+                        .map(orderId -> new Object[]{STATUS_DONE, Timestamp.valueOf(now), orderId, STATUS_PENDING})
+                        .toList()
+        );
+    }
+
+    /**
+     * 보상 실패 기록
+     * - 재시도 횟수가 남았으면 nextAttemptAt 이후 다시 처리, 남지 않았으면 FAILED로 처리 중단
+     */
+    public void recordFailure(Long orderId, int attempts, LocalDateTime nextAttemptAt, String error, boolean giveUp, LocalDateTime now) {
+        jdbcTemplate.update(
+                "UPDATE payment_compensation_outbox SET status = ?, attempts = ?, next_attempt_at = ?, last_error = ?, processed_at = ? " +
+                        "WHERE order_id = ? AND status = ?",
+                giveUp ? STATUS_FAILED : STATUS_PENDING,
+                attempts,
+                Timestamp.valueOf(nextAttemptAt),
+                truncate(error),
+                giveUp ? Timestamp.valueOf(now) : null,
+                orderId,
+                STATUS_PENDING
+        );
+    }
+
+    /**
+     * 주문 ID로 조회
+     */
+    public Optional<CompensationRecord> findByOrderId(Long orderId) {
+        List<CompensationRecord> records = jdbcTemplate.query(
+                "SELECT order_id, payment_id, status, attempts, next_attempt_at FROM payment_compensation_outbox WHERE order_id = ?",
+                (rs, rowNum) -> new CompensationRecord(
+                        rs.getLong("order_id"),
+                        rs.getLong("payment_id"),
+                        rs.getString("status"),
+                        rs.getInt("attempts"),
+                        rs.getTimestamp("next_attempt_at").toLocalDateTime()
+                ),
+                orderId
+        );
+        return records.stream().findFirst();
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    /**
+     * 보상 아웃박스 행
+     */
+    public record CompensationRecord(
+            Long orderId,
+            Long paymentId,
+            String status,
+            int attempts,
+            LocalDateTime nextAttemptAt
+    ) {
+    }
+}
@@ -1,12 +1,30 @@
 package io.hhplus.ECommerce.ECommerce_project.payment.infrastructure;
 
 import io.hhplus.ECommerce.ECommerce_project.payment.domain.entity.Payment;
+import io.hhplus.ECommerce.ECommerce_project.payment.domain.enums.PaymentStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
     // 해당 주문의 결제 목록 조회
     List<Payment> findByOrder_Id(Long orderId);
+
+    // 해당 주문에 특정 상태의 결제가 있는지 확인 (진행 중인 결제 확인)
+    boolean existsByOrder_IdAndPaymentStatus(Long orderId, PaymentStatus paymentStatus);
+
+    // 주문 목록 중 특정 상태의 결제가 있는 주문 ID (여러 주문의 진행 중인 결제를 쿼리 한 번으로 확인)
+    @Query("SELECT DISTINCT p.order.id FROM Payment p WHERE p.order.id IN :orderIds AND p.paymentStatus = :paymentStatus")
+    List<Long> findOrderIdsWithPaymentStatus(@Param("orderIds") Collection<Long> orderIds,
+                                             @Param("paymentStatus") PaymentStatus paymentStatus);
+
+    // 기준 시각 이전에 생성된 특정 상태의 결제 (오래된 순, 결제 대사용 - idx_payments_status_created)
+    List<Payment> findByPaymentStatusAndCreatedAtBeforeOrderByCreatedAtAsc(
+            PaymentStatus paymentStatus, LocalDateTime createdBefore, Limit limit);
 }
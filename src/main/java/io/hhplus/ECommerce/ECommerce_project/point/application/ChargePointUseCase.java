@@ -23,16 +23,19 @@ public class ChargePointUseCase {
 
     @Transactional
     public Point execute(ChargePointCommand command) {
-        // 1. 유저 존재 유무 확인 및 조회
-        User user = userRepository.findByIdWithLock(command.userId())
-                .orElseThrow(() -> new UserException(ErrorCode.USER_NOT_FOUND));
-
-        // 2. 충전 포인트 금액 검증
+        // 1. 충전 포인트 금액 검증
         if (command.amount() == null || command.amount().compareTo(BigDecimal.ZERO) <= 0) {
             throw new PointException(ErrorCode.POINT_AMOUNT_INVALID);
         }
 
-        // 3. Point 엔티티 생성 및 저장
+        // 2. User의 포인트 잔액 증가 (원자적 UPDATE, 사용자 행을 미리 읽어 잠그지 않음)
+        int updated = userRepository.increasePointBalance(command.userId(), command.amount());
+        if (updated == 0) {
+            throw new UserException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        // 3. Point 엔티티 생성 및 저장 (연관관계용 사용자 참조, 조회 쿼리 없음)
+        User user = userRepository.getReferenceById(command.userId());
         Point point = Point.charge(
                 user,
                 command.amount(),
@@ -40,10 +43,7 @@ public class ChargePointUseCase {
         );
         Point savedPoint = pointRepository.save(point);
 
-        // 4. User의 포인트 잔액 업데이트
-        user.chargePoint(command.amount());
-
-        // 5. 저장된 포인트 반환
+        // 4. 저장된 포인트 반환
         return savedPoint;
     }
 }
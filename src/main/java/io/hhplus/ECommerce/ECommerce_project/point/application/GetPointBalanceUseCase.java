@@ -3,40 +3,37 @@ package io.hhplus.ECommerce.ECommerce_project.point.application;
 import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
 import io.hhplus.ECommerce.ECommerce_project.common.exception.UserException;
 import io.hhplus.ECommerce.ECommerce_project.point.application.command.GetPointBalanceCommand;
-import io.hhplus.ECommerce.ECommerce_project.point.domain.entity.Point;
 import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointRepository;
 import io.hhplus.ECommerce.ECommerce_project.point.presentation.response.GetPointBalanceResponse;
-import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
 import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class GetPointBalanceUseCase {
 
-    private final PointRepository pointRepository;
     private final UserRepository userRepository;
+    private final PointRepository pointRepository;
 
     @Transactional(readOnly = true)
     public GetPointBalanceResponse execute(GetPointBalanceCommand command) {
-        // 1. 사용자 조회
-        User user = userRepository.findById(command.userId())
+        // 1. 사용자 포인트 잔액 조회 (users.point_balance, PK 조회 1번)
+        // - 잔액은 충전/사용/환불/만료 시 같은 트랜잭션에서 함께 갱신되므로 포인트 내역을 다시 합산하지 않는다.
+        // - 포인트 내역과의 불일치는 PointBalanceReconciliationJob이 주기적으로 점검
+        BigDecimal storedBalance = userRepository.findPointBalanceById(command.userId())
                 .orElseThrow(() -> new UserException(ErrorCode.USER_NOT_FOUND));
 
-        // 2. 사용 가능한 포인트 목록 조회
-        List<Point> availablePointList = pointRepository.findAvailablePointsByUserId(command.userId());
-
-        // 3. 총 잔액 계산
-        BigDecimal totalBalance = availablePointList.stream()
-                .map(Point::getRemainingAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        // 2. 만료 시각이 지났지만 아직 만료 처리되지 않은 금액 차감
+        // - 저장 잔액은 PointExpiryJob(하루 1번)이 is_expired를 바꿀 때 함께 차감되므로, 그 전까지는 만료된 금액이 남아 있음
+        // - 주문 시 포인트 사용도 만료 시각이 지난 포인트는 제외하므로, 조회 잔액도 같은 기준으로 맞춘다.
+        BigDecimal pastDueAmount = pointRepository.sumPastDueAmountByUserId(command.userId());
+        BigDecimal balance = storedBalance.subtract(pastDueAmount).max(BigDecimal.ZERO);
 
-        // 4. Response 반환
-        return GetPointBalanceResponse.of(user.getId(), totalBalance);
+        // 3. Response 반환
+        return GetPointBalanceResponse.of(command.userId(), balance);
     }
 }
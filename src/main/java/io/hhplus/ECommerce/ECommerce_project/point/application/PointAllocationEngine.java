@@ -0,0 +1,105 @@
+package io.hhplus.ECommerce.ECommerce_project.point.application;
+
+import io.hhplus.ECommerce.ECommerce_project.common.entity.BaseEntityListener;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.PointException;
+import io.hhplus.ECommerce.ECommerce_project.order.domain.entity.Orders;
+import io.hhplus.ECommerce.ECommerce_project.point.domain.entity.Point;
+import io.hhplus.ECommerce.ECommerce_project.point.domain.entity.PointUsageHistory;
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointUsageHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 포인트 선입선출(FIFO) 사용 배분기
+ *
+ * - 한 번의 FOR UPDATE 쿼리로 잠근 사용 가능한 포인트 목록을 받아 메모리에서 포인트별 사용 금액을 나눈다. (allocate)
+ * - 주문 저장 후 포인트별 used_amount 변경과 PointUsageHistory 저장을 한 번에 반영한다. (apply)
+ *   - used_amount 변경은 flush 시 같은 형태의 UPDATE로 묶여 JDBC 배치로 실행됨 (hibernate.jdbc.batch_size, order_updates)
+ *   - 사용 이력은 ID 블록 예약 후 saveAll로 JDBC 배치 INSERT
+ * - 포인트 행 잠금은 호출하는 쪽(OrderResourceLocker)의 락 순서를 따른다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PointAllocationEngine {
+
+    private final PointUsageHistoryRepository pointUsageHistoryRepository;
+
+    /**
+     * 사용 금액을 포인트별로 선입선출 배분 (DB 접근 없음)
+     * @param lockedPoints 잠근 사용 가능한 포인트 (선입선출 순서)
+     * @throws PointException 포인트 합계가 사용 금액보다 적은 경우
+     */
+    public Allocation allocate(List<Point> lockedPoints, BigDecimal amount) {
+        List<Slice> slices = new ArrayList<>();
+        BigDecimal remaining = amount;
+
+        for (Point point : lockedPoints) {
+            if (remaining.compareTo(BigDecimal.ZERO) <= 0) {
+                break;
+            }
+
+            BigDecimal available = point.getRemainingAmount();
+            if (available.compareTo(BigDecimal.ZERO) <= 0) {
+                continue;
+            }
+
+            BigDecimal used = available.min(remaining);
+            slices.add(new Slice(point, used));
+            remaining = remaining.subtract(used);
+        }
+
+        // 잔액(users.point_balance)과 포인트 내역이 어긋난 경우 (정합성 점검 작업이 불일치를 보고함)
+        if (remaining.compareTo(BigDecimal.ZERO) > 0) {
+            throw new PointException(ErrorCode.POINT_INSUFFICIENT_POINT);
+        }
+
+        return new Allocation(amount, List.copyOf(slices));
+    }
+
+    /**
+     * 배분 결과 반영 (포인트 부분 사용 처리 + 사용 이력 일괄 저장)
+     * - 주문 ID가 필요하므로 주문 저장 후 호출
+     */
+    public List<PointUsageHistory> apply(Allocation allocation, Orders order) {
+        if (allocation.slices().isEmpty()) {
+            return List.of();
+        }
+
+        List<PointUsageHistory> histories = new ArrayList<>(allocation.slices().size());
+        for (Slice slice : allocation.slices()) {
+            // 1. 포인트 부분 사용 처리 (dirty checking, flush 시 배치 UPDATE)
+            slice.point().usePartially(slice.amount());
+
+            // 2. 주문과 포인트 연결 추적용 사용 이력 생성
+            histories.add(PointUsageHistory.create(slice.point(), order, slice.amount()));
+        }
+
+        // 3. 사용 이력 일괄 저장 (ID 블록 예약 + JDBC 배치 INSERT)
+        try (BaseEntityListener.IdBlock ignored = BaseEntityListener.prefetch(histories.size())) {
+            return pointUsageHistoryRepository.saveAll(histories);
+        }
+    }
+
+    /**
+     * 포인트 사용 배분 결과
+     * @param totalAmount 사용 요청 금액
+     * @param slices 포인트별 사용 금액 (선입선출 순서)
+     */
+    public record Allocation(BigDecimal totalAmount, List<Slice> slices) {
+
+        public static Allocation none() {
+            return new Allocation(BigDecimal.ZERO, List.of());
+        }
+    }
+
+    /**
+     * 포인트 하나에서 사용할 금액
+     */
+    public record Slice(Point point, BigDecimal amount) {
+    }
+}
@@ -0,0 +1,122 @@
+package io.hhplus.ECommerce.ECommerce_project.point.application;
+
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointBalanceJdbcRepository;
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointBalanceJdbcRepository.BalanceRow;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 포인트 잔액 정합성 점검 작업
+ *
+ * - 잔액 조회/주문 검증은 users.point_balance만 읽으므로, 주기적으로 포인트 내역(points)에서 잔액을 다시 계산해 비교한다.
+ * - 사용자 id 오름차순으로 chunkSize명씩 나눠 조회하고, 저장된 잔액과 계산 잔액을 한 쿼리에서 함께 읽어
+ *   진행 중인 주문과 섞인 값을 불일치로 잘못 보고하지 않는다.
+ * - 만료는 저장 잔액과 같은 기준(is_expired)으로 계산하므로, 만료 시각이 지났지만 PointExpiryJob이
+ *   아직 처리하지 않은 포인트는 양쪽 모두에 포함되어 불일치로 보고되지 않는다.
+ * - 불일치는 경고 로그와 point.balance.drift.users 게이지로 보고만 하고 자동으로 고치지 않는다.
+ */
+@Slf4j
+@Component
+public class PointBalanceReconciliationJob {
+
+    public static final String DRIFT_GAUGE_NAME = "point.balance.drift.users";
+
+    // 결과에 담아 둘 불일치 사용자 최대 수 (나머지는 개수만 집계)
+    private static final int MAX_REPORTED_DRIFTS = 100;
+
+    private final PointBalanceJdbcRepository pointBalanceJdbcRepository;
+    private final int chunkSize;
+
+    // 마지막 점검에서 발견한 불일치 사용자 수
+    private final AtomicInteger lastDriftCount = new AtomicInteger();
+
+    public PointBalanceReconciliationJob(
+            PointBalanceJdbcRepository pointBalanceJdbcRepository,
+            MeterRegistry meterRegistry,
+            @Value("${ecommerce.point.reconciliation.chunk-size:1000}") int chunkSize
+    ) {
+        this.pointBalanceJdbcRepository = pointBalanceJdbcRepository;
+        this.chunkSize = chunkSize;
+
+        Gauge.builder(DRIFT_GAUGE_NAME, lastDriftCount, AtomicInteger::get)
+                .description("마지막 점검에서 users.point_balance와 포인트 내역 합계가 다른 사용자 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 주기 실행 (실패 시 다음 주기에 다시 점검)
+     */
+    @Scheduled(
+            initialDelayString = "${ecommerce.point.reconciliation.interval-ms:3600000}",
+            fixedDelayString = "${ecommerce.point.reconciliation.interval-ms:3600000}"
+    )
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (DataAccessException e) {
+            log.error("포인트 잔액 정합성 점검 실패, 다음 주기에 다시 점검합니다.", e);
+        }
+    }
+
+    /**
+     * 전체 사용자 잔액 점검
+     */
+    public ReconciliationResult reconcile() {
+        long lastUserId = 0L;
+        int checkedUsers = 0;
+        int driftCount = 0;
+        List<BalanceRow> drifts = new ArrayList<>();
+
+        // 1. chunkSize명씩 저장 잔액 / 계산 잔액 비교
+        while (true) {
+            List<BalanceRow> rows = pointBalanceJdbcRepository.findBalances(lastUserId, chunkSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            for (BalanceRow row : rows) {
+                if (row.hasDrift()) {
+                    driftCount++;
+                    if (drifts.size() < MAX_REPORTED_DRIFTS) {
+                        drifts.add(row);
+                        log.warn("포인트 잔액 불일치 - userId: {}, 저장 잔액: {}, 포인트 내역 합계: {}, 차이: {}",
+                                row.userId(), row.storedBalance(), row.computedBalance(), row.drift());
+                    }
+                }
+            }
+
+            checkedUsers += rows.size();
+            lastUserId = rows.get(rows.size() - 1).userId();
+
+            if (rows.size() < chunkSize) {
+                break;
+            }
+        }
+
+        // 2. 결과 보고
+        lastDriftCount.set(driftCount);
+        if (driftCount > 0) {
+            log.warn("포인트 잔액 정합성 점검 완료 - 점검 사용자: {}, 불일치 사용자: {}", checkedUsers, driftCount);
+        } else {
+            log.info("포인트 잔액 정합성 점검 완료 - 점검 사용자: {}, 불일치 없음", checkedUsers);
+        }
+
+        return new ReconciliationResult(checkedUsers, driftCount, drifts);
+    }
+
+    /**
+     * 점검 결과
+     * @param drifts 불일치 사용자 (최대 MAX_REPORTED_DRIFTS명)
+     */
+    public record ReconciliationResult(int checkedUsers, int driftCount, List<BalanceRow> drifts) {
+    }
+}
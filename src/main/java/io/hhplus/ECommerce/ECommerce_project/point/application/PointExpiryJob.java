@@ -0,0 +1,268 @@
+package io.hhplus.ECommerce.ECommerce_project.point.application;
+
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointExpiryJdbcRepository;
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointExpiryJdbcRepository.ExpiringPoint;
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointExpiryJdbcRepository.ExpiryCandidate;
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointExpiryJdbcRepository.ExpiryCursor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 포인트 만료 배치
+ *
+ * - 만료 시각이 지난 포인트를 is_expired = TRUE로 바꾸고 남은 금액만큼 users.point_balance를 차감한다.
+ * - 사용자 id를 workerCount개로 나눠(MOD(user_id, workerCount)) 작업자마다 자기 몫만 병렬로 처리한다.
+ *   같은 사용자의 포인트는 한 작업자만 처리하므로 작업자끼리 사용자 행 락을 두고 경합하지 않는다.
+ * - 작업자는 (expired_at, id) 키셋으로 chunkSize건씩 읽고, 청크마다 짧은 트랜잭션 하나로 반영한다.
+ *   - 청크 트랜잭션은 사용자 -> 포인트 순서(id 오름차순)로 잠가 주문/취소와 같은 락 순서를 지킨다.
+ *   - 처리 결과가 곧 진행 상태(is_expired)이므로 중간에 실패/종료되어도 다시 실행하면 남은 포인트부터 이어서 처리된다.
+ * - 처리량은 point.expiry.points / point.expiry.amount 카운터와 point.expiry.chunk 타이머로 기록
+ * - 주기 실행은 전용 조정 스레드에 넘기고 바로 반환한다.
+ *   (스케줄러 스레드가 작업자 종료를 기다리며 묶이면 워커 ID 임대 연장 등 다른 주기 작업이 밀림)
+ */
+@Slf4j
+@Component
+public class PointExpiryJob {
+
+    public static final String EXPIRED_POINTS_COUNTER_NAME = "point.expiry.points";
+    public static final String EXPIRED_AMOUNT_COUNTER_NAME = "point.expiry.amount";
+    public static final String CHUNK_TIMER_NAME = "point.expiry.chunk";
+
+    private final PointExpiryJdbcRepository pointExpiryJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int workerCount;
+    private final ExecutorService workers;
+    // 주기 실행 시 작업자 결과를 기다리는 스레드 (스케줄러 스레드 대신)
+    private final ExecutorService coordinator;
+
+    private final Counter expiredPointsCounter;
+    private final Counter expiredAmountCounter;
+    private final Timer chunkTimer;
+
+    // 이전 실행이 끝나기 전에 다음 실행이 겹치지 않도록 막음
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public PointExpiryJob(
+            PointExpiryJdbcRepository pointExpiryJdbcRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${ecommerce.point.expiry.chunk-size:500}") int chunkSize,
+            @Value("${ecommerce.point.expiry.worker-count:4}") int workerCount
+    ) {
+        this.pointExpiryJdbcRepository = pointExpiryJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.workerCount = workerCount;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "point-expiry-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.coordinator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-expiry-coordinator");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.expiredPointsCounter = Counter.builder(EXPIRED_POINTS_COUNTER_NAME)
+                .description("만료 처리한 포인트 수")
+                .register(meterRegistry);
+        this.expiredAmountCounter = Counter.builder(EXPIRED_AMOUNT_COUNTER_NAME)
+                .description("만료로 차감한 포인트 금액")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder(CHUNK_TIMER_NAME)
+                .description("포인트 만료 청크 트랜잭션 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 주기 실행 (조정 스레드에 넘기고 스케줄러 스레드는 바로 반환)
+     */
+    @Scheduled(cron = "${ecommerce.point.expiry.cron:0 10 0 * * *}")
+    public void scheduledExpire() {
+        coordinator.execute(() -> {
+            try {
+                expire();
+            } catch (RuntimeException e) {
+                log.error("포인트 만료 배치 실패, 다음 실행에서 남은 포인트부터 이어서 처리합니다.", e);
+            }
+        });
+    }
+
+    /**
+     * 만료 시각이 지난 포인트 전체 만료 처리
+     * - 이미 실행 중이면 아무것도 하지 않고 빈 결과 반환
+     */
+    public ExpiryResult expire() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("포인트 만료 배치가 이미 실행 중입니다.");
+            return new ExpiryResult(0, BigDecimal.ZERO, 0L);
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            long startedAt = System.nanoTime();
+
+            // 1. 사용자 id 분할별로 작업자 실행
+            List<Future<PartitionResult>> futures = new ArrayList<>();
+            for (int partition = 0; partition < workerCount; partition++) {
+                int assignedPartition = partition;
+                futures.add(workers.submit(() -> expirePartition(assignedPartition, now)));
+            }
+
+            // 2. 작업자 결과 합산 (실패한 작업자가 있어도 나머지 작업자가 끝날 때까지 기다린 뒤 예외 전달)
+            int expiredPoints = 0;
+            BigDecimal expiredAmount = BigDecimal.ZERO;
+            RuntimeException failure = null;
+            for (Future<PartitionResult> future : futures) {
+                try {
+                    PartitionResult result = getResult(future);
+                    expiredPoints += result.expiredPoints();
+                    expiredAmount = expiredAmount.add(result.expiredAmount());
+                } catch (RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+
+            // 3. 처리량 보고
+            long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            double pointsPerSecond = elapsedMillis == 0 ? expiredPoints : expiredPoints * 1000.0 / elapsedMillis;
+            log.info("포인트 만료 배치 완료 - 만료 포인트: {}건, 차감 금액: {}, 소요 시간: {}ms, 처리량: {}건/s",
+                    expiredPoints, expiredAmount, elapsedMillis, String.format("%.1f", pointsPerSecond));
+
+            return new ExpiryResult(expiredPoints, expiredAmount, elapsedMillis);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 작업자 1개 분할 처리 (키셋으로 청크를 읽어 청크마다 트랜잭션 1개)
+     */
+    private PartitionResult expirePartition(int partition, LocalDateTime now) {
+        ExpiryCursor cursor = ExpiryCursor.first();
+        int expiredPoints = 0;
+        BigDecimal expiredAmount = BigDecimal.ZERO;
+
+        while (true) {
+            // 1. 만료 대상 조회 (락 없이)
+            List<ExpiryCandidate> candidates = pointExpiryJdbcRepository.findExpiryCandidates(
+                    now, workerCount, partition, cursor, chunkSize);
+            if (candidates.isEmpty()) {
+                break;
+            }
+
+            // 2. 청크 반영 (트랜잭션 1개)
+            List<ExpiringPoint> expired = chunkTimer.record(() -> transactionTemplate.execute(status ->
+                    expireChunk(candidates, now)));
+
+            for (ExpiringPoint point : expired) {
+                expiredAmount = expiredAmount.add(point.remainingAmount());
+                expiredAmountCounter.increment(point.remainingAmount().doubleValue());
+            }
+            expiredPoints += expired.size();
+            expiredPointsCounter.increment(expired.size());
+
+            // 3. 다음 청크 커서 (조회 이후 사용된 포인트로 건너뛴 행도 커서는 지나감)
+            ExpiryCandidate last = candidates.get(candidates.size() - 1);
+            cursor = new ExpiryCursor(last.expiredAt(), last.pointId());
+
+            if (candidates.size() < chunkSize) {
+                break;
+            }
+        }
+
+        return new PartitionResult(expiredPoints, expiredAmount);
+    }
+
+    /**
+     * 청크 1개 만료 처리
+     */
+    private List<ExpiringPoint> expireChunk(List<ExpiryCandidate> candidates, LocalDateTime now) {
+        TreeSet<Long> userIds = new TreeSet<>();
+        TreeSet<Long> pointIds = new TreeSet<>();
+        for (ExpiryCandidate candidate : candidates) {
+            userIds.add(candidate.userId());
+            pointIds.add(candidate.pointId());
+        }
+
+        // 1. 사용자 -> 포인트 순서로 잠금 (조건 재확인)
+        pointExpiryJdbcRepository.lockUsers(userIds);
+        List<ExpiringPoint> lockedPoints = pointExpiryJdbcRepository.lockExpiringPoints(pointIds, now);
+        if (lockedPoints.isEmpty()) {
+            return lockedPoints;
+        }
+
+        // 2. 포인트 만료 처리
+        pointExpiryJdbcRepository.markExpired(lockedPoints, now);
+
+        // 3. 사용자별 만료 금액만큼 잔액 차감
+        Map<Long, BigDecimal> expiredAmountByUserId = new TreeMap<>();
+        for (ExpiringPoint point : lockedPoints) {
+            expiredAmountByUserId.merge(point.userId(), point.remainingAmount(), BigDecimal::add);
+        }
+        pointExpiryJdbcRepository.decreaseBalances(expiredAmountByUserId, now);
+
+        return lockedPoints;
+    }
+
+    private PartitionResult getResult(Future<PartitionResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("포인트 만료 배치 대기 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("포인트 만료 배치 작업자 실패", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    /**
+     * 만료 배치 결과
+     */
+    public record ExpiryResult(int expiredPoints, BigDecimal expiredAmount, long elapsedMillis) {
+    }
+
+    private record PartitionResult(int expiredPoints, BigDecimal expiredAmount) {
+    }
+}
@@ -0,0 +1,62 @@
+package io.hhplus.ECommerce.ECommerce_project.point.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 포인트 잔액 정합성 점검 JDBC 리포지토리 (users.point_balance vs points)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointBalanceJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 사용자 id 오름차순으로 chunkSize명씩 저장된 잔액과 포인트 내역으로 다시 계산한 잔액을 조회
+     * - 미사용, 미만료(is_expired = FALSE), 미삭제 포인트의 남은 금액(amount - used_amount) 합계가 계산 잔액
+     * - 저장 잔액은 PointExpiryJob이 is_expired를 바꿀 때만 만료 금액이 빠지므로, 만료 시각(expired_at)이 아니라
+     *   is_expired로 같은 기준을 맞춘다. (만료 시각이 지났지만 아직 처리되지 않은 포인트를 불일치로 보고하지 않음)
+     * - afterUserId보다 큰 id부터 조회 (키셋 페이징, 첫 조회는 0)
+     */
+    public List<BalanceRow> findBalances(long afterUserId, int chunkSize) {
+        return jdbcTemplate.query(
+                """
+                SELECT u.id, u.point_balance, COALESCE(SUM(p.amount - p.used_amount), 0) AS computed_balance
+                FROM (SELECT id, point_balance FROM users WHERE id > ? ORDER BY id LIMIT ?) u
+                LEFT JOIN points p
+                    ON p.user_id = u.id
+                    AND p.is_used = FALSE
+                    AND p.is_expired = FALSE
+                    AND p.deleted_at IS NULL
+                GROUP BY u.id, u.point_balance
+                ORDER BY u.id
+                """,
+                (rs, rowNum) -> new BalanceRow(
+                        rs.getLong("id"),
+                        rs.getBigDecimal("point_balance"),
+                        rs.getBigDecimal("computed_balance")
+                ),
+                afterUserId,
+                chunkSize
+        );
+    }
+
+    /**
+     * 사용자별 저장된 잔액 / 포인트 내역 기준 계산 잔액
+     */
+    public record BalanceRow(Long userId, BigDecimal storedBalance, BigDecimal computedBalance) {
+
+        public boolean hasDrift() {
+            return storedBalance.compareTo(computedBalance) != 0;
+        }
+
+        public BigDecimal drift() {
+            return storedBalance.subtract(computedBalance);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package io.hhplus.ECommerce.ECommerce_project.point.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 포인트 만료 배치 JDBC 리포지토리
+ * - 만료 대상 포인트를 (expired_at, id) 키셋으로 청크 단위 조회하고, 만료 처리/잔액 차감을 배치로 반영
+ * - 인덱스: idx_points_expiry (is_expired, is_used, expired_at) (V5)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointExpiryJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 만료 대상 포인트 조회 (락 없이)
+     * - 만료 시각이 지났지만 아직 만료 처리되지 않은, 남은 금액이 있는 포인트
+     * - MOD(user_id, partitionCount) = partition 인 사용자의 포인트만 조회 (작업자별 분할)
+     * - after 커서보다 뒤의 (expired_at, id)부터 chunkSize건
+     */
+    public List<ExpiryCandidate> findExpiryCandidates(
+            LocalDateTime now,
+            int partitionCount,
+            int partition,
+            ExpiryCursor after,
+            int chunkSize
+    ) {
+        Timestamp afterExpiredAt = Timestamp.valueOf(after.expiredAt());
+
+        return jdbcTemplate.query(
+                """
+                SELECT id, user_id, expired_at
+                FROM points
+                WHERE is_expired = FALSE
+                AND is_used = FALSE
+                AND expired_at <= ?
+                AND (expired_at > ? OR (expired_at = ? AND id > ?))
+                AND deleted_at IS NULL
+                AND MOD(user_id, ?) = ?
+                ORDER BY expired_at, id
+                LIMIT ?
+                """,
+                (rs, rowNum) -> new ExpiryCandidate(
+                        rs.getLong("id"),
+                        rs.getLong("user_id"),
+                        rs.getTimestamp("expired_at").toLocalDateTime()
+                ),
+                Timestamp.valueOf(now),
+                afterExpiredAt,
+                afterExpiredAt,
+                after.pointId(),
+                partitionCount,
+                partition,
+                chunkSize
+        );
+    }
+
+    /**
+     * 사용자 행 잠금 (id 오름차순, 주문과 같은 사용자 -> 포인트 락 순서를 지키기 위함)
+     */
+    public void lockUsers(Collection<Long> sortedUserIds) {
+        jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE id IN (" + placeholders(sortedUserIds.size()) + ") ORDER BY id FOR UPDATE",
+                Long.class,
+                sortedUserIds.toArray()
+        );
+    }
+
+    /**
+     * 만료 대상 포인트 잠금 + 남은 금액 조회 (id 오름차순)
+     * - 조회 이후 주문에서 전액 사용된 포인트 등은 조건을 다시 확인해 제외
+     */
+    public List<ExpiringPoint> lockExpiringPoints(Collection<Long> sortedPointIds, LocalDateTime now) {
+        List<Object> args = new ArrayList<>(sortedPointIds);
+        args.add(Timestamp.valueOf(now));
+
+        return jdbcTemplate.query(
+                "SELECT id, user_id, amount - used_amount AS remaining_amount FROM points"
+                        + " WHERE id IN (" + placeholders(sortedPointIds.size()) + ")"
+                        + " AND is_expired = FALSE AND is_used = FALSE AND expired_at <= ? AND deleted_at IS NULL"
+                        + " ORDER BY id FOR UPDATE",
+                (rs, rowNum) -> new ExpiringPoint(
+                        rs.getLong("id"),
+                        rs.getLong("user_id"),
+                        rs.getBigDecimal("remaining_amount")
+                ),
+                args.toArray()
+        );
+    }
+
+    /**
+     * 포인트 만료 처리 (is_expired = TRUE)
+     */
+    public void markExpired(List<ExpiringPoint> points, LocalDateTime now) {
+        jdbcTemplate.batchUpdate(
+                "UPDATE points SET is_expired = TRUE, updated_at = ? WHERE id = ?",
+                points,
+                points.size(),
+                (ps, point) -> {
+                    ps.setTimestamp(1, Timestamp.valueOf(now));
+                    ps.setLong(2, point.pointId());
+                }
+        );
+    }
+
+    /**
+     * 사용자별 만료 금액만큼 잔액 차감 (User.expirePoint와 같이 0 미만으로 내려가지 않음)
+     */
+    public void decreaseBalances(Map<Long, BigDecimal> expiredAmountByUserId, LocalDateTime now) {
+        List<Map.Entry<Long, BigDecimal>> entries = new ArrayList<>(expiredAmountByUserId.entrySet());
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE users SET point_balance = GREATEST(point_balance - ?, 0), updated_at = ? WHERE id = ?",
+                entries,
+                entries.size(),
+                (ps, entry) -> {
+                    ps.setBigDecimal(1, entry.getValue());
+                    ps.setTimestamp(2, Timestamp.valueOf(now));
+                    ps.setLong(3, entry.getKey());
+                }
+        );
+    }
+
+    private String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    /**
+     * 만료 대상 포인트 (키셋 커서 겸용)
+     */
+    public record ExpiryCandidate(Long pointId, Long userId, LocalDateTime expiredAt) {
+    }
+
+    /**
+     * 키셋 커서 (마지막으로 읽은 포인트의 expired_at, id)
+     */
+    public record ExpiryCursor(LocalDateTime expiredAt, Long pointId) {
+
+        public static ExpiryCursor first() {
+            return new ExpiryCursor(LocalDateTime.of(1970, 1, 1, 0, 0, 1), 0L);
+        }
+    }
+
+    /**
+     * 잠근 만료 포인트 (남은 금액 = 만료로 차감할 금액)
+     */
+    public record ExpiringPoint(Long pointId, Long userId, BigDecimal remainingAmount) {
+    }
+}
@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +28,17 @@ public interface PointRepository extends JpaRepository<Point, Long> {
             """)
     List<Point> findAvailablePointsByUserId(@Param("userId") Long userId);
 
+    // 만료 시각이 지났지만 아직 만료 배치가 처리하지 않은 포인트의 남은 금액 합계 (users.point_balance에 아직 포함됨)
+    @Query("""
+            SELECT COALESCE(SUM(p.amount - p.usedAmount), 0) FROM Point p
+            WHERE p.user.id = :userId
+            AND p.isUsed = false
+            AND p.isExpired = false
+            AND p.expiredAt <= CURRENT_TIMESTAMP
+            AND p.deletedAt IS NULL
+            """)
+    BigDecimal sumPastDueAmountByUserId(@Param("userId") Long userId);
+
     // 포인트 목록 조회 (정렬, 페이징)
     @Query("""
             SELECT p
@@ -43,4 +56,22 @@ public interface PointRepository extends JpaRepository<Point, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT p FROM Point p WHERE p.id = :pointId AND p.deletedAt IS NULL")
     Optional<Point> findByIdWithLock(@Param("pointId") Long pointId);
+
+    // 유저의 사용가능한 포인트 조회 (비관적 락, 락 획득 순서를 고정하기 위해 id 오름차순)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT p FROM Point p
+            WHERE p.user.id = :userId
+            AND p.isUsed = false
+            AND p.isExpired = false
+            AND (p.expiredAt IS NULL OR p.expiredAt > CURRENT_TIMESTAMP)
+            AND p.deletedAt IS NULL
+            ORDER BY p.id ASC
+            """)
+    List<Point> findAvailablePointsByUserIdWithLock(@Param("userId") Long userId);
+
+    // 포인트 여러 건 조회 (비관적 락, 락 획득 순서를 고정하기 위해 id 오름차순)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Point p WHERE p.id IN :pointIds AND p.deletedAt IS NULL ORDER BY p.id ASC")
+    List<Point> findAllByIdInWithLock(@Param("pointIds") Collection<Long> pointIds);
 }
@@ -4,9 +4,11 @@ import io.hhplus.ECommerce.ECommerce_project.category.infrastructure.CategoryRep
 import io.hhplus.ECommerce.ECommerce_project.common.exception.CategoryException;
 import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
 import io.hhplus.ECommerce.ECommerce_project.product.application.command.CreateProductCommand;
+import io.hhplus.ECommerce.ECommerce_project.product.application.event.ProductListingChangedEvent;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
 import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +18,7 @@ public class CreateProductUseCase {
 
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Product execute(CreateProductCommand command) {
@@ -31,7 +34,12 @@ public class CreateProductUseCase {
                 command.maxOrderQuantity()
         );
 
-        // 2. 저장 후 반환
-        return productRepository.save(product);
+        // 2. 저장
+        Product savedProduct = productRepository.save(product);
+
+        // 3. 노출 상태 변화 이벤트 발행 (커밋 후 인기 상품 랭킹에 등록)
+        eventPublisher.publishEvent(new ProductListingChangedEvent(savedProduct.getId()));
+
+        return savedProduct;
     }
 }
@@ -2,9 +2,11 @@ package io.hhplus.ECommerce.ECommerce_project.product.application;
 
 import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
 import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
+import io.hhplus.ECommerce.ECommerce_project.product.application.event.ProductListingChangedEvent;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
 import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeactivateProductUseCase {
 
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Product execute(Long productId) {
@@ -25,7 +28,10 @@ public class DeactivateProductUseCase {
             product.deactivate();
         }
 
-        // 3. 저장된 변경사항 반환
+        // 3. 노출 상태 변화 이벤트 발행 (커밋 후 인기 상품 랭킹에서 제외)
+        eventPublisher.publishEvent(new ProductListingChangedEvent(product.getId()));
+
+        // 4. 저장된 변경사항 반환
 //        return productRepository.save(product);
         return product;
     }
@@ -14,19 +14,37 @@ import org.springframework.transaction.annotation.Transactional;
 public class DecreaseStockUseCase {
 
     private final ProductRepository productRepository;
+    private final StockReservationLedger stockReservationLedger;
 
     @Transactional
     public Product execute(DecreaseStockCommand command) {
-        // 1. 상품 조회
-        Product product = productRepository.findByIdWithLock(command.productId())
+        // LEDGER 모드: 재고 변경을 재고 예약 원장에 기록 (DB 반영은 커밋 후 일괄 처리)
+        // 원장을 우회해 상품 행을 직접 갱신하면 원장의 가용 재고와 어긋나므로 반드시 원장을 거침
+        if (stockReservationLedger.isEnabled()) {
+            Product product = productRepository.findById(command.productId())
+                    .orElseThrow(() -> new ProductException(ErrorCode.PRODUCT_NOT_FOUND));
+
+            stockReservationLedger.withdraw(command.productId(), command.quantity());
+            return product;
+        }
+
+        // 1. 수량 검증
+        if (command.quantity() <= 0) {
+            throw new ProductException(ErrorCode.PRODUCT_DECREASE_QUANTITY_INVALID);
+        }
+
+        // 2. 재고 감소 (조건부 UPDATE 한 문장, 재고가 부족하면 갱신되지 않음)
+        int updated = productRepository.decreaseStock(command.productId(), command.quantity());
+
+        // 3. 변경된 상품 조회
+        Product product = productRepository.findByIdRefreshed(command.productId())
                 .orElseThrow(() -> new ProductException(ErrorCode.PRODUCT_NOT_FOUND));
 
-        // 2. 재고 감소 (도메인 메서드 활용)
-        product.decreaseStock(command.quantity());
+        if (updated == 0) {
+            throw new ProductException(ErrorCode.PRODUCT_OUT_OF_STOCK,
+                "재고가 부족합니다. 현재 재고: " + product.getStock() + ", 요청 수량: " + command.quantity());
+        }
 
-        // 3. 저장된 변경사항 반환
-//        return productRepository.save(product);
         return product;
-
     }
 }
\ No newline at end of file
@@ -2,9 +2,11 @@ package io.hhplus.ECommerce.ECommerce_project.product.application;
 
 import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
 import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
+import io.hhplus.ECommerce.ECommerce_project.product.application.event.ProductListingChangedEvent;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
 import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteProductUseCase {
 
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void execute(Long productId) {
@@ -22,5 +25,8 @@ public class DeleteProductUseCase {
 
         // 2. 논리적 삭제 (deletedAt 설정 및 비활성화)
         product.delete();
+
+        // 3. 노출 상태 변화 이벤트 발행 (커밋 후 인기 상품 랭킹에서 제외)
+        eventPublisher.publishEvent(new ProductListingChangedEvent(product.getId()));
     }
 }
@@ -1,8 +1,13 @@
 package io.hhplus.ECommerce.ECommerce_project.product.application;
 
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductCursor;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductCursorPageResult;
 import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductPageResult;
 import io.hhplus.ECommerce.ECommerce_project.product.application.enums.ProductSortType;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductCursorQueryRepository;
 import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -12,14 +17,31 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class GetProductListUseCase {
 
     private final ProductRepository productRepository;
+    private final ProductCursorQueryRepository productCursorQueryRepository;
+    private final ProductPopularityLeaderboard productPopularityLeaderboard;
 
     @Transactional(readOnly = true)
     public ProductPageResult execute(Long categoryId, ProductSortType sortType, int page, int size) {
+        // 0. 인기순은 메모리 랭킹에서 조회 (랭킹 범위를 벗어나면 아래 DB 정렬 조회로 대체)
+        if (sortType == ProductSortType.POPULAR) {
+            Optional<ProductPageResult> rankedResult = findPopularFromLeaderboard(categoryId, page, size);
+            if (rankedResult.isPresent()) {
+                return rankedResult.get();
+            }
+        }
+
         // 1. ProductSortType을 Spring Data Sort로 변환
         Sort sort = convertToSort(sortType);
 
@@ -41,6 +63,92 @@ public class GetProductListUseCase {
         );
     }
 
+    /**
+     * 커서 기반(키셋) 상품 목록 조회
+     * - OFFSET/COUNT 없이 (정렬 컬럼, id) 기준으로 다음 페이지를 조회
+     * - 전체 개수는 includeTotalCount가 true일 때만 계산
+     */
+    @Transactional(readOnly = true)
+    public ProductCursorPageResult executeByCursor(
+            Long categoryId,
+            ProductSortType sortType,
+            String cursorToken,
+            int size,
+            boolean includeTotalCount
+    ) {
+        if (size < 1) {
+            throw new ProductException(ErrorCode.INVALID_INPUT_VALUE, " 페이지 크기는 1 이상이어야 합니다.");
+        }
+
+        // 1. 커서 토큰 복원 (첫 페이지면 null)
+        ProductCursor cursor = cursorToken == null || cursorToken.isBlank()
+                ? null
+                : ProductCursor.decode(cursorToken, sortType);
+
+        // 2. 다음 페이지 존재 여부 확인을 위해 size + 1개 조회
+        List<Product> fetched = productCursorQueryRepository.findProductsAfter(
+                categoryId,
+                sortType,
+                cursor == null ? null : cursor.typedSortValue(),
+                cursor == null ? null : cursor.id(),
+                size + 1
+        );
+
+        boolean hasNext = fetched.size() > size;
+        List<Product> products = hasNext ? fetched.subList(0, size) : fetched;
+
+        // 3. 다음 커서 생성 (마지막 상품 기준)
+        String nextCursor = hasNext
+                ? ProductCursor.of(sortType, products.get(products.size() - 1)).encode()
+                : null;
+
+        // 4. 전체 개수 (요청한 경우에만)
+        Long totalElements = includeTotalCount
+                ? productRepository.countActiveProducts(categoryId)
+                : null;
+
+        return new ProductCursorPageResult(products, size, nextCursor, hasNext, totalElements);
+    }
+
+    /**
+     * 인기순 목록을 랭킹에서 조회
+     * - 랭킹이 준 ID 순서대로 PK 조회 결과를 재정렬 (products 테이블 정렬/COUNT 없음)
+     */
+    private Optional<ProductPageResult> findPopularFromLeaderboard(Long categoryId, int page, int size) {
+        if (page < 0 || size < 1) {
+            return Optional.empty();
+        }
+
+        Optional<List<Long>> rankedIds = productPopularityLeaderboard.findTopProductIds(categoryId, page * size, size);
+        if (rankedIds.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // 1. ID로 조회 후 랭킹 순서대로 정렬 (그 사이 노출 대상에서 빠진 상품은 제외)
+        Map<Long, Product> productMap = productRepository.findAllById(rankedIds.get()).stream()
+                .filter(product -> product.isActive() && product.getDeletedAt() == null)
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        List<Product> products = rankedIds.get().stream()
+                .map(productMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        // 2. 페이지 정보 계산 (전체 개수는 랭킹 크기)
+        long totalElements = productPopularityLeaderboard.count(categoryId);
+        int totalPages = (int) Math.ceil((double) totalElements / size);
+
+        return Optional.of(new ProductPageResult(
+                products,
+                page,
+                size,
+                totalElements,
+                totalPages,
+                page == 0,
+                page + 1 >= totalPages
+        ));
+    }
+
     /**
      * ProductSortType을 Spring Data Sort로 변환
      */
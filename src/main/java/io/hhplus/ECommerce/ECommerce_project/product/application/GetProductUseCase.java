@@ -13,17 +13,18 @@ import org.springframework.transaction.annotation.Transactional;
 public class GetProductUseCase {
 
     private final ProductRepository productRepository;
+    private final ProductViewCountAggregator productViewCountAggregator;
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Product execute(Long productId) {
         // 1. 상품 조회
         Product product = productRepository.findByIdActive(productId)
                 .orElseThrow(() -> new ProductException(ErrorCode.PRODUCT_NOT_FOUND));
 
-        // 2. 조회수 증가
-        product.increaseViewCount();
+        // 2. 조회수 증가 (메모리에 누적 후 주기적으로 일괄 반영, 상품 행을 직접 갱신하지 않음)
+        productViewCountAggregator.increment(product.getId());
 
-        // 3. 저장된 변경사항 반환
+        // 3. 조회 결과 반환
         return product;
     }
 }
\ No newline at end of file
@@ -14,17 +14,32 @@ import org.springframework.transaction.annotation.Transactional;
 public class IncreaseStockUseCase {
 
     private final ProductRepository productRepository;
+    private final StockReservationLedger stockReservationLedger;
 
     @Transactional
     public Product execute(IncreaseStockCommand command) {
-        // 1. 상품 조회
-        Product product = productRepository.findByIdWithLock(command.productId())
-                .orElseThrow(() -> new ProductException(ErrorCode.PRODUCT_NOT_FOUND));
+        // LEDGER 모드: 재고 변경을 재고 예약 원장에 기록 (DB 반영은 커밋 후 일괄 처리)
+        // 원장을 우회해 상품 행을 직접 갱신하면 원장의 가용 재고와 어긋나므로 반드시 원장을 거침
+        if (stockReservationLedger.isEnabled()) {
+            Product product = productRepository.findById(command.productId())
+                    .orElseThrow(() -> new ProductException(ErrorCode.PRODUCT_NOT_FOUND));
+
+            stockReservationLedger.restock(command.productId(), command.quantity());
+            return product;
+        }
 
-        // 2. 재고 증가 (도메인 메서드 활용)
-        product.increaseStock(command.quantity());
+        // 1. 수량 검증
+        if (command.quantity() <= 0) {
+            throw new ProductException(ErrorCode.PRODUCT_INCREASE_QUANTITY_INVALID);
+        }
 
-        // 3. 저장된 변경사항 반환
-        return product;
+        // 2. 재고 증가 (조건부 UPDATE 한 문장)
+        if (productRepository.increaseStock(command.productId(), command.quantity()) == 0) {
+            throw new ProductException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
+
+        // 3. 변경된 상품 반환
+        return productRepository.findByIdRefreshed(command.productId())
+                .orElseThrow(() -> new ProductException(ErrorCode.PRODUCT_NOT_FOUND));
     }
 }
\ No newline at end of file
@@ -0,0 +1,257 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.event.ProductListingChangedEvent;
+import io.hhplus.ECommerce.ECommerce_project.product.application.event.ProductSoldCountChangedEvent;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductJdbcRepository;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductJdbcRepository.ProductRankingRow;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductPopularitySnapshotJdbcRepository;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductPopularitySnapshotJdbcRepository.SnapshotRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인기 상품 랭킹 (판매량 기준)
+ *
+ * - 카테고리별 / 전체 랭킹을 판매량 내림차순(동순위는 id 내림차순)으로 정렬된 ConcurrentSkipListSet에 유지한다.
+ * - 애플리케이션 시작 시 products 테이블에서 한 번 적재하고, 이후에는 주문 생성/취소가 커밋된 뒤 발행되는
+ *   판매량 변화 이벤트만 반영한다. (POPULAR 목록 조회 시 products 테이블을 정렬하지 않음)
+ * - 상위 topN 범위 안의 페이지만 랭킹으로 제공하고, 그보다 깊은 페이지는 기존 DB 정렬 조회를 사용한다.
+ * - 카테고리별 상위 topN은 주기적으로 product_popularity_snapshots 테이블에 스냅샷으로 기록한다.
+ */
+@Slf4j
+@Component
+public class ProductPopularityLeaderboard {
+
+    // 전체 랭킹 키 (스냅샷 테이블에서도 0으로 기록)
+    private static final Long ALL_CATEGORIES = 0L;
+
+    private static final Comparator<RankedProduct> RANKING_ORDER = Comparator
+            .comparingInt(RankedProduct::soldCount).reversed()
+            .thenComparing(RankedProduct::productId, Comparator.reverseOrder());
+
+    private final ProductJdbcRepository productJdbcRepository;
+    private final ProductPopularitySnapshotJdbcRepository snapshotRepository;
+    private final int topN;
+
+    // 상품 ID -> 현재 랭킹 항목 (상품 단위 갱신 직렬화에 사용)
+    private final ConcurrentHashMap<Long, RankedProduct> rankedProducts = new ConcurrentHashMap<>();
+
+    // 카테고리 ID(전체는 0) -> 랭킹
+    private final ConcurrentHashMap<Long, Board> boards = new ConcurrentHashMap<>();
+
+    private volatile boolean initialized = false;
+
+    public ProductPopularityLeaderboard(
+            ProductJdbcRepository productJdbcRepository,
+            ProductPopularitySnapshotJdbcRepository snapshotRepository,
+            @Value("${ecommerce.product.popular.top-n:1000}") int topN
+    ) {
+        this.productJdbcRepository = productJdbcRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.topN = topN;
+    }
+
+    /**
+     * 애플리케이션 시작 시 products 테이블에서 랭킹 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        for (ProductRankingRow row : productJdbcRepository.findAllRankingRows()) {
+            upsert(row.productId(), row.categoryId(), row.soldCount());
+        }
+
+        initialized = true;
+        log.info("인기 상품 랭킹 적재 완료 (상품 수: {})", rankedProducts.size());
+    }
+
+    /**
+     * 판매량 변화 반영 (주문 트랜잭션 커밋 후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSoldCountChanged(ProductSoldCountChangedEvent event) {
+        RankedProduct current = rankedProducts.get(event.productId());
+
+        // 랭킹에 없는 상품이면 DB 기준으로 다시 적재 (비활성 상품 등은 무시됨)
+        if (current == null) {
+            reload(event.productId());
+            return;
+        }
+
+        rankedProducts.computeIfPresent(event.productId(), (productId, old) -> {
+            RankedProduct updated = new RankedProduct(productId, old.categoryId(), Math.max(0, old.soldCount() + event.delta()));
+            replaceInBoards(old, updated);
+            return updated;
+        });
+    }
+
+    /**
+     * 상품 노출 상태 변화 반영 (등록, 활성화/비활성화, 삭제, 카테고리 변경)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onListingChanged(ProductListingChangedEvent event) {
+        reload(event.productId());
+    }
+
+    /**
+     * 판매량 순위 구간의 상품 ID 조회
+     * - 랭킹이 아직 적재되지 않았거나 요청 구간이 상위 topN을 벗어나면 empty (DB 조회로 대체)
+     */
+    public Optional<List<Long>> findTopProductIds(Long categoryId, int offset, int limit) {
+        if (!initialized || offset < 0 || limit <= 0 || (long) offset + limit > topN) {
+            return Optional.empty();
+        }
+
+        Board board = boards.get(boardKey(categoryId));
+        if (board == null) {
+            return Optional.of(List.of());
+        }
+
+        // 정렬된 순서로 offset만큼 건너뛰고 limit개 수집 (O(offset + limit))
+        List<Long> productIds = new ArrayList<>(limit);
+        Iterator<RankedProduct> iterator = board.ranking.iterator();
+        int index = 0;
+
+        while (iterator.hasNext() && productIds.size() < limit) {
+            RankedProduct rankedProduct = iterator.next();
+            if (index++ >= offset) {
+                productIds.add(rankedProduct.productId());
+            }
+        }
+
+        return Optional.of(productIds);
+    }
+
+    /**
+     * 랭킹에 포함된 상품 수 (목록 노출 상품 수와 동일)
+     */
+    public long count(Long categoryId) {
+        Board board = boards.get(boardKey(categoryId));
+        return board == null ? 0 : board.size.get();
+    }
+
+    /**
+     * 카테고리별 상위 topN 스냅샷 저장
+     */
+    @Scheduled(
+            initialDelayString = "${ecommerce.product.popular.snapshot-interval-ms:60000}",
+            fixedDelayString = "${ecommerce.product.popular.snapshot-interval-ms:60000}"
+    )
+    public void snapshot() {
+        if (!initialized) {
+            return;
+        }
+
+        List<SnapshotRow> rows = new ArrayList<>();
+        boards.forEach((categoryId, board) -> {
+            int ranking = 1;
+            for (RankedProduct rankedProduct : board.ranking) {
+                if (ranking > topN) {
+                    break;
+                }
+                rows.add(new SnapshotRow(categoryId, ranking++, rankedProduct.productId(), rankedProduct.soldCount()));
+            }
+        });
+
+        try {
+            snapshotRepository.replaceAll(rows, LocalDateTime.now());
+        } catch (DataAccessException e) {
+            log.error("인기 상품 랭킹 스냅샷 저장 실패", e);
+        }
+    }
+
+    /**
+     * DB 기준으로 상품 랭킹 항목 재적재 (노출 대상이 아니면 제거)
+     */
+    private void reload(Long productId) {
+        Optional<ProductRankingRow> row = productJdbcRepository.findRankingRow(productId);
+
+        if (row.isPresent()) {
+            upsert(productId, row.get().categoryId(), row.get().soldCount());
+        } else {
+            remove(productId);
+        }
+    }
+
+    private void upsert(Long productId, Long categoryId, int soldCount) {
+        rankedProducts.compute(productId, (id, old) -> {
+            RankedProduct updated = new RankedProduct(id, categoryId, soldCount);
+            replaceInBoards(old, updated);
+            return updated;
+        });
+    }
+
+    private void remove(Long productId) {
+        rankedProducts.computeIfPresent(productId, (id, old) -> {
+            replaceInBoards(old, null);
+            return null;
+        });
+    }
+
+    /**
+     * 전체/카테고리 랭킹에서 기존 항목을 제거하고 새 항목을 추가
+     * - rankedProducts.compute 안에서만 호출되므로 같은 상품에 대한 갱신은 직렬화됨
+     */
+    private void replaceInBoards(RankedProduct old, RankedProduct updated) {
+        if (old != null) {
+            board(ALL_CATEGORIES).remove(old);
+            board(old.categoryId()).remove(old);
+        }
+
+        if (updated != null) {
+            board(ALL_CATEGORIES).add(updated);
+            board(updated.categoryId()).add(updated);
+        }
+    }
+
+    private Board board(Long key) {
+        return boards.computeIfAbsent(key, k -> new Board());
+    }
+
+    private Long boardKey(Long categoryId) {
+        return categoryId == null ? ALL_CATEGORIES : categoryId;
+    }
+
+    /**
+     * 랭킹 항목
+     */
+    private record RankedProduct(Long productId, Long categoryId, int soldCount) {
+    }
+
+    /**
+     * 카테고리 랭킹 (ConcurrentSkipListSet.size()는 O(n)이므로 크기를 따로 관리)
+     */
+    private static final class Board {
+
+        private final ConcurrentSkipListSet<RankedProduct> ranking = new ConcurrentSkipListSet<>(RANKING_ORDER);
+        private final AtomicInteger size = new AtomicInteger();
+
+        private void add(RankedProduct rankedProduct) {
+            if (ranking.add(rankedProduct)) {
+                size.incrementAndGet();
+            }
+        }
+
+        private void remove(RankedProduct rankedProduct) {
+            if (ranking.remove(rankedProduct)) {
+                size.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application;
+
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품 조회수 집계기 (write-behind)
+ *
+ * - 상품 상세 조회 시 DB를 갱신하지 않고 메모리의 LongAdder에 조회수를 누적한다.
+ * - 스케줄러가 주기적으로 누적분을 꺼내 한 번의 배치 UPDATE로 DB에 반영한다.
+ *   꺼낸 만큼만 빼므로(sum 후 add(-count)) 반영 중에 들어온 증가분은 다음 주기로 넘어간다.
+ *   (sumThenReset은 sum과 reset 사이의 증가분을 잃으므로 사용하지 않음)
+ * - 조회수는 정렬용 통계 값이므로, 반영 주기 사이에 장애가 나면 그 사이 누적분은 유실될 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductViewCountAggregator {
+
+    private final ProductJdbcRepository productJdbcRepository;
+
+    // 상품 ID -> 아직 반영되지 않은 조회수
+    // 한 번 조회된 상품의 항목은 유지하여 제거/재생성 사이의 증가분 유실을 막음 (상품 수만큼만 증가)
+    private final ConcurrentHashMap<Long, LongAdder> pendingViewCounts = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수 1 증가 (메모리 누적)
+     */
+    public void increment(Long productId) {
+        pendingViewCounts.computeIfAbsent(productId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 아직 반영되지 않은 조회수
+     */
+    public long getPendingCount(Long productId) {
+        LongAdder adder = pendingViewCounts.get(productId);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    /**
+     * 누적된 조회수를 DB에 일괄 반영
+     */
+    @Scheduled(fixedDelayString = "${ecommerce.product.view-count.flush-interval-ms:1000}")
+    public void flush() {
+        // 1. 상품별 누적분을 꺼낸 만큼만 차감 (그 사이의 증가분은 남음)
+        Map<Long, Long> increments = new HashMap<>();
+        pendingViewCounts.forEach((productId, adder) -> {
+            long count = adder.sum();
+
+            if (count > 0) {
+                adder.add(-count);
+                increments.put(productId, count);
+            }
+        });
+
+        if (increments.isEmpty()) {
+            return;
+        }
+
+        // 2. 배치 UPDATE로 반영 (실패 시 누적분을 되돌려 다음 주기에 재시도)
+        try {
+            productJdbcRepository.applyViewCountIncrements(increments);
+        } catch (DataAccessException e) {
+            log.error("조회수 반영 실패, 다음 주기에 재시도합니다. (대상 상품 수: {})", increments.size(), e);
+
+            increments.forEach((productId, count) ->
+                    pendingViewCounts.computeIfAbsent(productId, id -> new LongAdder()).add(count));
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 누적분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
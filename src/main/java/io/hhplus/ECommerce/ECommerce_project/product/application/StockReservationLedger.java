@@ -0,0 +1,256 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application;
+
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
+import io.hhplus.ECommerce.ECommerce_project.product.application.enums.StockReservationMode;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductJdbcRepository;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductJdbcRepository.StockDelta;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 재고 예약 원장 (LEDGER 모드)
+ *
+ * - 상품별 가용 재고를 메모리의 원자적 카운터로 관리하고, 주문 시 CAS로 예약한다. (상품 행 락 없음)
+ * - 카운터는 상품을 처음 예약할 때 products.stock 값으로 초기화한다.
+ * - 트랜잭션이 커밋되면 확정된 재고/판매량 변화량을 누적하고, 롤백되면 예약 수량을 가용 재고로 되돌린다.
+ * - 누적된 변화량은 스케줄러가 주기적으로 모아 한 번의 배치 UPDATE로 DB에 반영한다.
+ * - LEDGER 모드에서는 모든 재고 변경이 이 원장을 거쳐야 한다. (원장을 우회한 DB 직접 갱신은 카운터와 어긋남)
+ * - 인스턴스마다 원장을 따로 가지므로 단일 인스턴스 운영을 전제로 한다. 다중 인스턴스에서는 DATABASE 모드를 사용한다.
+ */
+@Slf4j
+@Component
+public class StockReservationLedger {
+
+    private final ProductJdbcRepository productJdbcRepository;
+    private final StockReservationMode mode;
+
+    // 상품 ID -> 재고 카운터
+    private final ConcurrentHashMap<Long, StockCounter> counters = new ConcurrentHashMap<>();
+
+    public StockReservationLedger(
+            ProductJdbcRepository productJdbcRepository,
+            @Value("${ecommerce.stock.reservation-mode:DATABASE}") StockReservationMode mode
+    ) {
+        this.productJdbcRepository = productJdbcRepository;
+        this.mode = mode;
+    }
+
+    /**
+     * LEDGER 모드 사용 여부
+     */
+    public boolean isEnabled() {
+        return mode == StockReservationMode.LEDGER;
+    }
+
+    /**
+     * 재고 예약 (주문 생성 시)
+     * - 커밋 시: 재고 차감 + 판매량 증가 확정
+     * - 롤백 시: 예약 수량을 가용 재고로 복구
+     */
+    public void reserve(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new ProductException(ErrorCode.PRODUCT_DECREASE_QUANTITY_INVALID);
+        }
+
+        StockCounter counter = getOrLoad(productId);
+        counter.tryAcquire(quantity);
+
+        afterCompletion(
+                () -> {
+                    counter.pendingStockDelta.addAndGet(-quantity);
+                    counter.pendingSoldCountDelta.addAndGet(quantity);
+                },
+                () -> counter.available.addAndGet(quantity)
+        );
+    }
+
+    /**
+     * 예약 취소 (결제 실패 보상 시)
+     * - 커밋 시: 재고 복구 + 판매량 감소
+     */
+    public void release(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new ProductException(ErrorCode.PRODUCT_INCREASE_QUANTITY_INVALID);
+        }
+
+        StockCounter counter = getOrLoad(productId);
+
+        afterCompletion(
+                () -> {
+                    counter.available.addAndGet(quantity);
+                    counter.pendingStockDelta.addAndGet(quantity);
+                    counter.pendingSoldCountDelta.addAndGet(-quantity);
+                },
+                () -> { }
+        );
+    }
+
+    /**
+     * 재고 복구 (주문 취소, 관리자 재고 증가 시)
+     * - 커밋 시: 재고만 복구 (판매량은 변경하지 않음)
+     * - 커밋 전에는 가용 재고를 늘리지 않음 (롤백될 수 있는 재고를 다른 주문이 가져가지 않도록)
+     */
+    public void restock(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new ProductException(ErrorCode.PRODUCT_INCREASE_QUANTITY_INVALID);
+        }
+
+        StockCounter counter = getOrLoad(productId);
+
+        afterCompletion(
+                () -> {
+                    counter.available.addAndGet(quantity);
+                    counter.pendingStockDelta.addAndGet(quantity);
+                },
+                () -> { }
+        );
+    }
+
+    /**
+     * 재고 차감 (관리자 재고 감소 시)
+     * - 커밋 시: 재고만 차감 (판매량은 변경하지 않음)
+     * - 롤백 시: 차감 수량을 가용 재고로 복구
+     */
+    public void withdraw(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new ProductException(ErrorCode.PRODUCT_DECREASE_QUANTITY_INVALID);
+        }
+
+        StockCounter counter = getOrLoad(productId);
+        counter.tryAcquire(quantity);
+
+        afterCompletion(
+                () -> counter.pendingStockDelta.addAndGet(-quantity),
+                () -> counter.available.addAndGet(quantity)
+        );
+    }
+
+    /**
+     * 원장 기준 가용 재고 조회 (진행 중인 예약 제외)
+     */
+    public int getAvailableStock(Long productId) {
+        return getOrLoad(productId).available.get();
+    }
+
+    /**
+     * 누적된 재고/판매량 변화량을 DB에 일괄 반영
+     */
+    @Scheduled(fixedDelayString = "${ecommerce.stock.flush-interval-ms:200}")
+    public void flush() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        // 1. 상품별 변화량을 꺼내면서 0으로 초기화
+        List<StockDelta> deltas = new ArrayList<>();
+        counters.forEach((productId, counter) -> {
+            int stockDelta = counter.pendingStockDelta.getAndSet(0);
+            int soldCountDelta = counter.pendingSoldCountDelta.getAndSet(0);
+
+            if (stockDelta != 0 || soldCountDelta != 0) {
+                deltas.add(new StockDelta(productId, stockDelta, soldCountDelta));
+            }
+        });
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        // 2. 배치 UPDATE로 반영 (실패 시 변화량을 되돌려 다음 주기에 재시도)
+        try {
+            productJdbcRepository.applyStockDeltas(deltas);
+        } catch (DataAccessException e) {
+            log.error("재고 변화량 반영 실패, 다음 주기에 재시도합니다. (대상 상품 수: {})", deltas.size(), e);
+
+            for (StockDelta delta : deltas) {
+                StockCounter counter = counters.get(delta.productId());
+                counter.pendingStockDelta.addAndGet(delta.stockDelta());
+                counter.pendingSoldCountDelta.addAndGet(delta.soldCountDelta());
+            }
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 변화량 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private StockCounter getOrLoad(Long productId) {
+        return counters.computeIfAbsent(productId, id -> {
+            int stock = productJdbcRepository.findStockById(id)
+                    .orElseThrow(() -> new ProductException(ErrorCode.PRODUCT_NOT_FOUND));
+            return new StockCounter(stock);
+        });
+    }
+
+    /**
+     * 트랜잭션 완료 시점에 커밋/롤백 동작 실행
+     * - 트랜잭션이 없으면 즉시 커밋된 것으로 처리
+     */
+    private void afterCompletion(Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    onCommit.run();
+                } else {
+                    onRollback.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * 상품별 재고 카운터
+     * - available: 예약 가능한 재고 (진행 중인 예약은 이미 차감됨)
+     * - pendingStockDelta / pendingSoldCountDelta: 커밋되었지만 아직 DB에 반영되지 않은 변화량
+     */
+    private static final class StockCounter {
+
+        private final AtomicInteger available;
+        private final AtomicInteger pendingStockDelta = new AtomicInteger();
+        private final AtomicInteger pendingSoldCountDelta = new AtomicInteger();
+
+        private StockCounter(int initialStock) {
+            this.available = new AtomicInteger(initialStock);
+        }
+
+        /**
+         * CAS로 가용 재고 차감 (재고 부족 시 예외)
+         */
+        private void tryAcquire(int quantity) {
+            while (true) {
+                int current = available.get();
+
+                if (current < quantity) {
+                    throw new ProductException(ErrorCode.PRODUCT_OUT_OF_STOCK,
+                            " 현재 재고: " + current + ", 요청 수량: " + quantity);
+                }
+
+                if (available.compareAndSet(current, current - quantity)) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -6,9 +6,11 @@ import io.hhplus.ECommerce.ECommerce_project.common.exception.CategoryException;
 import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
 import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
 import io.hhplus.ECommerce.ECommerce_project.product.application.command.UpdateProductCommand;
+import io.hhplus.ECommerce.ECommerce_project.product.application.event.ProductListingChangedEvent;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
 import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +20,7 @@ public class UpdateProductUseCase {
 
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Product execute(UpdateProductCommand command) {
@@ -64,7 +67,10 @@ public class UpdateProductUseCase {
             }
         }
 
-        // 3. 저장된 변경사항 반환
+        // 3. 노출 상태 변화 이벤트 발행 (활성 여부/카테고리 변경을 커밋 후 인기 상품 랭킹에 반영)
+        eventPublisher.publishEvent(new ProductListingChangedEvent(product.getId()));
+
+        // 4. 저장된 변경사항 반환
         return product;
     }
 
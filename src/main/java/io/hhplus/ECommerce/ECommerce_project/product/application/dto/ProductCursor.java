@@ -0,0 +1,90 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.dto;
+
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
+import io.hhplus.ECommerce.ECommerce_project.product.application.enums.ProductSortType;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 상품 목록 커서 (키셋 페이지네이션)
+ * - 마지막으로 조회한 상품의 (정렬 컬럼 값, id)를 담아 다음 페이지의 시작 위치로 사용
+ * - 클라이언트에는 내부 구조를 노출하지 않도록 Base64(URL-safe) 토큰으로 전달
+ */
+public record ProductCursor(
+        ProductSortType sortType,
+        String sortValue,
+        Long id
+) {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 마지막 상품으로부터 커서 생성
+     */
+    public static ProductCursor of(ProductSortType sortType, Product lastProduct) {
+        String sortValue = switch (sortType) {
+            case LATEST -> lastProduct.getCreatedAt().toString();
+            case POPULAR -> String.valueOf(lastProduct.getSoldCount());
+            case VIEWED -> String.valueOf(lastProduct.getViewCount());
+            case PRICE_LOW, PRICE_HIGH -> lastProduct.getPrice().toPlainString();
+        };
+
+        return new ProductCursor(sortType, sortValue, lastProduct.getId());
+    }
+
+    /**
+     * 토큰 -> 커서 복원 (요청한 정렬 기준과 다르거나 형식이 잘못되면 예외)
+     */
+    public static ProductCursor decode(String token, ProductSortType expectedSortType) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + DELIMITER, -1);
+
+            if (parts.length != 3) {
+                throw new ProductException(ErrorCode.PRODUCT_CURSOR_INVALID);
+            }
+
+            ProductCursor cursor = new ProductCursor(
+                    ProductSortType.valueOf(parts[0]),
+                    parts[1],
+                    Long.parseLong(parts[2])
+            );
+
+            if (cursor.sortType() != expectedSortType) {
+                throw new ProductException(ErrorCode.PRODUCT_CURSOR_INVALID,
+                        " 커서의 정렬 기준(" + cursor.sortType() + ")과 요청한 정렬 기준(" + expectedSortType + ")이 다릅니다.");
+            }
+
+            // 정렬 컬럼 타입에 맞게 파싱 가능한지 미리 확인
+            cursor.typedSortValue();
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ProductException(ErrorCode.PRODUCT_CURSOR_INVALID);
+        }
+    }
+
+    /**
+     * 커서 -> 토큰
+     */
+    public String encode() {
+        String raw = sortType.name() + DELIMITER + sortValue + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 정렬 컬럼 타입에 맞는 커서 값
+     */
+    public Object typedSortValue() {
+        return switch (sortType) {
+            case LATEST -> LocalDateTime.parse(sortValue);
+            case POPULAR, VIEWED -> Integer.parseInt(sortValue);
+            case PRICE_LOW, PRICE_HIGH -> new BigDecimal(sortValue);
+        };
+    }
+}
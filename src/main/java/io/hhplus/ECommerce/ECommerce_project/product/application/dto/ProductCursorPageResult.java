@@ -0,0 +1,23 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.dto;
+
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ProductCursorPageResult {
+    private final List<Product> products;
+    private final int size;
+    private final String nextCursor;     // 다음 페이지 토큰 (마지막 페이지면 null)
+    private final boolean hasNext;
+    private final Long totalElements;    // 요청한 경우에만 계산 (기본 null)
+
+    public ProductCursorPageResult(List<Product> products, int size, String nextCursor, boolean hasNext, Long totalElements) {
+        this.products = products;
+        this.size = size;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+        this.totalElements = totalElements;
+    }
+}
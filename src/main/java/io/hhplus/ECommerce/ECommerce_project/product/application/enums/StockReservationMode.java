@@ -0,0 +1,17 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.enums;
+
+public enum StockReservationMode {
+
+    DATABASE("상품 행 비관적 락으로 재고 차감"),
+    LEDGER("메모리 재고 원장에서 CAS로 예약 후 DB에 일괄 반영");
+
+    private final String description;
+
+    StockReservationMode(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
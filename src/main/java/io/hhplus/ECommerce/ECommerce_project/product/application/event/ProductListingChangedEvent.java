@@ -0,0 +1,10 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.event;
+
+/**
+ * 상품 노출 상태 변화 이벤트
+ * - 등록, 활성화/비활성화, 삭제, 카테고리 변경 등 목록 노출 여부나 위치가 바뀔 때 발행
+ */
+public record ProductListingChangedEvent(
+        Long productId
+) {
+}
@@ -0,0 +1,11 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.event;
+
+/**
+ * 상품 판매량 변화 이벤트
+ * - 주문 생성 시 양수, 주문 취소/결제 실패 보상 시 음수
+ */
+public record ProductSoldCountChangedEvent(
+        Long productId,
+        int delta
+) {
+}
@@ -7,6 +7,7 @@ import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -14,6 +15,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "products")
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)  // JPA를 위한 기본 생성자
@@ -334,6 +336,30 @@ public class Product extends BaseEntity {
         }
     }
 
+    /**
+     * 재고를 제외한 주문 조건 검증 (예외 발생)
+     * - 재고는 재고 예약 원장에서 따로 검증하는 경우 사용
+     */
+    public void validateOrderCondition(int quantity) {
+        // 1. 비활성 상품 체크
+        if (!this.isActive) {
+            throw new ProductException(ErrorCode.PRODUCT_NOT_ACTIVE,
+                    " 비활성 상태의 상품은 주문할 수 없습니다.");
+        }
+
+        // 2. 최소 주문량 체크
+        if (this.minOrderQuantity != null && quantity < this.minOrderQuantity) {
+            throw new ProductException(ErrorCode.PRODUCT_MIN_ORDER_QUANTITY_NOT_MET,
+                    " 최소 주문량: " + this.minOrderQuantity + ", 요청 수량: " + quantity);
+        }
+
+        // 3. 최대 주문량 체크
+        if (this.maxOrderQuantity != null && quantity > this.maxOrderQuantity) {
+            throw new ProductException(ErrorCode.PRODUCT_MAX_ORDER_QUANTITY_EXCEEDED,
+                    " 최대 주문량: " + this.maxOrderQuantity + ", 요청 수량: " + quantity);
+        }
+    }
+
     /**
      * 재고 있음 여부
      */
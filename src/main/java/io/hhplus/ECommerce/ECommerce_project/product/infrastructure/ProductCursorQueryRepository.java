@@ -0,0 +1,75 @@
+package io.hhplus.ECommerce.ECommerce_project.product.infrastructure;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.enums.ProductSortType;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 상품 목록 키셋(seek) 페이지네이션 조회
+ * - OFFSET 없이 (정렬 컬럼, id) 기준으로 마지막 위치 다음부터 조회하므로 깊은 페이지에서도 스캔량이 일정함
+ * - (category_id, 정렬 컬럼, id) / (정렬 컬럼, id) 복합 인덱스를 타도록 조건과 정렬 순서를 맞춤
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductCursorQueryRepository {
+
+    private final EntityManager entityManager;
+
+    /**
+     * 마지막 위치(lastSortValue, lastId) 다음부터 limit개 조회 (lastId가 null이면 첫 페이지)
+     */
+    public List<Product> findProductsAfter(
+            Long categoryId,
+            ProductSortType sortType,
+            Object lastSortValue,
+            Long lastId,
+            int limit
+    ) {
+        String column = sortColumn(sortType);
+        boolean ascending = sortType == ProductSortType.PRICE_LOW;
+        String comparator = ascending ? ">" : "<";
+        String direction = ascending ? "ASC" : "DESC";
+
+        StringBuilder jpql = new StringBuilder("SELECT p FROM Product p WHERE p.isActive = true AND p.deletedAt IS NULL");
+
+        if (categoryId != null) {
+            jpql.append(" AND p.category.id = :categoryId");
+        }
+
+        // 키셋 조건: (정렬 컬럼, id)가 커서보다 뒤에 있는 행만
+        if (lastId != null) {
+            jpql.append(" AND (p.").append(column).append(" ").append(comparator).append(" :sortValue")
+                    .append(" OR (p.").append(column).append(" = :sortValue AND p.id ").append(comparator).append(" :cursorId))");
+        }
+
+        jpql.append(" ORDER BY p.").append(column).append(" ").append(direction)
+                .append(", p.id ").append(direction);
+
+        TypedQuery<Product> query = entityManager.createQuery(jpql.toString(), Product.class);
+
+        if (categoryId != null) {
+            query.setParameter("categoryId", categoryId);
+        }
+
+        if (lastId != null) {
+            query.setParameter("sortValue", lastSortValue);
+            query.setParameter("cursorId", lastId);
+        }
+
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    private String sortColumn(ProductSortType sortType) {
+        return switch (sortType) {
+            case LATEST -> "createdAt";
+            case POPULAR -> "soldCount";
+            case VIEWED -> "viewCount";
+            case PRICE_LOW, PRICE_HIGH -> "price";
+        };
+    }
+}
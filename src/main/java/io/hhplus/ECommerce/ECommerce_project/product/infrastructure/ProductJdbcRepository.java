@@ -0,0 +1,135 @@
+package io.hhplus.ECommerce.ECommerce_project.product.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 상품 테이블 JDBC 전용 리포지토리
+ * - 엔티티를 거치지 않는 증분(delta) 갱신을 배치로 처리할 때 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 현재 DB에 반영된 재고 조회 (락 없이)
+     */
+    public Optional<Integer> findStockById(Long productId) {
+        List<Integer> result = jdbcTemplate.queryForList(
+                "SELECT stock FROM products WHERE id = ?",
+                Integer.class,
+                productId
+        );
+        return result.stream().findFirst();
+    }
+
+    /**
+     * 재고/판매량 변화량 일괄 반영
+     * - stock = stock + ?, sold_count = sold_count + ? 형태의 상대 갱신이므로 다른 트랜잭션의 갱신을 덮어쓰지 않음
+     */
+    public void applyStockDeltas(List<StockDelta> deltas) {
+        jdbcTemplate.batchUpdate(
+                "UPDATE products SET stock = stock + ?, sold_count = sold_count + ?, updated_at = CURRENT_TIMESTAMP WHERE id = ?",
+                deltas,
+                deltas.size(),
+                (ps, delta) -> {
+                    ps.setInt(1, delta.stockDelta());
+                    ps.setInt(2, delta.soldCountDelta());
+                    ps.setLong(3, delta.productId());
+                }
+        );
+    }
+
+    /**
+     * 주문 취소 재고 복구 + 판매량 감소 일괄 반영 (ProductRepository.restoreStockForCancel과 같은 조건)
+     * - productIds 순서대로 실행되므로 행 락도 그 순서로 잡힌다. (OrderResourceLocker.Session.productIdsInLockOrder 순서로 전달)
+     * - 드라이버가 건별 결과를 알려주지 않는 경우(SUCCESS_NO_INFO)는 성공으로 본다.
+     * @return 갱신되지 않은 상품 id (상품이 없거나 판매량이 취소량보다 작은 경우)
+     */
+    public List<Long> restoreStocksForCancel(List<Long> productIds, Map<Long, Integer> quantityByProductId) {
+        int[][] updated = jdbcTemplate.batchUpdate(
+                "UPDATE products SET stock = stock + ?, sold_count = sold_count - ?, updated_at = CURRENT_TIMESTAMP " +
+                        "WHERE id = ? AND sold_count >= ? AND deleted_at IS NULL",
+                productIds,
+                productIds.size(),
+                (ps, productId) -> {
+                    int quantity = quantityByProductId.get(productId);
+                    ps.setInt(1, quantity);
+                    ps.setInt(2, quantity);
+                    ps.setLong(3, productId);
+                    ps.setInt(4, quantity);
+                }
+        );
+
+        List<Long> notRestored = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : updated) {
+            for (int rows : batch) {
+                if (rows == 0) {
+                    notRestored.add(productIds.get(index));
+                }
+                index++;
+            }
+        }
+        return notRestored;
+    }
+
+    /**
+     * 조회수 증가분 일괄 반영
+     * - view_count = view_count + ? 형태의 상대 갱신 (updated_at은 상품 정보 변경이 아니므로 갱신하지 않음)
+     */
+    public void applyViewCountIncrements(Map<Long, Long> increments) {
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(increments.entrySet());
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE products SET view_count = view_count + ? WHERE id = ?",
+                entries,
+                entries.size(),
+                (ps, entry) -> {
+                    ps.setLong(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                }
+        );
+    }
+
+    /**
+     * 목록에 노출되는(활성, 삭제되지 않은) 상품의 랭킹 정보 전체 조회
+     */
+    public List<ProductRankingRow> findAllRankingRows() {
+        return jdbcTemplate.query(
+                "SELECT id, category_id, sold_count FROM products WHERE is_active = TRUE AND deleted_at IS NULL",
+                (rs, rowNum) -> new ProductRankingRow(rs.getLong("id"), rs.getLong("category_id"), rs.getInt("sold_count"))
+        );
+    }
+
+    /**
+     * 목록에 노출되는 상품의 랭킹 정보 단건 조회 (비활성/삭제 상품이면 empty)
+     */
+    public Optional<ProductRankingRow> findRankingRow(Long productId) {
+        return jdbcTemplate.query(
+                "SELECT id, category_id, sold_count FROM products WHERE id = ? AND is_active = TRUE AND deleted_at IS NULL",
+                (rs, rowNum) -> new ProductRankingRow(rs.getLong("id"), rs.getLong("category_id"), rs.getInt("sold_count")),
+                productId
+        ).stream().findFirst();
+    }
+
+    /**
+     * 상품별 재고/판매량 변화량
+     */
+    public record StockDelta(Long productId, int stockDelta, int soldCountDelta) {
+    }
+
+    /**
+     * 상품 랭킹 정보 (인기 상품 랭킹 초기화용)
+     */
+    public record ProductRankingRow(Long productId, Long categoryId, int soldCount) {
+    }
+}
@@ -0,0 +1,47 @@
+package io.hhplus.ECommerce.ECommerce_project.product.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 인기 상품 랭킹 스냅샷 JDBC 리포지토리
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductPopularitySnapshotJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 스냅샷 전체 교체 (기존 스냅샷 삭제 후 일괄 저장, 하나의 트랜잭션)
+     */
+    @Transactional
+    public void replaceAll(List<SnapshotRow> rows, LocalDateTime snapshotAt) {
+        jdbcTemplate.update("DELETE FROM product_popularity_snapshots");
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO product_popularity_snapshots (category_id, ranking, product_id, sold_count, snapshot_at) VALUES (?, ?, ?, ?, ?)",
+                rows,
+                rows.size(),
+                (ps, row) -> {
+                    ps.setLong(1, row.categoryId());
+                    ps.setInt(2, row.ranking());
+                    ps.setLong(3, row.productId());
+                    ps.setInt(4, row.soldCount());
+                    ps.setTimestamp(5, Timestamp.valueOf(snapshotAt));
+                }
+        );
+    }
+
+    /**
+     * 스냅샷 행 (categoryId = 0 은 전체 랭킹)
+     */
+    public record SnapshotRow(Long categoryId, int ranking, Long productId, int soldCount) {
+    }
+}
@@ -6,23 +6,61 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
 
     // ID로 조회 (삭제되지 않은 상품만)
     @Query("SELECT p FROM Product p WHERE p.id = :id AND p.deletedAt IS NULL")
     Optional<Product> findByIdActive(@Param("id") Long id);
 
+    // ID 목록으로 조회 (삭제되지 않은 상품만, 장바구니 주문 사전 검증용)
+    @Query("SELECT p FROM Product p WHERE p.id IN :ids AND p.deletedAt IS NULL")
+    List<Product> findAllByIdIn(@Param("ids") Collection<Long> ids);
+
     // ID로 조회 + PESSIMISTIC LOCK (재고 차감용)
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT p FROM Product p WHERE p.id = :id AND p.deletedAt IS NULL")
     Optional<Product> findByIdWithLock(@Param("id") Long id);
 
+    // ===== 조건부 재고 변경 (단일 UPDATE, 영향받은 행 수로 성공 여부 판단) =====
+    // - 상품 행을 읽고 잠근 뒤 엔티티를 수정하는 대신 UPDATE 한 문장으로 검증과 변경을 함께 처리
+    // - 영속성 컨텍스트의 엔티티는 갱신되지 않으므로 이후 값이 필요하면 findByIdRefreshed로 다시 읽어야 함
+    // - updated_at은 DB의 ON UPDATE CURRENT_TIMESTAMP로 갱신됨
+
+    // 주문 재고 차감 + 판매량 증가 (재고 부족, 비활성, 삭제된 상품이면 0건)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock - :quantity, p.soldCount = p.soldCount + :quantity " +
+            "WHERE p.id = :id AND p.stock >= :quantity AND p.isActive = true AND p.deletedAt IS NULL")
+    int decreaseStockForOrder(@Param("id") Long id, @Param("quantity") int quantity);
+
+    // 주문 취소/결제 실패 재고 복구 + 판매량 감소 (판매량이 취소량보다 작거나 삭제된 상품이면 0건)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock + :quantity, p.soldCount = p.soldCount - :quantity " +
+            "WHERE p.id = :id AND p.soldCount >= :quantity AND p.deletedAt IS NULL")
+    int restoreStockForCancel(@Param("id") Long id, @Param("quantity") int quantity);
+
+    // 재고 차감 (재고 부족하거나 삭제된 상품이면 0건)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock - :quantity WHERE p.id = :id AND p.stock >= :quantity AND p.deletedAt IS NULL")
+    int decreaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    // 재고 증가 (삭제된 상품이면 0건)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock + :quantity WHERE p.id = :id AND p.deletedAt IS NULL")
+    int increaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+
     // 카테고리, 활성화 상품 개수
     @Query("SELECT COUNT(p) FROM Product p WHERE p.isActive = true AND (:categoryId IS NULL OR p.category.id = :categoryId) AND p.deletedAt IS NULL")
     long countActiveProducts(@Param("categoryId") Long categoryId);
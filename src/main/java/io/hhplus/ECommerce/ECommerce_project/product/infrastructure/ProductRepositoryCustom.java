@@ -0,0 +1,19 @@
+package io.hhplus.ECommerce.ECommerce_project.product.infrastructure;
+
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ProductRepositoryCustom {
+
+    // ID로 조회 (삭제되지 않은 상품만, 영속성 컨텍스트에 있으면 DB 값으로 다시 읽음, 조건부 UPDATE 이후 사용)
+    @Transactional
+    Optional<Product> findByIdRefreshed(Long id);
+
+    // ID 목록으로 조회 + PESSIMISTIC LOCK (삭제되지 않은 상품만, id 오름차순으로 한 번에 잠금, 잠근 시점의 DB 값으로 읽음)
+    @Transactional
+    List<Product> findAllByIdInWithLock(Collection<Long> ids);
+}
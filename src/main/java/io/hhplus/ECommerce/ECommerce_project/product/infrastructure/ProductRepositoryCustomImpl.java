@@ -0,0 +1,69 @@
+package io.hhplus.ECommerce.ECommerce_project.product.infrastructure;
+
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * ProductRepository 커스텀 구현
+ */
+@RequiredArgsConstructor
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    /**
+     * 조건부 UPDATE는 영속성 컨텍스트를 거치지 않으므로 이미 로딩된 엔티티는 refresh,
+     * 아직 로딩되지 않았으면 프록시를 초기화하여 SELECT 한 번으로 최신 값을 읽음
+     */
+    @Override
+    public Optional<Product> findByIdRefreshed(Long id) {
+        Product product = entityManager.getReference(Product.class, id);
+
+        try {
+            if (Hibernate.isInitialized(product)) {
+                entityManager.refresh(product);
+            } else {
+                Hibernate.initialize(product);
+            }
+        } catch (EntityNotFoundException e) {
+            return Optional.empty();
+        }
+
+        // 삭제된 상품은 제외 (findByIdWithLock과 동일)
+        return product.getDeletedAt() == null ? Optional.of(product) : Optional.empty();
+    }
+
+    /**
+     * 잠금 쿼리는 이미 영속성 컨텍스트에 있는 엔티티의 값을 덮어쓰지 않으므로,
+     * 로딩된 상품은 먼저 분리한 뒤 SELECT ... FOR UPDATE 한 번으로 최신 값을 읽음
+     */
+    @Override
+    public List<Product> findAllByIdInWithLock(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        TreeSet<Long> sortedIds = new TreeSet<>(ids);
+        for (Long id : sortedIds) {
+            Product product = entityManager.getReference(Product.class, id);
+            if (Hibernate.isInitialized(product)) {
+                entityManager.detach(product);
+            }
+        }
+
+        return entityManager.createQuery(
+                        "SELECT p FROM Product p WHERE p.id IN :ids AND p.deletedAt IS NULL ORDER BY p.id", Product.class)
+                .setParameter("ids", sortedIds)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+    }
+}
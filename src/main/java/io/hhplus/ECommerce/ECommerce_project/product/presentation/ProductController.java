@@ -3,6 +3,7 @@ package io.hhplus.ECommerce.ECommerce_project.product.presentation;
 import io.hhplus.ECommerce.ECommerce_project.product.application.*;
 import io.hhplus.ECommerce.ECommerce_project.product.application.enums.ProductSortType;
 import io.hhplus.ECommerce.ECommerce_project.product.presentation.request.*;
+import io.hhplus.ECommerce.ECommerce_project.product.presentation.response.CursorPageResponse;
 import io.hhplus.ECommerce.ECommerce_project.product.presentation.response.PageResponse;
 import io.hhplus.ECommerce.ECommerce_project.product.presentation.response.ProductResponse;
 import jakarta.validation.Valid;
@@ -66,6 +67,32 @@ public class ProductController {
         return ResponseEntity.ok(pageResponse);
     }
 
+    /**
+     * 상품 목록 조회 - 커서 기반(전체, 카테고리별, 정렬)
+     * - 응답의 nextCursor를 다음 요청의 cursor로 전달
+     * - 전체 개수는 includeTotalCount=true일 때만 포함
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponse<ProductResponse>> getProductListByCursor(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "LATEST") ProductSortType sortType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotalCount
+    ) {
+        var result = getProductListUseCase.executeByCursor(categoryId, sortType, cursor, size, includeTotalCount);
+
+        CursorPageResponse<ProductResponse> pageResponse = new CursorPageResponse<>(
+                ProductResponse.from(result.getProducts()),
+                result.getSize(),
+                result.getNextCursor(),
+                result.isHasNext(),
+                result.getTotalElements()
+        );
+
+        return ResponseEntity.ok(pageResponse);
+    }
+
     /**
      * 상품 단건 조회
      */
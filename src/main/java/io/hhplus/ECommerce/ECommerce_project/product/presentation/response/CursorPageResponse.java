@@ -0,0 +1,12 @@
+package io.hhplus.ECommerce.ECommerce_project.product.presentation.response;
+
+import java.util.List;
+
+public record CursorPageResponse<T>(
+        List<T> content,
+        int pageSize,
+        String nextCursor,
+        boolean hasNext,
+        Long totalElements
+) {
+}
@@ -4,9 +4,13 @@ import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -15,4 +19,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT u FROM User u WHERE u.id = :userId")
     Optional<User> findByIdWithLock(@Param("userId") Long userId);
+
+    // 여러 유저 조회 (비관적 락, id 오름차순으로 한 번에 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id IN :userIds ORDER BY u.id ASC")
+    List<User> findAllByIdInWithLock(@Param("userIds") Collection<Long> userIds);
+
+    // 포인트 잔액만 조회 (PK 조회 1번, 포인트 내역을 읽지 않음)
+    @Query("SELECT u.pointBalance FROM User u WHERE u.id = :userId")
+    Optional<BigDecimal> findPointBalanceById(@Param("userId") Long userId);
+
+    // 포인트 잔액 증가 (원자적 UPDATE, 영향받은 행 수 0이면 사용자 없음)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.pointBalance = u.pointBalance + :amount, u.updatedAt = CURRENT_TIMESTAMP WHERE u.id = :userId")
+    int increasePointBalance(@Param("userId") Long userId, @Param("amount") BigDecimal amount);
 }
@@ -0,0 +1,5 @@
+-- 미결제 주문 만료 배치용 인덱스
+-- PendingOrderExpiryJdbcRepository.findExpiryCandidates
+--   (status = 'PENDING' AND created_at < 만료 기준 시각, (created_at, id) 키셋 순서로 청크 조회)
+-- InnoDB 보조 인덱스는 PK(id)를 뒤에 포함하므로 (created_at, id) 정렬도 인덱스 순서로 처리됨
+CREATE INDEX idx_orders_status_created ON orders (status, created_at);
@@ -0,0 +1,4 @@
+-- 결제 대사(PENDING 결제 확정)용 인덱스
+-- PaymentRepository.findByPaymentStatusAndCreatedAtBeforeOrderByCreatedAtAsc
+--   (payment_status = 'PENDING' AND created_at < 기준 시각, created_at 순으로 batch-size건)
+CREATE INDEX idx_payments_status_created ON payments (payment_status, created_at);
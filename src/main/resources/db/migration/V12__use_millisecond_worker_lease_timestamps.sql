@@ -0,0 +1,4 @@
+-- Snowflake 워커 ID 임대 시각을 밀리초 단위로 저장
+-- 임대 시각을 DB 시계(LOCALTIMESTAMP(3)) 기준으로 계산하면서, 초 단위 반올림으로 임대 만료/반납 시각이 앞당겨지지 않도록 함
+ALTER TABLE id_worker_leases MODIFY COLUMN leased_until TIMESTAMP(3) NOT NULL COMMENT '임대 만료 시각';
+ALTER TABLE id_worker_leases MODIFY COLUMN updated_at TIMESTAMP(3) NOT NULL COMMENT '마지막 갱신 시각';
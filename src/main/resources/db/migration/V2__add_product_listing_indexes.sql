@@ -0,0 +1,14 @@
+-- 상품 목록 키셋(seek) 페이지네이션용 복합 인덱스
+-- (정렬 컬럼, id) 순서로 정렬/범위 조건을 인덱스만으로 처리하여 OFFSET 스캔과 filesort를 제거
+
+-- 카테고리 필터 + 정렬
+CREATE INDEX idx_products_category_created ON products (category_id, created_at, id);
+CREATE INDEX idx_products_category_sold ON products (category_id, sold_count, id);
+CREATE INDEX idx_products_category_view ON products (category_id, view_count, id);
+CREATE INDEX idx_products_category_price ON products (category_id, price, id);
+
+-- 전체 목록 + 정렬
+CREATE INDEX idx_products_created ON products (created_at, id);
+CREATE INDEX idx_products_sold ON products (sold_count, id);
+CREATE INDEX idx_products_view ON products (view_count, id);
+CREATE INDEX idx_products_price ON products (price, id);
@@ -0,0 +1,11 @@
+-- 인기 상품 랭킹 스냅샷 테이블
+-- 메모리 랭킹의 카테고리별 상위 N개를 주기적으로 기록 (category_id = 0 은 전체 랭킹)
+CREATE TABLE product_popularity_snapshots (
+    category_id BIGINT NOT NULL COMMENT '카테고리 ID (0: 전체)',
+    ranking INT NOT NULL COMMENT '순위 (1부터 시작)',
+    product_id BIGINT NOT NULL COMMENT '상품 ID',
+    sold_count INT NOT NULL COMMENT '스냅샷 시점 판매량',
+    snapshot_at TIMESTAMP NOT NULL COMMENT '스냅샷 시각',
+
+    PRIMARY KEY (category_id, ranking)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
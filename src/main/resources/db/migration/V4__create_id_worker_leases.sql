@@ -0,0 +1,11 @@
+-- Snowflake 워커 ID 임대 테이블
+-- 인스턴스마다 서로 다른 워커 ID(0 ~ 1023)를 사용하도록 임대하고, 주기적으로 leased_until을 연장
+-- leased_until이 지난 행은 다른 인스턴스가 다시 임대할 수 있음
+CREATE TABLE id_worker_leases (
+    worker_id INT NOT NULL COMMENT '워커 ID (0 ~ 1023)',
+    instance_id VARCHAR(100) NOT NULL COMMENT '임대한 인스턴스 식별자',
+    leased_until TIMESTAMP NOT NULL COMMENT '임대 만료 시각',
+    updated_at TIMESTAMP NOT NULL COMMENT '마지막 갱신 시각',
+
+    PRIMARY KEY (worker_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
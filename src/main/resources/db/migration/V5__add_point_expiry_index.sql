@@ -0,0 +1,4 @@
+-- 포인트 만료 배치용 인덱스
+-- 만료 대상(is_expired = FALSE, is_used = FALSE)을 expired_at 범위로 찾고 (expired_at, id) 키셋 순서로 읽음
+-- InnoDB 보조 인덱스는 PK(id)를 뒤에 포함하므로 ORDER BY expired_at, id를 인덱스 순서로 처리 (filesort 없음)
+CREATE INDEX idx_points_expiry ON points (is_expired, is_used, expired_at);
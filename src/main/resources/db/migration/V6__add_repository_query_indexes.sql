@@ -0,0 +1,40 @@
+-- 리포지토리 조회 쿼리용 복합 인덱스
+-- 각 인덱스 위의 주석은 인덱스를 사용하는 리포지토리 메서드
+-- InnoDB 보조 인덱스는 PK(id)를 뒤에 포함하므로 (..., id) 정렬/키셋 조건도 인덱스 순서로 처리됨
+-- 검증: QueryIndexUsageExplainTest (마이그레이션을 적용한 DB에서 각 쿼리의 실행 계획에 전체 스캔이 없는지 확인)
+
+-- 상품
+-- ProductRepository.countActiveProducts / findProducts (카테고리 필터)
+CREATE INDEX idx_products_category_active ON products (category_id, is_active, deleted_at);
+
+-- 포인트
+-- PointRepository.findAvailablePointsByUserId / findAvailablePointsByUserIdWithLock
+--   (사용 완료/만료 포인트 행을 읽지 않아 FOR UPDATE로 잠그는 행도 사용 가능한 포인트로 한정됨)
+CREATE INDEX idx_points_user_available ON points (user_id, is_used, is_expired, created_at);
+-- PointRepository.findByUserIdWithPaging / countByUserIdAndDeletedAtIsNull
+CREATE INDEX idx_points_user_created ON points (user_id, created_at);
+
+-- 주문
+-- OrderRepository.findByUserIdWithPaging / countByUserId (상태 필터 없음)
+CREATE INDEX idx_orders_user_created ON orders (user_id, created_at);
+-- OrderRepository.findByUserIdWithPaging / countByUserId (상태 필터)
+CREATE INDEX idx_orders_user_status_created ON orders (user_id, status, created_at);
+
+-- 사용자 쿠폰
+-- UserCouponRepository.findByUser_IdAndCoupon_Id(WithLock) / findByUser_Id
+-- IssueCouponUseCase의 DataIntegrityViolationException(중복 발급) 처리가 전제하는 유니크 제약 (UserCoupon 엔티티의 uk_user_coupon)
+-- 적용 전 중복 행이 있으면 실패하므로 먼저 확인:
+--   SELECT user_id, coupon_id, COUNT(*) FROM user_coupons GROUP BY user_id, coupon_id HAVING COUNT(*) > 1;
+ALTER TABLE user_coupons ADD CONSTRAINT uk_user_coupon UNIQUE (user_id, coupon_id);
+-- UserCouponRepository.findByUser_IdAndStatus
+CREATE INDEX idx_user_status ON user_coupons (user_id, status);
+
+-- 장바구니
+-- CartRepository.findAllByUser_Id / findByUser_IdAndProduct_Id
+CREATE INDEX idx_carts_user_product ON carts (user_id, product_id);
+
+-- 포인트 사용 이력
+-- PointUsageHistoryRepository.findByOrders_IdAndCanceledAtIsNull
+CREATE INDEX idx_point_usage_histories_order ON point_usage_histories (order_id, canceled_at);
+-- PointUsageHistoryRepository.findByPoint_IdAndCanceledAtIsNull
+CREATE INDEX idx_point_usage_histories_point ON point_usage_histories (point_id, canceled_at);
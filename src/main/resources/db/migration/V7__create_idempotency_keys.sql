@@ -0,0 +1,18 @@
+-- 멱등성 키 테이블 (주문/결제 POST의 Idempotency-Key 헤더)
+-- 같은 키로 다시 들어온 요청은 저장된 응답을 그대로 돌려주고 주문/결제 로직을 다시 실행하지 않음
+-- IN_PROGRESS: 처리 중 (행 선점), COMPLETED: 응답 저장 완료
+-- expires_at이 지난 행은 주기적으로 삭제
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(100) NOT NULL COMMENT '클라이언트가 보낸 Idempotency-Key',
+    request_fingerprint CHAR(64) NOT NULL COMMENT '요청 지문 (SHA-256: 메서드 + URI + 본문)',
+    status VARCHAR(20) NOT NULL COMMENT '처리 상태 (IN_PROGRESS, COMPLETED)',
+    response_status INT NULL COMMENT '저장된 응답 HTTP 상태 코드',
+    response_content_type VARCHAR(100) NULL COMMENT '저장된 응답 Content-Type',
+    response_body MEDIUMTEXT NULL COMMENT '저장된 응답 본문',
+    created_at TIMESTAMP NOT NULL COMMENT '처리 시작 시각',
+    expires_at TIMESTAMP NOT NULL COMMENT '보관 만료 시각',
+
+    PRIMARY KEY (idempotency_key)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE INDEX idx_idempotency_keys_expires ON idempotency_keys (expires_at);
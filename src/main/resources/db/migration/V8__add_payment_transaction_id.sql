@@ -0,0 +1,3 @@
+-- 결제 대행사 승인 번호
+-- 결제 대행사 호출을 주문 행 락 밖으로 옮기면서 PENDING 결제를 먼저 저장하고, 승인 후 승인 번호를 기록
+ALTER TABLE payments ADD COLUMN transaction_id VARCHAR(100) NULL COMMENT '결제 대행사 승인 번호';
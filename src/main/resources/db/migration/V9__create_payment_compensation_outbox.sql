@@ -0,0 +1,19 @@
+-- 결제 실패 보상 아웃박스 (결제 확정 트랜잭션에서 함께 기록)
+-- 결제가 실패한 주문의 리소스 복구(쿠폰, 포인트, 재고)는 백그라운드 디스패처가 묶어서 처리
+-- 주문 1건당 1행 (order_id가 PK라 같은 주문의 보상이 두 번 기록되지 않음)
+-- PENDING: 처리 대기, DONE: 복구 완료 (복구와 같은 트랜잭션에서 변경), FAILED: 재시도 횟수 초과
+-- next_attempt_at: 다음 처리 가능 시각 (재시도 대기 시간 및 디스패처가 가져간 행의 선점 기한)
+CREATE TABLE payment_compensation_outbox (
+    order_id BIGINT NOT NULL COMMENT '결제가 실패한 주문 ID',
+    payment_id BIGINT NOT NULL COMMENT '실패한 결제 ID',
+    status VARCHAR(20) NOT NULL COMMENT '처리 상태 (PENDING, DONE, FAILED)',
+    attempts INT NOT NULL DEFAULT 0 COMMENT '처리 시도 횟수',
+    next_attempt_at TIMESTAMP NOT NULL COMMENT '다음 처리 가능 시각',
+    last_error VARCHAR(1000) NULL COMMENT '마지막 처리 실패 원인',
+    created_at TIMESTAMP NOT NULL COMMENT '기록 시각',
+    processed_at TIMESTAMP NULL COMMENT '처리 완료(또는 포기) 시각',
+
+    PRIMARY KEY (order_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE INDEX idx_payment_compensation_outbox_due ON payment_compensation_outbox (status, next_attempt_at);
@@ -0,0 +1,312 @@
+package io.hhplus.ECommerce.ECommerce_project.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
+import io.hhplus.ECommerce.ECommerce_project.category.infrastructure.CategoryRepository;
+import io.hhplus.ECommerce.ECommerce_project.common.filter.IdempotencyKeyFilter;
+import io.hhplus.ECommerce.ECommerce_project.common.infrastructure.IdempotencyKeyJdbcRepository;
+import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.OrderRepository;
+import io.hhplus.ECommerce.ECommerce_project.order.presentation.request.CreateOrderFromProductRequest;
+import io.hhplus.ECommerce.ECommerce_project.point.domain.entity.Point;
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointRepository;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
+import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
+import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 멱등성 키 필터 통합 테스트
+ * - 같은 Idempotency-Key로 다시 보낸 주문은 저장된 응답을 돌려주고, 재고/포인트는 한 번만 차감되어야 한다.
+ * - 같은 키로 다른 요청을 보내면 거부되어야 한다.
+ * - 응답 저장에 실패해도 클라이언트는 응답을 받고, 같은 키의 재시도는 주문을 다시 처리하지 않아야 한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("integration")
+@Import(IdempotencyKeyFilterIntegrationTest.FailingCompleteConfig.class)
+class IdempotencyKeyFilterIntegrationTest {
+
+    private static final int INITIAL_STOCK = 100;
+    private static final BigDecimal CHARGED = BigDecimal.valueOf(50000);
+    private static final BigDecimal POINT_PER_ORDER = BigDecimal.valueOf(1000);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PointRepository pointRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private IdempotencyKeyStore idempotencyKeyStore;
+
+    @Autowired
+    private IdempotencyKeyJdbcRepository idempotencyKeyJdbcRepository;
+
+    @Autowired
+    private FailingCompleteRepository failingCompleteRepository;
+
+    private User testUser;
+    private Product testProduct;
+
+    @TestConfiguration
+    static class FailingCompleteConfig {
+
+        @Bean
+        @Primary
+        FailingCompleteRepository failingCompleteRepository(JdbcTemplate jdbcTemplate) {
+            return new FailingCompleteRepository(jdbcTemplate);
+        }
+    }
+
+    /**
+     * 응답 저장(complete)만 실패시킬 수 있는 멱등성 키 리포지토리
+     */
+    static class FailingCompleteRepository extends IdempotencyKeyJdbcRepository {
+
+        private final AtomicBoolean failComplete = new AtomicBoolean(false);
+
+        FailingCompleteRepository(JdbcTemplate jdbcTemplate) {
+            super(jdbcTemplate);
+        }
+
+        @Override
+        public void complete(String idempotencyKey, int responseStatus, String contentType, String responseBody) {
+            if (failComplete.get()) {
+                throw new DataAccessResourceFailureException("테스트용 응답 저장 실패");
+            }
+            super.complete(idempotencyKey, responseStatus, contentType, responseBody);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        long suffix = System.nanoTime();
+        Category category = categoryRepository.save(Category.createCategory("멱등성카테고리_" + suffix, 1));
+        testProduct = productRepository.save(Product.createProduct(
+                category, "멱등성 상품", "멱등성 테스트용", BigDecimal.valueOf(10000), INITIAL_STOCK, 1, 10
+        ));
+
+        User user = new User("idempotency_user_" + suffix, "password", BigDecimal.ZERO, null, null);
+        user.chargePoint(CHARGED);
+        testUser = userRepository.save(user);
+        pointRepository.save(Point.charge(testUser, CHARGED, "멱등성 테스트 충전"));
+    }
+
+    @Test
+    @DisplayName("같은 키로 다시 보낸 주문은 같은 응답을 돌려주고 재고/포인트는 한 번만 차감되어야 한다")
+    void testDuplicateRequestReplaysStoredResponse() throws Exception {
+        // Given
+        String key = UUID.randomUUID().toString();
+        String body = orderBody(1);
+
+        // When
+        MockHttpServletResponse first = mockMvc.perform(orderRequest(key, body))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse();
+        MockHttpServletResponse second = mockMvc.perform(orderRequest(key, body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyKeyFilter.REPLAYED_HEADER, "true"))
+                .andReturn().getResponse();
+
+        // Then: 같은 주문 응답
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString());
+
+        // Then: 주문 1건, 재고/포인트 1회 차감
+        assertOrderedOnce();
+    }
+
+    @AfterEach
+    void tearDown() {
+        failingCompleteRepository.failComplete.set(false);
+    }
+
+    @Test
+    @DisplayName("응답 저장에 실패해도 처리된 주문의 응답을 받고, 같은 키의 재시도는 주문을 다시 처리하지 않아야 한다")
+    void testCompleteFailureKeepsResponseAndBlocksReprocessing() throws Exception {
+        // Given: 주문은 커밋되지만 응답 저장은 실패
+        String key = UUID.randomUUID().toString();
+        String body = orderBody(1);
+        failingCompleteRepository.failComplete.set(true);
+
+        // When
+        MockHttpServletResponse first = mockMvc.perform(orderRequest(key, body))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse();
+        MockHttpServletResponse retried = mockMvc.perform(orderRequest(key, body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyKeyFilter.REPLAYED_HEADER, "true"))
+                .andReturn().getResponse();
+
+        // Then: 처음 요청은 주문 응답 본문을 받고, 같은 인스턴스의 재시도는 메모리 캐시에서 재생
+        assertThat(first.getContentAsString()).contains("orderId");
+        assertThat(retried.getContentAsString()).isEqualTo(first.getContentAsString());
+
+        // Then: 키는 해제되지 않고 응답 없음으로 표시, 주문은 1건
+        assertThat(idempotencyKeyJdbcRepository.findByKey(key)).hasValueSatisfying(
+                record -> assertThat(record.isUnrecorded()).isTrue());
+        assertOrderedOnce();
+    }
+
+    @Test
+    @DisplayName("응답 저장에 실패한 키로 다른 인스턴스에 재시도하면 주문을 처리하지 않고 422로 거부되어야 한다")
+    void testUnrecordedKeyIsNotReprocessed() throws Exception {
+        // Given: 다른 인스턴스에서 처리 후 응답 저장에 실패한 키 (이 인스턴스의 메모리 캐시에는 없음)
+        String key = UUID.randomUUID().toString();
+        String body = orderBody(1);
+        mockMvc.perform(orderRequest(key, body)).andExpect(status().isCreated());
+        String otherKey = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        idempotencyKeyJdbcRepository.insertInProgress(otherKey, fingerprintOf(key), now, now.plusDays(1));
+        idempotencyKeyJdbcRepository.markUnrecorded(otherKey, 201);
+
+        // When & Then
+        mockMvc.perform(orderRequest(otherKey, body))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.code").value("IDEMPOTENCY_RESPONSE_UNRECORDED"));
+        assertOrderedOnce();
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청을 보내면 422로 거부되어야 한다")
+    void testKeyReuseWithDifferentRequestIsRejected() throws Exception {
+        // Given
+        String key = UUID.randomUUID().toString();
+        mockMvc.perform(orderRequest(key, orderBody(1)))
+                .andExpect(status().isCreated());
+
+        // When & Then
+        mockMvc.perform(orderRequest(key, orderBody(2)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.code").value("IDEMPOTENCY_KEY_REUSED"));
+
+        assertOrderedOnce();
+    }
+
+    @Test
+    @DisplayName("같은 키로 동시에 들어온 주문은 한 번만 처리되어야 한다")
+    void testConcurrentDuplicatesAreProcessedOnce() throws InterruptedException {
+        // Given
+        String key = UUID.randomUUID().toString();
+        String body = orderBody(1);
+        int threadCount = 10;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        Queue<Integer> statuses = new ConcurrentLinkedQueue<>();
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    statuses.add(mockMvc.perform(orderRequest(key, body)).andReturn().getResponse().getStatus());
+                } catch (Exception e) {
+                    statuses.add(-1);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+        executorService.shutdown();
+
+        // Then: 처리된 요청 또는 재생(201), 처리 중 거부(409)만 있어야 함
+        assertThat(statuses).hasSize(threadCount).allMatch(status -> status == 201 || status == 409);
+        assertThat(statuses).contains(201);
+        assertOrderedOnce();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 키는 정리 작업에서 삭제되어야 한다")
+    void testExpiredKeysAreCleanedUp() {
+        // Given
+        String key = UUID.randomUUID().toString();
+        LocalDateTime past = LocalDateTime.now().minusDays(2);
+        idempotencyKeyJdbcRepository.insertInProgress(key, "0".repeat(64), past, past.plusDays(1));
+
+        // When
+        int deleted = idempotencyKeyStore.cleanupExpired();
+
+        // Then
+        assertThat(deleted).isGreaterThanOrEqualTo(1);
+        assertThat(idempotencyKeyJdbcRepository.findByKey(key)).isEmpty();
+    }
+
+    private String fingerprintOf(String key) {
+        return idempotencyKeyJdbcRepository.findByKey(key).orElseThrow().requestFingerprint();
+    }
+
+    private RequestBuilder orderRequest(String key, String body) {
+        return post("/api/orders/from-product")
+                .header(IdempotencyKeyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body);
+    }
+
+    private String orderBody(int quantity) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(new CreateOrderFromProductRequest(
+                testUser.getId(), testProduct.getId(), quantity, POINT_PER_ORDER, null
+        ));
+    }
+
+    private void assertOrderedOnce() {
+        Product product = productRepository.findById(testProduct.getId()).orElseThrow();
+        assertThat(product.getStock()).isEqualTo(INITIAL_STOCK - 1);
+        assertThat(userRepository.findPointBalanceById(testUser.getId()).orElseThrow())
+                .isEqualByComparingTo(CHARGED.subtract(POINT_PER_ORDER));
+        assertThat(orderRepository.findAll())
+                .filteredOn(order -> order.getUser().getId().equals(testUser.getId()))
+                .hasSize(1);
+    }
+}
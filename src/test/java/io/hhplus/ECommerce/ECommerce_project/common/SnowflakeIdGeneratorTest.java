@@ -0,0 +1,155 @@
+package io.hhplus.ECommerce.ECommerce_project.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 생성해도 ID가 중복되지 않아야 한다")
+    void testConcurrentIdsAreUnique() throws InterruptedException {
+        // Given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7);
+        int threadCount = 32;
+        int idsPerThread = 10_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < idsPerThread; j++) {
+                        ids.add(generator.nextId());
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // Then
+        assertThat(ids).hasSize(threadCount * idsPerThread);
+        assertThat(ids).allMatch(id -> generator.extractWorkerId(id) == 7);
+    }
+
+    @Test
+    @DisplayName("시계가 역행해도 예외 없이 단조 증가하는 ID를 생성해야 한다")
+    void testClockMovingBackwardsKeepsIdsMonotonic() {
+        // Given
+        AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 1000, clock::get);
+        long before = generator.nextId();
+
+        // When: 시계가 5초 뒤로 감
+        clock.addAndGet(-5000);
+        long after1 = generator.nextId();
+        long after2 = generator.nextId();
+
+        // Then: 마지막 타임스탬프를 유지하고 시퀀스만 증가
+        assertThat(after1).isGreaterThan(before);
+        assertThat(after2).isGreaterThan(after1);
+        assertThat(generator.extractTimestamp(after2)).isEqualTo(generator.extractTimestamp(before));
+    }
+
+    @Test
+    @DisplayName("한 밀리초의 시퀀스를 모두 쓰면 허용 드리프트 안에서 다음 밀리초를 사용해야 한다")
+    void testSequenceExhaustionBorrowsNextMillisecond() {
+        // Given: 시계가 멈춰 있음
+        AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 5, clock::get);
+
+        // When: 한 밀리초 시퀀스(4096개) + 1개 생성
+        long first = generator.nextId();
+        long last = first;
+        for (int i = 0; i < 4096; i++) {
+            long next = generator.nextId();
+            assertThat(next).isGreaterThan(last);
+            last = next;
+        }
+
+        // Then
+        assertThat(generator.extractTimestamp(last)).isEqualTo(generator.extractTimestamp(first) + 1);
+        assertThat(generator.extractSequence(last)).isZero();
+    }
+
+    @Test
+    @DisplayName("ID 블록 예약은 연속된 오름차순 ID를 반환하고 이후 nextId와 겹치지 않아야 한다")
+    void testNextIdsReservesContiguousBlock() {
+        // Given: 시계가 멈춰 있음
+        AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 5, clock::get);
+        long before = generator.nextId();
+
+        // When
+        long[] block = generator.nextIds(100);
+        long after = generator.nextId();
+
+        // Then
+        assertThat(block).hasSize(100);
+        assertThat(block[0]).isEqualTo(before + 1);
+        for (int i = 1; i < block.length; i++) {
+            assertThat(block[i]).isEqualTo(block[i - 1] + 1);
+        }
+        assertThat(after).isEqualTo(block[99] + 1);
+    }
+
+    @Test
+    @DisplayName("워커 ID 임대 기한이 지나면 ID를 발급하지 않고, 연장되면 다시 발급해야 한다")
+    void testExpiredLeaseRefusesIds() {
+        // Given: 발급 기한이 nano 시각 1000인 임대
+        AtomicLong nanoClock = new AtomicLong(0);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 1000, System::currentTimeMillis, nanoClock::get);
+        generator.renewLease(1, 1000);
+        generator.nextId();
+
+        // When: 기한 경과
+        nanoClock.set(1000);
+
+        // Then: 발급 거부
+        assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> generator.nextIds(10)).isInstanceOf(IllegalStateException.class);
+
+        // When: 임대 연장
+        generator.renewLease(1, 5000);
+
+        // Then: 다시 발급
+        assertThat(generator.extractWorkerId(generator.nextId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("임대를 잃으면 즉시 발급을 멈추고, 새 워커 ID를 임대하면 새 워커 ID로 발급해야 한다")
+    void testRevokedLeaseSwitchesToNewWorkerId() {
+        // Given
+        AtomicLong nanoClock = new AtomicLong(0);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 1000, System::currentTimeMillis, nanoClock::get);
+        generator.renewLease(1, 1000);
+
+        // When: 임대를 잃음
+        generator.revokeLease();
+
+        // Then: 기한 전이라도 발급 거부
+        assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+
+        // When: 새 워커 ID 임대
+        generator.renewLease(2, 1000);
+
+        // Then
+        assertThat(generator.getWorkerId()).isEqualTo(2);
+        assertThat(generator.extractWorkerId(generator.nextId())).isEqualTo(2);
+    }
+}
@@ -0,0 +1,134 @@
+package io.hhplus.ECommerce.ECommerce_project.common;
+
+import io.hhplus.ECommerce.ECommerce_project.common.infrastructure.WorkerIdLeaseJdbcRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 워커 ID 임대 통합 테스트
+ * - 인스턴스마다 다른 워커 ID를 임대하고, 반납된 워커 ID는 허용 드리프트가 지난 뒤 다시 임대할 수 있어야 한다.
+ * - ID 생성기는 임대를 확인한 기한까지만 발급하고, 임대를 잃으면 새 워커 ID로 바꿔야 한다.
+ */
+@SpringBootTest(properties = "ecommerce.id.worker-id-source=LEASE")
+@ActiveProfiles("integration")
+class WorkerIdLeaseManagerIntegrationTest {
+
+    @Autowired
+    private SnowflakeIdGenerator snowflakeIdGenerator;
+
+    @Autowired
+    private WorkerIdLeaseManager workerIdLeaseManager;
+
+    @Autowired
+    private WorkerIdLeaseJdbcRepository workerIdLeaseJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("다른 인스턴스는 다른 워커 ID를 임대하고, 반납된 워커 ID는 재사용되어야 한다")
+    void testLeasesAreExclusiveAndReusable() {
+        // Given: 애플리케이션 인스턴스가 임대한 워커 ID
+        long appWorkerId = snowflakeIdGenerator.getWorkerId();
+        assertThat(workerIdLeaseManager.acquire()).isEqualTo((int) appWorkerId);
+
+        // When: 다른 인스턴스 두 개가 임대 (허용 드리프트 0 -> 반납 즉시 재사용 가능)
+        WorkerIdLeaseManager other1 = new WorkerIdLeaseManager(workerIdLeaseJdbcRepository, 60000, 0);
+        WorkerIdLeaseManager other2 = new WorkerIdLeaseManager(workerIdLeaseJdbcRepository, 60000, 0);
+        int workerId1 = other1.acquire();
+        int workerId2 = other2.acquire();
+
+        // Then
+        assertThat(workerId1).isNotEqualTo((int) appWorkerId);
+        assertThat(workerId2).isNotIn((int) appWorkerId, workerId1);
+
+        // When: other1 반납
+        other1.release();
+
+        // Then: 반납된 워커 ID를 바로 인수할 수 있음 (같은 DB를 쓰는 다른 테스트의 만료 임대가 먼저 인수될 수 있어 목록으로 확인)
+        assertThat(workerIdLeaseJdbcRepository.findExpiredWorkerIds()).contains(workerId1);
+
+        other2.release();
+    }
+
+    @Test
+    @DisplayName("반납한 워커 ID는 허용 드리프트가 지나기 전에는 다른 인스턴스가 인수하지 못해야 한다")
+    void testReleasedLeaseIsHeldForClockDrift() {
+        // Given: 허용 드리프트 10초로 임대 후 반납
+        WorkerIdLeaseManager released = new WorkerIdLeaseManager(workerIdLeaseJdbcRepository, 60000, 10000);
+        int releasedWorkerId = released.acquire();
+        released.release();
+
+        // When: 다른 인스턴스가 바로 임대
+        WorkerIdLeaseManager other = new WorkerIdLeaseManager(workerIdLeaseJdbcRepository, 60000, 0);
+        int otherWorkerId = other.acquire();
+
+        // Then: 반납된 워커 ID는 아직 DB 시각 기준으로 만료되지 않음
+        assertThat(otherWorkerId).isNotEqualTo(releasedWorkerId);
+        Integer stillLeased = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM id_worker_leases WHERE worker_id = ? AND leased_until > LOCALTIMESTAMP(3)",
+                Integer.class,
+                releasedWorkerId
+        );
+        assertThat(stillLeased).isEqualTo(1);
+
+        other.release();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 워커 ID를 가져가면 heartbeat에서 새 워커 ID를 임대해 생성기에 반영해야 한다")
+    void testLostLeaseSwitchesGeneratorToNewWorkerId() {
+        // Given: 생성기를 연결한 인스턴스
+        WorkerIdLeaseManager manager = new WorkerIdLeaseManager(workerIdLeaseJdbcRepository, 60000, 0);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(manager.acquire(), 0);
+        manager.attach(generator);
+        int lostWorkerId = manager.getWorkerId();
+
+        // When: 다른 인스턴스가 같은 워커 ID를 인수한 상태에서 heartbeat
+        jdbcTemplate.update(
+                "UPDATE id_worker_leases SET instance_id = ? WHERE worker_id = ?",
+                "other-instance-" + System.nanoTime(),
+                lostWorkerId
+        );
+        manager.heartbeat();
+
+        // Then: 새 워커 ID로 발급
+        assertThat(manager.getWorkerId()).isNotIn(-1, lostWorkerId);
+        assertThat(generator.getWorkerId()).isEqualTo(manager.getWorkerId());
+        assertThat(generator.extractWorkerId(generator.nextId())).isEqualTo(manager.getWorkerId());
+
+        manager.release();
+    }
+
+    @Test
+    @DisplayName("임대 연장을 확인하지 못한 채 기한이 지나면 생성기가 발급을 거부하고, 연장되면 다시 발급해야 한다")
+    void testGeneratorIsFencedUntilLeaseIsRenewed() throws InterruptedException {
+        // Given: 임대 기간 300ms, 허용 드리프트 200ms -> 발급 기한은 임대 요청 후 100ms
+        WorkerIdLeaseManager manager = new WorkerIdLeaseManager(workerIdLeaseJdbcRepository, 300, 200);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(manager.acquire(), 200);
+        manager.attach(generator);
+        generator.nextId();
+
+        // When: heartbeat 없이 발급 기한 경과
+        Thread.sleep(150);
+
+        // Then: 발급 거부
+        assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+
+        // When: 임대 연장 (다른 인스턴스가 인수하지 않았으므로 같은 워커 ID)
+        int workerId = manager.getWorkerId();
+        manager.heartbeat();
+
+        // Then: 같은 워커 ID로 다시 발급
+        assertThat(generator.extractWorkerId(generator.nextId())).isEqualTo(workerId);
+
+        manager.release();
+    }
+}
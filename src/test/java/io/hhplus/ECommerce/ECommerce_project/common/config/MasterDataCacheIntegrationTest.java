@@ -0,0 +1,126 @@
+package io.hhplus.ECommerce.ECommerce_project.common.config;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.hhplus.ECommerce.ECommerce_project.category.application.CreateCategoryUseCase;
+import io.hhplus.ECommerce.ECommerce_project.category.application.GetCategoryListUseCase;
+import io.hhplus.ECommerce.ECommerce_project.category.application.command.CreateCategoryCommand;
+import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.CouponMasterReader;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.DeactivateCouponUseCase;
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.Coupon;
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.enums.DiscountType;
+import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.CouponRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 마스터 데이터 캐시 통합 테스트
+ * - 반복 조회는 캐시에서 처리되고(적중/미스 통계 기록), 변경 유스케이스가 커밋되면 무효화되어야 한다.
+ */
+@SpringBootTest
+@ActiveProfiles("integration")
+class MasterDataCacheIntegrationTest {
+
+    @Autowired
+    private CouponMasterReader couponMasterReader;
+
+    @Autowired
+    private DeactivateCouponUseCase deactivateCouponUseCase;
+
+    @Autowired
+    private GetCategoryListUseCase getCategoryListUseCase;
+
+    @Autowired
+    private CreateCategoryUseCase createCategoryUseCase;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    @DisplayName("쿠폰 반복 조회는 캐시에서 처리되고, 비활성화 커밋 후에는 다시 DB에서 조회되어야 한다")
+    void testCouponCacheHitAndInvalidation() {
+        // Given
+        Coupon coupon = couponRepository.save(Coupon.createCoupon(
+                "캐시 테스트 쿠폰",
+                "CACHE_" + System.nanoTime(),
+                DiscountType.FIXED,
+                BigDecimal.valueOf(5000),
+                null,
+                BigDecimal.valueOf(30000),
+                100,
+                1,
+                LocalDateTime.now().minusDays(1),
+                LocalDateTime.now().plusDays(30)
+        ));
+        CacheStats before = stats(CacheConfig.COUPON);
+
+        // When 1: 두 번 조회 -> 1 미스, 1 적중
+        Coupon first = couponMasterReader.getCoupon(coupon.getId());
+        Coupon second = couponMasterReader.getCoupon(coupon.getId());
+
+        // Then 1
+        CacheStats afterReads = stats(CacheConfig.COUPON).minus(before);
+        assertThat(afterReads.missCount()).isEqualTo(1);
+        assertThat(afterReads.hitCount()).isEqualTo(1);
+        assertThat(second).isSameAs(first);
+        assertThat(second.isActive()).isTrue();
+
+        // When 2: 비활성화 (커밋 후 무효화)
+        deactivateCouponUseCase.execute(coupon.getId());
+
+        // Then 2: 다시 미스가 발생하고 변경된 값이 조회됨
+        Coupon reloaded = couponMasterReader.getCoupon(coupon.getId());
+        CacheStats afterEvict = stats(CacheConfig.COUPON).minus(before);
+        assertThat(afterEvict.missCount()).isEqualTo(2);
+        assertThat(reloaded.isActive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("카테고리 목록은 캐시에서 조회되고, 카테고리 등록 후에는 새 카테고리가 포함되어야 한다")
+    void testCategoryListCacheInvalidation() {
+        // Given: 목록을 캐시에 적재
+        getCategoryListUseCase.execute();
+        CacheStats before = stats(CacheConfig.CATEGORY_LIST);
+
+        // When 1: 다시 조회 -> 적중
+        getCategoryListUseCase.execute();
+
+        // Then 1
+        assertThat(stats(CacheConfig.CATEGORY_LIST).minus(before).hitCount()).isEqualTo(1);
+
+        // When 2: 카테고리 등록 (커밋 후 목록 캐시 무효화)
+        long suffix = System.nanoTime();
+        Category created = createCategoryUseCase.execute(new CreateCategoryCommand(
+                "캐시카테고리_" + suffix,
+                10_000 + (int) (suffix % 1_000_000)
+        ));
+
+        // Then 2: 새 카테고리가 목록에 포함됨
+        List<Category> categories = getCategoryListUseCase.execute();
+        assertThat(categories).extracting(Category::getId).contains(created.getId());
+    }
+
+    private CacheStats stats(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache instanceof TransactionAwareCacheDecorator decorator) {
+            cache = decorator.getTargetCache();
+        }
+        return ((CaffeineCache) cache).getNativeCache().stats();
+    }
+}
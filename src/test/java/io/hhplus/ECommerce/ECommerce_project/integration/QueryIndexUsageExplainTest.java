@@ -0,0 +1,407 @@
+package io.hhplus.ECommerce.ECommerce_project.integration;
+
+import io.hhplus.ECommerce.ECommerce_project.cart.infrastructure.CartRepository;
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.enums.UserCouponStatus;
+import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.UserCouponRepository;
+import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.UserCouponRepositoryCustom.UserCouponKey;
+import io.hhplus.ECommerce.ECommerce_project.order.domain.enums.OrderStatus;
+import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.OrderRepository;
+import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.PendingOrderExpiryJdbcRepository;
+import io.hhplus.ECommerce.ECommerce_project.payment.domain.enums.PaymentStatus;
+import io.hhplus.ECommerce.ECommerce_project.payment.infrastructure.PaymentRepository;
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointExpiryJdbcRepository;
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointRepository;
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointUsageHistoryRepository;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
+import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 리포지토리 쿼리 실행 계획(EXPLAIN) 테스트
+ *
+ * - 통합 테스트 DB는 ddl-auto(create-drop)로 다시 만들어져 마이그레이션 인덱스가 없으므로,
+ *   별도의 DB에 Flyway 마이그레이션(db/migration)만 적용하고(ddl-auto=none) 애플리케이션을 띄운다.
+ * - 각 리포지토리 메서드를 실제로 호출해 Hibernate / JdbcTemplate이 만든 SQL과 바인딩 값을 데이터소스 프록시로 기록하고,
+ *   바인딩 값을 리터럴로 치환한 SQL(MySQL Connector/J 기본 설정의 클라이언트 측 prepared statement와 같은 형태)을 EXPLAIN 한다.
+ * - 기본 DB는 H2(MySQL 모드): 실행 계획에 전체 스캔(tableScan)이 있으면 실패
+ *   H2는 옵티마이저가 InnoDB와 다르고 FK 컬럼에 인덱스를 자동으로 만들므로,
+ *   "생성된 SQL의 조건을 처리할 수 있는 인덱스가 있다"까지만 확인하고 MySQL이 실제로 그 인덱스를 고르는지는 보장하지 않는다.
+ * - MySQL: -Dexplain.datasource.url=jdbc:mysql://... -Dexplain.datasource.username=... -Dexplain.datasource.password=...
+ *   -Dexplain.hibernate.dialect=org.hibernate.dialect.MySQLDialect 로 실행하면 EXPLAIN 결과에 type = ALL 행이 있으면 실패
+ *   (빈 테이블에서는 옵티마이저가 전체 스캔을 고를 수 있으므로 운영과 비슷한 데이터가 있는 스키마에서 실행)
+ * - 제외: ProductRepository.findByIsActiveTrueAndDeletedAtIsNull, 카테고리 필터 없는 countActiveProducts / findProducts
+ *   (결과가 사실상 전체 상품이라 인덱스로 읽는 행을 줄일 수 없음, 정렬 목록은 V2 인덱스의 키셋 조회를 사용)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=${explain.datasource.url:jdbc:h2:mem:explain_repository;MODE=MySQL;DB_CLOSE_DELAY=-1}",
+        "spring.datasource.username=${explain.datasource.username:sa}",
+        "spring.datasource.password=${explain.datasource.password:}",
+        "spring.datasource.driver-class-name=",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.dialect=${explain.hibernate.dialect:org.hibernate.dialect.H2Dialect}",
+        "spring.flyway.enabled=true"
+})
+@ActiveProfiles("integration")
+@Import(QueryIndexUsageExplainTest.SqlCaptureConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryIndexUsageExplainTest {
+
+    private static final DateTimeFormatter TIMESTAMP_LITERAL = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+    /**
+     * 데이터소스를 SQL 기록 프록시로 감쌈
+     */
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        static BeanPostProcessor sqlCapturingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? SqlCapture.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PointRepository pointRepository;
+
+    @Autowired
+    private PointExpiryJdbcRepository pointExpiryJdbcRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PendingOrderExpiryJdbcRepository pendingOrderExpiryJdbcRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private PointUsageHistoryRepository pointUsageHistoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    private boolean mySql;
+
+    @BeforeAll
+    void detectDatabase() {
+        String productName = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        mySql = productName != null && productName.toLowerCase(Locale.ROOT).contains("mysql");
+    }
+
+    Stream<Arguments> repositoryQueries() {
+        List<Long> ids = List.of(1L, 2L, 3L);
+        LocalDateTime now = LocalDateTime.now();
+
+        return Stream.of(
+                // ===== ProductRepository =====
+                query("ProductRepository.findByIdActive", () -> productRepository.findByIdActive(1L)),
+                query("ProductRepository.findAllByIdIn", () -> productRepository.findAllByIdIn(ids)),
+                query("ProductRepository.findByIdWithLock", () -> productRepository.findByIdWithLock(1L)),
+                query("ProductRepository.findAllByIdInWithLock", () -> productRepository.findAllByIdInWithLock(ids)),
+                query("ProductRepository.findByIdRefreshed", () -> productRepository.findByIdRefreshed(1L)),
+                query("ProductRepository.decreaseStockForOrder", () -> productRepository.decreaseStockForOrder(1L, 1)),
+                query("ProductRepository.restoreStockForCancel", () -> productRepository.restoreStockForCancel(1L, 1)),
+                query("ProductRepository.decreaseStock", () -> productRepository.decreaseStock(1L, 1)),
+                query("ProductRepository.increaseStock", () -> productRepository.increaseStock(1L, 1)),
+                query("ProductRepository.countActiveProducts (카테고리 필터)", () -> productRepository.countActiveProducts(1L)),
+                query("ProductRepository.findProducts (카테고리 필터)", () -> productRepository.findProducts(
+                        1L, PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt")))),
+
+                // ===== PointRepository =====
+                query("PointRepository.findAvailablePointsByUserId", () -> pointRepository.findAvailablePointsByUserId(1L)),
+                query("PointRepository.findAvailablePointsByUserIdWithLock",
+                        () -> pointRepository.findAvailablePointsByUserIdWithLock(1L)),
+                query("PointRepository.sumPastDueAmountByUserId", () -> pointRepository.sumPastDueAmountByUserId(1L)),
+                query("PointRepository.findByUserIdWithPaging",
+                        () -> pointRepository.findByUserIdWithPaging(1L, PageRequest.of(0, 20))),
+                query("PointRepository.countByUserIdAndDeletedAtIsNull", () -> pointRepository.countByUserIdAndDeletedAtIsNull(1L)),
+                query("PointRepository.findByIdWithLock", () -> pointRepository.findByIdWithLock(1L)),
+                query("PointRepository.findAllByIdInWithLock", () -> pointRepository.findAllByIdInWithLock(ids)),
+                query("PointExpiryJdbcRepository.findExpiryCandidates", () -> pointExpiryJdbcRepository.findExpiryCandidates(
+                        now, 4, 0, PointExpiryJdbcRepository.ExpiryCursor.first(), 500)),
+
+                // ===== OrderRepository =====
+                query("OrderRepository.findByUserIdWithPaging",
+                        () -> orderRepository.findByUserIdWithPaging(1L, null, PageRequest.of(0, 20))),
+                query("OrderRepository.findByUserIdWithPaging (상태 필터)",
+                        () -> orderRepository.findByUserIdWithPaging(1L, OrderStatus.PAID, PageRequest.of(0, 20))),
+                query("OrderRepository.countByUserId", () -> orderRepository.countByUserId(1L, null)),
+                query("OrderRepository.countByUserId (상태 필터)", () -> orderRepository.countByUserId(1L, OrderStatus.PAID)),
+                query("OrderRepository.findByIdWithLock", () -> orderRepository.findByIdWithLock(1L)),
+                query("OrderRepository.findUserIdById", () -> orderRepository.findUserIdById(1L)),
+                query("OrderRepository.findAllByIdInWithLock", () -> orderRepository.findAllByIdInWithLock(ids)),
+                query("OrderRepository.findUserIdsByIdIn", () -> orderRepository.findUserIdsByIdIn(ids)),
+                query("OrderRepository.findOwnersByIdIn", () -> orderRepository.findOwnersByIdIn(ids)),
+                query("PendingOrderExpiryJdbcRepository.findExpiryCandidates", () -> pendingOrderExpiryJdbcRepository.findExpiryCandidates(
+                        now, PendingOrderExpiryJdbcRepository.ExpiryCursor.first(), 100)),
+
+                // ===== UserCouponRepository =====
+                query("UserCouponRepository.findByUser_IdAndCoupon_Id", () -> userCouponRepository.findByUser_IdAndCoupon_Id(1L, 1L)),
+                query("UserCouponRepository.findByUser_IdAndCoupon_IdWithLock",
+                        () -> userCouponRepository.findByUser_IdAndCoupon_IdWithLock(1L, 1L)),
+                query("UserCouponRepository.findAllByKeysWithLock", () -> userCouponRepository.findAllByKeysWithLock(List.of(
+                        new UserCouponKey(1L, 1L), new UserCouponKey(1L, 2L), new UserCouponKey(2L, 1L)))),
+                query("UserCouponRepository.findByUser_Id", () -> userCouponRepository.findByUser_Id(1L)),
+                query("UserCouponRepository.findByUser_IdAndStatus",
+                        () -> userCouponRepository.findByUser_IdAndStatus(1L, UserCouponStatus.AVAILABLE)),
+
+                // ===== CartRepository =====
+                query("CartRepository.findAllByUser_Id", () -> cartRepository.findAllByUser_Id(1L)),
+                query("CartRepository.findByUser_IdAndProduct_Id", () -> cartRepository.findByUser_IdAndProduct_Id(1L, 1L)),
+
+                // ===== PointUsageHistoryRepository =====
+                query("PointUsageHistoryRepository.findByOrders_IdAndCanceledAtIsNull",
+                        () -> pointUsageHistoryRepository.findByOrders_IdAndCanceledAtIsNull(1L)),
+                query("PointUsageHistoryRepository.findByOrders_IdInAndCanceledAtIsNull",
+                        () -> pointUsageHistoryRepository.findByOrders_IdInAndCanceledAtIsNull(ids)),
+                query("PointUsageHistoryRepository.findByPoint_IdAndCanceledAtIsNull",
+                        () -> pointUsageHistoryRepository.findByPoint_IdAndCanceledAtIsNull(1L)),
+
+                // ===== UserRepository =====
+                query("UserRepository.findByIdWithLock", () -> userRepository.findByIdWithLock(1L)),
+                query("UserRepository.findAllByIdInWithLock", () -> userRepository.findAllByIdInWithLock(ids)),
+                query("UserRepository.findPointBalanceById", () -> userRepository.findPointBalanceById(1L)),
+                query("UserRepository.increasePointBalance", () -> userRepository.increasePointBalance(1L, BigDecimal.ONE)),
+
+                // ===== PaymentRepository =====
+                query("PaymentRepository.findOrderIdsWithPaymentStatus",
+                        () -> paymentRepository.findOrderIdsWithPaymentStatus(ids, PaymentStatus.PENDING)),
+                query("PaymentRepository.findByPaymentStatusAndCreatedAtBeforeOrderByCreatedAtAsc",
+                        () -> paymentRepository.findByPaymentStatusAndCreatedAtBeforeOrderByCreatedAtAsc(
+                                PaymentStatus.PENDING, now, Limit.of(100)))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    @DisplayName("리포지토리 메서드가 실행한 SQL은 전체 스캔 없이 인덱스로 실행되어야 한다")
+    void testQueryDoesNotFullScan(String repositoryMethod, Runnable call) {
+        // When: 리포지토리 메서드 호출 (락/UPDATE 쿼리도 실행되도록 트랜잭션 안에서 호출 후 롤백)
+        List<CapturedSql> statements = SqlCapture.capture(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    call.run();
+                    status.setRollbackOnly();
+                }));
+
+        // Then: 실행한 SQL마다 실행 계획 확인
+        assertThat(statements).withFailMessage("%s 호출에서 실행된 SQL이 없습니다.", repositoryMethod).isNotEmpty();
+        for (CapturedSql statement : statements) {
+            assertUsesIndex(repositoryMethod, statement.inlined());
+        }
+    }
+
+    @Test
+    @DisplayName("마이그레이션이 중복 발급 방지용 유니크 제약(uk_user_coupon)을 만들어야 한다")
+    void testUserCouponUniqueConstraintExists() {
+        // Given
+        jdbcTemplate.update("INSERT INTO users (id, password, username) VALUES (1, 'password', 'explain_user')");
+        jdbcTemplate.update("INSERT INTO coupons (id, name, discount_type, discount_value, total_quantity, start_date, end_date) "
+                + "VALUES (1, '중복 발급 테스트', 'FIXED', 1000, 10, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO user_coupons (id, coupon_id, user_id) VALUES (1, 1, 1)");
+
+        // When
+        List<String> constraintNames = jdbcTemplate.queryForList(
+                "SELECT LOWER(constraint_name) FROM information_schema.table_constraints "
+                        + "WHERE LOWER(table_name) = 'user_coupons' AND constraint_type = 'UNIQUE'",
+                String.class
+        );
+
+        // Then
+        assertThat(constraintNames).contains("uk_user_coupon");
+        assertThatThrownBy(() ->
+                jdbcTemplate.update("INSERT INTO user_coupons (id, coupon_id, user_id) VALUES (2, 1, 1)")
+        ).isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    /**
+     * 실행 계획 확인
+     * - H2: 계획에 tableScan이 없어야 함
+     * - MySQL: EXPLAIN 결과에 type = ALL 행이 없어야 함
+     */
+    private void assertUsesIndex(String repositoryMethod, String sql) {
+        if (mySql) {
+            List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+            assertThat(plan)
+                    .withFailMessage("%s 쿼리가 전체 스캔합니다.%nSQL: %s%n실행 계획:%n%s", repositoryMethod, sql, plan)
+                    .noneMatch(row -> "ALL".equalsIgnoreCase(String.valueOf(row.get("type"))));
+            return;
+        }
+
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+        assertThat(plan)
+                .withFailMessage("%s 쿼리가 전체 스캔합니다.%n실행 계획:%n%s", repositoryMethod, plan)
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    private static Arguments query(String repositoryMethod, Runnable call) {
+        return Arguments.of(repositoryMethod, call);
+    }
+
+    /**
+     * 기록한 SQL과 바인딩 값 (파라미터 순번 -> 값)
+     */
+    record CapturedSql(String sql, Map<Integer, Object> parameters) {
+
+        /**
+         * 바인딩 값을 리터럴로 치환한 SQL
+         */
+        String inlined() {
+            StringBuilder inlined = new StringBuilder();
+            int parameterIndex = 1;
+            for (char c : sql.toCharArray()) {
+                if (c == '?') {
+                    inlined.append(literal(parameters.get(parameterIndex++)));
+                } else {
+                    inlined.append(c);
+                }
+            }
+            return inlined.toString();
+        }
+
+        private static String literal(Object value) {
+            if (value == null) {
+                return "NULL";
+            }
+            if (value instanceof Number || value instanceof Boolean) {
+                return value.toString();
+            }
+            if (value instanceof Timestamp timestamp) {
+                return "TIMESTAMP '" + timestamp.toLocalDateTime().format(TIMESTAMP_LITERAL) + "'";
+            }
+            if (value instanceof LocalDateTime dateTime) {
+                return "TIMESTAMP '" + dateTime.format(TIMESTAMP_LITERAL) + "'";
+            }
+            return "'" + value.toString().replace("'", "''") + "'";
+        }
+    }
+
+    /**
+     * 테스트 스레드가 capture 안에서 실행한 SQL 기록 (DataSource -> Connection -> PreparedStatement 프록시)
+     */
+    static final class SqlCapture {
+
+        private static final ThreadLocal<List<CapturedSql>> CAPTURED = new ThreadLocal<>();
+
+        private SqlCapture() {
+        }
+
+        static List<CapturedSql> capture(Runnable action) {
+            List<CapturedSql> captured = new ArrayList<>();
+            CAPTURED.set(captured);
+            try {
+                action.run();
+            } finally {
+                CAPTURED.remove();
+            }
+            return captured;
+        }
+
+        static DataSource wrap(DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (method, args, result) ->
+                    result instanceof Connection connection ? wrap(connection) : result);
+        }
+
+        private static Connection wrap(Connection connection) {
+            return proxy(Connection.class, connection, (method, args, result) ->
+                    result instanceof PreparedStatement statement && args != null && args[0] instanceof String sql
+                            ? wrap(statement, sql)
+                            : result);
+        }
+
+        private static PreparedStatement wrap(PreparedStatement statement, String sql) {
+            Map<Integer, Object> parameters = new TreeMap<>();
+            return proxy(PreparedStatement.class, statement, (method, args, result) -> {
+                String name = method.getName();
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                    parameters.put(index, name.equals("setNull") ? null : args[1]);
+                } else if (name.startsWith("execute")) {
+                    List<CapturedSql> captured = CAPTURED.get();
+                    if (captured != null) {
+                        captured.add(new CapturedSql(sql, new TreeMap<>(parameters)));
+                    }
+                }
+                return result;
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, ResultHandler handler) {
+            return (T) Proxy.newProxyInstance(SqlCapture.class.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                return handler.handle(method, args, result);
+            });
+        }
+
+        private interface ResultHandler {
+            Object handle(Method method, Object[] args, Object result);
+        }
+    }
+}
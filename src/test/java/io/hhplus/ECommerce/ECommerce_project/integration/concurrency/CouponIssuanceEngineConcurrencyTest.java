@@ -0,0 +1,208 @@
+package io.hhplus.ECommerce.ECommerce_project.integration.concurrency;
+
+import io.hhplus.ECommerce.ECommerce_project.common.exception.CouponException;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.CouponIssuanceEngine;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.IssueCouponUseCase;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.command.IssueCouponCommand;
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.Coupon;
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.UserCoupon;
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.enums.DiscountType;
+import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.CouponRepository;
+import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.UserCouponRepository;
+import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
+import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 선착순 쿠폰 발급 엔진(ENGINE 모드) 동시성 통합 테스트
+ *
+ * 시나리오:
+ * - 쿠폰 행 락 없이 메모리에서 판정해도 총 수량만큼만 발급되는지 확인
+ * - 같은 사용자의 동시 요청 중 1건만 발급되는지 확인
+ * - 배치 저장 후 user_coupons 건수와 coupons.issued_quantity가 발급 수와 일치하는지 확인
+ * - 저장할 수 없는 발급은 취소되고 revoked 카운터에 기록되는지 확인
+ */
+@SpringBootTest(properties = {
+        "ecommerce.coupon.issuance-mode=ENGINE",
+        "ecommerce.coupon.issue-flush-interval-ms=3600000"   // 테스트에서 직접 flush
+})
+@ActiveProfiles("integration")
+public class CouponIssuanceEngineConcurrencyTest {
+
+    @Autowired
+    private IssueCouponUseCase issueCouponUseCase;
+
+    @Autowired
+    private CouponIssuanceEngine couponIssuanceEngine;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Coupon limitedCoupon;
+
+    @BeforeEach
+    void setUp() {
+        // 총 100개만 발급 가능한 쿠폰 생성
+        limitedCoupon = couponRepository.save(Coupon.createCoupon(
+                "엔진 제한 쿠폰",
+                "ENGINE100_" + System.nanoTime(),
+                DiscountType.FIXED,
+                BigDecimal.valueOf(5000),
+                null,
+                BigDecimal.valueOf(30000),
+                100,
+                1,
+                LocalDateTime.now().minusDays(1),
+                LocalDateTime.now().plusDays(30)
+        ));
+    }
+
+    @Test
+    @DisplayName("300명이 동시에 발급받을 때 정확히 100명만 성공하고, 배치 저장 후 DB와 일치해야 한다")
+    void testConcurrentIssuanceWithEngine() throws InterruptedException {
+        // Given
+        int userCount = 300;
+        int couponLimit = 100;
+
+        User[] users = new User[userCount];
+        for (int i = 0; i < userCount; i++) {
+            users[i] = userRepository.save(new User("engine_user_" + i + "_" + System.nanoTime(), "password", BigDecimal.ZERO, null, null));
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(userCount);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger allIssuedCount = new AtomicInteger(0);
+
+        // When: 300명이 동시에 발급 시도
+        for (int i = 0; i < userCount; i++) {
+            final Long userId = users[i].getId();
+            executorService.submit(() -> {
+                try {
+                    issueCouponUseCase.execute(new IssueCouponCommand(userId, limitedCoupon.getId()));
+                    successCount.incrementAndGet();
+                } catch (CouponException e) {
+                    if (e.getErrorCode() == ErrorCode.COUPON_ALL_ISSUED) {
+                        allIssuedCount.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // Then 1: 메모리 판정 결과
+        assertThat(successCount.get()).isEqualTo(couponLimit);
+        assertThat(allIssuedCount.get()).isEqualTo(userCount - couponLimit);
+        assertThat(couponIssuanceEngine.getPendingCount()).isEqualTo(couponLimit);
+
+        // Then 2: 배치 저장 후 DB 반영
+        couponIssuanceEngine.flush();
+
+        assertThat(couponIssuanceEngine.getPendingCount()).isZero();
+        long savedCount = userCouponRepository.findAll().stream()
+                .filter(uc -> uc.getCoupon().getId().equals(limitedCoupon.getId()))
+                .count();
+        assertThat(savedCount).isEqualTo(couponLimit);
+
+        Coupon finalCoupon = couponRepository.findById(limitedCoupon.getId()).orElseThrow();
+        assertThat(finalCoupon.getIssuedQuantity()).isEqualTo(couponLimit);
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 동시에 10번 발급 시도할 때 1번만 성공하고, 저장 후에도 중복 발급이 거절되어야 한다")
+    void testSameUserConcurrentDuplicateIssuanceWithEngine() throws InterruptedException {
+        // Given
+        final Long userId = userRepository.save(new User("engine_dup_user_" + System.nanoTime(), "password", BigDecimal.ZERO, null, null)).getId();
+
+        int attemptCount = 10;
+        ExecutorService executorService = Executors.newFixedThreadPool(attemptCount);
+        CountDownLatch latch = new CountDownLatch(attemptCount);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger duplicateCount = new AtomicInteger(0);
+
+        // When
+        for (int i = 0; i < attemptCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    UserCoupon userCoupon = issueCouponUseCase.execute(new IssueCouponCommand(userId, limitedCoupon.getId()));
+                    assertThat(userCoupon.getId()).isNotNull();
+                    successCount.incrementAndGet();
+                } catch (CouponException e) {
+                    if (e.getErrorCode() == ErrorCode.COUPON_ALREADY_ISSUED) {
+                        duplicateCount.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+        couponIssuanceEngine.flush();
+
+        // Then
+        assertThat(successCount.get()).isEqualTo(1);
+        assertThat(duplicateCount.get()).isEqualTo(attemptCount - 1);
+        assertThat(userCouponRepository.findByUser_IdAndCoupon_Id(userId, limitedCoupon.getId())).isPresent();
+
+        assertThatThrownBy(() -> issueCouponUseCase.execute(new IssueCouponCommand(userId, limitedCoupon.getId())))
+                .isInstanceOf(CouponException.class);
+    }
+
+    @Test
+    @DisplayName("저장 중 제약 위반으로 저장할 수 없는 발급은 취소되고 revoked 카운터에 기록되어야 한다")
+    void testRevokedIssuanceIsCounted() {
+        // Given: 엔진 발급 접수 후, 저장 전에 같은 (사용자, 쿠폰) 행이 다른 경로로 먼저 저장됨
+        User user = userRepository.save(new User("engine_revoke_user_" + System.nanoTime(), "password", BigDecimal.ZERO, null, null));
+        double revokedBefore = counter("revoked");
+        double persistedBefore = counter("persisted");
+
+        issueCouponUseCase.execute(new IssueCouponCommand(user.getId(), limitedCoupon.getId()));
+        userCouponRepository.save(UserCoupon.issueCoupon(user, limitedCoupon));
+
+        // When
+        couponIssuanceEngine.flush();
+
+        // Then: 발급 응답은 성공했지만 저장되지 않고 취소로 기록
+        assertThat(couponIssuanceEngine.getPendingCount()).isZero();
+        assertThat(counter("revoked") - revokedBefore).isEqualTo(1.0);
+        assertThat(counter("persisted")).isEqualTo(persistedBefore);
+    }
+
+    private double counter(String outcome) {
+        return meterRegistry.get(CouponIssuanceEngine.COUNTER_NAME).tag("outcome", outcome).counter().count();
+    }
+}
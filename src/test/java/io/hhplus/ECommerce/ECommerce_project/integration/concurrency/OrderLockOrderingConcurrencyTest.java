@@ -0,0 +1,207 @@
+package io.hhplus.ECommerce.ECommerce_project.integration.concurrency;
+
+import io.hhplus.ECommerce.ECommerce_project.cart.domain.entity.Cart;
+import io.hhplus.ECommerce.ECommerce_project.cart.infrastructure.CartRepository;
+import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
+import io.hhplus.ECommerce.ECommerce_project.category.infrastructure.CategoryRepository;
+import io.hhplus.ECommerce.ECommerce_project.order.application.CancelOrderUseCase;
+import io.hhplus.ECommerce.ECommerce_project.order.application.CreateOrderFromCartUseCase;
+import io.hhplus.ECommerce.ECommerce_project.order.application.CreateOrderFromProductUseCase;
+import io.hhplus.ECommerce.ECommerce_project.order.application.command.CancelOrderCommand;
+import io.hhplus.ECommerce.ECommerce_project.order.application.command.CreateOrderFromCartCommand;
+import io.hhplus.ECommerce.ECommerce_project.order.application.command.CreateOrderFromProductCommand;
+import io.hhplus.ECommerce.ECommerce_project.point.domain.entity.Point;
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointRepository;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
+import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
+import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문/취소 혼합 부하 락 순서 동시성 테스트
+ *
+ * 시나리오:
+ * - 같은 사용자/상품에 대해 상품 주문, 장바구니 주문(상품 2개), 주문 취소를 동시에 실행
+ * - 모든 경로가 사용자 -> 주문 -> 사용자 쿠폰 -> 포인트 -> 상품 순서로 잠그므로 데드락/락 대기 초과 없이 모두 성공해야 함
+ * - 끝난 뒤 상품별 재고 + 판매량, 사용자별 포인트 잔액이 일관되어야 함
+ */
+@SpringBootTest
+@ActiveProfiles("integration")
+class OrderLockOrderingConcurrencyTest {
+
+    private static final int USER_COUNT = 4;
+    private static final int PRODUCT_COUNT = 3;
+    private static final int INITIAL_STOCK = 10_000;
+    private static final BigDecimal INITIAL_POINT = BigDecimal.valueOf(1_000_000);
+    private static final BigDecimal POINT_PER_ORDER = BigDecimal.valueOf(1000);
+
+    private static final int ORDERS_TO_CANCEL = 40;
+    private static final int PRODUCT_ORDERS = 40;
+    private static final int CART_ORDERS = 20;
+
+    @Autowired
+    private CreateOrderFromProductUseCase createOrderFromProductUseCase;
+
+    @Autowired
+    private CreateOrderFromCartUseCase createOrderFromCartUseCase;
+
+    @Autowired
+    private CancelOrderUseCase cancelOrderUseCase;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private PointRepository pointRepository;
+
+    private List<User> users;
+    private List<Product> products;
+
+    @BeforeEach
+    void setUp() {
+        long suffix = System.nanoTime();
+        Category category = categoryRepository.save(Category.createCategory("락순서카테고리_" + suffix, 1));
+
+        products = new ArrayList<>();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            products.add(productRepository.save(Product.createProduct(
+                    category, "락 순서 상품 " + i, "락 순서 테스트용", BigDecimal.valueOf(10000), INITIAL_STOCK, 1, 10
+            )));
+        }
+
+        // 사용자마다 포인트 충전 (사용자 잔액 + 포인트 내역)
+        users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = new User("lock_order_user_" + suffix + "_" + i, "password", BigDecimal.ZERO, null, null);
+            user.chargePoint(INITIAL_POINT);
+            user = userRepository.save(user);
+            pointRepository.save(Point.charge(user, INITIAL_POINT, "락 순서 테스트 충전"));
+            users.add(user);
+        }
+    }
+
+    @Test
+    @DisplayName("주문 생성과 취소가 섞여도 데드락 없이 모두 성공하고 재고/포인트가 일관되어야 한다")
+    void testMixedOrdersAndCancelsHaveNoDeadlock() throws InterruptedException {
+        // Given 1: 취소할 주문 (포인트 사용)
+        List<Long> orderIdsToCancel = new ArrayList<>();
+        for (int i = 0; i < ORDERS_TO_CANCEL; i++) {
+            User user = users.get(i % USER_COUNT);
+            orderIdsToCancel.add(createOrderFromProductUseCase.execute(new CreateOrderFromProductCommand(
+                    user.getId(), products.get(i % PRODUCT_COUNT).getId(), 1, POINT_PER_ORDER, null
+            )).orderId());
+        }
+
+        // Given 2: 장바구니 주문용 장바구니 (상품 id 내림차순으로 담아 정렬 여부와 무관하게 락 순서가 지켜지는지 확인)
+        List<List<Long>> cartIdsPerOrder = new ArrayList<>();
+        for (int i = 0; i < CART_ORDERS; i++) {
+            User user = users.get(i % USER_COUNT);
+            cartIdsPerOrder.add(List.of(
+                    cartRepository.save(Cart.createCart(user, products.get(PRODUCT_COUNT - 1), 1)).getId(),
+                    cartRepository.save(Cart.createCart(user, products.get(0), 1)).getId()
+            ));
+        }
+
+        // Given 3: 작업 목록을 섞어서 실행
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < ORDERS_TO_CANCEL; i++) {
+            User user = users.get(i % USER_COUNT);
+            Long orderId = orderIdsToCancel.get(i);
+            tasks.add(() -> cancelOrderUseCase.execute(new CancelOrderCommand(user.getId(), orderId)));
+        }
+        for (int i = 0; i < PRODUCT_ORDERS; i++) {
+            User user = users.get(i % USER_COUNT);
+            Product product = products.get((i + 1) % PRODUCT_COUNT);
+            tasks.add(() -> createOrderFromProductUseCase.execute(new CreateOrderFromProductCommand(
+                    user.getId(), product.getId(), 1, POINT_PER_ORDER, null
+            )));
+        }
+        for (int i = 0; i < CART_ORDERS; i++) {
+            User user = users.get(i % USER_COUNT);
+            List<Long> cartIds = cartIdsPerOrder.get(i);
+            tasks.add(() -> createOrderFromCartUseCase.execute(new CreateOrderFromCartCommand(
+                    user.getId(), cartIds, POINT_PER_ORDER, null
+            )));
+        }
+        Collections.shuffle(tasks);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        CountDownLatch latch = new CountDownLatch(tasks.size());
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        // When
+        for (Runnable task : tasks) {
+            executorService.submit(() -> {
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        assertThat(latch.await(60, TimeUnit.SECONDS)).isTrue();
+        executorService.shutdown();
+
+        // Then 1: 데드락/락 대기 초과를 포함한 실패 없음
+        assertThat(failures)
+                .withFailMessage(() -> "실패한 작업: " + failures.stream().map(Throwable::toString).toList())
+                .isEmpty();
+
+        // Then 2: 상품별 재고 + 판매량 = 초기 재고
+        for (Product product : products) {
+            Product reloaded = productRepository.findById(product.getId()).orElseThrow();
+            assertThat(reloaded.getStock() + reloaded.getSoldCount()).isEqualTo(INITIAL_STOCK);
+        }
+        int activeOrderCount = PRODUCT_ORDERS + CART_ORDERS * 2;
+        int totalSold = products.stream()
+                .mapToInt(product -> productRepository.findById(product.getId()).orElseThrow().getSoldCount())
+                .sum();
+        assertThat(totalSold).isEqualTo(activeOrderCount);
+
+        // Then 3: 사용자 잔액 = 포인트 내역의 남은 금액 합계 = 초기 포인트 - 남은 주문의 포인트 사용액
+        BigDecimal totalRemaining = BigDecimal.ZERO;
+        for (User user : users) {
+            User reloaded = userRepository.findById(user.getId()).orElseThrow();
+            BigDecimal remaining = pointRepository.findAvailablePointsByUserId(user.getId()).stream()
+                    .map(Point::getRemainingAmount)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+            assertThat(reloaded.getPointBalance()).isEqualByComparingTo(remaining);
+            totalRemaining = totalRemaining.add(remaining);
+        }
+        BigDecimal expectedRemaining = INITIAL_POINT.multiply(BigDecimal.valueOf(USER_COUNT))
+                .subtract(POINT_PER_ORDER.multiply(BigDecimal.valueOf(PRODUCT_ORDERS + CART_ORDERS)));
+        assertThat(totalRemaining).isEqualByComparingTo(expectedRemaining);
+    }
+}
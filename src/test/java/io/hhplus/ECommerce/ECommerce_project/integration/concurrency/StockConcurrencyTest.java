@@ -6,6 +6,8 @@ import io.hhplus.ECommerce.ECommerce_project.order.application.CreateOrderFromPr
 import io.hhplus.ECommerce.ECommerce_project.order.application.command.CreateOrderFromProductCommand;
 import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.OrderItemRepository;
 import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.OrderRepository;
+import io.hhplus.ECommerce.ECommerce_project.product.application.DecreaseStockUseCase;
+import io.hhplus.ECommerce.ECommerce_project.product.application.command.DecreaseStockCommand;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
 import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
 import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
@@ -42,6 +44,9 @@ public class StockConcurrencyTest {
     @Autowired
     private CreateOrderFromProductUseCase createOrderFromProductUseCase;
 
+    @Autowired
+    private DecreaseStockUseCase decreaseStockUseCase;
+
     @Autowired
     private ProductRepository productRepository;
 
@@ -372,4 +377,41 @@ public class StockConcurrencyTest {
         assertThat(updatedProduct.getStock()).isEqualTo(0);
         assertThat(updatedProduct.getSoldCount()).isEqualTo(30);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("재고 직접 차감이 동시에 요청되어도 조건부 UPDATE로 재고가 음수가 되지 않아야 한다")
+    void testConcurrentDirectStockDecreaseNeverGoesNegative() throws InterruptedException {
+        // Given: 재고 100개, 30개 요청이 각각 5개씩 차감 (20개만 성공 가능)
+        int requestCount = 30;
+        int quantityPerRequest = 5;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(requestCount);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        // When
+        for (int i = 0; i < requestCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    decreaseStockUseCase.execute(new DecreaseStockCommand(testProduct.getId(), quantityPerRequest));
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // Then
+        assertThat(successCount.get()).isEqualTo(20);
+        assertThat(failCount.get()).isEqualTo(10);
+
+        Product updatedProduct = productRepository.findById(testProduct.getId()).orElseThrow();
+        assertThat(updatedProduct.getStock()).isEqualTo(0);
+    }
+}
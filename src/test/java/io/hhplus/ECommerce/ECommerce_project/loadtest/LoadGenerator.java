@@ -0,0 +1,182 @@
+package io.hhplus.ECommerce.ECommerce_project.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.IntFunction;
+
+/**
+ * HTTP 부하 생성기
+ * - 지정한 동시성(closed model: 워커 스레드마다 응답을 받은 뒤 다음 요청)으로 요청을 보내고 응답 시간을 HdrHistogram에 기록
+ * - 워커는 가상 스레드 (동시 클라이언트 수만큼 플랫폼 스레드를 만들지 않음)
+ * - 워밍업 요청은 기록하지 않고, 본 측정 구간의 처리량(req/s)과 응답 시간 분포(p50/p95/p99/max)를 반환
+ * - 응답 분류: 2xx 성공, 4xx 거절(품절/중복 등 비즈니스 예외), 그 외 또는 전송 실패는 오류
+ */
+public class LoadGenerator {
+
+    // 기록 가능한 최대 응답 시간 (마이크로초, 60초)
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    /**
+     * 시나리오 실행
+     * @param scenario 시나리오 이름
+     * @param concurrency 동시 요청 수 (워커 스레드 수)
+     * @param warmupRequests 기록하지 않는 워밍업 요청 수
+     * @param requests 측정 요청 수
+     * @param requestFactory 요청 번호(0부터, 워밍업 포함) -> HTTP 요청
+     * @param onSuccess 2xx 응답 처리 (요청 번호, 응답 본문) - 다음 시나리오 준비용, null 가능
+     */
+    public LoadResult run(
+            String scenario,
+            int concurrency,
+            int warmupRequests,
+            int requests,
+            IntFunction<HttpRequest> requestFactory,
+            BiConsumer<Integer, String> onSuccess
+    ) throws InterruptedException {
+        // 1. 워밍업 (기록하지 않음)
+        execute(concurrency, 0, warmupRequests, requestFactory, onSuccess, null);
+
+        // 2. 측정
+        Counters counters = new Counters();
+        long startedAt = System.nanoTime();
+        execute(concurrency, warmupRequests, warmupRequests + requests, requestFactory, onSuccess, counters);
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        return new LoadResult(
+                scenario,
+                concurrency,
+                requests,
+                counters.success.sum(),
+                counters.rejected.sum(),
+                counters.errors.sum(),
+                elapsedNanos,
+                counters.histogram
+        );
+    }
+
+    private void execute(
+            int concurrency,
+            int fromIndex,
+            int toIndex,
+            IntFunction<HttpRequest> requestFactory,
+            BiConsumer<Integer, String> onSuccess,
+            Counters counters
+    ) throws InterruptedException {
+        if (fromIndex >= toIndex) {
+            return;
+        }
+
+        AtomicInteger nextIndex = new AtomicInteger(fromIndex);
+        // 요청 스레드는 응답 대기 중 블로킹되므로 가상 스레드로 생성 (동시성 1000 이상도 클라이언트가 병목이 되지 않음)
+        ExecutorService executorService = Executors.newFixedThreadPool(concurrency, Thread.ofVirtual().name("load-client-", 0).factory());
+
+        for (int worker = 0; worker < concurrency; worker++) {
+            executorService.submit(() -> {
+                int index;
+                while ((index = nextIndex.getAndIncrement()) < toIndex) {
+                    send(index, requestFactory.apply(index), onSuccess, counters);
+                }
+            });
+        }
+
+        executorService.shutdown();
+        if (!executorService.awaitTermination(30, TimeUnit.MINUTES)) {
+            executorService.shutdownNow();
+            throw new IllegalStateException("부하 테스트가 제한 시간 안에 끝나지 않았습니다.");
+        }
+    }
+
+    private void send(int index, HttpRequest request, BiConsumer<Integer, String> onSuccess, Counters counters) {
+        long startedAt = System.nanoTime();
+        int status;
+        String body = null;
+
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            status = response.statusCode();
+            body = response.body();
+        } catch (IOException e) {
+            status = -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt);
+
+        if (status >= 200 && status < 300 && onSuccess != null) {
+            onSuccess.accept(index, body);
+        }
+
+        if (counters == null) {
+            return;
+        }
+
+        counters.histogram.recordValue(Math.min(elapsedMicros, HIGHEST_TRACKABLE_MICROS));
+        if (status >= 200 && status < 300) {
+            counters.success.increment();
+        } else if (status >= 400 && status < 500) {
+            counters.rejected.increment();
+        } else {
+            counters.errors.increment();
+        }
+    }
+
+    private static final class Counters {
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder success = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+    }
+
+    /**
+     * 시나리오 측정 결과 (응답 시간 단위: 마이크로초)
+     */
+    public record LoadResult(
+            String scenario,
+            int concurrency,
+            int requests,
+            long success,
+            long rejected,
+            long errors,
+            long elapsedNanos,
+            Histogram histogram
+    ) {
+
+        public double throughput() {
+            return requests / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        public double percentileMillis(double percentile) {
+            return histogram.getValueAtPercentile(percentile) / 1000.0;
+        }
+
+        public double maxMillis() {
+            return histogram.getMaxValue() / 1000.0;
+        }
+
+        /**
+         * 백분위 분포 출력 (밀리초, HdrHistogram .hgrm 형식)
+         */
+        public void writePercentileDistribution(PrintStream out) {
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+}
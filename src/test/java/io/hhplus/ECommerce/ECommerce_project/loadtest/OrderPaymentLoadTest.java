@@ -0,0 +1,325 @@
+package io.hhplus.ECommerce.ECommerce_project.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.ECommerce.ECommerce_project.cart.domain.entity.Cart;
+import io.hhplus.ECommerce.ECommerce_project.cart.infrastructure.CartRepository;
+import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
+import io.hhplus.ECommerce.ECommerce_project.category.infrastructure.CategoryRepository;
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.Coupon;
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.enums.DiscountType;
+import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.CouponRepository;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
+import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
+import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ActiveProfilesResolver;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BiConsumer;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문/결제/쿠폰 발급 엔드투엔드 부하 테스트
+ *
+ * 시나리오 (순서대로 실행):
+ * 1. POST /api/orders/from-product - 상품 직접 주문 (상품 여러 개에 분산)
+ * 2. POST /api/orders/from-cart - 장바구니 주문 (요청마다 장바구니 아이템 1개)
+ * 3. POST /api/payments - 1번 시나리오에서 생성된 주문 결제
+ * 4. POST /api/coupons/issue - 선착순 쿠폰 발급 (쿠폰 수량은 사용자 수의 절반 -> 절반은 품절로 거절)
+ *
+ * 실행:
+ * - ./gradlew loadTest (기본: H2 MySQL 모드, integration 프로파일)
+ * - 로컬 MySQL: ./gradlew loadTest -Dloadtest.profile=default (application.yml의 datasource 사용)
+ * - 가상 스레드: -Dloadtest.profile=integration,virtual-threads
+ * - 동시성/요청 수: -Dloadtest.concurrency=32 -Dloadtest.requests=5000 -Dloadtest.warmup=500
+ *
+ * 결과:
+ * - 시나리오별 처리량(req/s), p50/p95/p99/max 응답 시간(ms)을 build/reports/load-test/summary.txt에 기록
+ * - 시나리오별 HdrHistogram 백분위 분포(.hgrm)를 같은 디렉터리에 기록
+ * - 일반 test 태스크에서는 제외됨 (@Tag("load"))
+ */
+@Tag("load")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                // 측정값에 SQL 로그 출력 비용이 섞이지 않도록 비활성화
+                "spring.jpa.show-sql=false",
+                "logging.level.org.hibernate.SQL=WARN",
+                "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+        }
+)
+@ActiveProfiles(resolver = OrderPaymentLoadTest.LoadTestProfilesResolver.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class OrderPaymentLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 16);
+    private static final int REQUESTS = Integer.getInteger("loadtest.requests", 2000);
+    private static final int WARMUP = Integer.getInteger("loadtest.warmup", 200);
+
+    private static final int USER_COUNT = 200;
+    private static final int PRODUCT_COUNT = 10;
+    private static final Path REPORT_DIR = Path.of("build", "reports", "load-test");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final LoadGenerator loadGenerator = new LoadGenerator();
+    private final List<LoadGenerator.LoadResult> results = new ArrayList<>();
+
+    // 1번 시나리오에서 생성된 주문 ID (결제 시나리오 입력)
+    private final Queue<Long> createdOrderIds = new ConcurrentLinkedQueue<>();
+
+    private List<User> users;
+    private List<Product> products;
+
+    @BeforeAll
+    void setUp() {
+        // 1. 사용자
+        users = new ArrayList<>();
+        long suffix = System.nanoTime();
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(new User("load_user_" + suffix + "_" + i, "password", BigDecimal.ZERO, null, null));
+        }
+        users = userRepository.saveAll(users);
+
+        // 2. 상품 (요청 수보다 충분한 재고)
+        Category category = categoryRepository.save(Category.createCategory("부하테스트카테고리_" + suffix, 1));
+        products = new ArrayList<>();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            products.add(Product.createProduct(
+                    category,
+                    "부하 테스트 상품 " + i,
+                    "부하 테스트용",
+                    BigDecimal.valueOf(10000),
+                    1_000_000,
+                    1,
+                    10
+            ));
+        }
+        products = productRepository.saveAll(products);
+    }
+
+    @AfterAll
+    void writeReport() throws IOException {
+        Files.createDirectories(REPORT_DIR);
+
+        try (PrintStream out = new PrintStream(Files.newOutputStream(REPORT_DIR.resolve("summary.txt")), true, StandardCharsets.UTF_8)) {
+            printSummary(out);
+        }
+        printSummary(System.out);
+
+        for (LoadGenerator.LoadResult result : results) {
+            Path histogramFile = REPORT_DIR.resolve(result.scenario() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(histogramFile), true, StandardCharsets.UTF_8)) {
+                result.writePercentileDistribution(out);
+            }
+        }
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("상품 직접 주문 부하")
+    void orderFromProduct() throws InterruptedException {
+        LoadGenerator.LoadResult result = run("order-from-product", index -> post("/api/orders/from-product", Map.of(
+                "userId", userAt(index).getId(),
+                "productId", products.get(index % PRODUCT_COUNT).getId(),
+                "quantity", 1
+        )), (index, body) -> createdOrderIds.add(readLong(body, "orderId")));
+
+        assertThat(result.errors()).isZero();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("장바구니 주문 부하")
+    void orderFromCart() throws InterruptedException {
+        // Given: 요청마다 장바구니 아이템 1개 (사용자는 요청 번호로 분산)
+        List<Cart> carts = new ArrayList<>();
+        for (int index = 0; index < WARMUP + REQUESTS; index++) {
+            carts.add(Cart.createCart(userAt(index), products.get(index % PRODUCT_COUNT), 1));
+        }
+        List<Cart> savedCarts = cartRepository.saveAll(carts);
+
+        LoadGenerator.LoadResult result = run("order-from-cart", index -> post("/api/orders/from-cart", Map.of(
+                "userId", userAt(index).getId(),
+                "cartItemIds", List.of(savedCarts.get(index).getId())
+        )), null);
+
+        assertThat(result.errors()).isZero();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("주문 결제 부하")
+    void payment() throws InterruptedException {
+        // Given: 1번 시나리오에서 생성된 주문 (요청 수가 주문 수보다 많으면 주문 수만큼만 실행)
+        List<Long> orderIds = new ArrayList<>(createdOrderIds);
+        int warmup = Math.min(WARMUP, orderIds.size() / 10);
+        int requests = orderIds.size() - warmup;
+
+        LoadGenerator.LoadResult result = loadGenerator.run(
+                "payment",
+                CONCURRENCY,
+                warmup,
+                requests,
+                index -> post("/api/payments", Map.of(
+                        "orderId", orderIds.get(index),
+                        "paymentMethod", "CARD"
+                )),
+                null
+        );
+        results.add(result);
+
+        assertThat(result.errors()).isZero();
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("선착순 쿠폰 발급 부하")
+    void couponIssue() throws InterruptedException {
+        // Given: 사용자 수만큼 요청할 때마다 새 쿠폰 (요청 i -> 사용자 i % U, 쿠폰 i / U)
+        int couponCount = (WARMUP + REQUESTS + USER_COUNT - 1) / USER_COUNT;
+        long suffix = System.nanoTime();
+        List<Coupon> coupons = new ArrayList<>();
+        for (int i = 0; i < couponCount; i++) {
+            coupons.add(Coupon.createCoupon(
+                    "부하 테스트 쿠폰 " + i,
+                    "LOAD_" + suffix + "_" + i,
+                    DiscountType.FIXED,
+                    BigDecimal.valueOf(1000),
+                    null,
+                    BigDecimal.ZERO,
+                    USER_COUNT / 2,
+                    1,
+                    LocalDateTime.now().minusDays(1),
+                    LocalDateTime.now().plusDays(30)
+            ));
+        }
+        List<Coupon> savedCoupons = couponRepository.saveAll(coupons);
+
+        LoadGenerator.LoadResult result = run("coupon-issue", index -> post("/api/coupons/issue", Map.of(
+                "userId", userAt(index).getId(),
+                "couponId", savedCoupons.get(index / USER_COUNT).getId()
+        )), null);
+
+        assertThat(result.errors()).isZero();
+    }
+
+    private LoadGenerator.LoadResult run(
+            String scenario,
+            IntFunction<HttpRequest> requestFactory,
+            BiConsumer<Integer, String> onSuccess
+    ) throws InterruptedException {
+        LoadGenerator.LoadResult result = loadGenerator.run(scenario, CONCURRENCY, WARMUP, REQUESTS, requestFactory, onSuccess);
+        results.add(result);
+        return result;
+    }
+
+    private User userAt(int index) {
+        return users.get(index % USER_COUNT);
+    }
+
+    private HttpRequest post(String path, Map<String, Object> body) {
+        try {
+            return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Long readLong(String body, String field) {
+        try {
+            JsonNode node = objectMapper.readTree(body);
+            return node.get(field).asLong();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void printSummary(PrintStream out) {
+        out.printf("부하 테스트 결과 (%s, concurrency=%d)%n",
+                LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME), CONCURRENCY);
+        out.printf("%-20s %8s %8s %8s %8s %10s %10s %10s %10s %10s%n",
+                "scenario", "requests", "2xx", "4xx", "error", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+
+        for (LoadGenerator.LoadResult result : results) {
+            out.printf("%-20s %8d %8d %8d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    result.scenario(),
+                    result.requests(),
+                    result.success(),
+                    result.rejected(),
+                    result.errors(),
+                    result.throughput(),
+                    result.percentileMillis(50),
+                    result.percentileMillis(95),
+                    result.percentileMillis(99),
+                    result.maxMillis());
+        }
+    }
+
+    /**
+     * 실행 프로파일 선택 (-Dloadtest.profile, 기본 integration = H2 MySQL 모드, 쉼표로 여러 개 지정)
+     */
+    public static class LoadTestProfilesResolver implements ActiveProfilesResolver {
+
+        @Override
+        public String[] resolve(Class<?> testClass) {
+            return System.getProperty("loadtest.profile", "integration").split(",");
+        }
+    }
+}
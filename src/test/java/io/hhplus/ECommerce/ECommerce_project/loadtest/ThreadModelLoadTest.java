@@ -0,0 +1,245 @@
+package io.hhplus.ECommerce.ECommerce_project.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.ECommerce.ECommerce_project.ECommerceProjectApplication;
+import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
+import io.hhplus.ECommerce.ECommerce_project.category.infrastructure.CategoryRepository;
+import io.hhplus.ECommerce.ECommerce_project.common.VirtualThreadPinningMonitor;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
+import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
+import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스레드 모델 비교 부하 테스트 (플랫폼 스레드 vs 가상 스레드)
+ *
+ * 시나리오:
+ * - 같은 조건으로 애플리케이션을 두 번 띄워 POST /api/orders/from-product 를 동시 클라이언트 1000개로 호출
+ *   1. platform: 기본 설정 (Tomcat 스레드 풀 200개)
+ *   2. virtual: virtual-threads 프로파일 추가 (가상 스레드 + 고정 크기 커넥션 풀)
+ * - 상품 수를 적게(10개) 두어 상품 행 락 경합이 생기도록 하고, 사용자는 클라이언트마다 다르게 배정
+ *
+ * 실행:
+ * - ./gradlew loadTest --tests '*ThreadModelLoadTest' (기본: H2 MySQL 모드, integration 프로파일)
+ * - 로컬 MySQL: -Dloadtest.profile=default (H2 드라이버는 synchronized를 많이 사용해 가상 스레드 고정이 과장되므로 MySQL 권장)
+ * - 클라이언트/요청 수: -Dloadtest.clients=1000 -Dloadtest.requests=10000 -Dloadtest.warmup=1000
+ *
+ * 결과:
+ * - 모드별 처리량(req/s), p50/p95/p99/max 응답 시간(ms), 커넥션 대기 타임아웃 수, 가상 스레드 고정 횟수를
+ *   build/reports/load-test/thread-model.txt에 기록
+ * - 모드별 HdrHistogram 백분위 분포(.hgrm)를 같은 디렉터리에 기록
+ */
+@Tag("load")
+class ThreadModelLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 1000);
+    private static final int REQUESTS = Integer.getInteger("loadtest.requests", 10000);
+    private static final int WARMUP = Integer.getInteger("loadtest.warmup", 1000);
+    private static final String BASE_PROFILE = System.getProperty("loadtest.profile", "integration");
+    private static final String[] BASE_PROFILES = BASE_PROFILE.split(",");
+
+    private static final int PRODUCT_COUNT = 10;
+    private static final Path REPORT_DIR = Path.of("build", "reports", "load-test");
+
+    private final LoadGenerator loadGenerator = new LoadGenerator();
+
+    @Test
+    @DisplayName("플랫폼 스레드와 가상 스레드에서 상품 직접 주문 부하 비교")
+    void compareThreadModels() throws Exception {
+        // When
+        List<ModeResult> results = new ArrayList<>();
+        results.add(runMode("platform", BASE_PROFILES));
+        results.add(runMode("virtual", withProfile(BASE_PROFILES, "virtual-threads")));
+
+        // Then: 결과 기록
+        writeReport(results);
+
+        // 모든 요청이 응답(또는 전송 실패)으로 끝나야 함
+        for (ModeResult result : results) {
+            LoadGenerator.LoadResult load = result.load();
+            assertThat(load.success() + load.rejected() + load.errors()).isEqualTo(REQUESTS);
+        }
+    }
+
+    /**
+     * 1. 프로파일로 애플리케이션 시작 (임의 포트)
+     * 2. 사용자(클라이언트 수만큼), 상품 준비
+     * 3. 상품 직접 주문 부하 실행 후 커넥션 풀/고정 지표 수집
+     */
+    private ModeResult runMode(String mode, String... profiles) throws InterruptedException {
+        // 1. 애플리케이션 시작 (명령행 인자는 application.yml보다 우선)
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ECommerceProjectApplication.class)
+                .profiles(profiles)
+                .run(
+                        "--server.port=0",
+                        // 측정값에 SQL 로그 출력 비용이 섞이지 않도록 비활성화
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+                )) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+
+            // 2. 데이터 준비
+            long suffix = System.nanoTime();
+            List<User> users = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                users.add(new User("thread_model_user_" + suffix + "_" + i, "password", BigDecimal.ZERO, null, null));
+            }
+            List<User> savedUsers = context.getBean(UserRepository.class).saveAll(users);
+
+            Category category = context.getBean(CategoryRepository.class)
+                    .save(Category.createCategory("스레드모델카테고리_" + suffix, 1));
+            List<Product> products = new ArrayList<>();
+            for (int i = 0; i < PRODUCT_COUNT; i++) {
+                products.add(Product.createProduct(
+                        category,
+                        "스레드 모델 상품 " + i,
+                        "스레드 모델 비교용",
+                        BigDecimal.valueOf(10000),
+                        1_000_000,
+                        1,
+                        10
+                ));
+            }
+            List<Product> savedProducts = context.getBean(ProductRepository.class).saveAll(products);
+
+            // 3. 부하 실행
+            LoadGenerator.LoadResult load = loadGenerator.run(
+                    "order-from-product-" + mode,
+                    CLIENTS,
+                    WARMUP,
+                    REQUESTS,
+                    index -> post(objectMapper, port, "/api/orders/from-product", Map.of(
+                            "userId", savedUsers.get(index % CLIENTS).getId(),
+                            "productId", savedProducts.get(index % PRODUCT_COUNT).getId(),
+                            "quantity", 1
+                    )),
+                    null
+            );
+
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+            Gauge poolMax = meterRegistry.find("hikaricp.connections.max").gauge();
+            Counter poolTimeouts = meterRegistry.find("hikaricp.connections.timeout").counter();
+            Timer pinned = meterRegistry.find(VirtualThreadPinningMonitor.TIMER_NAME).timer();
+
+            return new ModeResult(
+                    mode,
+                    context.getEnvironment().getProperty("spring.threads.virtual.enabled", Boolean.class, false),
+                    poolMax == null ? -1 : (int) poolMax.value(),
+                    poolTimeouts == null ? 0 : (long) poolTimeouts.count(),
+                    pinned == null ? 0 : pinned.count(),
+                    pinned == null ? 0 : pinned.max(TimeUnit.MILLISECONDS),
+                    load
+            );
+        }
+    }
+
+    private String[] withProfile(String[] profiles, String profile) {
+        String[] extended = Arrays.copyOf(profiles, profiles.length + 1);
+        extended[profiles.length] = profile;
+        return extended;
+    }
+
+    private HttpRequest post(ObjectMapper objectMapper, int port, String path, Map<String, Object> body) {
+        try {
+            return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                    .timeout(Duration.ofSeconds(60))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeReport(List<ModeResult> results) throws IOException {
+        Files.createDirectories(REPORT_DIR);
+
+        try (PrintStream out = new PrintStream(Files.newOutputStream(REPORT_DIR.resolve("thread-model.txt")), true, StandardCharsets.UTF_8)) {
+            printSummary(out, results);
+        }
+        printSummary(System.out, results);
+
+        for (ModeResult result : results) {
+            Path histogramFile = REPORT_DIR.resolve(result.load().scenario() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(histogramFile), true, StandardCharsets.UTF_8)) {
+                result.load().writePercentileDistribution(out);
+            }
+        }
+    }
+
+    private void printSummary(PrintStream out, List<ModeResult> results) {
+        out.printf("스레드 모델 비교 (%s, profile=%s, clients=%d, requests=%d)%n",
+                LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME), BASE_PROFILE, CLIENTS, REQUESTS);
+        out.printf("%-10s %8s %6s %8s %8s %8s %10s %10s %10s %10s %10s %10s %8s %12s%n",
+                "mode", "virtual", "pool", "2xx", "4xx", "error", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)",
+                "poolTO", "pinned", "pinMax(ms)");
+
+        for (ModeResult result : results) {
+            LoadGenerator.LoadResult load = result.load();
+            out.printf("%-10s %8s %6d %8d %8d %8d %10.1f %10.2f %10.2f %10.2f %10.2f %10d %8d %12.2f%n",
+                    result.mode(),
+                    result.virtualThreads(),
+                    result.poolSize(),
+                    load.success(),
+                    load.rejected(),
+                    load.errors(),
+                    load.throughput(),
+                    load.percentileMillis(50),
+                    load.percentileMillis(95),
+                    load.percentileMillis(99),
+                    load.maxMillis(),
+                    result.poolTimeouts(),
+                    result.pinnedCount(),
+                    result.pinnedMaxMillis());
+        }
+    }
+
+    /**
+     * 모드별 측정 결과
+     * @param poolSize 커넥션 풀 최대 크기 (지표가 없으면 -1)
+     * @param poolTimeouts 커넥션 대기 타임아웃 수
+     * @param pinnedCount 가상 스레드가 threshold 이상 고정된 횟수
+     */
+    private record ModeResult(
+            String mode,
+            boolean virtualThreads,
+            int poolSize,
+            long poolTimeouts,
+            long pinnedCount,
+            double pinnedMaxMillis,
+            LoadGenerator.LoadResult load
+    ) {
+    }
+}
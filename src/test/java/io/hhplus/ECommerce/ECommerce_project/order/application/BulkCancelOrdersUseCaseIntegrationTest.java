@@ -0,0 +1,312 @@
+package io.hhplus.ECommerce.ECommerce_project.order.application;
+
+import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
+import io.hhplus.ECommerce.ECommerce_project.category.infrastructure.CategoryRepository;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.OrderException;
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.Coupon;
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.UserCoupon;
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.enums.DiscountType;
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.enums.UserCouponStatus;
+import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.CouponRepository;
+import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.UserCouponRepository;
+import io.hhplus.ECommerce.ECommerce_project.order.application.command.BulkCancelOrdersCommand;
+import io.hhplus.ECommerce.ECommerce_project.order.application.command.CreateOrderFromProductCommand;
+import io.hhplus.ECommerce.ECommerce_project.order.domain.entity.Orders;
+import io.hhplus.ECommerce.ECommerce_project.order.domain.enums.OrderItemStatus;
+import io.hhplus.ECommerce.ECommerce_project.order.domain.enums.OrderStatus;
+import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.OrderItemRepository;
+import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.OrderRepository;
+import io.hhplus.ECommerce.ECommerce_project.order.presentation.response.BulkCancelOrdersResponse;
+import io.hhplus.ECommerce.ECommerce_project.order.presentation.response.BulkCancelOrdersResponse.OrderCancelResult;
+import io.hhplus.ECommerce.ECommerce_project.order.presentation.response.BulkCancelOrdersResponse.Outcome;
+import io.hhplus.ECommerce.ECommerce_project.payment.domain.entity.Payment;
+import io.hhplus.ECommerce.ECommerce_project.payment.domain.enums.PaymentMethod;
+import io.hhplus.ECommerce.ECommerce_project.payment.infrastructure.PaymentRepository;
+import io.hhplus.ECommerce.ECommerce_project.point.domain.entity.Point;
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointRepository;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
+import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
+import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 주문 일괄 취소 통합 테스트
+ * - 여러 사용자의 주문을 청크(3건) 단위로 취소하고 상품별 재고, 사용자별 포인트를 합산해 복구해야 한다.
+ * - 취소할 수 없는 주문은 이유와 함께 건너뛰고, 복구에 실패한 주문은 같은 청크의 다른 주문에 영향을 주지 않아야 한다.
+ */
+@SpringBootTest(properties = {
+        "ecommerce.order.bulk-cancel.chunk-size=3",
+        "ecommerce.order.bulk-cancel.max-orders=20"
+})
+@ActiveProfiles("integration")
+class BulkCancelOrdersUseCaseIntegrationTest {
+
+    private static final int INITIAL_STOCK = 100;
+    private static final BigDecimal CHARGED = BigDecimal.valueOf(50000);
+
+    @Autowired
+    private BulkCancelOrdersUseCase bulkCancelOrdersUseCase;
+
+    @Autowired
+    private CreateOrderFromProductUseCase createOrderFromProductUseCase;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PointRepository pointRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Category category;
+    private Product productA;
+    private Product productB;
+    private User userA;
+    private User userB;
+
+    @BeforeEach
+    void setUp() {
+        long suffix = System.nanoTime();
+        category = categoryRepository.save(Category.createCategory("일괄취소카테고리_" + suffix, 1));
+        productA = createProduct("일괄 취소 상품 A");
+        productB = createProduct("일괄 취소 상품 B");
+        userA = createUser("bulk_cancel_user_a_" + suffix);
+        userB = createUser("bulk_cancel_user_b_" + suffix);
+    }
+
+    @Test
+    @DisplayName("여러 사용자의 주문을 청크 단위로 취소하고 상품별 재고와 사용자별 포인트를 합산해 복구해야 한다")
+    void testBulkCancelAggregatesRestoration() {
+        // Given: 사용자 A 주문 3건, 사용자 B 주문 2건 (A 1건은 결제 완료)
+        List<Long> orderIds = new ArrayList<>();
+        orderIds.add(createOrder(userA, productA, 2, BigDecimal.valueOf(1000)));
+        orderIds.add(createOrder(userB, productA, 3, BigDecimal.valueOf(500)));
+        orderIds.add(createOrder(userA, productB, 1, null));
+        orderIds.add(createOrder(userB, productB, 4, BigDecimal.valueOf(2000)));
+        Long paidOrderId = createOrder(userA, productA, 1, BigDecimal.valueOf(300));
+        markPaid(paidOrderId);
+        orderIds.add(paidOrderId);
+
+        // When (중복 ID 포함)
+        List<Long> requested = new ArrayList<>(orderIds);
+        requested.add(orderIds.get(0));
+        BulkCancelOrdersResponse response = bulkCancelOrdersUseCase.execute(new BulkCancelOrdersCommand(requested));
+
+        // Then: 전부 취소, 결과는 요청 순서
+        assertThat(response.requestedCount()).isEqualTo(5);
+        assertThat(response.canceledCount()).isEqualTo(5);
+        assertThat(response.failedCount()).isZero();
+        assertThat(response.results()).extracting(OrderCancelResult::orderId).containsExactlyElementsOf(orderIds);
+        assertThat(response.results()).allMatch(result -> result.outcome() == Outcome.CANCELED);
+        for (Long orderId : orderIds) {
+            assertThat(orderRepository.findById(orderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.CANCELED);
+            assertThat(orderItemRepository.findByOrders_Id(orderId))
+                    .allMatch(orderItem -> orderItem.getStatus() == OrderItemStatus.ORDER_CANCELED);
+        }
+
+        // Then: 상품별 재고 합산 복구 (A: 2 + 3 + 1, B: 1 + 4), 사용자별 포인트 환불
+        assertThat(response.restockedQuantities())
+                .containsEntry(productA.getId(), 6)
+                .containsEntry(productB.getId(), 5);
+        assertThat(response.restockedQuantity()).isEqualTo(11);
+        assertThat(response.refundedPoint()).isEqualByComparingTo(BigDecimal.valueOf(3800));
+        assertThat(stock(productA)).isEqualTo(INITIAL_STOCK);
+        assertThat(stock(productB)).isEqualTo(INITIAL_STOCK);
+        assertThat(balance(userA)).isEqualByComparingTo(CHARGED);
+        assertThat(balance(userB)).isEqualByComparingTo(CHARGED);
+    }
+
+    @Test
+    @DisplayName("쿠폰을 사용한 주문을 일괄 취소하면 사용자 쿠폰의 사용 횟수를 주문 수만큼 복구해야 한다")
+    void testBulkCancelRestoresUserCoupons() {
+        // Given: 사용자 A는 같은 쿠폰으로 주문 2건(사용 한도 2 -> USED), 사용자 B는 주문 1건
+        Coupon coupon = createCoupon(2);
+        UserCoupon userCouponA = userCouponRepository.save(UserCoupon.issueCoupon(userA, coupon));
+        UserCoupon userCouponB = userCouponRepository.save(UserCoupon.issueCoupon(userB, coupon));
+
+        List<Long> orderIds = List.of(
+                createOrder(userA, productA, 2, null, coupon),
+                createOrder(userB, productB, 2, null, coupon),
+                createOrder(userA, productB, 3, null, coupon)
+        );
+        assertThat(userCouponRepository.findById(userCouponA.getId()).orElseThrow().getStatus())
+                .isEqualTo(UserCouponStatus.USED);
+
+        // When
+        BulkCancelOrdersResponse response = bulkCancelOrdersUseCase.execute(new BulkCancelOrdersCommand(orderIds));
+
+        // Then: 같은 사용자 쿠폰을 쓴 주문이 여러 건이어도 주문마다 한 번씩 사용 취소
+        assertThat(response.canceledCount()).isEqualTo(3);
+        UserCoupon restoredA = userCouponRepository.findById(userCouponA.getId()).orElseThrow();
+        UserCoupon restoredB = userCouponRepository.findById(userCouponB.getId()).orElseThrow();
+        assertThat(restoredA.getUsedCount()).isZero();
+        assertThat(restoredA.getStatus()).isEqualTo(UserCouponStatus.AVAILABLE);
+        assertThat(restoredB.getUsedCount()).isZero();
+        assertThat(restoredB.getStatus()).isEqualTo(UserCouponStatus.AVAILABLE);
+    }
+
+    @Test
+    @DisplayName("취소할 수 없는 주문은 이유와 함께 건너뛰고, 결제 실패 주문은 다시 복구하지 않고 상태만 취소해야 한다")
+    void testBulkCancelReportsPerOrderOutcome() {
+        // Given
+        Long cancelable = createOrder(userA, productA, 1, BigDecimal.valueOf(1000));
+
+        Long alreadyCanceled = createOrder(userA, productA, 1, null);
+        bulkCancelOrdersUseCase.execute(new BulkCancelOrdersCommand(List.of(alreadyCanceled)));
+
+        Long paymentInProgress = createOrder(userB, productA, 1, null);
+        Orders inProgressOrder = orderRepository.findById(paymentInProgress).orElseThrow();
+        paymentRepository.save(Payment.createPayment(inProgressOrder, inProgressOrder.getFinalAmount(), PaymentMethod.CARD));
+
+        // 결제 실패 주문 (리소스는 결제 실패 보상으로 복구되므로 일괄 취소에서는 상태만 변경)
+        Long paymentFailed = createOrder(userB, productB, 2, null);
+        Orders failedOrder = orderRepository.findById(paymentFailed).orElseThrow();
+        failedOrder.paymentFailed();
+        orderRepository.save(failedOrder);
+
+        Long missing = -System.nanoTime();
+
+        // When
+        BulkCancelOrdersResponse response = bulkCancelOrdersUseCase.execute(new BulkCancelOrdersCommand(
+                List.of(cancelable, alreadyCanceled, paymentInProgress, paymentFailed, missing)));
+
+        // Then
+        assertThat(response.results()).extracting(OrderCancelResult::outcome).containsExactly(
+                Outcome.CANCELED,
+                Outcome.INVALID_STATUS,
+                Outcome.PAYMENT_IN_PROGRESS,
+                Outcome.CANCELED,
+                Outcome.NOT_FOUND
+        );
+        assertThat(response.canceledCount()).isEqualTo(2);
+        assertThat(response.failedCount()).isEqualTo(3);
+        assertThat(orderRepository.findById(paymentInProgress).orElseThrow().getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(orderRepository.findById(paymentFailed).orElseThrow().getStatus()).isEqualTo(OrderStatus.CANCELED);
+
+        // Then: 취소 가능 주문만 복구 (결제 진행 중 1개는 차감된 채, 결제 실패 주문은 복구하지 않음)
+        assertThat(response.restockedQuantities()).containsOnlyKeys(productA.getId());
+        assertThat(stock(productA)).isEqualTo(INITIAL_STOCK - 1);
+        assertThat(stock(productB)).isEqualTo(INITIAL_STOCK - 2);
+        assertThat(balance(userA)).isEqualByComparingTo(CHARGED);
+    }
+
+    @Test
+    @DisplayName("청크 안의 한 주문이 복구에 실패해도 나머지 주문은 취소되어야 한다")
+    void testFailingOrderDoesNotAbortChunk() {
+        // Given: 사용자 A 주문 3건 (한 청크), 그 중 상품 B 주문은 판매량을 0으로 바꿔 재고 복구가 실패하도록 함
+        Long first = createOrder(userA, productA, 1, BigDecimal.valueOf(1000));
+        Long broken = createOrder(userA, productB, 2, null);
+        Long third = createOrder(userA, productA, 2, null);
+        jdbcTemplate.update("UPDATE products SET sold_count = 0 WHERE id = ?", productB.getId());
+
+        // When
+        BulkCancelOrdersResponse response = bulkCancelOrdersUseCase.execute(
+                new BulkCancelOrdersCommand(List.of(first, broken, third)));
+
+        // Then
+        assertThat(response.results()).extracting(OrderCancelResult::outcome)
+                .containsExactly(Outcome.CANCELED, Outcome.FAILED, Outcome.CANCELED);
+        assertThat(response.results().get(1).message()).isNotBlank();
+        assertThat(orderRepository.findById(broken).orElseThrow().getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(stock(productA)).isEqualTo(INITIAL_STOCK);
+        assertThat(stock(productB)).isEqualTo(INITIAL_STOCK - 2);
+        assertThat(balance(userA)).isEqualByComparingTo(CHARGED);
+    }
+
+    @Test
+    @DisplayName("최대 주문 수를 넘기면 아무것도 취소하지 않고 예외가 발생해야 한다")
+    void testLimitExceeded() {
+        // Given: max-orders = 20
+        List<Long> orderIds = LongStream.rangeClosed(1, 21).map(i -> -i).boxed().toList();
+
+        // When & Then
+        assertThatThrownBy(() -> bulkCancelOrdersUseCase.execute(new BulkCancelOrdersCommand(orderIds)))
+                .isInstanceOfSatisfying(OrderException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.ORDER_BULK_CANCEL_LIMIT_EXCEEDED));
+    }
+
+    private Product createProduct(String name) {
+        return productRepository.save(Product.createProduct(
+                category, name, "일괄 취소 테스트용", BigDecimal.valueOf(10000), INITIAL_STOCK, 1, 10
+        ));
+    }
+
+    private User createUser(String username) {
+        User user = new User(username, "password", BigDecimal.ZERO, null, null);
+        user.chargePoint(CHARGED);
+        User saved = userRepository.save(user);
+        pointRepository.save(Point.charge(saved, CHARGED, "일괄 취소 테스트 충전"));
+        return saved;
+    }
+
+    private Long createOrder(User user, Product product, int quantity, BigDecimal pointAmount) {
+        return createOrder(user, product, quantity, pointAmount, null);
+    }
+
+    private Long createOrder(User user, Product product, int quantity, BigDecimal pointAmount, Coupon coupon) {
+        return createOrderFromProductUseCase.execute(new CreateOrderFromProductCommand(
+                user.getId(), product.getId(), quantity, pointAmount, coupon == null ? null : coupon.getId()
+        )).orderId();
+    }
+
+    private Coupon createCoupon(int perUserLimit) {
+        LocalDateTime now = LocalDateTime.now();
+        return couponRepository.save(Coupon.createCoupon(
+                "일괄 취소 쿠폰", "BULK_" + System.nanoTime(), DiscountType.FIXED, BigDecimal.valueOf(1000),
+                null, BigDecimal.ZERO, 100, perUserLimit, now.minusDays(1), now.plusDays(30)
+        ));
+    }
+
+    private void markPaid(Long orderId) {
+        Orders order = orderRepository.findById(orderId).orElseThrow();
+        order.paid();
+        orderRepository.save(order);
+    }
+
+    private int stock(Product product) {
+        return productRepository.findById(product.getId()).orElseThrow().getStock();
+    }
+
+    private BigDecimal balance(User user) {
+        return userRepository.findPointBalanceById(user.getId()).orElseThrow();
+    }
+}
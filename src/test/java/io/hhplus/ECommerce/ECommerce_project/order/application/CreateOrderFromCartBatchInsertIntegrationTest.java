@@ -0,0 +1,205 @@
+package io.hhplus.ECommerce.ECommerce_project.order.application;
+
+import io.hhplus.ECommerce.ECommerce_project.cart.domain.entity.Cart;
+import io.hhplus.ECommerce.ECommerce_project.cart.infrastructure.CartRepository;
+import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
+import io.hhplus.ECommerce.ECommerce_project.category.infrastructure.CategoryRepository;
+import io.hhplus.ECommerce.ECommerce_project.order.application.command.CreateOrderFromCartCommand;
+import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.OrderItemRepository;
+import io.hhplus.ECommerce.ECommerce_project.order.presentation.response.CreateOrderResponse;
+import io.hhplus.ECommerce.ECommerce_project.point.domain.entity.Point;
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointRepository;
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointUsageHistoryRepository;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
+import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
+import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 장바구니 주문 배치 저장 통합 테스트
+ * - 같은 주문을 JDBC 배치 없이(batch_size=1) / 배치로 저장했을 때 DB 왕복(PreparedStatement) 수를 비교한다.
+ * - 장바구니 항목 수가 달라도 주문 1건의 DB 왕복 수는 같아야 한다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("integration")
+class CreateOrderFromCartBatchInsertIntegrationTest {
+
+    private static final int ITEM_COUNT = 10;
+    private static final int POINT_COUNT = 3;
+
+    @Autowired
+    private CreateOrderFromCartUseCase createOrderFromCartUseCase;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private PointRepository pointRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private PointUsageHistoryRepository pointUsageHistoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Category testCategory;
+    private List<Product> products;
+
+    @BeforeEach
+    void setUp() {
+        testCategory = categoryRepository.save(Category.createCategory("배치테스트카테고리_" + System.nanoTime(), 1));
+
+        products = new ArrayList<>();
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            products.add(productRepository.save(Product.createProduct(
+                    testCategory,
+                    "배치 상품 " + i,
+                    "배치 저장 테스트용",
+                    BigDecimal.valueOf(1000),
+                    100,
+                    1,
+                    10
+            )));
+        }
+    }
+
+    @Test
+    @DisplayName("JDBC 배치를 사용하면 같은 주문의 DB 왕복 수가 줄고 저장 결과는 같아야 한다")
+    void testBatchInsertReducesRoundTrips() {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // When 1: 배치 없이 (세션 batch_size = 1)
+        OrderRun unbatched = runOrder(statistics, 1);
+
+        // When 2: 설정된 batch_size 사용
+        OrderRun batched = runOrder(statistics, null);
+
+        // Then: 저장되는 엔티티 수는 같음 (Order 1 + OrderItem 10 + PointUsageHistory 3)
+        assertThat(unbatched.insertCount()).isEqualTo(1 + ITEM_COUNT + POINT_COUNT);
+        assertThat(batched.insertCount()).isEqualTo(unbatched.insertCount());
+
+        // Then: 같은 테이블의 INSERT/UPDATE/DELETE가 묶여 왕복 수가 줄어듦
+        assertThat(batched.statementCount()).isLessThan(unbatched.statementCount());
+
+        // Then: 저장 결과 확인
+        assertThat(orderItemRepository.findByOrders_Id(batched.response().orderId())).hasSize(ITEM_COUNT);
+        assertThat(pointUsageHistoryRepository.findByOrders_IdAndCanceledAtIsNull(batched.response().orderId()))
+                .hasSize(POINT_COUNT);
+    }
+
+    @Test
+    @DisplayName("장바구니 항목 수와 무관하게 주문 1건의 DB 왕복 수가 같아야 한다 (상품 일괄 조회/잠금)")
+    void testRoundTripsIndependentOfCartSize() {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        CreateOrderFromCartCommand smallCart = prepareCartOrder(2);
+        CreateOrderFromCartCommand largeCart = prepareCartOrder(ITEM_COUNT);
+
+        // When: 트랜잭션 밖에서 호출 (사전 검증 + 쓰기 트랜잭션)
+        statistics.clear();
+        createOrderFromCartUseCase.execute(smallCart);
+        long smallCartStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        CreateOrderResponse response = createOrderFromCartUseCase.execute(largeCart);
+        long largeCartStatements = statistics.getPrepareStatementCount();
+
+        // Then: 장바구니/상품 조회, 상품 잠금, 상품 UPDATE가 항목 수만큼 늘어나지 않음
+        assertThat(largeCartStatements).isEqualTo(smallCartStatements);
+
+        // Then: 재고/판매량 반영
+        assertThat(orderItemRepository.findByOrders_Id(response.orderId())).hasSize(ITEM_COUNT);
+        Product product = productRepository.findById(products.get(0).getId()).orElseThrow();
+        assertThat(product.getStock()).isEqualTo(100 - 2);
+        assertThat(product.getSoldCount()).isEqualTo(2);
+    }
+
+    private OrderRun runOrder(Statistics statistics, Integer jdbcBatchSize) {
+        CreateOrderFromCartCommand command = prepareOrder();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        statistics.clear();
+        CreateOrderResponse response = transactionTemplate.execute(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            return createOrderFromCartUseCase.execute(command);
+        });
+
+        return new OrderRun(response, statistics.getPrepareStatementCount(), statistics.getEntityInsertCount());
+    }
+
+    /**
+     * 사용자, 포인트(1000원 x 3), 장바구니(상품 10개) 준비
+     * - 포인트 2500원 사용 -> 포인트 3건 모두 사용 이력 생성
+     */
+    private CreateOrderFromCartCommand prepareOrder() {
+        User user = new User("batch_user_" + System.nanoTime(), "password", BigDecimal.ZERO, null, null);
+        user.chargePoint(BigDecimal.valueOf(1000L * POINT_COUNT));
+        user = userRepository.save(user);
+
+        for (int i = 0; i < POINT_COUNT; i++) {
+            pointRepository.save(Point.charge(user, BigDecimal.valueOf(1000), "배치 테스트 충전"));
+        }
+
+        List<Long> cartIds = new ArrayList<>();
+        for (Product product : products) {
+            cartIds.add(cartRepository.save(Cart.createCart(user, product, 1)).getId());
+        }
+
+        return new CreateOrderFromCartCommand(user.getId(), cartIds, BigDecimal.valueOf(2500), null);
+    }
+
+    /**
+     * 사용자, 장바구니(상품 itemCount개, 각 1개) 준비 - 쿠폰/포인트 미사용
+     */
+    private CreateOrderFromCartCommand prepareCartOrder(int itemCount) {
+        User user = userRepository.save(new User("cart_size_user_" + System.nanoTime(), "password", BigDecimal.ZERO, null, null));
+
+        List<Long> cartIds = new ArrayList<>();
+        for (Product product : products.subList(0, itemCount)) {
+            cartIds.add(cartRepository.save(Cart.createCart(user, product, 1)).getId());
+        }
+
+        return new CreateOrderFromCartCommand(user.getId(), cartIds, null, null);
+    }
+
+    private record OrderRun(CreateOrderResponse response, long statementCount, long insertCount) {
+    }
+}
@@ -0,0 +1,150 @@
+package io.hhplus.ECommerce.ECommerce_project.order.application;
+
+import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
+import io.hhplus.ECommerce.ECommerce_project.category.infrastructure.CategoryRepository;
+import io.hhplus.ECommerce.ECommerce_project.order.application.command.GetOrderDetailCommand;
+import io.hhplus.ECommerce.ECommerce_project.order.application.command.GetOrderListCommand;
+import io.hhplus.ECommerce.ECommerce_project.order.application.dto.OrdersPageResult;
+import io.hhplus.ECommerce.ECommerce_project.order.domain.entity.OrderItem;
+import io.hhplus.ECommerce.ECommerce_project.order.domain.entity.Orders;
+import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.OrderItemRepository;
+import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.OrderRepository;
+import io.hhplus.ECommerce.ECommerce_project.order.presentation.response.GetOrderDetailResponse;
+import io.hhplus.ECommerce.ECommerce_project.order.presentation.response.GetOrderListResponse;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
+import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
+import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 목록/상세 조회 쿼리 수 통합 테스트
+ * - 주문 목록은 페이지 크기와 무관하게 같은 수의 쿼리로 주문과 주문 항목을 조회해야 한다. (N+1 없음)
+ * - 응답 생성 시 user/coupon/product 연관 엔티티를 추가로 조회하지 않아야 한다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("integration")
+class GetOrderListUseCaseIntegrationTest {
+
+    private static final int ORDER_COUNT = 12;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Autowired
+    private GetOrderListUseCase getOrderListUseCase;
+
+    @Autowired
+    private GetOrderDetailUseCase getOrderDetailUseCase;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User testUser;
+    private List<Orders> orders;
+
+    @BeforeEach
+    void setUp() {
+        Category category = categoryRepository.save(Category.createCategory("주문조회카테고리_" + System.nanoTime(), 1));
+        testUser = userRepository.save(new User("order_list_user_" + System.nanoTime(), "password", BigDecimal.ZERO, null, null));
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            products.add(productRepository.save(Product.createProduct(
+                    category, "주문조회 상품 " + i, "주문 조회 테스트용", BigDecimal.valueOf(1000), 100, 1, 10
+            )));
+        }
+
+        // 주문 12건, 주문마다 항목 3개
+        orders = new ArrayList<>();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Orders order = orderRepository.save(Orders.createOrder(
+                    testUser, null, BigDecimal.valueOf(3000), BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO
+            ));
+            for (Product product : products) {
+                orderItemRepository.save(OrderItem.createOrderItem(order, product, product.getName(), 1, product.getPrice()));
+            }
+            orders.add(order);
+        }
+    }
+
+    @Test
+    @DisplayName("주문 목록 조회 쿼리 수는 페이지 크기와 무관해야 하고, 주문마다 항목이 포함되어야 한다")
+    void testOrderListQueryCountIsIndependentOfPageSize() {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // When: 페이지 크기 2 / 10 (둘 다 가득 찬 첫 페이지)
+        long smallPageStatements = countStatements(statistics, 2);
+        long largePageStatements = countStatements(statistics, 10);
+
+        // Then 1: 쿼리 수 동일 (사용자 확인 + 주문 페이지 + 전체 개수 + 주문 항목 IN 조회)
+        assertThat(largePageStatements).isEqualTo(smallPageStatements);
+        assertThat(largePageStatements).isLessThanOrEqualTo(4);
+
+        // Then 2: 응답에 주문별 항목 포함
+        OrdersPageResult result = getOrderListUseCase.execute(new GetOrderListCommand(testUser.getId(), null, 0, 10));
+        GetOrderListResponse response = GetOrderListResponse.of(
+                result.getOrders(), result.getOrderItemsByOrderId(), result.getPage(), result.getSize(), result.getTotalElements()
+        );
+
+        assertThat(response.orders()).hasSize(10);
+        assertThat(response.orders()).allSatisfy(summary -> assertThat(summary.orderItems()).hasSize(ITEMS_PER_ORDER));
+        assertThat(response.totalElements()).isEqualTo(ORDER_COUNT);
+    }
+
+    @Test
+    @DisplayName("주문 상세 조회는 항목 수와 무관하게 주문/항목을 각각 한 번만 조회해야 한다")
+    void testOrderDetailQueryCount() {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Orders order = orders.get(0);
+
+        // When
+        statistics.clear();
+        GetOrderDetailResponse response = getOrderDetailUseCase.execute(new GetOrderDetailCommand(order.getId(), testUser.getId()));
+
+        // Then: 사용자 확인 + 주문 + 주문 항목
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(response.orderItems()).hasSize(ITEMS_PER_ORDER);
+        assertThat(response.userId()).isEqualTo(testUser.getId());
+    }
+
+    private long countStatements(Statistics statistics, int pageSize) {
+        statistics.clear();
+
+        OrdersPageResult result = getOrderListUseCase.execute(new GetOrderListCommand(testUser.getId(), null, 0, pageSize));
+        GetOrderListResponse.of(
+                result.getOrders(), result.getOrderItemsByOrderId(), result.getPage(), result.getSize(), result.getTotalElements()
+        );
+
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,162 @@
+package io.hhplus.ECommerce.ECommerce_project.order.application;
+
+import io.hhplus.ECommerce.ECommerce_project.cart.domain.entity.Cart;
+import io.hhplus.ECommerce.ECommerce_project.cart.infrastructure.CartRepository;
+import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
+import io.hhplus.ECommerce.ECommerce_project.category.infrastructure.CategoryRepository;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.OrderException;
+import io.hhplus.ECommerce.ECommerce_project.order.application.command.CreateOrderFromCartCommand;
+import io.hhplus.ECommerce.ECommerce_project.order.application.command.CreateOrderFromProductCommand;
+import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.OrderRepository;
+import io.hhplus.ECommerce.ECommerce_project.point.domain.entity.Point;
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointRepository;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
+import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
+import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 주문 쓰기 트랜잭션 통합 테스트
+ * - 검증은 트랜잭션 밖에서, 락 획득 + 쓰기는 하나의 짧은 트랜잭션 안에서 실행되어야 한다.
+ * - 쓰기 트랜잭션 시간(행 락 보유 시간)을 주문별로 측정한다.
+ */
+@SpringBootTest
+@ActiveProfiles("integration")
+class OrderWriteTransactionIntegrationTest {
+
+    private static final int ORDER_COUNT = 20;
+
+    @Autowired
+    private CreateOrderFromProductUseCase createOrderFromProductUseCase;
+
+    @Autowired
+    private CreateOrderFromCartUseCase createOrderFromCartUseCase;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private PointRepository pointRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User testUser;
+    private Product testProduct;
+
+    @BeforeEach
+    void setUp() {
+        Category category = categoryRepository.save(Category.createCategory("쓰기트랜잭션카테고리_" + System.nanoTime(), 1));
+        testUser = userRepository.save(new User("write_tx_user_" + System.nanoTime(), "password", BigDecimal.ZERO, null, null));
+        testProduct = productRepository.save(Product.createProduct(
+                category, "쓰기 트랜잭션 상품", "쓰기 트랜잭션 테스트용", BigDecimal.valueOf(10000), 1000, 1, 10
+        ));
+    }
+
+    @Test
+    @DisplayName("검증 단계에서 실패하면 쓰기 트랜잭션을 시작하지 않아야 한다")
+    void testValidationFailureDoesNotOpenWriteTransaction() {
+        // Given
+        long before = count("product", "rollback") + count("product", "commit");
+
+        // When & Then
+        assertThatThrownBy(() -> createOrderFromProductUseCase.execute(
+                new CreateOrderFromProductCommand(testUser.getId(), testProduct.getId(), 0, null, null)
+        )).isInstanceOf(OrderException.class);
+
+        assertThat(count("product", "rollback") + count("product", "commit")).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("쓰기 단계에서 실패하면 이미 실행된 재고 차감까지 함께 롤백되어야 한다")
+    void testWriteFailureRollsBackStockDecrease() {
+        // Given: 잔액/포인트 내역은 충분하지만 포인트 사용액이 결제 금액보다 커서 재고 차감 후 주문 생성에서 실패
+        BigDecimal charged = BigDecimal.valueOf(50000);
+        testUser.chargePoint(charged);
+        testUser = userRepository.save(testUser);
+        pointRepository.save(Point.charge(testUser, charged, "쓰기 트랜잭션 테스트 충전"));
+        long rollbacks = count("product", "rollback");
+
+        // When
+        assertThatThrownBy(() -> createOrderFromProductUseCase.execute(
+                new CreateOrderFromProductCommand(testUser.getId(), testProduct.getId(), 1, charged, null)
+        )).isInstanceOf(OrderException.class);
+
+        // Then: 재고/판매량, 포인트 잔액 원복, 주문 없음
+        Product product = productRepository.findById(testProduct.getId()).orElseThrow();
+        assertThat(product.getStock()).isEqualTo(1000);
+        assertThat(product.getSoldCount()).isZero();
+        assertThat(userRepository.findPointBalanceById(testUser.getId()).orElseThrow()).isEqualByComparingTo(charged);
+        assertThat(orderRepository.findAll()).noneMatch(order -> order.getUser().getId().equals(testUser.getId()));
+        assertThat(count("product", "rollback")).isEqualTo(rollbacks + 1);
+    }
+
+    @Test
+    @DisplayName("주문별 쓰기 트랜잭션(행 락 보유) 시간을 측정하고 제한 시간 안에 끝나야 한다")
+    void testLockHoldTimePerOrder() {
+        // Given
+        long productBefore = count("product", "commit");
+        long cartBefore = count("cart", "commit");
+
+        // When: 상품 직접 주문 / 장바구니 주문 각 20건
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            createOrderFromProductUseCase.execute(
+                    new CreateOrderFromProductCommand(testUser.getId(), testProduct.getId(), 1, null, null)
+            );
+
+            Cart cart = cartRepository.save(Cart.createCart(testUser, testProduct, 1));
+            createOrderFromCartUseCase.execute(
+                    new CreateOrderFromCartCommand(testUser.getId(), List.of(cart.getId()), null, null)
+            );
+        }
+
+        // Then: 주문마다 쓰기 트랜잭션 1회
+        Timer productTimer = timer("product", "commit");
+        Timer cartTimer = timer("cart", "commit");
+        assertThat(productTimer.count() - productBefore).isEqualTo(ORDER_COUNT);
+        assertThat(cartTimer.count() - cartBefore).isEqualTo(ORDER_COUNT);
+
+        // Then: 쓰기 트랜잭션 제한 시간(3초) 안에 끝남
+        assertThat(productTimer.max(TimeUnit.SECONDS)).isLessThan(3);
+        assertThat(cartTimer.max(TimeUnit.SECONDS)).isLessThan(3);
+    }
+
+    private Timer timer(String type, String outcome) {
+        return meterRegistry.find(OrderWriteTransaction.TIMER_NAME)
+                .tag("type", type)
+                .tag("outcome", outcome)
+                .timer();
+    }
+
+    private long count(String type, String outcome) {
+        Timer timer = timer(type, outcome);
+        return timer == null ? 0 : timer.count();
+    }
+}
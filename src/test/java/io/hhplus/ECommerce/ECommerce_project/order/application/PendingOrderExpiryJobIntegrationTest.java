@@ -0,0 +1,179 @@
+package io.hhplus.ECommerce.ECommerce_project.order.application;
+
+import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
+import io.hhplus.ECommerce.ECommerce_project.category.infrastructure.CategoryRepository;
+import io.hhplus.ECommerce.ECommerce_project.order.application.PendingOrderExpiryJob.ExpiryResult;
+import io.hhplus.ECommerce.ECommerce_project.order.application.command.CreateOrderFromProductCommand;
+import io.hhplus.ECommerce.ECommerce_project.order.domain.entity.Orders;
+import io.hhplus.ECommerce.ECommerce_project.order.domain.enums.OrderItemStatus;
+import io.hhplus.ECommerce.ECommerce_project.order.domain.enums.OrderStatus;
+import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.OrderItemRepository;
+import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.OrderRepository;
+import io.hhplus.ECommerce.ECommerce_project.payment.domain.entity.Payment;
+import io.hhplus.ECommerce.ECommerce_project.payment.domain.enums.PaymentMethod;
+import io.hhplus.ECommerce.ECommerce_project.payment.infrastructure.PaymentRepository;
+import io.hhplus.ECommerce.ECommerce_project.point.domain.entity.Point;
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointRepository;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
+import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
+import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 미결제 주문 만료 배치 통합 테스트
+ * - ttl이 지난 PENDING 주문은 청크(2건) 단위로 취소되고 재고/포인트가 복구되어야 한다.
+ * - ttl이 지나지 않은 주문, 결제된 주문, 결제가 진행 중인 주문은 건드리지 않아야 한다.
+ * - 다른 테스트가 남긴 주문과 섞이지 않도록 ttl을 하루로 두고, 이 테스트의 주문만 생성 시각을 이틀 전으로 바꾼다.
+ */
+@SpringBootTest(properties = {
+        "ecommerce.order.pending-expiry.ttl-ms=86400000",
+        "ecommerce.order.pending-expiry.interval-ms=3600000",
+        "ecommerce.order.pending-expiry.chunk-size=2"
+})
+@ActiveProfiles("integration")
+class PendingOrderExpiryJobIntegrationTest {
+
+    private static final int INITIAL_STOCK = 100;
+    private static final BigDecimal CHARGED = BigDecimal.valueOf(50000);
+
+    @Autowired
+    private PendingOrderExpiryJob pendingOrderExpiryJob;
+
+    @Autowired
+    private CreateOrderFromProductUseCase createOrderFromProductUseCase;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PointRepository pointRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User testUser;
+    private Product testProduct;
+
+    @BeforeEach
+    void setUp() {
+        long suffix = System.nanoTime();
+        Category category = categoryRepository.save(Category.createCategory("주문만료카테고리_" + suffix, 1));
+        testProduct = productRepository.save(Product.createProduct(
+                category, "주문 만료 상품", "주문 만료 테스트용", BigDecimal.valueOf(10000), INITIAL_STOCK, 1, 10
+        ));
+
+        User user = new User("pending_expiry_user_" + suffix, "password", BigDecimal.ZERO, null, null);
+        user.chargePoint(CHARGED);
+        testUser = userRepository.save(user);
+        pointRepository.save(Point.charge(testUser, CHARGED, "주문 만료 테스트 충전"));
+    }
+
+    @Test
+    @DisplayName("ttl이 지난 미결제 주문을 청크 단위로 취소하고 되찾은 재고를 결과로 알려야 한다")
+    void testExpireStalePendingOrders() {
+        // Given: 오래된 미결제 주문 3건 (재고 2 + 3 + 4개, 포인트 1000 + 2000 사용)
+        Long first = createStaleOrder(2, BigDecimal.valueOf(1000));
+        Long second = createStaleOrder(3, BigDecimal.valueOf(2000));
+        Long third = createStaleOrder(4, null);
+        assertThat(stock()).isEqualTo(INITIAL_STOCK - 9);
+
+        // When
+        ExpiryResult result = pendingOrderExpiryJob.expire();
+
+        // Then: 주문/주문 항목 취소, 재고/포인트 복구
+        for (Long orderId : new Long[]{first, second, third}) {
+            assertThat(orderRepository.findById(orderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.CANCELED);
+            assertThat(orderItemRepository.findByOrders_Id(orderId))
+                    .allMatch(orderItem -> orderItem.getStatus() == OrderItemStatus.ORDER_CANCELED);
+        }
+        assertThat(stock()).isEqualTo(INITIAL_STOCK);
+        assertThat(userRepository.findPointBalanceById(testUser.getId()).orElseThrow()).isEqualByComparingTo(CHARGED);
+
+        // Then: 되찾은 재고 보고
+        assertThat(result.expiredOrders()).isGreaterThanOrEqualTo(3);
+        assertThat(result.reclaimedStockByProduct()).containsEntry(testProduct.getId(), 9);
+        assertThat(result.reclaimedStock()).isGreaterThanOrEqualTo(9);
+
+        // When: 다시 실행
+        ExpiryResult again = pendingOrderExpiryJob.expire();
+
+        // Then: 이미 취소된 주문은 다시 복구하지 않음
+        assertThat(again.reclaimedStockByProduct()).doesNotContainKey(testProduct.getId());
+        assertThat(stock()).isEqualTo(INITIAL_STOCK);
+    }
+
+    @Test
+    @DisplayName("ttl이 지나지 않은 주문, 결제된 주문, 결제가 진행 중인 주문은 만료하지 않아야 한다")
+    void testSkipFreshPaidAndPaymentInProgressOrders() {
+        // Given
+        Long freshOrderId = createOrder(1, null);
+
+        Long paidOrderId = createStaleOrder(1, null);
+        Orders paidOrder = orderRepository.findById(paidOrderId).orElseThrow();
+        paidOrder.paid();
+        orderRepository.save(paidOrder);
+
+        Long inProgressOrderId = createStaleOrder(1, null);
+        Orders inProgressOrder = orderRepository.findById(inProgressOrderId).orElseThrow();
+        paymentRepository.save(Payment.createPayment(inProgressOrder, inProgressOrder.getFinalAmount(), PaymentMethod.CARD));
+
+        // When
+        ExpiryResult result = pendingOrderExpiryJob.expire();
+
+        // Then
+        assertThat(orderRepository.findById(freshOrderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(orderRepository.findById(paidOrderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(orderRepository.findById(inProgressOrderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(result.skippedOrders()).isGreaterThanOrEqualTo(1);
+        assertThat(result.reclaimedStockByProduct()).doesNotContainKey(testProduct.getId());
+        assertThat(stock()).isEqualTo(INITIAL_STOCK - 3);
+    }
+
+    private Long createOrder(int quantity, BigDecimal pointAmount) {
+        return createOrderFromProductUseCase.execute(new CreateOrderFromProductCommand(
+                testUser.getId(), testProduct.getId(), quantity, pointAmount, null
+        )).orderId();
+    }
+
+    /**
+     * 주문 생성 후 생성 시각을 이틀 전으로 변경
+     */
+    private Long createStaleOrder(int quantity, BigDecimal pointAmount) {
+        Long orderId = createOrder(quantity, pointAmount);
+        jdbcTemplate.update("UPDATE orders SET created_at = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(2)), orderId);
+        return orderId;
+    }
+
+    private int stock() {
+        return productRepository.findById(testProduct.getId()).orElseThrow().getStock();
+    }
+}
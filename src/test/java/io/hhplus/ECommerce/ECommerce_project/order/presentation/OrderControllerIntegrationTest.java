@@ -10,6 +10,7 @@ import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.UserCoupon;
 import io.hhplus.ECommerce.ECommerce_project.coupon.domain.enums.DiscountType;
 import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.CouponRepository;
 import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.UserCouponRepository;
+import io.hhplus.ECommerce.ECommerce_project.order.presentation.request.BulkCancelOrdersRequest;
 import io.hhplus.ECommerce.ECommerce_project.order.presentation.request.CreateOrderFromCartRequest;
 import io.hhplus.ECommerce.ECommerce_project.order.presentation.request.CreateOrderFromProductRequest;
 import io.hhplus.ECommerce.ECommerce_project.point.domain.entity.Point;
@@ -465,4 +466,49 @@ class OrderControllerIntegrationTest {
                 .andExpect(jsonPath("$.orders", hasSize(greaterThanOrEqualTo(2))))
                 .andExpect(jsonPath("$.totalElements").value(greaterThanOrEqualTo(2)));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("[E2E] POST /api/orders/bulk-cancel - 주문 ID 목록이 비어 있으면 400 Bad Request")
+    void bulkCancelOrders_validation_emptyOrderIds() throws Exception {
+        // Given
+        BulkCancelOrdersRequest request = new BulkCancelOrdersRequest(List.of());
+
+        // When & Then
+        mockMvc.perform(post("/api/orders/bulk-cancel")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("[E2E] POST /api/orders/bulk-cancel - 주문별 결과를 요청 순서대로 반환")
+    void bulkCancelOrders_success() throws Exception {
+        // Given: 주문 1개 생성
+        CreateOrderFromProductRequest orderRequest = new CreateOrderFromProductRequest(
+                testUser.getId(), testProduct1.getId(), 2, null, null
+        );
+        String body = mockMvc.perform(post("/api/orders/from-product")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(orderRequest)))
+                .andReturn().getResponse().getContentAsString();
+        Long orderId = objectMapper.readTree(body).get("orderId").asLong();
+        Long missingOrderId = -1L;
+
+        BulkCancelOrdersRequest request = new BulkCancelOrdersRequest(List.of(orderId, missingOrderId));
+
+        // When & Then
+        mockMvc.perform(post("/api/orders/bulk-cancel")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requestedCount").value(2))
+                .andExpect(jsonPath("$.canceledCount").value(1))
+                .andExpect(jsonPath("$.restockedQuantity").value(2))
+                .andExpect(jsonPath("$.results[0].orderId").value(orderId))
+                .andExpect(jsonPath("$.results[0].outcome").value("CANCELED"))
+                .andExpect(jsonPath("$.results[1].orderId").value(-1))
+                .andExpect(jsonPath("$.results[1].outcome").value("NOT_FOUND"));
+    }
+}
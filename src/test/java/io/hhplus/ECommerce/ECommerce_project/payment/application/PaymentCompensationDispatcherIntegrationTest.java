@@ -0,0 +1,151 @@
+package io.hhplus.ECommerce.ECommerce_project.payment.application;
+
+import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
+import io.hhplus.ECommerce.ECommerce_project.category.infrastructure.CategoryRepository;
+import io.hhplus.ECommerce.ECommerce_project.order.application.CreateOrderFromProductUseCase;
+import io.hhplus.ECommerce.ECommerce_project.order.application.command.CreateOrderFromProductCommand;
+import io.hhplus.ECommerce.ECommerce_project.payment.infrastructure.PaymentCompensationOutboxJdbcRepository;
+import io.hhplus.ECommerce.ECommerce_project.payment.infrastructure.PaymentCompensationOutboxJdbcRepository.CompensationRecord;
+import io.hhplus.ECommerce.ECommerce_project.point.domain.entity.Point;
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointRepository;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
+import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
+import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결제 실패 보상 디스패처 통합 테스트
+ * - 같은 상품/사용자의 보상을 한 트랜잭션으로 묶어 복구하고, 묶음 안의 한 건이 실패해도 나머지는 복구되어야 한다.
+ * - 실패한 건은 재시도하고, max-attempts를 넘기면 FAILED로 남아야 한다.
+ */
+@SpringBootTest(properties = {
+        "ecommerce.payment.compensation.interval-ms=3600000",
+        "ecommerce.payment.compensation.max-attempts=2",
+        "ecommerce.payment.compensation.retry-backoff-ms=0"
+})
+@ActiveProfiles("integration")
+class PaymentCompensationDispatcherIntegrationTest {
+
+    private static final int INITIAL_STOCK = 100;
+    private static final BigDecimal CHARGED = BigDecimal.valueOf(50000);
+
+    @Autowired
+    private PaymentCompensationDispatcher paymentCompensationDispatcher;
+
+    @Autowired
+    private PaymentCompensationOutboxJdbcRepository outboxRepository;
+
+    @Autowired
+    private CreateOrderFromProductUseCase createOrderFromProductUseCase;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PointRepository pointRepository;
+
+    private User testUser;
+    private Product testProduct;
+
+    @BeforeEach
+    void setUp() {
+        long suffix = System.nanoTime();
+        Category category = categoryRepository.save(Category.createCategory("보상디스패처카테고리_" + suffix, 1));
+        testProduct = productRepository.save(Product.createProduct(
+                category, "보상 디스패처 상품", "보상 디스패처 테스트용", BigDecimal.valueOf(10000), INITIAL_STOCK, 1, 10
+        ));
+
+        User user = new User("compensation_user_" + suffix, "password", BigDecimal.ZERO, null, null);
+        user.chargePoint(CHARGED);
+        testUser = userRepository.save(user);
+        pointRepository.save(Point.charge(testUser, CHARGED, "보상 디스패처 테스트 충전"));
+    }
+
+    @Test
+    @DisplayName("같은 상품/사용자의 보상을 묶어서 한 번에 복구해야 한다")
+    void testBatchIsAppliedInOneTransaction() {
+        // Given: 같은 상품을 포인트로 산 주문 3건의 보상 기록
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 3; i++) {
+            Long orderId = createOrder(2, BigDecimal.valueOf(1000));
+            outboxRepository.insert(orderId, orderId, now);
+        }
+        assertThat(productRepository.findById(testProduct.getId()).orElseThrow().getStock()).isEqualTo(INITIAL_STOCK - 6);
+
+        // When
+        PaymentCompensationDispatcher.DispatchResult result = paymentCompensationDispatcher.dispatch();
+
+        // Then: 재고 6개, 포인트 3000 복구
+        assertThat(result.applied()).isGreaterThanOrEqualTo(3);
+        assertRestored();
+    }
+
+    @Test
+    @DisplayName("묶음 안의 한 건이 실패하면 나머지는 복구하고, 실패한 건은 재시도 후 FAILED로 남아야 한다")
+    void testFailingRowIsRetriedThenGivenUp() {
+        // Given: 정상 보상 2건 + 존재하지 않는 주문의 보상 1건
+        LocalDateTime now = LocalDateTime.now();
+        Long firstOrderId = createOrder(1, BigDecimal.valueOf(2000));
+        Long secondOrderId = createOrder(3, null);
+        Long missingOrderId = -System.nanoTime();
+        outboxRepository.insert(firstOrderId, firstOrderId, now);
+        outboxRepository.insert(secondOrderId, secondOrderId, now);
+        outboxRepository.insert(missingOrderId, missingOrderId, now);
+
+        // When: 1차 실행 (묶음 실패 -> 한 건씩 처리)
+        PaymentCompensationDispatcher.DispatchResult first = paymentCompensationDispatcher.dispatch();
+
+        // Then: 정상 2건은 복구, 실패 1건은 재시도 대기
+        assertThat(first.applied()).isGreaterThanOrEqualTo(2);
+        assertThat(first.retried()).isGreaterThanOrEqualTo(1);
+        assertRestored();
+        assertThat(outboxRepository.findByOrderId(firstOrderId).orElseThrow().status())
+                .isEqualTo(PaymentCompensationOutboxJdbcRepository.STATUS_DONE);
+        CompensationRecord missing = outboxRepository.findByOrderId(missingOrderId).orElseThrow();
+        assertThat(missing.status()).isEqualTo(PaymentCompensationOutboxJdbcRepository.STATUS_PENDING);
+        assertThat(missing.attempts()).isEqualTo(1);
+
+        // When: 2차 실행 (max-attempts = 2)
+        PaymentCompensationDispatcher.DispatchResult second = paymentCompensationDispatcher.dispatch();
+
+        // Then: FAILED로 처리 중단, 이미 복구한 주문은 다시 복구하지 않음
+        assertThat(second.failed()).isGreaterThanOrEqualTo(1);
+        assertThat(outboxRepository.findByOrderId(missingOrderId).orElseThrow().status())
+                .isEqualTo(PaymentCompensationOutboxJdbcRepository.STATUS_FAILED);
+        assertRestored();
+
+        // When: 3차 실행
+        paymentCompensationDispatcher.dispatch();
+
+        // Then: FAILED 행은 더 이상 처리하지 않음
+        assertThat(outboxRepository.findByOrderId(missingOrderId).orElseThrow().attempts()).isEqualTo(2);
+    }
+
+    private Long createOrder(int quantity, BigDecimal pointAmount) {
+        return createOrderFromProductUseCase.execute(new CreateOrderFromProductCommand(
+                testUser.getId(), testProduct.getId(), quantity, pointAmount, null
+        )).orderId();
+    }
+
+    private void assertRestored() {
+        assertThat(productRepository.findById(testProduct.getId()).orElseThrow().getStock()).isEqualTo(INITIAL_STOCK);
+        assertThat(userRepository.findPointBalanceById(testUser.getId()).orElseThrow()).isEqualByComparingTo(CHARGED);
+    }
+}
@@ -0,0 +1,390 @@
+package io.hhplus.ECommerce.ECommerce_project.payment.application;
+
+import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
+import io.hhplus.ECommerce.ECommerce_project.category.infrastructure.CategoryRepository;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.OrderException;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.PaymentException;
+import io.hhplus.ECommerce.ECommerce_project.order.application.CancelOrderUseCase;
+import io.hhplus.ECommerce.ECommerce_project.order.application.CreateOrderFromProductUseCase;
+import io.hhplus.ECommerce.ECommerce_project.order.application.OrderResourceLocker;
+import io.hhplus.ECommerce.ECommerce_project.order.application.command.CancelOrderCommand;
+import io.hhplus.ECommerce.ECommerce_project.order.application.command.CreateOrderFromProductCommand;
+import io.hhplus.ECommerce.ECommerce_project.order.domain.entity.Orders;
+import io.hhplus.ECommerce.ECommerce_project.order.domain.enums.OrderStatus;
+import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.OrderRepository;
+import io.hhplus.ECommerce.ECommerce_project.payment.application.PaymentGateway.PaymentGatewayRequest;
+import io.hhplus.ECommerce.ECommerce_project.payment.application.PaymentGateway.PaymentGatewayResult;
+import io.hhplus.ECommerce.ECommerce_project.payment.application.command.CreatePaymentCommand;
+import io.hhplus.ECommerce.ECommerce_project.payment.domain.entity.Payment;
+import io.hhplus.ECommerce.ECommerce_project.payment.domain.enums.PaymentMethod;
+import io.hhplus.ECommerce.ECommerce_project.payment.domain.enums.PaymentStatus;
+import io.hhplus.ECommerce.ECommerce_project.payment.infrastructure.PaymentCompensationOutboxJdbcRepository;
+import io.hhplus.ECommerce.ECommerce_project.payment.infrastructure.PaymentRepository;
+import io.hhplus.ECommerce.ECommerce_project.payment.presentation.response.CreatePaymentResponse;
+import io.hhplus.ECommerce.ECommerce_project.point.domain.entity.Point;
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointRepository;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
+import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
+import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 결제 대행사 호출 파이프라인 통합 테스트
+ * - 결제 대행사 호출 중에는 주문 행 락이 풀려 있어야 하고, 진행 중인 결제는 중복 결제/주문 취소로부터 보호되어야 한다.
+ * - 거절이면 결제 실패 + 보상 아웃박스 기록(디스패처가 복구), 연속 실패 시 서킷이 열려 대행사를 호출하지 않아야 한다.
+ * - 타임아웃이면 결과를 알 수 없으므로 결제를 PENDING으로 두고, 대사 작업이 승인 여부를 조회해 확정해야 한다.
+ * - 보상 디스패처/결제 대사는 주기 실행 대신 테스트에서 직접 실행한다. (interval-ms를 길게, stale-after-ms는 0으로 설정)
+ */
+@SpringBootTest(properties = {
+        "ecommerce.payment.gateway.type=TEST",
+        "ecommerce.payment.gateway.call-timeout-ms=1000",
+        "ecommerce.payment.gateway.max-attempts=2",
+        "ecommerce.payment.gateway.retry-backoff-ms=10",
+        "ecommerce.payment.gateway.circuit.failure-threshold=3",
+        "ecommerce.payment.gateway.circuit.open-duration-ms=500",
+        "ecommerce.payment.compensation.interval-ms=3600000",
+        "ecommerce.payment.reconciliation.interval-ms=3600000",
+        "ecommerce.payment.reconciliation.stale-after-ms=0"
+})
+@ActiveProfiles("integration")
+@Import(PaymentGatewayPipelineIntegrationTest.TestGatewayConfig.class)
+class PaymentGatewayPipelineIntegrationTest {
+
+    private static final int INITIAL_STOCK = 100;
+    private static final BigDecimal CHARGED = BigDecimal.valueOf(50000);
+
+    @TestConfiguration
+    static class TestGatewayConfig {
+
+        @Bean
+        ControllablePaymentGateway controllablePaymentGateway() {
+            return new ControllablePaymentGateway();
+        }
+    }
+
+    /**
+     * 테스트마다 동작을 바꿀 수 있는 결제 대행사
+     */
+    static class ControllablePaymentGateway implements PaymentGateway {
+
+        private final AtomicReference<Function<PaymentGatewayRequest, PaymentGatewayResult>> behavior =
+                new AtomicReference<>(request -> PaymentGatewayResult.approved("TEST-" + request.paymentId()));
+        private final AtomicReference<Function<PaymentGatewayRequest, PaymentGatewayResult>> inquiryBehavior =
+                new AtomicReference<>(request -> PaymentGatewayResult.declined("승인 기록 없음"));
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public PaymentGatewayResult approve(PaymentGatewayRequest request) {
+            calls.incrementAndGet();
+            return behavior.get().apply(request);
+        }
+
+        @Override
+        public PaymentGatewayResult inquire(PaymentGatewayRequest request) {
+            return inquiryBehavior.get().apply(request);
+        }
+    }
+
+    @Autowired
+    private CreatePaymentUseCase createPaymentUseCase;
+
+    @Autowired
+    private CreateOrderFromProductUseCase createOrderFromProductUseCase;
+
+    @Autowired
+    private CancelOrderUseCase cancelOrderUseCase;
+
+    @Autowired
+    private PaymentGatewayClient paymentGatewayClient;
+
+    @Autowired
+    private PaymentCompensationDispatcher paymentCompensationDispatcher;
+
+    @Autowired
+    private PaymentReconciler paymentReconciler;
+
+    @Autowired
+    private PaymentCompensationOutboxJdbcRepository paymentCompensationOutboxRepository;
+
+    @Autowired
+    private ControllablePaymentGateway gateway;
+
+    @Autowired
+    private OrderResourceLocker orderResourceLocker;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PointRepository pointRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    private User testUser;
+    private Product testProduct;
+
+    @BeforeEach
+    void setUp() {
+        long suffix = System.nanoTime();
+        Category category = categoryRepository.save(Category.createCategory("결제파이프라인카테고리_" + suffix, 1));
+        testProduct = productRepository.save(Product.createProduct(
+                category, "결제 파이프라인 상품", "결제 파이프라인 테스트용", BigDecimal.valueOf(10000), INITIAL_STOCK, 1, 10
+        ));
+
+        User user = new User("payment_pipeline_user_" + suffix, "password", BigDecimal.ZERO, null, null);
+        user.chargePoint(CHARGED);
+        testUser = userRepository.save(user);
+        pointRepository.save(Point.charge(testUser, CHARGED, "결제 파이프라인 테스트 충전"));
+
+        approveAll();
+    }
+
+    @Test
+    @DisplayName("결제 대행사 호출 중에는 주문 행 락이 풀려 있고, 진행 중인 결제는 주문 취소를 막아야 한다")
+    void testOrderLockIsReleasedDuringGatewayCall() {
+        // Given
+        Long orderId = createOrder(BigDecimal.valueOf(1000));
+        AtomicReference<Throwable> lockFailure = new AtomicReference<>();
+        AtomicReference<Throwable> cancelFailure = new AtomicReference<>();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setTimeout(1);
+
+        // 결제 대행사 호출 안에서 같은 주문 행을 잠그고 취소를 시도
+        gateway.behavior.set(request -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    OrderResourceLocker.Session locks = orderResourceLocker.begin();
+                    locks.lockUser(testUser.getId());
+                    locks.lockOrder(orderId);
+                });
+            } catch (Throwable e) {
+                lockFailure.set(e);
+            }
+            try {
+                cancelOrderUseCase.execute(new CancelOrderCommand(testUser.getId(), orderId));
+            } catch (Throwable e) {
+                cancelFailure.set(e);
+            }
+            return PaymentGatewayResult.approved("TEST-" + request.paymentId());
+        });
+
+        // When
+        CreatePaymentResponse response = createPaymentUseCase.execute(CreatePaymentCommand.of(orderId, PaymentMethod.CARD));
+
+        // Then: 호출 중 주문 행 잠금 성공, 취소는 결제 진행 중으로 거부
+        assertThat(lockFailure.get()).isNull();
+        assertThat(cancelFailure.get())
+                .isInstanceOfSatisfying(OrderException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.ORDER_PAYMENT_IN_PROGRESS));
+
+        // Then: 승인 결과 반영
+        assertThat(response.paymentStatus()).isEqualTo(PaymentStatus.COMPLETED);
+        assertThat(response.orderStatus()).isEqualTo(OrderStatus.PAID);
+        Payment payment = paymentRepository.findById(response.paymentId()).orElseThrow();
+        assertThat(payment.getTransactionId()).isEqualTo("TEST-" + payment.getId());
+    }
+
+    @Test
+    @DisplayName("결제 대행사가 거절하면 결제 실패 + 보상 기록 후 디스패처가 재고/포인트를 한 번만 복구해야 한다")
+    void testDeclinedPaymentCompensatesOnce() {
+        // Given
+        BigDecimal pointAmount = BigDecimal.valueOf(3000);
+        Long orderId = createOrder(pointAmount);
+        gateway.behavior.set(request -> PaymentGatewayResult.declined("한도 초과"));
+
+        // When
+        assertThatThrownBy(() -> createPaymentUseCase.execute(CreatePaymentCommand.of(orderId, PaymentMethod.CARD)))
+                .isInstanceOfSatisfying(PaymentException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.PAYMENT_GATEWAY_DECLINED));
+
+        // Then: 결제 실패, 주문 PAYMENT_FAILED, 보상은 아웃박스에 기록만 되고 아직 복구 전
+        List<Payment> payments = paymentRepository.findByOrder_Id(orderId);
+        assertThat(payments).hasSize(1);
+        assertThat(payments.get(0).getPaymentStatus()).isEqualTo(PaymentStatus.FAILED);
+        assertThat(payments.get(0).getFailureReason()).isEqualTo("한도 초과");
+        assertThat(orderRepository.findById(orderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.PAYMENT_FAILED);
+        assertThat(paymentCompensationOutboxRepository.findByOrderId(orderId).orElseThrow().status())
+                .isEqualTo(PaymentCompensationOutboxJdbcRepository.STATUS_PENDING);
+        assertThat(productRepository.findById(testProduct.getId()).orElseThrow().getStock()).isEqualTo(INITIAL_STOCK - 1);
+
+        // When: 보상 디스패처 실행
+        PaymentCompensationDispatcher.DispatchResult result = paymentCompensationDispatcher.dispatch();
+
+        // Then: 재고/포인트 복구 + 아웃박스 DONE
+        assertThat(result.applied()).isGreaterThanOrEqualTo(1);
+        assertThat(paymentCompensationOutboxRepository.findByOrderId(orderId).orElseThrow().status())
+                .isEqualTo(PaymentCompensationOutboxJdbcRepository.STATUS_DONE);
+        assertRestored();
+
+        // When: 디스패처를 다시 실행해도 다시 복구하지 않음
+        paymentCompensationDispatcher.dispatch();
+        assertRestored();
+
+        // When: 결제 실패 주문 취소
+        cancelOrderUseCase.execute(new CancelOrderCommand(testUser.getId(), orderId));
+
+        // Then: 상태만 취소, 재고/포인트는 다시 복구되지 않음
+        assertThat(orderRepository.findById(orderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.CANCELED);
+        assertRestored();
+    }
+
+    @Test
+    @DisplayName("결제 대행사 응답이 제한 시간을 넘으면 재시도/보상 없이 PENDING으로 두고, 대사 작업이 조회한 승인 결과로 확정해야 한다")
+    void testTimeoutLeavesPaymentPendingUntilReconciled() {
+        // Given: 대행사가 제한 시간(1초) 뒤에 승인
+        Long orderId = createOrder(BigDecimal.valueOf(1000));
+        gateway.behavior.set(request -> {
+            sleep(3000);
+            return PaymentGatewayResult.approved("LATE-" + request.paymentId());
+        });
+        int callsBefore = gateway.calls.get();
+
+        // When
+        assertThatThrownBy(() -> createPaymentUseCase.execute(CreatePaymentCommand.of(orderId, PaymentMethod.CARD)))
+                .isInstanceOfSatisfying(PaymentException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.PAYMENT_RESULT_UNKNOWN));
+
+        // Then: 한 번만 호출, 결제/주문 PENDING 유지, 보상 기록 없음, 재고는 차감된 채
+        assertThat(gateway.calls.get() - callsBefore).isEqualTo(1);
+        Payment payment = paymentRepository.findByOrder_Id(orderId).get(0);
+        assertThat(payment.getPaymentStatus()).isEqualTo(PaymentStatus.PENDING);
+        assertThat(orderRepository.findById(orderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(paymentCompensationOutboxRepository.findByOrderId(orderId)).isEmpty();
+        assertThat(productRepository.findById(testProduct.getId()).orElseThrow().getStock()).isEqualTo(INITIAL_STOCK - 1);
+
+        // Then: 확정 전에는 재결제/취소 불가
+        assertThatThrownBy(() -> cancelOrderUseCase.execute(new CancelOrderCommand(testUser.getId(), orderId)))
+                .isInstanceOfSatisfying(OrderException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.ORDER_PAYMENT_IN_PROGRESS));
+
+        // When: 대행사 조회 결과 승인 -> 대사 실행
+        gateway.inquiryBehavior.set(request -> PaymentGatewayResult.approved("LATE-" + request.paymentId()));
+        PaymentReconciler.ReconcileResult result = paymentReconciler.reconcile();
+
+        // Then: 결제 완료 + 주문 PAID, 리소스는 복구하지 않음
+        assertThat(result.approved()).isGreaterThanOrEqualTo(1);
+        Payment reconciled = paymentRepository.findById(payment.getId()).orElseThrow();
+        assertThat(reconciled.getPaymentStatus()).isEqualTo(PaymentStatus.COMPLETED);
+        assertThat(reconciled.getTransactionId()).isEqualTo("LATE-" + payment.getId());
+        assertThat(orderRepository.findById(orderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(paymentCompensationOutboxRepository.findByOrderId(orderId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("확정되지 못하고 남은 PENDING 결제는 대행사에 승인 기록이 없으면 실패로 확정하고 보상해야 한다")
+    void testStuckPendingPaymentIsFailedAndCompensated() {
+        // Given: 준비 트랜잭션 후 확정 전에 종료된 결제 (대행사 호출 기록 없음)
+        Long orderId = createOrder(BigDecimal.valueOf(3000));
+        Orders order = orderRepository.findById(orderId).orElseThrow();
+        Payment payment = paymentRepository.save(Payment.createPayment(order, order.getFinalAmount(), PaymentMethod.CARD));
+
+        // When: 대사 실행 (조회 결과 승인 기록 없음)
+        PaymentReconciler.ReconcileResult result = paymentReconciler.reconcile();
+
+        // Then: 결제 실패 + 주문 PAYMENT_FAILED + 보상 기록
+        assertThat(result.failed()).isGreaterThanOrEqualTo(1);
+        assertThat(paymentRepository.findById(payment.getId()).orElseThrow().getPaymentStatus()).isEqualTo(PaymentStatus.FAILED);
+        assertThat(orderRepository.findById(orderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.PAYMENT_FAILED);
+        assertThat(paymentCompensationOutboxRepository.findByOrderId(orderId).orElseThrow().status())
+                .isEqualTo(PaymentCompensationOutboxJdbcRepository.STATUS_PENDING);
+
+        // When: 보상 디스패처 실행
+        paymentCompensationDispatcher.dispatch();
+
+        // Then: 재고/포인트 복구
+        assertRestored();
+    }
+
+    @Test
+    @DisplayName("연속 실패로 서킷이 열리면 결제 대행사를 호출하지 않고, 열림 시간이 지나면 다시 승인되어야 한다")
+    void testCircuitBreakerOpensAndRecovers() {
+        // Given: 성공 결제로 연속 실패 횟수 초기화
+        createPaymentUseCase.execute(CreatePaymentCommand.of(createOrder(null), PaymentMethod.CARD));
+        gateway.behavior.set(request -> {
+            throw new IllegalStateException("connection reset");
+        });
+
+        // When: 2번 + 1번 실패 -> 서킷 열림 (failure-threshold = 3)
+        assertThatThrownBy(() -> createPaymentUseCase.execute(CreatePaymentCommand.of(createOrder(null), PaymentMethod.CARD)))
+                .isInstanceOf(PaymentException.class);
+        assertThatThrownBy(() -> createPaymentUseCase.execute(CreatePaymentCommand.of(createOrder(null), PaymentMethod.CARD)))
+                .isInstanceOf(PaymentException.class);
+        assertThat(paymentGatewayClient.isCircuitOpen()).isTrue();
+
+        // Then: 열린 동안은 호출 없이 실패
+        int callsBefore = gateway.calls.get();
+        Long blockedOrderId = createOrder(null);
+        assertThatThrownBy(() -> createPaymentUseCase.execute(CreatePaymentCommand.of(blockedOrderId, PaymentMethod.CARD)))
+                .isInstanceOfSatisfying(PaymentException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.PAYMENT_GATEWAY_UNAVAILABLE));
+        assertThat(gateway.calls.get()).isEqualTo(callsBefore);
+
+        // When: 열림 시간 경과 후 정상화
+        sleep(600);
+        approveAll();
+        CreatePaymentResponse response = createPaymentUseCase.execute(
+                CreatePaymentCommand.of(createOrder(null), PaymentMethod.CARD));
+
+        // Then
+        assertThat(response.paymentStatus()).isEqualTo(PaymentStatus.COMPLETED);
+        assertThat(paymentGatewayClient.isCircuitOpen()).isFalse();
+    }
+
+    private Long createOrder(BigDecimal pointAmount) {
+        return createOrderFromProductUseCase.execute(new CreateOrderFromProductCommand(
+                testUser.getId(), testProduct.getId(), 1, pointAmount, null
+        )).orderId();
+    }
+
+    private void approveAll() {
+        gateway.behavior.set(request -> PaymentGatewayResult.approved("TEST-" + request.paymentId()));
+        gateway.inquiryBehavior.set(request -> PaymentGatewayResult.declined("승인 기록 없음"));
+    }
+
+    private void assertRestored() {
+        assertThat(productRepository.findById(testProduct.getId()).orElseThrow().getStock()).isEqualTo(INITIAL_STOCK);
+        assertThat(userRepository.findPointBalanceById(testUser.getId()).orElseThrow()).isEqualByComparingTo(CHARGED);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package io.hhplus.ECommerce.ECommerce_project.point.application;
+
+import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
+import io.hhplus.ECommerce.ECommerce_project.category.infrastructure.CategoryRepository;
+import io.hhplus.ECommerce.ECommerce_project.order.application.CreateOrderFromProductUseCase;
+import io.hhplus.ECommerce.ECommerce_project.order.application.command.CreateOrderFromProductCommand;
+import io.hhplus.ECommerce.ECommerce_project.point.domain.entity.Point;
+import io.hhplus.ECommerce.ECommerce_project.point.domain.entity.PointUsageHistory;
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointRepository;
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointUsageHistoryRepository;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
+import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
+import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 포인트 선입선출 사용 배분 통합 테스트
+ * - 포인트 행 수와 무관하게 잠금 쿼리 1번 + 배치 UPDATE/INSERT로 처리되어야 한다.
+ * - 먼저 충전된 포인트부터 사용해야 한다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("integration")
+class PointAllocationEngineIntegrationTest {
+
+    private static final BigDecimal CHARGE_UNIT = BigDecimal.valueOf(100);
+
+    @Autowired
+    private CreateOrderFromProductUseCase createOrderFromProductUseCase;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PointRepository pointRepository;
+
+    @Autowired
+    private PointUsageHistoryRepository pointUsageHistoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Product testProduct;
+
+    @BeforeEach
+    void setUp() {
+        Category category = categoryRepository.save(Category.createCategory("포인트배분카테고리_" + System.nanoTime(), 1));
+        testProduct = productRepository.save(Product.createProduct(
+                category, "포인트 배분 상품", "포인트 배분 테스트용", BigDecimal.valueOf(10000), 1000, 1, 10
+        ));
+    }
+
+    @Test
+    @DisplayName("사용할 포인트 행 수가 달라도 주문 1건의 DB 왕복 수가 같아야 한다")
+    void testRoundTripsIndependentOfPointCount() {
+        // Given: 100원 포인트 2건 / 50건을 모두 사용하는 주문
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        User fewPointsUser = createUserWithPoints(2);
+        User manyPointsUser = createUserWithPoints(50);
+
+        // When
+        statistics.clear();
+        Long fewPointsOrderId = order(fewPointsUser, CHARGE_UNIT.multiply(BigDecimal.valueOf(2)));
+        long fewPointsStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        Long manyPointsOrderId = order(manyPointsUser, CHARGE_UNIT.multiply(BigDecimal.valueOf(50)));
+        long manyPointsStatements = statistics.getPrepareStatementCount();
+
+        // Then: 포인트 잠금/UPDATE/사용 이력 INSERT가 포인트 수만큼 늘어나지 않음
+        assertThat(manyPointsStatements).isEqualTo(fewPointsStatements);
+
+        // Then: 포인트 50건 모두 사용 처리 + 사용 이력 50건
+        assertThat(pointRepository.findAvailablePointsByUserId(manyPointsUser.getId())).isEmpty();
+        assertThat(pointUsageHistoryRepository.findByOrders_IdAndCanceledAtIsNull(manyPointsOrderId)).hasSize(50);
+        assertThat(pointUsageHistoryRepository.findByOrders_IdAndCanceledAtIsNull(fewPointsOrderId)).hasSize(2);
+        assertThat(userRepository.findPointBalanceById(manyPointsUser.getId()).orElseThrow()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("먼저 충전된 포인트부터 사용하고 마지막 포인트는 부분 사용해야 한다")
+    void testFifoSplit() {
+        // Given: 100원 포인트 5건 중 250원 사용
+        User user = createUserWithPoints(5);
+        List<Point> chargedPoints = pointRepository.findAvailablePointsByUserId(user.getId()).stream()
+                .sorted(Comparator.comparing(Point::getCreatedAt).thenComparing(Point::getId))
+                .toList();
+
+        // When
+        Long orderId = order(user, BigDecimal.valueOf(250));
+
+        // Then: 1, 2번째 전액 사용 / 3번째 50원 사용 / 4, 5번째 미사용
+        List<BigDecimal> usedAmounts = chargedPoints.stream()
+                .map(point -> pointRepository.findById(point.getId()).orElseThrow().getUsedAmount())
+                .toList();
+        assertThat(usedAmounts.get(0)).isEqualByComparingTo(CHARGE_UNIT);
+        assertThat(usedAmounts.get(1)).isEqualByComparingTo(CHARGE_UNIT);
+        assertThat(usedAmounts.get(2)).isEqualByComparingTo(BigDecimal.valueOf(50));
+        assertThat(usedAmounts.get(3)).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(usedAmounts.get(4)).isEqualByComparingTo(BigDecimal.ZERO);
+
+        List<PointUsageHistory> histories = pointUsageHistoryRepository.findByOrders_IdAndCanceledAtIsNull(orderId);
+        assertThat(histories).hasSize(3);
+        assertThat(userRepository.findPointBalanceById(user.getId()).orElseThrow())
+                .isEqualByComparingTo(BigDecimal.valueOf(250));
+    }
+
+    private Long order(User user, BigDecimal pointAmount) {
+        return createOrderFromProductUseCase.execute(
+                new CreateOrderFromProductCommand(user.getId(), testProduct.getId(), 1, pointAmount, null)
+        ).orderId();
+    }
+
+    /**
+     * 100원 포인트 pointCount건을 충전한 사용자 (잔액 = 포인트 합계)
+     */
+    private User createUserWithPoints(int pointCount) {
+        User user = new User("point_alloc_user_" + System.nanoTime(), "password", BigDecimal.ZERO, null, null);
+        user.chargePoint(CHARGE_UNIT.multiply(BigDecimal.valueOf(pointCount)));
+        user = userRepository.save(user);
+
+        for (int i = 0; i < pointCount; i++) {
+            pointRepository.save(Point.charge(user, CHARGE_UNIT, "포인트 배분 테스트 충전 " + i));
+        }
+        return user;
+    }
+}
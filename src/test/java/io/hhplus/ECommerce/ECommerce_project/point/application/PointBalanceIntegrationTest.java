@@ -0,0 +1,151 @@
+package io.hhplus.ECommerce.ECommerce_project.point.application;
+
+import io.hhplus.ECommerce.ECommerce_project.point.application.PointBalanceReconciliationJob.ReconciliationResult;
+import io.hhplus.ECommerce.ECommerce_project.point.application.command.ChargePointCommand;
+import io.hhplus.ECommerce.ECommerce_project.point.application.command.GetPointBalanceCommand;
+import io.hhplus.ECommerce.ECommerce_project.point.domain.entity.Point;
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointBalanceJdbcRepository;
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointBalanceJdbcRepository.BalanceRow;
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointRepository;
+import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
+import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 포인트 잔액(users.point_balance) 통합 테스트
+ * - 잔액 조회는 users.point_balance를 그대로 반환하고, 충전은 원자적 UPDATE로 잔액을 갱신해야 한다.
+ * - 정합성 점검 작업은 포인트 내역 합계와 다른 잔액을 불일치로 보고해야 한다.
+ * - 만료 시각이 지났지만 아직 만료 처리되지 않은 포인트는 조회 잔액에서 빠지고, 불일치로 보고되지 않아야 한다.
+ */
+@SpringBootTest
+@ActiveProfiles("integration")
+class PointBalanceIntegrationTest {
+
+    @Autowired
+    private ChargePointUseCase chargePointUseCase;
+
+    @Autowired
+    private GetPointBalanceUseCase getPointBalanceUseCase;
+
+    @Autowired
+    private PointBalanceReconciliationJob pointBalanceReconciliationJob;
+
+    @Autowired
+    private PointBalanceJdbcRepository pointBalanceJdbcRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PointRepository pointRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("동시에 충전해도 잔액이 유실 없이 누적되고 잔액 조회는 users.point_balance를 반환해야 한다")
+    void testConcurrentChargeAndBalanceRead() throws InterruptedException {
+        // Given
+        User user = createUser();
+        int chargeCount = 20;
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        CountDownLatch latch = new CountDownLatch(chargeCount);
+
+        // When
+        for (int i = 0; i < chargeCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    chargePointUseCase.execute(new ChargePointCommand(user.getId(), BigDecimal.valueOf(1000), "동시 충전"));
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+        executorService.shutdown();
+
+        // Then
+        BigDecimal expected = BigDecimal.valueOf(1000L * chargeCount);
+        assertThat(getPointBalanceUseCase.execute(new GetPointBalanceCommand(user.getId())).totalBalance())
+                .isEqualByComparingTo(expected);
+        assertThat(findBalanceRow(user).hasDrift()).isFalse();
+    }
+
+    @Test
+    @DisplayName("정합성 점검 작업은 포인트 내역 합계와 다른 잔액을 불일치로 보고해야 한다")
+    void testReconciliationReportsDrift() {
+        // Given 1: 잔액과 포인트 내역이 일치하는 사용자
+        User consistentUser = createUser();
+        chargePointUseCase.execute(new ChargePointCommand(consistentUser.getId(), BigDecimal.valueOf(3000), "정상 충전"));
+
+        // Given 2: 잔액 없이 포인트 내역만 있는 사용자 (불일치)
+        User driftedUser = createUser();
+        pointRepository.save(Point.charge(driftedUser, BigDecimal.valueOf(5000), "잔액 미반영 충전"));
+
+        // When
+        ReconciliationResult result = pointBalanceReconciliationJob.reconcile();
+
+        // Then
+        assertThat(findBalanceRow(consistentUser).hasDrift()).isFalse();
+
+        BalanceRow driftedRow = findBalanceRow(driftedUser);
+        assertThat(driftedRow.hasDrift()).isTrue();
+        assertThat(driftedRow.drift()).isEqualByComparingTo(BigDecimal.valueOf(-5000));
+
+        assertThat(result.checkedUsers()).isGreaterThanOrEqualTo(2);
+        assertThat(result.driftCount()).isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.get(PointBalanceReconciliationJob.DRIFT_GAUGE_NAME).gauge().value())
+                .isEqualTo(result.driftCount());
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지났지만 아직 만료 처리되지 않은 포인트는 잔액 조회에서 빠지고 불일치로 보고되지 않아야 한다")
+    void testPastDuePointBeforeExpiryJob() {
+        // Given: 3000 충전 + 2000 충전 후 2000 포인트의 만료 시각만 지남 (만료 배치 실행 전)
+        User user = createUser();
+        chargePointUseCase.execute(new ChargePointCommand(user.getId(), BigDecimal.valueOf(3000), "유효 충전"));
+        chargePointUseCase.execute(new ChargePointCommand(user.getId(), BigDecimal.valueOf(2000), "만료 예정 충전"));
+        Point pastDue = pointRepository.findByUserIdWithPaging(user.getId(), PageRequest.of(0, 10)).stream()
+                .filter(point -> point.getAmount().compareTo(BigDecimal.valueOf(2000)) == 0)
+                .findFirst()
+                .orElseThrow();
+        pastDue.setExpiredAt(LocalDateTime.now().minusMinutes(1));
+        pointRepository.save(pastDue);
+
+        // When
+        BigDecimal balance = getPointBalanceUseCase.execute(new GetPointBalanceCommand(user.getId())).totalBalance();
+
+        // Then: 조회 잔액은 만료 금액 제외, 저장 잔액은 만료 배치 전까지 그대로이며 불일치 아님
+        assertThat(balance).isEqualByComparingTo(BigDecimal.valueOf(3000));
+        BalanceRow row = findBalanceRow(user);
+        assertThat(row.storedBalance()).isEqualByComparingTo(BigDecimal.valueOf(5000));
+        assertThat(row.hasDrift()).isFalse();
+    }
+
+    private User createUser() {
+        return userRepository.save(new User("point_balance_user_" + System.nanoTime(), "password", BigDecimal.ZERO, null, null));
+    }
+
+    private BalanceRow findBalanceRow(User user) {
+        List<BalanceRow> rows = pointBalanceJdbcRepository.findBalances(user.getId() - 1, 1);
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).userId()).isEqualTo(user.getId());
+        return rows.get(0);
+    }
+}
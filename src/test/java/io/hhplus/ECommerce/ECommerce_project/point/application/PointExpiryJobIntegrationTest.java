@@ -0,0 +1,125 @@
+package io.hhplus.ECommerce.ECommerce_project.point.application;
+
+import io.hhplus.ECommerce.ECommerce_project.point.application.PointExpiryJob.ExpiryResult;
+import io.hhplus.ECommerce.ECommerce_project.point.domain.entity.Point;
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointBalanceJdbcRepository;
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointBalanceJdbcRepository.BalanceRow;
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointRepository;
+import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
+import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 포인트 만료 배치 통합 테스트
+ * - 청크(2건)와 작업자(2개)로 나눠 처리해도 만료 시각이 지난 포인트는 모두 만료되고 잔액이 남은 금액만큼 차감되어야 한다.
+ * - 다시 실행해도 이미 만료된 포인트는 처리하지 않아야 한다.
+ */
+@SpringBootTest(properties = {
+        "ecommerce.point.expiry.chunk-size=2",
+        "ecommerce.point.expiry.worker-count=2"
+})
+@ActiveProfiles("integration")
+class PointExpiryJobIntegrationTest {
+
+    private static final BigDecimal CHARGE_UNIT = BigDecimal.valueOf(1000);
+
+    @Autowired
+    private PointExpiryJob pointExpiryJob;
+
+    @Autowired
+    private PointBalanceJdbcRepository pointBalanceJdbcRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PointRepository pointRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("만료 시각이 지난 포인트를 청크 단위로 만료 처리하고 사용자 잔액을 남은 금액만큼 차감해야 한다")
+    void testExpireInChunks() {
+        // Given 1: 만료 포인트 3건(1건은 400원 사용) + 유효 포인트 1건 -> 잔액 3600, 만료 후 1000
+        User userA = createUser();
+        List<Point> expiredOfA = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            expiredOfA.add(charge(userA, LocalDateTime.now().minusDays(1)));
+        }
+        Point partiallyUsed = expiredOfA.get(0);
+        partiallyUsed.setExpiredAt(LocalDateTime.now().plusDays(1));
+        partiallyUsed.usePartially(BigDecimal.valueOf(400));
+        partiallyUsed.setExpiredAt(LocalDateTime.now().minusDays(1));
+        pointRepository.save(partiallyUsed);
+        Point validPoint = charge(userA, LocalDateTime.now().plusDays(30));
+        setBalance(userA, BigDecimal.valueOf(3600));
+
+        // Given 2: 만료 포인트 2건 -> 잔액 2000, 만료 후 0
+        User userB = createUser();
+        charge(userB, LocalDateTime.now().minusHours(1));
+        charge(userB, LocalDateTime.now().minusHours(2));
+        setBalance(userB, BigDecimal.valueOf(2000));
+
+        double expiredCounterBefore = meterRegistry.get(PointExpiryJob.EXPIRED_POINTS_COUNTER_NAME).counter().count();
+
+        // When
+        ExpiryResult result = pointExpiryJob.expire();
+
+        // Then 1: 포인트 만료 처리
+        assertThat(result.expiredPoints()).isGreaterThanOrEqualTo(5);
+        for (Point point : expiredOfA) {
+            assertThat(pointRepository.findById(point.getId()).orElseThrow().isExpired()).isTrue();
+        }
+        assertThat(pointRepository.findById(validPoint.getId()).orElseThrow().isExpired()).isFalse();
+        assertThat(pointRepository.findAvailablePointsByUserId(userB.getId())).isEmpty();
+
+        // Then 2: 잔액 차감 + 포인트 내역과 일치
+        assertThat(balanceRow(userA).storedBalance()).isEqualByComparingTo(CHARGE_UNIT);
+        assertThat(balanceRow(userB).storedBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(balanceRow(userA).hasDrift()).isFalse();
+        assertThat(balanceRow(userB).hasDrift()).isFalse();
+
+        // Then 3: 처리량 지표
+        assertThat(meterRegistry.get(PointExpiryJob.EXPIRED_POINTS_COUNTER_NAME).counter().count() - expiredCounterBefore)
+                .isEqualTo(result.expiredPoints());
+
+        // When 2: 다시 실행해도 이미 만료된 포인트는 다시 차감하지 않음
+        pointExpiryJob.expire();
+
+        assertThat(balanceRow(userA).storedBalance()).isEqualByComparingTo(CHARGE_UNIT);
+        assertThat(balanceRow(userB).storedBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    private User createUser() {
+        return userRepository.save(new User("point_expiry_user_" + System.nanoTime(), "password", BigDecimal.ZERO, null, null));
+    }
+
+    private Point charge(User user, LocalDateTime expiredAt) {
+        Point point = Point.charge(user, CHARGE_UNIT, "만료 배치 테스트 충전");
+        point.setExpiredAt(expiredAt);
+        return pointRepository.save(point);
+    }
+
+    private void setBalance(User user, BigDecimal balance) {
+        User reloaded = userRepository.findById(user.getId()).orElseThrow();
+        reloaded.setPointBalance(balance);
+        userRepository.save(reloaded);
+    }
+
+    private BalanceRow balanceRow(User user) {
+        return pointBalanceJdbcRepository.findBalances(user.getId() - 1, 1).get(0);
+    }
+}
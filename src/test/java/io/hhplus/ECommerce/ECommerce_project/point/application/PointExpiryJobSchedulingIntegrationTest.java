@@ -0,0 +1,122 @@
+package io.hhplus.ECommerce.ECommerce_project.point.application;
+
+import io.hhplus.ECommerce.ECommerce_project.common.SnowflakeIdGenerator;
+import io.hhplus.ECommerce.ECommerce_project.point.domain.entity.Point;
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointRepository;
+import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
+import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 포인트 만료 배치 스케줄링 통합 테스트
+ * - 만료 배치가 오래 걸려도(사용자 행 락 대기) 워커 ID 임대 연장(heartbeat) 같은 다른 주기 작업은 계속 실행되어야 한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;LOCK_TIMEOUT=10000",
+        "ecommerce.id.worker-id-source=LEASE",
+        "ecommerce.id.heartbeat-interval-ms=100",
+        "ecommerce.point.expiry.cron=-",
+        "ecommerce.point.expiry.worker-count=1"
+})
+@ActiveProfiles("integration")
+class PointExpiryJobSchedulingIntegrationTest {
+
+    @Autowired
+    private PointExpiryJob pointExpiryJob;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Autowired
+    private SnowflakeIdGenerator snowflakeIdGenerator;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PointRepository pointRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("만료 배치가 락 대기로 끝나지 않는 동안에도 워커 ID 임대 연장이 계속 실행되어야 한다")
+    void testHeartbeatKeepsRunningDuringExpiry() throws Exception {
+        // Given: 만료 포인트가 있는 사용자
+        User user = userRepository.save(
+                new User("point_expiry_scheduling_" + System.nanoTime(), "password", BigDecimal.valueOf(1000), null, null));
+        Point point = Point.charge(user, BigDecimal.valueOf(1000), "만료 스케줄링 테스트 충전");
+        point.setExpiredAt(LocalDateTime.now().minusDays(1));
+        Point savedPoint = pointRepository.save(point);
+
+        // Given: 다른 트랜잭션이 사용자 행을 잠근 채 유지 -> 만료 배치가 락을 기다림
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch unlock = new CountDownLatch(1);
+        ExecutorService lockHolder = Executors.newSingleThreadExecutor();
+        Future<?> lockTask = lockHolder.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.queryForList("SELECT id FROM users WHERE id = ? FOR UPDATE", user.getId());
+            locked.countDown();
+            try {
+                unlock.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            // When: 스케줄러 스레드에서 만료 배치 실행
+            taskScheduler.schedule(pointExpiryJob::scheduledExpire, Instant.now());
+            Thread.sleep(300);
+            Timestamp heartbeatBefore = lastHeartbeat();
+            Thread.sleep(700);
+
+            // Then: 만료 배치가 아직 끝나지 않은 동안에도 임대 연장 시각이 갱신됨
+            assertThat(pointRepository.findById(savedPoint.getId()).orElseThrow().isExpired()).isFalse();
+            assertThat(lastHeartbeat()).isAfter(heartbeatBefore);
+        } finally {
+            unlock.countDown();
+            lockTask.get(5, TimeUnit.SECONDS);
+            lockHolder.shutdown();
+        }
+
+        // Then: 락이 풀리면 만료 배치가 끝까지 처리
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!pointRepository.findById(savedPoint.getId()).orElseThrow().isExpired()
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(pointRepository.findById(savedPoint.getId()).orElseThrow().isExpired()).isTrue();
+    }
+
+    private Timestamp lastHeartbeat() {
+        return jdbcTemplate.queryForObject(
+                "SELECT updated_at FROM id_worker_leases WHERE worker_id = ?",
+                Timestamp.class,
+                snowflakeIdGenerator.getWorkerId()
+        );
+    }
+}
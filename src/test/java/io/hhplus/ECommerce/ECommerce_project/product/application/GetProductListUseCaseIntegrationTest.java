@@ -0,0 +1,133 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application;
+
+import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
+import io.hhplus.ECommerce.ECommerce_project.category.infrastructure.CategoryRepository;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductCursorPageResult;
+import io.hhplus.ECommerce.ECommerce_project.product.application.enums.ProductSortType;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("integration")
+@Transactional
+class GetProductListUseCaseIntegrationTest {
+
+    @Autowired
+    private GetProductListUseCase getProductListUseCase;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Category testCategory;
+
+    @BeforeEach
+    void setUp() {
+        testCategory = categoryRepository.save(Category.createCategory("커서테스트카테고리", 1));
+
+        // 판매량이 같은 상품이 섞이도록 생성 (id로 동순위 정렬 검증)
+        for (int i = 0; i < 25; i++) {
+            Product product = Product.createProduct(
+                    testCategory,
+                    "커서 상품 " + i,
+                    "커서 페이지네이션 테스트용",
+                    BigDecimal.valueOf(1000L * (i % 7 + 1)),
+                    100,
+                    1,
+                    10
+            );
+            if (i % 5 > 0) {
+                product.increaseSoldCount(i % 5);
+            }
+            productRepository.save(product);
+        }
+    }
+
+    @Test
+    @DisplayName("커서로 끝까지 조회하면 중복/누락 없이 정렬 순서대로 모든 상품이 조회되어야 한다")
+    void testCursorPaginationCoversAllProductsInOrder() {
+        // Given
+        List<Product> collected = new ArrayList<>();
+        String cursor = null;
+        int pageCount = 0;
+
+        // When: 10개씩 끝까지 조회
+        do {
+            ProductCursorPageResult result = getProductListUseCase.executeByCursor(
+                    testCategory.getId(), ProductSortType.POPULAR, cursor, 10, false);
+
+            collected.addAll(result.getProducts());
+            cursor = result.getNextCursor();
+            pageCount++;
+
+            // 전체 개수는 요청하지 않으면 계산하지 않음
+            assertThat(result.getTotalElements()).isNull();
+        } while (cursor != null);
+
+        // Then
+        assertThat(pageCount).isEqualTo(3);
+        assertThat(collected).hasSize(25);
+        assertThat(collected).extracting(Product::getId).doesNotHaveDuplicates();
+
+        // 판매량 내림차순, 동순위는 id 내림차순
+        for (int i = 1; i < collected.size(); i++) {
+            Product prev = collected.get(i - 1);
+            Product curr = collected.get(i);
+
+            assertThat(prev.getSoldCount()).isGreaterThanOrEqualTo(curr.getSoldCount());
+            if (prev.getSoldCount() == curr.getSoldCount()) {
+                assertThat(prev.getId()).isGreaterThan(curr.getId());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("가격 낮은순 커서 조회는 가격 오름차순으로 이어져야 하고, 요청 시 전체 개수를 포함해야 한다")
+    void testCursorPaginationPriceLowWithTotalCount() {
+        // When
+        ProductCursorPageResult first = getProductListUseCase.executeByCursor(
+                testCategory.getId(), ProductSortType.PRICE_LOW, null, 20, true);
+        ProductCursorPageResult second = getProductListUseCase.executeByCursor(
+                testCategory.getId(), ProductSortType.PRICE_LOW, first.getNextCursor(), 20, true);
+
+        // Then
+        assertThat(first.getTotalElements()).isEqualTo(25L);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getProducts()).hasSize(5);
+
+        BigDecimal lastPriceOfFirst = first.getProducts().get(first.getProducts().size() - 1).getPrice();
+        assertThat(second.getProducts().get(0).getPrice()).isGreaterThanOrEqualTo(lastPriceOfFirst);
+    }
+
+    @Test
+    @DisplayName("다른 정렬 기준으로 발급된 커서나 잘못된 토큰은 거부되어야 한다")
+    void testInvalidCursorRejected() {
+        // Given
+        ProductCursorPageResult popular = getProductListUseCase.executeByCursor(
+                testCategory.getId(), ProductSortType.POPULAR, null, 10, false);
+
+        // When & Then
+        assertThrows(ProductException.class, () -> getProductListUseCase.executeByCursor(
+                testCategory.getId(), ProductSortType.VIEWED, popular.getNextCursor(), 10, false));
+        assertThrows(ProductException.class, () -> getProductListUseCase.executeByCursor(
+                testCategory.getId(), ProductSortType.POPULAR, "not-a-cursor", 10, false));
+    }
+}
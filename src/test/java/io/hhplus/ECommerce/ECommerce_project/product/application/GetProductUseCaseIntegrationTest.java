@@ -0,0 +1,134 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application;
+
+import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
+import io.hhplus.ECommerce.ECommerce_project.category.infrastructure.CategoryRepository;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 상세 조회 통합 테스트
+ * - 조회수는 상품 행을 직접 갱신하지 않고 집계기에 누적된 뒤 일괄 반영되어야 한다.
+ * - 반영 중에 들어온 조회수도 유실되지 않아야 한다.
+ */
+@SpringBootTest(properties = "ecommerce.product.view-count.flush-interval-ms=3600000")
+@ActiveProfiles("integration")
+class GetProductUseCaseIntegrationTest {
+
+    @Autowired
+    private GetProductUseCase getProductUseCase;
+
+    @Autowired
+    private ProductViewCountAggregator productViewCountAggregator;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Product testProduct;
+
+    @BeforeEach
+    void setUp() {
+        Category testCategory = categoryRepository.save(Category.createCategory("조회수테스트카테고리", 1));
+
+        testProduct = productRepository.save(Product.createProduct(
+                testCategory,
+                "조회수 테스트 상품",
+                "조회수 집계 테스트용",
+                BigDecimal.valueOf(10000),
+                100,
+                1,
+                10
+        ));
+    }
+
+    @Test
+    @DisplayName("동시에 상세 조회해도 조회수가 누락 없이 누적되고, 반영 시 한 번에 DB에 기록되어야 한다")
+    void testViewCountAggregatedAndFlushed() throws InterruptedException {
+        // Given
+        int requestCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(20);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+
+        // When: 100번 동시 조회
+        for (int i = 0; i < requestCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    getProductUseCase.execute(testProduct.getId());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // Then: 반영 전에는 DB의 조회수가 그대로여야 함
+        assertThat(productViewCountAggregator.getPendingCount(testProduct.getId())).isEqualTo(requestCount);
+        assertThat(productRepository.findById(testProduct.getId()).orElseThrow().getViewCount()).isEqualTo(0);
+
+        // 반영 후에는 누적분이 한 번에 기록되어야 함
+        productViewCountAggregator.flush();
+
+        assertThat(productViewCountAggregator.getPendingCount(testProduct.getId())).isEqualTo(0);
+        assertThat(productRepository.findById(testProduct.getId()).orElseThrow().getViewCount()).isEqualTo(requestCount);
+    }
+
+    @Test
+    @DisplayName("반영하는 동안 동시에 들어온 조회수도 유실 없이 DB에 기록되어야 한다")
+    void testIncrementsDuringFlushAreNotLost() throws InterruptedException {
+        // Given
+        int threadCount = 8;
+        int incrementsPerThread = 5000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicBoolean incrementing = new AtomicBoolean(true);
+
+        // When: 조회수 증가와 반영을 동시에 반복
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < incrementsPerThread; j++) {
+                        productViewCountAggregator.increment(testProduct.getId());
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        Thread flusher = new Thread(() -> {
+            while (incrementing.get()) {
+                productViewCountAggregator.flush();
+            }
+        });
+        flusher.start();
+
+        assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+        incrementing.set(false);
+        flusher.join();
+        executorService.shutdown();
+        productViewCountAggregator.flush();
+
+        // Then: 반영된 조회수 = 전체 증가 수
+        assertThat(productViewCountAggregator.getPendingCount(testProduct.getId())).isEqualTo(0);
+        assertThat(productRepository.findById(testProduct.getId()).orElseThrow().getViewCount())
+                .isEqualTo(threadCount * incrementsPerThread);
+    }
+}
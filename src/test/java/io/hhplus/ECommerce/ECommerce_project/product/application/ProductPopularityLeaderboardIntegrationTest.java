@@ -0,0 +1,132 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application;
+
+import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
+import io.hhplus.ECommerce.ECommerce_project.category.infrastructure.CategoryRepository;
+import io.hhplus.ECommerce.ECommerce_project.order.application.CancelOrderUseCase;
+import io.hhplus.ECommerce.ECommerce_project.order.application.CreateOrderFromProductUseCase;
+import io.hhplus.ECommerce.ECommerce_project.order.application.command.CancelOrderCommand;
+import io.hhplus.ECommerce.ECommerce_project.order.application.command.CreateOrderFromProductCommand;
+import io.hhplus.ECommerce.ECommerce_project.order.presentation.response.CreateOrderResponse;
+import io.hhplus.ECommerce.ECommerce_project.product.application.command.CreateProductCommand;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductPageResult;
+import io.hhplus.ECommerce.ECommerce_project.product.application.enums.ProductSortType;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
+import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
+import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인기 상품 랭킹 통합 테스트
+ * - 주문 생성/취소, 상품 비활성화가 커밋된 뒤 랭킹에 반영되고, POPULAR 목록이 랭킹 순서로 조회되어야 한다.
+ */
+@SpringBootTest
+@ActiveProfiles("integration")
+class ProductPopularityLeaderboardIntegrationTest {
+
+    @Autowired
+    private GetProductListUseCase getProductListUseCase;
+
+    @Autowired
+    private CreateProductUseCase createProductUseCase;
+
+    @Autowired
+    private DeactivateProductUseCase deactivateProductUseCase;
+
+    @Autowired
+    private CreateOrderFromProductUseCase createOrderFromProductUseCase;
+
+    @Autowired
+    private CancelOrderUseCase cancelOrderUseCase;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Category testCategory;
+    private User testUser;
+    private Product productA;
+    private Product productB;
+    private Product productC;
+
+    @BeforeEach
+    void setUp() {
+        testCategory = categoryRepository.save(Category.createCategory("랭킹테스트카테고리", 1));
+        testUser = userRepository.save(new User("ranking_user_" + System.nanoTime(), "password", BigDecimal.ZERO, null, null));
+
+        // 상품 등록 (등록 커밋 후 랭킹에 판매량 0으로 등록됨)
+        productA = createProduct("랭킹 상품 A");
+        productB = createProduct("랭킹 상품 B");
+        productC = createProduct("랭킹 상품 C");
+    }
+
+    @Test
+    @DisplayName("주문 생성/취소와 비활성화가 랭킹에 반영되고 인기순 목록이 랭킹 순서를 따라야 한다")
+    void testPopularListingFollowsLeaderboard() {
+        // Given: B 5개, C 3개, A 1개 판매
+        order(productB, 5);
+        CreateOrderResponse orderC = order(productC, 3);
+        order(productA, 1);
+
+        // When & Then 1: 판매량 순 (B, C, A)
+        ProductPageResult result = getProductListUseCase.execute(testCategory.getId(), ProductSortType.POPULAR, 0, 10);
+        assertThat(result.getProducts()).extracting(Product::getId)
+                .containsExactly(productB.getId(), productC.getId(), productA.getId());
+        assertThat(result.getTotalElements()).isEqualTo(3);
+
+        // When & Then 2: C 주문 취소 -> C 판매량 0 (B, A, C)
+        cancelOrderUseCase.execute(new CancelOrderCommand(testUser.getId(), orderC.orderId()));
+
+        result = getProductListUseCase.execute(testCategory.getId(), ProductSortType.POPULAR, 0, 10);
+        assertThat(result.getProducts()).extracting(Product::getId)
+                .containsExactly(productB.getId(), productA.getId(), productC.getId());
+        assertThat(productRepository.findById(productC.getId()).orElseThrow().getSoldCount()).isEqualTo(0);
+
+        // When & Then 3: B 비활성화 -> 랭킹에서 제외 (A, C)
+        deactivateProductUseCase.execute(productB.getId());
+
+        result = getProductListUseCase.execute(testCategory.getId(), ProductSortType.POPULAR, 0, 10);
+        assertThat(result.getProducts()).extracting(Product::getId)
+                .containsExactly(productA.getId(), productC.getId());
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.isLast()).isTrue();
+    }
+
+    private Product createProduct(String name) {
+        return createProductUseCase.execute(new CreateProductCommand(
+                testCategory.getId(),
+                name,
+                "인기 상품 랭킹 테스트용",
+                BigDecimal.valueOf(1000),
+                100,
+                1,
+                10
+        ));
+    }
+
+    private CreateOrderResponse order(Product product, int quantity) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        return transactionTemplate.execute(status -> createOrderFromProductUseCase.execute(
+                new CreateOrderFromProductCommand(testUser.getId(), product.getId(), quantity, null, null)
+        ));
+    }
+}